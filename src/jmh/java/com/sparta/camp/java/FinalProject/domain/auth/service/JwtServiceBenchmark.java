@@ -0,0 +1,75 @@
+package com.sparta.camp.java.FinalProject.domain.auth.service;
+
+import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JwtServiceBenchmark {
+
+  private static final String SECRET_KEY =
+      Base64.getEncoder().encodeToString("benchmark-secret-key-for-jwt-service-0123".getBytes());
+
+  private final RedisTemplate<String, String> redisTemplate = new RedisTemplate<>() {
+    @Override
+    public Boolean hasKey(String key) {
+      return false;
+    }
+  };
+
+  private final CustomUserDetails userDetails =
+      new CustomUserDetails(1L, "bench@email.com", "ENCODED_PASSWORD", "ROLE_USER");
+
+  private JwtService jwtService;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtService = new JwtService(redisTemplate, SECRET_KEY, 900_000, 604_800_000);
+    token = jwtService.generateAccessToken(userDetails);
+  }
+
+  @Benchmark
+  public boolean perCallKeyAndParser() {
+    String username = legacyClaims().getSubject();
+    boolean isBlacklisted = redisTemplate.hasKey("blacklist:" + token);
+    return username.equals(userDetails.getUsername())
+        && legacyClaims().getSubject().equals(userDetails.getUsername())
+        && !legacyClaims().getExpiration().before(new Date())
+        && !isBlacklisted;
+  }
+
+  @Benchmark
+  public boolean parseOnce() {
+    Claims claims = jwtService.parseClaims(token);
+    return jwtService.isTokenValid(token, claims, userDetails);
+  }
+
+  private Claims legacyClaims() {
+    Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    return Jwts.parserBuilder()
+        .setSigningKey(key)
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.generator;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class PurchaseNoGeneratorBenchmark {
+
+  private final PurchaseNoGenerator generator = new PurchaseNoGenerator(1);
+
+  @Benchmark
+  public String uuidSubstring() {
+    return "PUR-" +
+        LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) +
+        "-" +
+        UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+  }
+
+  @Benchmark
+  public String snowflake() {
+    return generator.generate();
+  }
+
+}
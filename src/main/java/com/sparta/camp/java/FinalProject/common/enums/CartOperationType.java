@@ -0,0 +1,8 @@
+package com.sparta.camp.java.FinalProject.common.enums;
+
+public enum CartOperationType {
+
+  ADD,
+  UPDATE,
+  REMOVE,
+}
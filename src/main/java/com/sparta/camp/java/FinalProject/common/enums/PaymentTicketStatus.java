@@ -0,0 +1,9 @@
+package com.sparta.camp.java.FinalProject.common.enums;
+
+public enum PaymentTicketStatus {
+
+  PENDING,
+  SUCCEEDED,
+  FAILED
+
+}
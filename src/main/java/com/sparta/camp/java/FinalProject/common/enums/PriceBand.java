@@ -0,0 +1,33 @@
+package com.sparta.camp.java.FinalProject.common.enums;
+
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public enum PriceBand {
+  UNDER_30000(null, 30000L),
+  FROM_30000_TO_50000(30000L, 50000L),
+  FROM_50000_TO_100000(50000L, 100000L),
+  FROM_100000_TO_200000(100000L, 200000L),
+  OVER_200000(200000L, null);
+
+  final Long minInclusive;
+  final Long maxExclusive;
+
+  public static PriceBand of(BigDecimal price) {
+    if (price == null) {
+      return null;
+    }
+    for (PriceBand band : values()) {
+      if (band.maxExclusive == null || price.compareTo(BigDecimal.valueOf(band.maxExclusive)) < 0) {
+        return band;
+      }
+    }
+    return OVER_200000;
+  }
+}
@@ -0,0 +1,10 @@
+package com.sparta.camp.java.FinalProject.common.enums;
+
+public enum StockHoldStatus {
+
+  HELD,
+  CONSUMED,
+  RELEASED,
+  EXPIRED
+
+}
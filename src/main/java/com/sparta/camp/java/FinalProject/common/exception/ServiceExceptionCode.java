@@ -33,26 +33,34 @@ public enum ServiceExceptionCode {
   DUPLICATE_PRODUCT_OPTION("동일한 옵션이 존재합니다."),
   CANNOT_DELETE_PRODUCT("상품을 삭제할 수 없습니다."),
   INSUFFICIENT_STOCK("재고가 부족합니다."),
+  PRODUCT_INDEX_NOT_READY("상품 검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
   NOT_FOUND_CART("장바구니가 존재하지 않습니다."),
   NOT_FOUND_CART_PRODUCT("장바구니에 해당 상품이 존재하지 않습니다."),
+  INVALID_CART_QUANTITY("장바구니 상품 수량이 올바르지 않습니다."),
 
   NOT_FOUND_PURCHASE("주문 내역이 없습니다."),
   NOT_FOUND_PURCHASE_PRODUCT("주문 상품을 찾을 수 없습니다."),
   DUPLICATE_PURCHASE_STATUS("주문 상태가 동일합니다."),
   INVALID_PURCHASE_STATUS("유효하지 않은 주문입니다."),
   INVALID_STATUS_TRANSITION("유효하지 않은 주문 상태 변경입니다."),
+  EXPIRED_STOCK_HOLD("재고 확보 시간이 만료된 주문입니다."),
 
   NOT_MATCH_PAYMENT_INFO("결제 정보가 유효하지 않습니다."),
   NOT_FOUND_PAYMENT("결제 내역이 없습니다."),
   PAYMENT_FAILED("결제를 실패 하였습니다."),
   INVALID_PAYMENT_STATUS("유효하지 않은 결제 상태입니다."),
   INVALID_CANCEL_REQUEST("유효하지 않은 취소 요청입니다."),
+  NOT_FOUND_PAYMENT_TICKET("결제 요청 내역이 없습니다."),
+  PAYMENT_QUEUE_FULL("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
   EXCEEDS_PAYMENT_AMOUNT("환불 금액이 기존 결제 금액을 초과합니다."),
   EXCEED_CANCEL_QUANTITY("환불 요청 수량이 일치하지 않습니다."),
   ALREADY_REFUND_REQUEST("기존 환불 요청 건이 존재합니다."),
 
+  INVALID_CURSOR("유효하지 않은 페이지 정보입니다."),
+  UNSUPPORTED_KEYWORD_TYPE("지원하지 않는 검색 조건입니다."),
+
   NOT_FOUND_FILE("파일을 확인할 수 없습니다.")
   ;
 
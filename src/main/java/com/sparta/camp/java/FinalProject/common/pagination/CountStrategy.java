@@ -0,0 +1,9 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+public enum CountStrategy {
+
+  EXACT,
+  CACHED,
+  ESTIMATED
+
+}
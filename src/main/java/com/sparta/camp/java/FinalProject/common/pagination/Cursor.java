@@ -0,0 +1,58 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+public record Cursor(
+    String sortType,
+    boolean ascending,
+    CursorDirection direction,
+    Long id,
+    String value
+) {
+
+  private static final String DELIMITER = "|";
+
+  public Cursor withDirection(CursorDirection direction) {
+    return new Cursor(sortType, ascending, direction, id, value);
+  }
+
+  public boolean isBackward() {
+    return direction == CursorDirection.PREVIOUS;
+  }
+
+  public String encode() {
+    String raw = String.join(DELIMITER, sortType, ascending ? "A" : "D",
+        direction == CursorDirection.PREVIOUS ? "P" : "N", String.valueOf(id), value);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Cursor decode(String encoded) {
+    if (!StringUtils.hasText(encoded)) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 5);
+      if (parts.length != 5) {
+        throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+      }
+
+      return new Cursor(
+          parts[0],
+          "A".equals(parts[1]),
+          "P".equals(parts[2]) ? CursorDirection.PREVIOUS : CursorDirection.NEXT,
+          Long.valueOf(parts[3]),
+          parts[4]
+      );
+    } catch (IllegalArgumentException e) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+    }
+  }
+
+}
@@ -0,0 +1,8 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+public enum CursorDirection {
+
+  NEXT,
+  PREVIOUS
+
+}
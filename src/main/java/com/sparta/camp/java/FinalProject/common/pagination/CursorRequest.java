@@ -0,0 +1,25 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorRequest {
+
+  String cursor;
+
+  @Positive
+  @Max(100)
+  Integer size;
+
+  public int getSizeOrDefault() {
+    return size != null ? size : 10;
+  }
+
+}
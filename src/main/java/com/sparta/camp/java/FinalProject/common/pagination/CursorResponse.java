@@ -0,0 +1,58 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+
+  int size;
+
+  boolean hasPrevious;
+
+  boolean hasNext;
+
+  String previousCursor;
+
+  String nextCursor;
+
+  List<T> content;
+
+  public static <T> CursorResponse<T> of(List<T> rows, int size, Cursor requestCursor,
+      Function<T, Cursor> cursorExtractor) {
+
+    boolean hasMore = rows.size() > size;
+    List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+
+    boolean backward = requestCursor != null && requestCursor.isBackward();
+    if (backward) {
+      Collections.reverse(content);
+    }
+
+    CursorResponse<T> response = new CursorResponse<>();
+    response.size = size;
+    response.content = content;
+    response.hasPrevious = backward ? hasMore : requestCursor != null;
+    response.hasNext = backward || hasMore;
+
+    if (!content.isEmpty()) {
+      if (response.hasPrevious) {
+        response.previousCursor = cursorExtractor.apply(content.get(0))
+            .withDirection(CursorDirection.PREVIOUS).encode();
+      }
+      if (response.hasNext) {
+        response.nextCursor = cursorExtractor.apply(content.get(content.size() - 1))
+            .withDirection(CursorDirection.NEXT).encode();
+      }
+    }
+
+    return response;
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+
+public final class KeysetCondition {
+
+  private KeysetCondition() {
+  }
+
+  public static <V extends Comparable<?>> BooleanExpression seek(ComparableExpression<V> key,
+      V value, NumberPath<Long> id, Long lastId, boolean ascending) {
+    return ascending
+        ? key.gt(value).or(key.eq(value).and(id.gt(lastId)))
+        : key.lt(value).or(key.eq(value).and(id.lt(lastId)));
+  }
+
+  public static <V extends Number & Comparable<?>> BooleanExpression seek(NumberExpression<V> key,
+      V value, NumberPath<Long> id, Long lastId, boolean ascending) {
+    return ascending
+        ? key.gt(value).or(key.eq(value).and(id.gt(lastId)))
+        : key.lt(value).or(key.eq(value).and(id.lt(lastId)));
+  }
+
+}
@@ -0,0 +1,94 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+@Component
+@RequiredArgsConstructor
+public class PaginationCounter {
+
+  private static final String KEY_PREFIX = "pagination:count:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  @Value("${pagination.count.cache-ttl:PT30S}")
+  private Duration cacheTtl;
+
+  @Value("${pagination.count.estimate-limit:1000}")
+  private long estimateLimit;
+
+  public TotalCount count(CountStrategy strategy, CountScope scope, String filterKey,
+      PaginationRequest paginationRequest, LongSupplier exactCount, LongUnaryOperator boundedCount) {
+
+    return switch (strategy) {
+      case EXACT -> TotalCount.exact(exactCount.getAsLong());
+      case CACHED -> cached(scope, filterKey, exactCount);
+      case ESTIMATED -> estimated(paginationRequest, boundedCount);
+    };
+  }
+
+  public void invalidate(CountScope scope) {
+    AfterCommit.run(() -> bumpVersion(scope));
+  }
+
+  private TotalCount cached(CountScope scope, String filterKey, LongSupplier exactCount) {
+    String key;
+    try {
+      key = cacheKey(scope, filterKey);
+      String cached = redisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return TotalCount.exact(Long.parseLong(cached));
+      }
+    } catch (DataAccessException e) {
+      return TotalCount.exact(exactCount.getAsLong());
+    }
+
+    long total = exactCount.getAsLong();
+    try {
+      redisTemplate.opsForValue().set(key, String.valueOf(total), cacheTtl);
+    } catch (DataAccessException ignored) {
+    }
+    return TotalCount.exact(total);
+  }
+
+  private TotalCount estimated(PaginationRequest paginationRequest, LongUnaryOperator boundedCount) {
+    long limit = Math.max(estimateLimit, windowLimit(paginationRequest));
+    long total = boundedCount.applyAsLong(limit);
+    return total >= limit ? TotalCount.approximate(total) : TotalCount.exact(total);
+  }
+
+  private long windowLimit(PaginationRequest request) {
+    int page = request.getPage() != null ? request.getPage() : 1;
+    int size = request.getSize() != null ? request.getSize() : 10;
+    long endPage = (long) Math.ceil((double) page / 10) * 10;
+    return endPage * size + 1;
+  }
+
+  private String cacheKey(CountScope scope, String filterKey) {
+    String version = redisTemplate.opsForValue().get(versionKey(scope));
+    String digest = DigestUtils.md5DigestAsHex(filterKey.getBytes(StandardCharsets.UTF_8));
+    return KEY_PREFIX + scope.name().toLowerCase() + ":" + (version != null ? version : "0")
+        + ":" + digest;
+  }
+
+  private void bumpVersion(CountScope scope) {
+    try {
+      redisTemplate.opsForValue().increment(versionKey(scope));
+    } catch (DataAccessException ignored) {
+    }
+  }
+
+  private String versionKey(CountScope scope) {
+    return KEY_PREFIX + scope.name().toLowerCase() + ":version";
+  }
+
+}
@@ -20,6 +20,8 @@ public class PaginationResponse<T> {
 
   long totalItems;
 
+  boolean approximateTotal;
+
   boolean hasPrevious;
 
   boolean hasNext;
@@ -27,7 +29,8 @@ public class PaginationResponse<T> {
   List<T> content;
 
   @Builder
-  public PaginationResponse(PaginationRequest paginationRequest, long totalItems, List<T> content) {
+  public PaginationResponse(PaginationRequest paginationRequest, long totalItems,
+      boolean approximateTotal, List<T> content) {
     this.currentPage = paginationRequest.getPage();
 
     this.lastPage = (int) Math.ceil((double) totalItems /paginationRequest.getSize());
@@ -36,6 +39,7 @@ public class PaginationResponse<T> {
     this.startPage = Math.max((this.endPage - 9), 1);
 
     this.totalItems = totalItems;
+    this.approximateTotal = approximateTotal;
 
     this.hasPrevious = this.startPage > 1;
     this.hasNext = this.endPage < totalItems;
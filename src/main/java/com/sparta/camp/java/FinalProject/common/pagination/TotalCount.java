@@ -0,0 +1,16 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+public record TotalCount(
+    long value,
+    boolean approximate
+) {
+
+  public static TotalCount exact(long value) {
+    return new TotalCount(value, false);
+  }
+
+  public static TotalCount approximate(long value) {
+    return new TotalCount(value, true);
+  }
+
+}
@@ -0,0 +1,34 @@
+package com.sparta.camp.java.FinalProject.common.query;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAProvider;
+import com.querydsl.jpa.impl.JPAUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+public final class CappedCount {
+
+  private static final Expression<Integer> MATCH = Expressions.ONE.as("matched");
+
+  private CappedCount() {
+  }
+
+  public static long count(EntityManager entityManager, JPQLQuery<?> query, long limit) {
+    QueryMetadata metadata = query.getMetadata().clone();
+    metadata.setProjection(MATCH);
+
+    JPQLSerializer serializer = new JPQLSerializer(JPAProvider.getTemplates(entityManager),
+        entityManager);
+    serializer.serialize(metadata, false, null);
+
+    TypedQuery<Long> countQuery = entityManager.createQuery("select count(*) from ("
+        + serializer + " order by 1 limit " + limit + ") capped", Long.class);
+    JPAUtil.setConstants(countQuery, serializer.getConstants(), metadata.getParams());
+    return countQuery.getSingleResult();
+  }
+
+}
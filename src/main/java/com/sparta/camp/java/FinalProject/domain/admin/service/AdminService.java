@@ -11,6 +11,7 @@ import com.sparta.camp.java.FinalProject.domain.admin.dto.AdminUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.admin.entity.Admin;
 import com.sparta.camp.java.FinalProject.domain.admin.mapper.AdminMapper;
 import com.sparta.camp.java.FinalProject.domain.admin.repository.AdminRepository;
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +26,7 @@ public class AdminService {
   private final AdminRepository adminRepository;
   private final PasswordEncoder passwordEncoder;
   private final AdminMapper adminMapper;
+  private final PrincipalCache principalCache;
 
   public AdminResponse getAdminById (Long id) {
     Admin admin = this.getAdmin(id);
@@ -78,6 +80,7 @@ public class AdminService {
     }
 
     admin.setPassword(passwordEncoder.encode(adminPasswordChangeRequest.getNewPassword()));
+    principalCache.evict(admin.getEmail());
   }
 
   public void deleteAdmin(Long id, AdminDeleteRequest adminDeleteRequest) {
@@ -88,6 +91,7 @@ public class AdminService {
     }
 
     admin.setDeletedAt(LocalDateTime.now());
+    principalCache.evict(admin.getEmail());
   }
 
   private Admin getAdmin (Long id) {
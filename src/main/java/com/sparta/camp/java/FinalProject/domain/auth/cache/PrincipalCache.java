@@ -0,0 +1,75 @@
+package com.sparta.camp.java.FinalProject.domain.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrincipalCache implements MessageListener {
+
+  static final String CHANNEL = "principal:evict";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final Cache<String, CustomUserDetails> cache;
+
+  public PrincipalCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+      @Value("${security.principal-cache.ttl:PT5M}") Duration ttl) {
+
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+    return cache.get(email, loader);
+  }
+
+  public void evict(String email) {
+    AfterCommit.run(() -> {
+      cache.invalidate(email);
+      try {
+        redisTemplate.convertAndSend(CHANNEL, email);
+      } catch (DataAccessException ignored) {
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    cache.invalidate(String.valueOf(body));
+  }
+
+}
@@ -8,11 +8,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public class CustomUserDetails implements UserDetails {
 
+  private final Long id;
   private final String email;
   private final String password;
   private final String role;
 
-  public CustomUserDetails(String email, String password, String role) {
+  public CustomUserDetails(Long id, String email, String password, String role) {
+    this.id = id;
     this.email = email;
     this.password = password;
     this.role = role;
@@ -53,6 +55,10 @@ public class CustomUserDetails implements UserDetails {
     return true;
   }
 
+  public Long getId() {
+    return id;
+  }
+
   public String getRole() {
     return role;
   }
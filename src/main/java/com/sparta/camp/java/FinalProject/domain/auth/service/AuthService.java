@@ -5,6 +5,7 @@ import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
 import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
 import com.sparta.camp.java.FinalProject.domain.auth.dto.LoginRequest;
 import com.sparta.camp.java.FinalProject.domain.auth.dto.LoginResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -41,10 +42,11 @@ public class AuthService {
       throw new ServiceException(ServiceExceptionCode.NOT_FOUND_TOKEN);
     }
 
-    String email = jwtService.extractUsername(token);
+    Claims claims = jwtService.parseClaims(token);
+    String email = claims.getSubject();
     CustomUserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
-    if (!jwtService.isTokenValid(token, userDetails)) {
+    if (!jwtService.isTokenValid(token, claims, userDetails)) {
       throw new ServiceException(ServiceExceptionCode.NOT_VALID_TOKEN);
     }
 
@@ -79,11 +81,10 @@ public class AuthService {
 
   public void logout(String authHeader) {
     String accessToken = authHeader.substring(7);
-    long expiration = jwtService.getExpiration(accessToken);
-    String email = jwtService.extractUsername(accessToken);
+    Claims claims = jwtService.parseClaims(accessToken);
 
-    jwtService.registerBlacklist(accessToken, expiration);
-    jwtService.removeRefreshToken(email);
+    jwtService.registerBlacklist(accessToken, jwtService.getExpiration(claims));
+    jwtService.removeRefreshToken(claims.getSubject());
   }
 
 }
@@ -18,9 +18,9 @@ public class CustomUserDetailService implements UserDetailsService {
   @Override
   public CustomUserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
     return userRepository.findByEmailAndDeletedAtIsNull(email)
-        .map(user -> new CustomUserDetails(user.getEmail(), user.getPassword(), "ROLE_USER"))
+        .map(user -> new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), "ROLE_USER"))
         .orElseGet(() -> adminRepository.findByEmailAndDeletedAtIsNull(email)
-            .map(admin -> new CustomUserDetails(admin.getEmail(), admin.getPassword(), "ROLE_ADMIN"))
+            .map(admin -> new CustomUserDetails(admin.getId(), admin.getEmail(), admin.getPassword(), "ROLE_ADMIN"))
             .orElseThrow(() -> new UsernameNotFoundException("No user/admin found with email: " + email))
         );
   }
@@ -2,6 +2,7 @@ package com.sparta.camp.java.FinalProject.domain.auth.service;
 
 import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -12,38 +13,45 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
-  @Value("${security.jwt.secret-key}")
-  private String secretKey;
-
-  @Value("${security.jwt.access-token-expiration}")
-  private long accessTokenExpiration;
-
-  @Value("${security.jwt.refresh-token-expiration}")
-  private long refreshTokenExpiration;
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String ROLE_CLAIM = "role";
 
   private final RedisTemplate<String, String> redisTemplate;
 
-  public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = extractAllClaims(token);
-    return claimsResolver.apply(claims);
+  private final Key signInKey;
+  private final JwtParser jwtParser;
+
+  private final long accessTokenExpiration;
+  private final long refreshTokenExpiration;
+
+  public JwtService(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${security.jwt.secret-key}") String secretKey,
+      @Value("${security.jwt.access-token-expiration}") long accessTokenExpiration,
+      @Value("${security.jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+
+    this.redisTemplate = redisTemplate;
+    this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKey(signInKey)
+        .build();
+    this.accessTokenExpiration = accessTokenExpiration;
+    this.refreshTokenExpiration = refreshTokenExpiration;
   }
 
-  private Claims extractAllClaims(String token) {
-    return Jwts
-        .parserBuilder()
-        .setSigningKey(getSignInKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+  public Claims parseClaims(String token) {
+    return jwtParser.parseClaimsJws(token).getBody();
+  }
+
+  public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+    return claimsResolver.apply(parseClaims(token));
   }
 
   public String extractUsername(String token) {
@@ -62,30 +70,38 @@ public class JwtService {
     return Jwts
         .builder()
         .setSubject(userDetails.getUsername())
-        .claim("role", userDetails.getRole())
+        .claim(USER_ID_CLAIM, userDetails.getId())
+        .claim(ROLE_CLAIM, userDetails.getRole())
         .setIssuedAt(new Date(System.currentTimeMillis()))
         .setExpiration(new Date(System.currentTimeMillis() + expiration))
-        .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+        .signWith(signInKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
-  private Key getSignInKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-    return Keys.hmacShaKeyFor(keyBytes);
+  public boolean isTokenValid(String token, CustomUserDetails userDetails) {
+    return isTokenValid(token, parseClaims(token), userDetails);
   }
 
-  public boolean isTokenValid(String token, CustomUserDetails userDetails) {
-    final String username = extractUsername(token);
-    boolean isBlacklisted = redisTemplate.hasKey("blacklist:" + token);
-    return (username.equals(userDetails.getUsername())) && !isTokenExpired(token) && !isBlacklisted;
+  public boolean isTokenValid(String token, Claims claims, CustomUserDetails userDetails) {
+    if (!claims.getSubject().equals(userDetails.getUsername())
+        || claims.getExpiration().before(new Date())
+        || !matchesClaim(claims.get(USER_ID_CLAIM, Long.class), userDetails.getId())
+        || !matchesClaim(claims.get(ROLE_CLAIM, String.class), userDetails.getRole())) {
+      return false;
+    }
+    return !redisTemplate.hasKey("blacklist:" + token);
+  }
+
+  private boolean matchesClaim(Object claim, Object expected) {
+    return claim == null || claim.equals(expected);
   }
 
   public boolean isTokenExpired(String token) {
     return this.extractExpiration(token).before(new Date());
   }
 
-  public long getExpiration(String token) {
-    Date expiration = this.extractExpiration(token);
+  public long getExpiration(Claims claims) {
+    Date expiration = claims.getExpiration();
     long now = System.currentTimeMillis();
     return (expiration.getTime() - now) / 1000;
   }
@@ -2,10 +2,13 @@ package com.sparta.camp.java.FinalProject.domain.cart.controller;
 
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
 import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.service.CartService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,28 +29,38 @@ public class CartController {
 
   @GetMapping
   public ApiResponse<CartResponse> getCartProducts (@AuthenticationPrincipal CustomUserDetails userDetail) {
-    String userName = userDetail.getUsername();
-    return ApiResponse.success(cartService.getCartProduct(userName));
+    Long userId = userDetail.getId();
+    return ApiResponse.success(cartService.getCartProduct(userId));
   }
 
   @PostMapping
   public ApiResponse<Void> createCartProduct (@AuthenticationPrincipal CustomUserDetails userDetail,
       @RequestBody CartProductCreateRequest request) {
-    String userName = userDetail.getUsername();
-    cartService.createCartProduct(userName, request);
+    Long userId = userDetail.getId();
+    cartService.createCartProduct(userId, request);
     return ApiResponse.success();
   }
 
-  @PutMapping("/{cartProductId}")
-  public ApiResponse<Void> updateCartProductQuantity (@PathVariable Long cartProductId,
-      @RequestBody CartProductUpdateRequest request) {
-    cartService.updateCartProductQuantity(cartProductId, request);
+  @PostMapping("/bulk")
+  public ApiResponse<CartBulkResponse> applyCartProducts (@AuthenticationPrincipal CustomUserDetails userDetail,
+      @Valid @RequestBody CartBulkRequest request) {
+    Long userId = userDetail.getId();
+    return ApiResponse.success(cartService.applyCartProducts(userId, request));
+  }
+
+  @PutMapping("/{productOptionId}")
+  public ApiResponse<Void> updateCartProductQuantity (@AuthenticationPrincipal CustomUserDetails userDetail,
+      @PathVariable Long productOptionId, @RequestBody CartProductUpdateRequest request) {
+    Long userId = userDetail.getId();
+    cartService.updateCartProductQuantity(userId, productOptionId, request);
     return ApiResponse.success();
   }
 
-  @DeleteMapping("/{cartProductId}")
-  public ApiResponse<Void> deleteCartProduct(@PathVariable Long cartProductId) {
-    cartService.deleteCartProduct(cartProductId);
+  @DeleteMapping("/{productOptionId}")
+  public ApiResponse<Void> deleteCartProduct(@AuthenticationPrincipal CustomUserDetails userDetail,
+      @PathVariable Long productOptionId) {
+    Long userId = userDetail.getId();
+    cartService.deleteCartProduct(userId, productOptionId);
     return ApiResponse.success();
   }
 
@@ -0,0 +1,22 @@
+package com.sparta.camp.java.FinalProject.domain.cart.dto;
+
+import com.sparta.camp.java.FinalProject.common.enums.CartOperationType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CartBulkItemRequest {
+
+  @NotNull
+  CartOperationType type;
+
+  Long productId;
+
+  Long productOptionId;
+
+  Integer quantity;
+
+}
@@ -0,0 +1,28 @@
+package com.sparta.camp.java.FinalProject.domain.cart.dto;
+
+import com.sparta.camp.java.FinalProject.common.enums.CartOperationType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+public class CartBulkItemResponse {
+
+  int index;
+
+  CartOperationType type;
+
+  boolean success;
+
+  String code;
+
+  String message;
+
+  Long productOptionId;
+
+  Integer quantity;
+
+}
@@ -0,0 +1,20 @@
+package com.sparta.camp.java.FinalProject.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CartBulkRequest {
+
+  @NotEmpty
+  @Size(max = 100)
+  @Valid
+  List<CartBulkItemRequest> operations;
+
+}
@@ -0,0 +1,18 @@
+package com.sparta.camp.java.FinalProject.domain.cart.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+public class CartBulkResponse {
+
+  Long cartId;
+
+  List<CartBulkItemResponse> results;
+
+}
@@ -0,0 +1,26 @@
+package com.sparta.camp.java.FinalProject.domain.cart.dto;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import java.math.BigDecimal;
+
+public record CartProductDetail(
+    Long id,
+    Long productId,
+    Long productOptionId,
+    Integer quantity,
+    String productName,
+    ColorType color,
+    SizeType size,
+    String mainImageUrl,
+    BigDecimal price,
+    BigDecimal priceAtAdded,
+    Integer stock
+) {
+
+  public CartProductDetail withLine(Long id, Integer quantity, BigDecimal priceAtAdded) {
+    return new CartProductDetail(id, productId, productOptionId, quantity, productName, color, size,
+        mainImageUrl, price, priceAtAdded, stock);
+  }
+
+}
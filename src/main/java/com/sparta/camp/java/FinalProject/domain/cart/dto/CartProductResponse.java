@@ -1,5 +1,8 @@
 package com.sparta.camp.java.FinalProject.domain.cart.dto;
 
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,12 +13,46 @@ import lombok.experimental.FieldDefaults;
 @Builder
 public class CartProductResponse {
 
-  Long id;
-
   Long productId;
 
   Long productOptionId;
 
   Integer quantity;
 
+  String productName;
+
+  ColorType color;
+
+  SizeType size;
+
+  String mainImageUrl;
+
+  BigDecimal price;
+
+  BigDecimal priceAtAdded;
+
+  boolean priceChanged;
+
+  Integer stock;
+
+  boolean stockSufficient;
+
+  public static CartProductResponse from(CartProductDetail detail, int availableStock) {
+    return CartProductResponse.builder()
+        .productId(detail.productId())
+        .productOptionId(detail.productOptionId())
+        .quantity(detail.quantity())
+        .productName(detail.productName())
+        .color(detail.color())
+        .size(detail.size())
+        .mainImageUrl(detail.mainImageUrl())
+        .price(detail.price())
+        .priceAtAdded(detail.priceAtAdded())
+        .priceChanged(detail.priceAtAdded() != null
+            && detail.priceAtAdded().compareTo(detail.price()) != 0)
+        .stock(availableStock)
+        .stockSufficient(availableStock >= detail.quantity())
+        .build();
+  }
+
 }
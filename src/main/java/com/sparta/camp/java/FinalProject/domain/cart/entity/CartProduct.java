@@ -9,9 +9,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,21 +22,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.DynamicInsert;
-import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table
+@Table(indexes = {
+    @Index(name = "idx_cart_product_cart_deleted", columnList = "cart_id, deleted_at, product_id, product_option_id")
+})
 @Getter
-@DynamicInsert
-@DynamicUpdate
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class CartProduct {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_product_id_generator")
+  @TableGenerator(name = "cart_product_id_generator", table = "id_generator",
+      pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "cart_product",
+      allocationSize = 50)
   Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -54,6 +58,9 @@ public class CartProduct {
   @Column(nullable = false)
   Integer quantity;
 
+  @Column(precision = 10, scale = 2)
+  BigDecimal priceAtAdded;
+
   @Column(nullable = false, updatable = false)
   @CreationTimestamp
   LocalDateTime createdAt;
@@ -66,11 +73,13 @@ public class CartProduct {
   LocalDateTime deletedAt;
 
   @Builder
-  public CartProduct(Cart cart, Product product, ProductOption option, Integer quantity) {
+  public CartProduct(Cart cart, Product product, ProductOption option, Integer quantity,
+      BigDecimal priceAtAdded) {
     this.cart = cart;
     this.product = product;
     this.option = option;
     this.quantity = quantity;
+    this.priceAtAdded = priceAtAdded;
   }
 
   public void setQuantity(Integer quantity) {
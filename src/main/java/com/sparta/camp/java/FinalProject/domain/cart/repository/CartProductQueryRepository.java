@@ -2,9 +2,17 @@ package com.sparta.camp.java.FinalProject.domain.cart.repository;
 
 import static com.sparta.camp.java.FinalProject.domain.cart.entity.QCartProduct.cartProduct;
 import static com.sparta.camp.java.FinalProject.domain.product.entity.QProduct.product;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductOption.productOption;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
+import com.sparta.camp.java.FinalProject.domain.product.entity.QProductImage;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -13,16 +21,77 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class CartProductQueryRepository {
 
+  private static final QProductImage mainImage = new QProductImage("mainImage");
+  private static final QProductImage candidateImage = new QProductImage("candidateImage");
+
   private final JPAQueryFactory queryFactory;
 
-  public List<CartProduct> findAll(Long cartId) {
-    return queryFactory.selectFrom(cartProduct)
-        .join(cartProduct.product, product).fetchJoin()
-        .where(cartProduct.cart.id.eq(cartId),
+  public List<CartProductDetail> findCartLines(Long cartId) {
+    return queryFactory
+        .select(Projections.constructor(
+            CartProductDetail.class,
+            productOption.id,
+            product.id,
+            productOption.id,
+            cartProduct.quantity,
+            product.name,
+            productOption.color,
+            productOption.size,
+            mainImage.uploadPath,
+            product.price,
+            cartProduct.priceAtAdded,
+            productOption.stock
+        ))
+        .from(cartProduct)
+        .join(cartProduct.product, product)
+        .join(cartProduct.option, productOption)
+        .leftJoin(mainImage).on(mainImage.id.eq(mainImageId()))
+        .where(
+            cartProduct.cart.id.eq(cartId),
             cartProduct.deletedAt.isNull(),
-            product.deletedAt.isNull()
+            product.deletedAt.isNull(),
+            productOption.deletedAt.isNull()
         )
+        .orderBy(cartProduct.id.asc())
         .fetch();
   }
 
+  public List<CartProductDetail> findOptionLines(Collection<Long> productOptionIds) {
+    return queryFactory
+        .select(Projections.constructor(
+            CartProductDetail.class,
+            productOption.id,
+            product.id,
+            productOption.id,
+            Expressions.nullExpression(Integer.class),
+            product.name,
+            productOption.color,
+            productOption.size,
+            mainImage.uploadPath,
+            product.price,
+            Expressions.nullExpression(BigDecimal.class),
+            productOption.stock
+        ))
+        .from(productOption)
+        .join(productOption.product, product)
+        .leftJoin(mainImage).on(mainImage.id.eq(mainImageId()))
+        .where(
+            productOption.id.in(productOptionIds),
+            product.deletedAt.isNull(),
+            productOption.deletedAt.isNull()
+        )
+        .fetch();
+  }
+
+  private JPQLQuery<Long> mainImageId() {
+    return JPAExpressions
+        .select(candidateImage.id.min())
+        .from(candidateImage)
+        .where(
+            candidateImage.product.id.eq(product.id),
+            candidateImage.isMain.isTrue(),
+            candidateImage.deletedAt.isNull()
+        );
+  }
+
 }
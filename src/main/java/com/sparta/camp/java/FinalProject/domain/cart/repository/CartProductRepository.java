@@ -27,9 +27,12 @@ public interface CartProductRepository extends JpaRepository<CartProduct, Long>
   @Query("SELECT cp FROM CartProduct cp WHERE cp.cart.id = :cartId AND cp.deletedAt IS NULL")
   List<CartProduct> findAllByCartId (@Param("cartId") Long cartId);
 
+  @Query("SELECT cp FROM CartProduct cp WHERE cp.cart.id IN :cartIds AND cp.deletedAt IS NULL")
+  List<CartProduct> findAllByCartIdIn(@Param("cartIds") List<Long> cartIds);
+
   @Query("SELECT cp FROM CartProduct cp WHERE cp.cart.id = :cartId "
-      + "AND cp.id IN :cartProductIds "
+      + "AND cp.option.id IN :optionIds "
       + "AND cp.deletedAt IS NULL")
-  List<CartProduct> findAllByIn(@Param("cartId") Long cartId, @Param("cartProductIds") List<Long> cartProductIds);
+  List<CartProduct> findAllByOptionIdIn(@Param("cartId") Long cartId, @Param("optionIds") List<Long> optionIds);
 
 }
@@ -1,25 +1,38 @@
 package com.sparta.camp.java.FinalProject.domain.cart.service;
 
 
+import com.sparta.camp.java.FinalProject.common.enums.CartOperationType;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkItemRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkItemResponse;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductCreateRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartResponse;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
-import com.sparta.camp.java.FinalProject.domain.cart.mapper.CartProductMapper;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
-import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartContents;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartItem;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartMutation;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartStore;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartView;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
-import com.sparta.camp.java.FinalProject.domain.user.entity.User;
-import com.sparta.camp.java.FinalProject.domain.user.repository.UserRepository;
-import java.time.LocalDateTime;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,91 +42,249 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CartService {
 
-  private final CartRepository cartRepository;
-  private final UserRepository userRepository;
-  private final CartProductRepository cartProductRepository;
-  private final ProductRepository productRepository;
+  private final CartStore cartStore;
 
-  private final CartProductMapper cartProductMapper;
   private final ProductOptionRepository productOptionRepository;
+  private final ProductRepository productRepository;
+  private final StockManager stockManager;
+
+  private static class CartLine {
+
+    final Long itemId;
+    final Long productId;
+    final Long productOptionId;
+    final BigDecimal priceAtAdded;
+    int quantity;
+
+    CartLine(Long itemId, Long productId, Long productOptionId, BigDecimal priceAtAdded, int quantity) {
+      this.itemId = itemId;
+      this.productId = productId;
+      this.productOptionId = productOptionId;
+      this.priceAtAdded = priceAtAdded;
+      this.quantity = quantity;
+    }
+  }
 
-  public CartResponse getCartProduct(String userName) {
+  record BulkContext(
+      Map<Long, CartLine> linesByOptionId,
+      Map<Long, ProductOption> optionById,
+      Map<Long, Product> productById,
+      Set<CartLine> changedLines
+  ) {
+
+  }
 
-    User user = getUser(userName);
-    Cart cart = getCart(user.getId());
+  public CartResponse getCartProduct(Long userId) {
 
-    List<CartProductResponse> cartProductResponses = cart.getCartProducts().stream()
-        .filter(cp -> cp.getDeletedAt() == null)
-        .map(cartProductMapper::toResponse)
+    CartView cart = cartStore.getCartView(userId);
+
+    Map<Long, Integer> availableStocks = stockManager.getAvailableStocks(cart.lines().stream()
+        .collect(Collectors.toMap(CartProductDetail::productOptionId, CartProductDetail::stock,
+            (first, second) -> first)));
+
+    List<CartProductResponse> cartProductResponses = cart.lines().stream()
+        .map(line -> CartProductResponse.from(line, availableStocks.get(line.productOptionId())))
         .toList();
 
     return CartResponse.builder()
-        .cartId(cart.getId())
+        .cartId(cart.cartId())
         .cartProductList(cartProductResponses)
         .build();
   }
 
-  public void createCartProduct(String userName, CartProductCreateRequest request) {
+  public void createCartProduct(Long userId, CartProductCreateRequest request) {
+
+    ProductOption selectedOption = getProductOption(request.getProductOptionId());
+    if (!selectedOption.getProduct().getId().equals(request.getProductId())) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
+    }
+
+    BigDecimal price = selectedOption.getProduct().getPrice();
+    CartItem cartItem = cartStore.addItem(userId, request.getProductId(),
+        request.getProductOptionId(), request.getQuantity(), price);
+
+    if (stockManager.getAvailableStock(selectedOption) < cartItem.quantity()) {
+      cartStore.addItem(userId, request.getProductId(),
+          request.getProductOptionId(), -request.getQuantity(), price);
+      throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
+    }
+  }
+
+  public void updateCartProductQuantity (Long userId, Long productOptionId, CartProductUpdateRequest request) {
+    CartItem cartItem = cartStore.findItem(userId, productOptionId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT));
 
-    User user = getUser(userName);
-    Cart cart = getCart(user.getId());
+    validateStock(getProductOption(cartItem.productOptionId()), request.getQuantity());
+    cartStore.updateQuantity(userId, productOptionId, request.getQuantity());
+  }
 
-    CartProduct cartProduct = cartProductRepository.findExistingCartProduct(cart.getId(),
-        request.getProductId(), request.getProductOptionId());
+  public void deleteCartProduct(Long userId, Long productOptionId) {
+    cartStore.removeItem(userId, productOptionId);
+  }
 
-    ProductOption selectedOption = productOptionRepository.findByProductOptionId(request.getProductOptionId())
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS));
+  public CartBulkResponse applyCartProducts(Long userId, CartBulkRequest request) {
+
+    CartContents cart = cartStore.getCart(userId);
+    List<CartBulkItemRequest> operations = request.getOperations();
+
+    BulkContext context = createBulkContext(cart, operations);
+
+    List<CartLine> appliedLines = new ArrayList<>();
+    List<ServiceException> failures = new ArrayList<>();
+    for (CartBulkItemRequest operation : operations) {
+      try {
+        appliedLines.add(applyOperation(context, operation));
+        failures.add(null);
+      } catch (ServiceException e) {
+        appliedLines.add(null);
+        failures.add(e);
+      }
+    }
+
+    List<CartLine> changedLines = new ArrayList<>(context.changedLines());
+    if (!changedLines.isEmpty()) {
+      cartStore.applyAll(userId, cart.cartId(), changedLines.stream()
+          .map(line -> new CartMutation(line.itemId, line.productId, line.productOptionId,
+              line.quantity, line.priceAtAdded))
+          .toList());
+    }
 
-    if (cartProduct != null) {
-      validateStock(selectedOption, cartProduct.getQuantity() + request.getQuantity());
-      cartProduct.increaseQuantity(request.getQuantity());
-      return;
+    List<CartBulkItemResponse> results = new ArrayList<>();
+    for (int i = 0; i < operations.size(); i++) {
+      results.add(toBulkItemResponse(i, operations.get(i), appliedLines.get(i), failures.get(i)));
     }
 
-    validateStock(selectedOption, request.getQuantity());
-    cartProduct = CartProduct.builder()
-        .cart(cart)
-        .product(getProduct(request.getProductId()))
-        .option(selectedOption)
-        .quantity(request.getQuantity())
+    return CartBulkResponse.builder()
+        .cartId(cart.cartId())
+        .results(results)
         .build();
+  }
+
+  private BulkContext createBulkContext(CartContents cart, List<CartBulkItemRequest> operations) {
+    Map<Long, CartLine> linesByOptionId = new HashMap<>();
+    for (CartItem item : cart.items()) {
+      linesByOptionId.putIfAbsent(item.productOptionId(), new CartLine(item.id(),
+          item.productId(), item.productOptionId(), item.priceAtAdded(), item.quantity()));
+    }
+
+    Set<Long> optionIds = operations.stream()
+        .filter(operation -> operation.getType() != CartOperationType.REMOVE)
+        .map(CartBulkItemRequest::getProductOptionId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Set<Long> productIds = operations.stream()
+        .filter(operation -> operation.getType() == CartOperationType.ADD)
+        .map(CartBulkItemRequest::getProductId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<Long, ProductOption> optionById = optionIds.isEmpty() ? Map.of()
+        : productOptionRepository.findAllValidByIds(new ArrayList<>(optionIds)).stream()
+            .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+    Map<Long, Product> productById = productIds.isEmpty() ? Map.of()
+        : productRepository.findAllByIn(new ArrayList<>(productIds)).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    return new BulkContext(linesByOptionId, optionById, productById,
+        new LinkedHashSet<>());
+  }
+
+  private CartLine applyOperation(BulkContext context, CartBulkItemRequest operation) {
+    CartLine line = switch (operation.getType()) {
+      case ADD -> addLine(context, operation);
+      case UPDATE -> updateLine(context, operation);
+      case REMOVE -> removeLine(context, operation);
+    };
+    context.changedLines().add(line);
+    return line;
+  }
+
+  private CartLine addLine(BulkContext context, CartBulkItemRequest operation) {
+    validateQuantity(operation.getQuantity());
 
-    cartProductRepository.save(cartProduct);
+    ProductOption option = context.optionById().get(operation.getProductOptionId());
+    if (option == null || !option.getProduct().getId().equals(operation.getProductId())) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
+    }
+    Product product = context.productById().get(operation.getProductId());
+    if (product == null) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT);
+    }
+
+    CartLine line = context.linesByOptionId().get(option.getId());
+    int quantity = (line == null ? 0 : line.quantity) + operation.getQuantity();
+    validateStock(option, quantity);
+
+    if (line == null) {
+      line = new CartLine(null, product.getId(), option.getId(), product.getPrice(), 0);
+      context.linesByOptionId().put(option.getId(), line);
+    }
+    line.quantity = quantity;
+    return line;
   }
 
-  public void updateCartProductQuantity (Long cartProductId, CartProductUpdateRequest request) {
-    CartProduct cartProduct = getCartProduct(cartProductId);
-    validateStock(cartProduct.getOption(), request.getQuantity());
-    cartProduct.setQuantity(request.getQuantity());
+  private CartLine updateLine(BulkContext context, CartBulkItemRequest operation) {
+    validateQuantity(operation.getQuantity());
+
+    CartLine line = getCartLine(context, operation.getProductOptionId());
+    ProductOption option = context.optionById().get(line.productOptionId);
+    if (option == null) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
+    }
+    validateStock(option, operation.getQuantity());
+
+    line.quantity = operation.getQuantity();
+    return line;
   }
 
-  public void deleteCartProduct(Long cartProductId) {
-    CartProduct cartProduct = getCartProduct(cartProductId);
-    cartProduct.setDeletedAt(LocalDateTime.now());
+  private CartLine removeLine(BulkContext context, CartBulkItemRequest operation) {
+    CartLine line = getCartLine(context, operation.getProductOptionId());
+    line.quantity = 0;
+    return line;
   }
 
-  private User getUser (String userName) {
-    return userRepository.findByEmailAndDeletedAtIsNull(userName)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_USER));
+  private CartLine getCartLine(BulkContext context, Long productOptionId) {
+    CartLine line = productOptionId == null ? null : context.linesByOptionId().get(productOptionId);
+    if (line == null || line.quantity == 0) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT);
+    }
+    return line;
   }
 
-  private Cart getCart (Long userId) {
-    return cartRepository.findByUserId(userId)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
+  private void validateQuantity(Integer quantity) {
+    if (quantity == null || quantity <= 0) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_CART_QUANTITY);
+    }
   }
 
-  private Product getProduct (Long productId) {
-    return productRepository.findProductById(productId)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT));
+  private CartBulkItemResponse toBulkItemResponse(int index, CartBulkItemRequest operation,
+      CartLine line, ServiceException failure) {
+    if (failure != null) {
+      return CartBulkItemResponse.builder()
+          .index(index)
+          .type(operation.getType())
+          .success(false)
+          .code(failure.getCode())
+          .message(failure.getMessage())
+          .build();
+    }
+    return CartBulkItemResponse.builder()
+        .index(index)
+        .type(operation.getType())
+        .success(true)
+        .productOptionId(line.productOptionId)
+        .quantity(line.quantity)
+        .build();
   }
 
-  private CartProduct getCartProduct (Long cartProductId) {
-    return cartProductRepository.findByIdAndDeletedAtIsNull(cartProductId)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT));
+  private ProductOption getProductOption (Long productOptionId) {
+    return productOptionRepository.findByProductOptionId(productOptionId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS));
   }
 
   private void validateStock(ProductOption option, Integer quantity) {
-    if (option.getStock() < quantity) {
+    if (stockManager.getAvailableStock(option) < quantity) {
       throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
     }
   }
@@ -0,0 +1,10 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import java.util.List;
+
+public record CartContents(
+    Long cartId,
+    List<CartItem> items
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import java.math.BigDecimal;
+
+public record CartItem(
+    Long id,
+    Long productId,
+    Long productOptionId,
+    int quantity,
+    BigDecimal priceAtAdded
+) {
+
+  public static CartItem from(CartProduct cartProduct) {
+    Long optionId = cartProduct.getOption().getId();
+    return new CartItem(optionId, cartProduct.getProduct().getId(), optionId,
+        cartProduct.getQuantity(), cartProduct.getPriceAtAdded());
+  }
+
+}
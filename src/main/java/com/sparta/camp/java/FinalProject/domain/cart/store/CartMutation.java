@@ -0,0 +1,13 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import java.math.BigDecimal;
+
+public record CartMutation(
+    Long itemId,
+    Long productId,
+    Long productOptionId,
+    int quantity,
+    BigDecimal priceAtAdded
+) {
+
+}
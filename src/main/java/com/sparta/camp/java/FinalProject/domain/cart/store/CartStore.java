@@ -0,0 +1,26 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CartStore {
+
+  CartContents getCart(Long userId);
+
+  CartView getCartView(Long userId);
+
+  List<CartItem> findItems(Long userId, Collection<Long> itemIds);
+
+  Optional<CartItem> findItem(Long userId, Long itemId);
+
+  CartItem addItem(Long userId, Long productId, Long productOptionId, int quantity, BigDecimal price);
+
+  void updateQuantity(Long userId, Long itemId, int quantity);
+
+  void removeItem(Long userId, Long itemId);
+
+  List<CartItem> applyAll(Long userId, Long cartId, List<CartMutation> mutations);
+
+}
@@ -0,0 +1,11 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
+import java.util.List;
+
+public record CartView(
+    Long cartId,
+    List<CartProductDetail> lines
+) {
+
+}
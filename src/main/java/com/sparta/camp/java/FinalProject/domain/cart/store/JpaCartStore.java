@@ -0,0 +1,168 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.storage", havingValue = "database", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+  private final CartRepository cartRepository;
+  private final CartProductRepository cartProductRepository;
+  private final CartProductQueryRepository cartProductQueryRepository;
+  private final ProductRepository productRepository;
+  private final ProductOptionRepository productOptionRepository;
+
+  @Override
+  public CartContents getCart(Long userId) {
+    Cart cart = getCartByUserId(userId);
+    List<CartItem> items = cartProductRepository.findAllByCartId(cart.getId()).stream()
+        .map(CartItem::from)
+        .toList();
+    return new CartContents(cart.getId(), items);
+  }
+
+  @Override
+  public CartView getCartView(Long userId) {
+    Cart cart = getCartByUserId(userId);
+    return new CartView(cart.getId(), cartProductQueryRepository.findCartLines(cart.getId()));
+  }
+
+  @Override
+  public List<CartItem> findItems(Long userId, Collection<Long> itemIds) {
+    Cart cart = getCartByUserId(userId);
+    return cartProductRepository.findAllByOptionIdIn(cart.getId(), new ArrayList<>(itemIds)).stream()
+        .map(CartItem::from)
+        .toList();
+  }
+
+  @Override
+  public Optional<CartItem> findItem(Long userId, Long itemId) {
+    return findCartProduct(userId, itemId).map(CartItem::from);
+  }
+
+  @Override
+  public CartItem addItem(Long userId, Long productId, Long productOptionId, int quantity,
+      BigDecimal price) {
+    Cart cart = getCartByUserId(userId);
+
+    CartProduct cartProduct = cartProductRepository.findExistingCartProduct(cart.getId(),
+        productId, productOptionId);
+    if (cartProduct != null) {
+      cartProduct.increaseQuantity(quantity);
+      if (cartProduct.getQuantity() <= 0) {
+        cartProduct.setDeletedAt(LocalDateTime.now());
+      }
+      return CartItem.from(cartProduct);
+    }
+
+    cartProduct = CartProduct.builder()
+        .cart(cart)
+        .product(productRepository.getReferenceById(productId))
+        .option(productOptionRepository.getReferenceById(productOptionId))
+        .quantity(quantity)
+        .priceAtAdded(price)
+        .build();
+    return CartItem.from(cartProductRepository.save(cartProduct));
+  }
+
+  @Override
+  public void updateQuantity(Long userId, Long itemId, int quantity) {
+    getCartProduct(userId, itemId).setQuantity(quantity);
+  }
+
+  @Override
+  public void removeItem(Long userId, Long itemId) {
+    getCartProduct(userId, itemId).setDeletedAt(LocalDateTime.now());
+  }
+
+  @Override
+  public List<CartItem> applyAll(Long userId, Long cartId, List<CartMutation> mutations) {
+    LocalDateTime now = LocalDateTime.now();
+    List<CartProduct> cartProducts = new ArrayList<>();
+    List<CartProduct> created = new ArrayList<>();
+    Map<Long, CartProduct> stored = findStoredByOptionId(cartId, mutations);
+
+    for (CartMutation mutation : mutations) {
+      CartProduct cartProduct;
+      if (mutation.itemId() != null) {
+        cartProduct = stored.get(mutation.itemId());
+        if (cartProduct == null) {
+          throw new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT);
+        }
+        if (mutation.quantity() > 0) {
+          cartProduct.setQuantity(mutation.quantity());
+        } else {
+          cartProduct.setDeletedAt(now);
+        }
+      } else {
+        cartProduct = CartProduct.builder()
+            .cart(cartRepository.getReferenceById(cartId))
+            .product(productRepository.getReferenceById(mutation.productId()))
+            .option(productOptionRepository.getReferenceById(mutation.productOptionId()))
+            .quantity(mutation.quantity())
+            .priceAtAdded(mutation.priceAtAdded())
+            .build();
+        created.add(cartProduct);
+      }
+      cartProducts.add(cartProduct);
+    }
+    cartProductRepository.saveAll(created);
+
+    return cartProducts.stream()
+        .map(CartItem::from)
+        .toList();
+  }
+
+  private Map<Long, CartProduct> findStoredByOptionId(Long cartId, List<CartMutation> mutations) {
+    List<Long> optionIds = mutations.stream()
+        .map(CartMutation::itemId)
+        .filter(Objects::nonNull)
+        .toList();
+    if (optionIds.isEmpty()) {
+      return Map.of();
+    }
+
+    return cartProductRepository.findAllByOptionIdIn(cartId, optionIds).stream()
+        .collect(Collectors.toMap(cartProduct -> cartProduct.getOption().getId(),
+            Function.identity(), (first, duplicate) -> first));
+  }
+
+  private Cart getCartByUserId(Long userId) {
+    return cartRepository.findByUserId(userId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
+  }
+
+  private Optional<CartProduct> findCartProduct(Long userId, Long itemId) {
+    Cart cart = getCartByUserId(userId);
+    return cartProductRepository.findAllByOptionIdIn(cart.getId(), List.of(itemId)).stream()
+        .findFirst();
+  }
+
+  private CartProduct getCartProduct(Long userId, Long itemId) {
+    return findCartProduct(userId, itemId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT));
+  }
+
+}
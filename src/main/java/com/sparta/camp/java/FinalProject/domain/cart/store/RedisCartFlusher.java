@@ -0,0 +1,92 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.storage", havingValue = "redis")
+public class RedisCartFlusher {
+
+  private final RedisCartStore redisCartStore;
+  private final CartRepository cartRepository;
+  private final CartProductRepository cartProductRepository;
+  private final ProductRepository productRepository;
+  private final ProductOptionRepository productOptionRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${cart.redis.flush-batch-size:200}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${cart.redis.flush-interval:PT5S}")
+  public void flush() {
+    List<Long> userIds = redisCartStore.popDirtyUsers(batchSize);
+    if (userIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> persist(userIds));
+    } catch (RuntimeException e) {
+      redisCartStore.markDirty(userIds);
+      throw e;
+    }
+  }
+
+  private void persist(Collection<Long> userIds) {
+    List<CartContents> carts = new ArrayList<>();
+    userIds.forEach(userId -> redisCartStore.findCached(userId).ifPresent(carts::add));
+    if (carts.isEmpty()) {
+      return;
+    }
+
+    Map<Long, List<CartProduct>> storedByCartId = cartProductRepository.findAllByCartIdIn(
+            carts.stream().map(CartContents::cartId).toList()).stream()
+        .collect(Collectors.groupingBy(cp -> cp.getCart().getId()));
+
+    List<CartProduct> created = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (CartContents cart : carts) {
+      Map<Long, CartProduct> stored = new HashMap<>();
+      for (CartProduct cartProduct : storedByCartId.getOrDefault(cart.cartId(), List.of())) {
+        if (stored.putIfAbsent(cartProduct.getOption().getId(), cartProduct) != null) {
+          cartProduct.setDeletedAt(now);
+        }
+      }
+
+      for (CartItem item : cart.items()) {
+        CartProduct cartProduct = stored.remove(item.productOptionId());
+        if (cartProduct == null) {
+          created.add(CartProduct.builder()
+              .cart(cartRepository.getReferenceById(cart.cartId()))
+              .product(productRepository.getReferenceById(item.productId()))
+              .option(productOptionRepository.getReferenceById(item.productOptionId()))
+              .quantity(item.quantity())
+              .priceAtAdded(item.priceAtAdded())
+              .build());
+        } else if (cartProduct.getQuantity() != item.quantity()) {
+          cartProduct.setQuantity(item.quantity());
+        }
+      }
+      stored.values().forEach(cartProduct -> cartProduct.setDeletedAt(now));
+    }
+    cartProductRepository.saveAll(created);
+  }
+
+}
@@ -0,0 +1,254 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.storage", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+
+  static final String KEY_PREFIX = "cart:user:";
+  static final String DIRTY_KEY = "cart:dirty";
+
+  private static final String CART_ID_FIELD = "cartId";
+  private static final String QUANTITY_PREFIX = "q:";
+  private static final String PRODUCT_PREFIX = "p:";
+  private static final String PRICE_PREFIX = "a:";
+
+  private static final long NOT_LOADED = -1L;
+  private static final long NOT_FOUND = 0L;
+
+  private static final RedisScript<Long> LOAD_SCRIPT = script("scripts/cart-load.lua");
+  private static final RedisScript<Long> INCREASE_SCRIPT = script("scripts/cart-increase.lua");
+  private static final RedisScript<Long> SET_SCRIPT = script("scripts/cart-set.lua");
+  private static final RedisScript<Long> APPLY_SCRIPT = script("scripts/cart-apply.lua");
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final CartRepository cartRepository;
+  private final CartProductRepository cartProductRepository;
+  private final CartProductQueryRepository cartProductQueryRepository;
+
+  @Value("${cart.redis.ttl:P14D}")
+  private Duration ttl;
+
+  @Override
+  public CartContents getCart(Long userId) {
+    String key = key(userId);
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+    if (entries.isEmpty()) {
+      load(userId);
+      entries = stringRedisTemplate.opsForHash().entries(key);
+    } else {
+      stringRedisTemplate.expire(key, ttl);
+    }
+    return toContents(entries);
+  }
+
+  @Override
+  public CartView getCartView(Long userId) {
+    CartContents cart = getCart(userId);
+    if (cart.items().isEmpty()) {
+      return new CartView(cart.cartId(), List.of());
+    }
+
+    Map<Long, CartProductDetail> details = cartProductQueryRepository.findOptionLines(
+            cart.items().stream().map(CartItem::productOptionId).toList()).stream()
+        .collect(Collectors.toMap(CartProductDetail::productOptionId, Function.identity()));
+
+    List<CartProductDetail> lines = cart.items().stream()
+        .filter(item -> details.containsKey(item.productOptionId()))
+        .map(item -> details.get(item.productOptionId())
+            .withLine(item.id(), item.quantity(), item.priceAtAdded()))
+        .toList();
+    return new CartView(cart.cartId(), lines);
+  }
+
+  @Override
+  public List<CartItem> findItems(Long userId, Collection<Long> itemIds) {
+    return getCart(userId).items().stream()
+        .filter(item -> itemIds.contains(item.id()))
+        .toList();
+  }
+
+  @Override
+  public Optional<CartItem> findItem(Long userId, Long itemId) {
+    return findItems(userId, List.of(itemId)).stream().findFirst();
+  }
+
+  @Override
+  public CartItem addItem(Long userId, Long productId, Long productOptionId, int quantity,
+      BigDecimal price) {
+    List<String> args = List.of(String.valueOf(productOptionId), String.valueOf(productId),
+        String.valueOf(quantity), String.valueOf(ttl.toMillis()), String.valueOf(userId),
+        price == null ? "" : price.toPlainString());
+
+    long result = execute(INCREASE_SCRIPT, userId, args);
+    if (result == NOT_LOADED) {
+      load(userId);
+      result = execute(INCREASE_SCRIPT, userId, args);
+    }
+    return new CartItem(productOptionId, productId, productOptionId, (int) result, price);
+  }
+
+  @Override
+  public void updateQuantity(Long userId, Long itemId, int quantity) {
+    setQuantity(userId, itemId, quantity);
+  }
+
+  @Override
+  public void removeItem(Long userId, Long itemId) {
+    setQuantity(userId, itemId, 0);
+  }
+
+  @Override
+  public List<CartItem> applyAll(Long userId, Long cartId, List<CartMutation> mutations) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(ttl.toMillis()));
+    args.add(String.valueOf(userId));
+    for (CartMutation mutation : mutations) {
+      args.add(String.valueOf(mutation.productOptionId()));
+      args.add(String.valueOf(mutation.productId()));
+      args.add(String.valueOf(Math.max(mutation.quantity(), 0)));
+      args.add(mutation.priceAtAdded() == null ? "" : mutation.priceAtAdded().toPlainString());
+    }
+
+    if (execute(APPLY_SCRIPT, userId, args) == NOT_LOADED) {
+      load(userId);
+      execute(APPLY_SCRIPT, userId, args);
+    }
+
+    return mutations.stream()
+        .map(mutation -> new CartItem(mutation.productOptionId(), mutation.productId(),
+            mutation.productOptionId(), Math.max(mutation.quantity(), 0), mutation.priceAtAdded()))
+        .toList();
+  }
+
+  public List<Long> popDirtyUsers(int count) {
+    List<String> userIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+    return userIds == null ? List.of() : userIds.stream().map(Long::valueOf).toList();
+  }
+
+  public void markDirty(Collection<Long> userIds) {
+    if (!userIds.isEmpty()) {
+      stringRedisTemplate.opsForSet().add(DIRTY_KEY,
+          userIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+  }
+
+  public Optional<CartContents> findCached(Long userId) {
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(userId));
+    return entries.isEmpty() ? Optional.empty() : Optional.of(toContents(entries));
+  }
+
+  private void setQuantity(Long userId, Long itemId, int quantity) {
+    List<String> args = List.of(String.valueOf(itemId), String.valueOf(quantity),
+        String.valueOf(ttl.toMillis()), String.valueOf(userId));
+
+    long result = execute(SET_SCRIPT, userId, args);
+    if (result == NOT_LOADED) {
+      load(userId);
+      result = execute(SET_SCRIPT, userId, args);
+    }
+    if (result == NOT_FOUND) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT);
+    }
+  }
+
+  private void load(Long userId) {
+    Cart cart = cartRepository.findByUserId(userId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
+
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    Map<Long, Long> productIds = new LinkedHashMap<>();
+    Map<Long, BigDecimal> prices = new LinkedHashMap<>();
+    for (CartProduct cartProduct : cartProductRepository.findAllByCartId(cart.getId())) {
+      Long optionId = cartProduct.getOption().getId();
+      quantities.merge(optionId, cartProduct.getQuantity(), Integer::sum);
+      productIds.put(optionId, cartProduct.getProduct().getId());
+      if (cartProduct.getPriceAtAdded() != null) {
+        prices.putIfAbsent(optionId, cartProduct.getPriceAtAdded());
+      }
+    }
+
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(ttl.toMillis()));
+    args.add(CART_ID_FIELD);
+    args.add(String.valueOf(cart.getId()));
+    quantities.forEach((optionId, quantity) -> {
+      args.add(QUANTITY_PREFIX + optionId);
+      args.add(String.valueOf(quantity));
+      args.add(PRODUCT_PREFIX + optionId);
+      args.add(String.valueOf(productIds.get(optionId)));
+      if (prices.containsKey(optionId)) {
+        args.add(PRICE_PREFIX + optionId);
+        args.add(prices.get(optionId).toPlainString());
+      }
+    });
+
+    stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key(userId)), args.toArray());
+  }
+
+  private long execute(RedisScript<Long> script, Long userId, List<String> args) {
+    Long result = stringRedisTemplate.execute(script, List.of(key(userId), DIRTY_KEY), args.toArray());
+    return result == null ? NOT_LOADED : result;
+  }
+
+  private CartContents toContents(Map<Object, Object> entries) {
+    List<CartItem> items = new ArrayList<>();
+    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+      String field = String.valueOf(entry.getKey());
+      if (!field.startsWith(QUANTITY_PREFIX)) {
+        continue;
+      }
+      Long optionId = Long.valueOf(field.substring(QUANTITY_PREFIX.length()));
+      Long productId = Long.valueOf(String.valueOf(entries.get(PRODUCT_PREFIX + optionId)));
+      Object price = entries.get(PRICE_PREFIX + optionId);
+      items.add(new CartItem(optionId, productId, optionId,
+          Integer.parseInt(String.valueOf(entry.getValue())),
+          price == null ? null : new BigDecimal(String.valueOf(price))));
+    }
+    items.sort(Comparator.comparing(CartItem::id));
+
+    Long cartId = Long.valueOf(String.valueOf(entries.get(CART_ID_FIELD)));
+    return new CartContents(cartId, items);
+  }
+
+  private String key(Long userId) {
+    return KEY_PREFIX + userId;
+  }
+
+  private static RedisScript<Long> script(String path) {
+    DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+    script.setResultType(Long.class);
+    return script;
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.sparta.camp.java.FinalProject.domain.category.cache;
+
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache implements MessageListener {
+
+  static final String VERSION_KEY = "category:tree:version";
+  static final String CHANNEL = "category:tree:changed";
+
+  private final CategoryRepository categoryRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    refresh(currentVersion());
+  }
+
+  public CategoryTreeSnapshot get() {
+    CategoryTreeSnapshot current = snapshot.get();
+    return current != null ? current : refresh(currentVersion());
+  }
+
+  public void invalidate() {
+    AfterCommit.run(() -> {
+      long version = nextVersion();
+      refresh(version);
+      publish(version);
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    long version = Long.parseLong(String.valueOf(body));
+
+    CategoryTreeSnapshot current = snapshot.get();
+    if (current == null || current.version() != version) {
+      refresh(version);
+    }
+  }
+
+  private synchronized CategoryTreeSnapshot refresh(long version) {
+    CategoryTreeSnapshot loaded = CategoryTreeSnapshot.of(version, categoryRepository.findCategoryAll());
+    snapshot.set(loaded);
+    return loaded;
+  }
+
+  private long currentVersion() {
+    try {
+      Long version = redisTemplate.opsForValue().increment(VERSION_KEY, 0);
+      return version != null ? version : 0;
+    } catch (DataAccessException e) {
+      return 0;
+    }
+  }
+
+  private long nextVersion() {
+    try {
+      Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+      if (version != null) {
+        return version;
+      }
+    } catch (DataAccessException ignored) {
+    }
+
+    CategoryTreeSnapshot current = snapshot.get();
+    return current != null ? current.version() + 1 : 1;
+  }
+
+  private void publish(long version) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+    } catch (DataAccessException ignored) {
+    }
+  }
+
+}
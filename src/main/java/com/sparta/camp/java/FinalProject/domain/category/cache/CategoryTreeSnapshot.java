@@ -0,0 +1,77 @@
+package com.sparta.camp.java.FinalProject.domain.category.cache;
+
+import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryResponse;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record CategoryTreeSnapshot(
+    long version,
+    String contentHash,
+    List<CategoryResponse> categories
+) {
+
+  public String eTag() {
+    return "\"category-tree-" + contentHash + "\"";
+  }
+
+  public static CategoryTreeSnapshot of(long version, List<Category> categories) {
+    Map<Long, List<Category>> childrenByParentId = new LinkedHashMap<>();
+    List<Category> roots = new ArrayList<>();
+
+    for (Category category : categories) {
+      if (category.getParent() == null) {
+        roots.add(category);
+      } else {
+        childrenByParentId.computeIfAbsent(category.getParent().getId(), key -> new ArrayList<>())
+            .add(category);
+      }
+    }
+
+    List<CategoryResponse> responses = toResponses(roots, childrenByParentId);
+    return new CategoryTreeSnapshot(version, hash(responses), responses);
+  }
+
+  private static String hash(List<CategoryResponse> categories) {
+    StringBuilder content = new StringBuilder();
+    appendContent(content, categories);
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void appendContent(StringBuilder content, List<CategoryResponse> categories) {
+    content.append('[');
+    for (CategoryResponse category : categories) {
+      content.append(category.getId()).append(':').append(category.getName().length())
+          .append(':').append(category.getName());
+      appendContent(content, category.getChildren());
+    }
+    content.append(']');
+  }
+
+  private static List<CategoryResponse> toResponses(List<Category> categories,
+      Map<Long, List<Category>> childrenByParentId) {
+
+    return categories.stream()
+        .map(category -> CategoryResponse.builder()
+            .id(category.getId())
+            .name(category.getName())
+            .children(toResponses(
+                childrenByParentId.getOrDefault(category.getId(), List.of()), childrenByParentId))
+            .build())
+        .toList();
+  }
+
+}
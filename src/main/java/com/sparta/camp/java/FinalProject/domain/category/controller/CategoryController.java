@@ -1,6 +1,7 @@
 package com.sparta.camp.java.FinalProject.domain.category.controller;
 
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
+import com.sparta.camp.java.FinalProject.domain.category.cache.CategoryTreeSnapshot;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryResponse;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryUpdateRequest;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,8 +29,12 @@ public class CategoryController {
   private final CategoryService categoryService;
 
   @GetMapping("/hierarchy")
-  public ApiResponse<List<CategoryResponse>> getCategoryHierarchy(){
-    return ApiResponse.success(categoryService.getCategoryHierarchy());
+  public ApiResponse<List<CategoryResponse>> getCategoryHierarchy(WebRequest webRequest) {
+    CategoryTreeSnapshot categoryTree = categoryService.getCategoryTree();
+    if (webRequest.checkNotModified(categoryTree.eTag())) {
+      return null;
+    }
+    return ApiResponse.success(categoryTree.categories());
   }
 
   @PostMapping
@@ -0,0 +1,35 @@
+package com.sparta.camp.java.FinalProject.domain.category.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_category_closure_descendant_id", columnList = "descendant_id, ancestor_id")
+})
+@IdClass(CategoryClosureId.class)
+@Getter
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CategoryClosure {
+
+  @Id
+  @Column(name = "ancestor_id")
+  Long ancestorId;
+
+  @Id
+  @Column(name = "descendant_id")
+  Long descendantId;
+
+  @Column(nullable = false)
+  Integer depth;
+
+}
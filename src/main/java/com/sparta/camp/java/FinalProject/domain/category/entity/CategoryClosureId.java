@@ -0,0 +1,20 @@
+package com.sparta.camp.java.FinalProject.domain.category.entity;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CategoryClosureId implements Serializable {
+
+  Long ancestorId;
+
+  Long descendantId;
+
+}
@@ -0,0 +1,7 @@
+package com.sparta.camp.java.FinalProject.domain.category.event;
+
+public record CategoryChangedEvent(
+    Long categoryId
+) {
+
+}
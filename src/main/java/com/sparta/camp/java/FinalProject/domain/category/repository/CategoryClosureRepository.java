@@ -0,0 +1,49 @@
+package com.sparta.camp.java.FinalProject.domain.category.repository;
+
+import com.sparta.camp.java.FinalProject.domain.category.entity.CategoryClosure;
+import com.sparta.camp.java.FinalProject.domain.category.entity.CategoryClosureId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+
+  @Query("SELECT count(cc) > 0 FROM CategoryClosure cc "
+      + "WHERE cc.ancestorId = :ancestorId AND cc.descendantId = :descendantId")
+  boolean existsPath(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+  @Query("SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :ancestorId")
+  List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+  @Modifying
+  @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) "
+      + "SELECT p.ancestor_id, c.id, p.depth + 1 FROM category c "
+      + "JOIN category_closure p ON p.descendant_id = :parentId WHERE c.id = :categoryId "
+      + "UNION ALL SELECT c.id, c.id, 0 FROM category c WHERE c.id = :categoryId",
+      nativeQuery = true)
+  void insertPaths(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+  @Modifying
+  @Query(value = "DELETE FROM category_closure "
+      + "WHERE descendant_id IN (:subtreeIds) AND ancestor_id NOT IN (:subtreeIds)",
+      nativeQuery = true)
+  void detachSubtree(@Param("subtreeIds") Collection<Long> subtreeIds);
+
+  @Modifying
+  @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) "
+      + "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 "
+      + "FROM category_closure p JOIN category_closure s ON s.ancestor_id = :categoryId "
+      + "WHERE p.descendant_id = :parentId", nativeQuery = true)
+  void attachSubtree(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+  @Modifying
+  @Query("DELETE FROM CategoryClosure cc "
+      + "WHERE cc.descendantId = :categoryId OR cc.ancestorId = :categoryId")
+  void deletePaths(@Param("categoryId") Long categoryId);
+
+}
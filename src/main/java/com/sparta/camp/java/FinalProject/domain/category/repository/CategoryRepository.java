@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,8 +14,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
   @Query("SELECT c FROM Category c WHERE c.deletedAt IS NULL")
   List<Category> findCategoryAll();
 
-  @Query("SELECT c FROM Category c WHERE c.deletedAt IS NULL")
-  Optional<Category> findCategoryById(Long id);
+  @Query("SELECT c FROM Category c WHERE c.id = :id AND c.deletedAt IS NULL")
+  Optional<Category> findCategoryById(@Param("id") Long id);
 
   @Query("SELECT c FROM Category c WHERE c.parent.id = :parentId AND c.deletedAt IS NULL")
   List<Category> findCategoryByParentId(Long parentId);
@@ -2,20 +2,22 @@ package com.sparta.camp.java.FinalProject.domain.category.service;
 
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.category.cache.CategoryTreeCache;
+import com.sparta.camp.java.FinalProject.domain.category.cache.CategoryTreeSnapshot;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryResponse;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.category.event.CategoryChangedEvent;
 import com.sparta.camp.java.FinalProject.domain.category.mapper.CategoryMapper;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
 import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,38 +26,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
 
   private final CategoryRepository categoryRepository;
+  private final CategoryClosureRepository categoryClosureRepository;
+  private final CategoryTreeCache categoryTreeCache;
   private final CategoryMapper categoryMapper;
   private final ProductRepository productRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  @Transactional(readOnly = true)
-  public List<CategoryResponse> getCategoryHierarchy() {
-    List<Category> categories = categoryRepository.findCategoryAll();
-
-    Map<Long, CategoryResponse> categoryResponseMap = new HashMap<>();
-    for (Category category : categories) {
-      CategoryResponse response = CategoryResponse.builder()
-          .id(category.getId())
-          .name(category.getName())
-          .children(new ArrayList<>())
-          .build();
-      categoryResponseMap.put(category.getId(), response);
-    }
-
-    List<CategoryResponse> rootCategories = new ArrayList<>();
-    for (Category category : categories) {
-      CategoryResponse categoryResponse = categoryResponseMap.get(category.getId());
-
-      if (ObjectUtils.isEmpty(category.getParent())) {
-        rootCategories.add(categoryResponse);
-      } else {
-        CategoryResponse parentResponse = categoryResponseMap.get(category.getParent().getId());
-        if (parentResponse != null) {
-          parentResponse.getChildren().add(categoryResponse);
-        }
-      }
-    }
-
-    return rootCategories;
+  public CategoryTreeSnapshot getCategoryTree() {
+    return categoryTreeCache.get();
   }
 
   @Transactional
@@ -72,6 +50,9 @@ public class CategoryService {
         .build();
 
     categoryRepository.save(newCategory);
+    categoryClosureRepository.insertPaths(newCategory.getId(),
+        parentCategory != null ? parentCategory.getId() : null);
+    categoryTreeCache.invalidate();
 
     return newCategory.getId();
   }
@@ -87,9 +68,18 @@ public class CategoryService {
       this.validateParent(category, parentCategory);
     }
 
+    Long oldParentId = category.getParent() != null ? category.getParent().getId() : null;
+    Long newParentId = parentCategory != null ? parentCategory.getId() : null;
+
     category.setName(categoryUpdateRequest.getName());
     category.setParent(parentCategory);
 
+    if (!Objects.equals(oldParentId, newParentId)) {
+      this.moveSubtree(category.getId(), newParentId);
+    }
+    categoryTreeCache.invalidate();
+    eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+
     return categoryMapper.toResponse(category);
   }
 
@@ -103,6 +93,8 @@ public class CategoryService {
     }
 
     category.setDeletedAt(LocalDateTime.now());
+    categoryClosureRepository.deletePaths(id);
+    categoryTreeCache.invalidate();
   }
 
   private Category getCategoryById(Long id) {
@@ -111,12 +103,21 @@ public class CategoryService {
   }
 
   private void validateParent(Category category, Category parentCategory) {
-    Category current = parentCategory;
-    while(current != null) {
-      if (current.getId().equals(category.getId())) {
-        throw new ServiceException(ServiceExceptionCode.NOT_ALLOWED_SELF_PARENT);
-      }
-      current = current.getParent();
+    if (category.getId().equals(parentCategory.getId())
+        || categoryClosureRepository.existsPath(category.getId(), parentCategory.getId())) {
+      throw new ServiceException(ServiceExceptionCode.NOT_ALLOWED_SELF_PARENT);
+    }
+  }
+
+  private void moveSubtree(Long categoryId, Long newParentId) {
+    List<Long> subtreeIds = categoryClosureRepository.findDescendantIds(categoryId);
+    if (subtreeIds.isEmpty()) {
+      return;
+    }
+
+    categoryClosureRepository.detachSubtree(subtreeIds);
+    if (newParentId != null) {
+      categoryClosureRepository.attachSubtree(categoryId, newParentId);
     }
   }
 
@@ -13,9 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,18 +25,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.DynamicInsert;
 
 @Entity
-@Table
+@Table(indexes = {
+    @Index(name = "idx_history_purchase_id", columnList = "purchase_id")
+})
 @Getter
-@DynamicInsert
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class History {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "history_id_generator")
+  @TableGenerator(name = "history_id_generator", table = "id_generator",
+      pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "history",
+      allocationSize = 50)
   Long id;
 
   @Column(nullable = false)
@@ -0,0 +1,99 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.entity;
+
+import com.sparta.camp.java.FinalProject.common.enums.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Entity
+@Table
+@Getter
+@DynamicInsert
+@DynamicUpdate
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  Long id;
+
+  @Column(nullable = false, length = 50)
+  String aggregateType;
+
+  @Column(nullable = false)
+  Long aggregateId;
+
+  @Column(nullable = false, length = 100)
+  String eventType;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  OutboxStatus status;
+
+  @Column(nullable = false)
+  Integer attempts;
+
+  @Column(nullable = false)
+  LocalDateTime nextAttemptAt;
+
+  @Column(length = 500)
+  String lastError;
+
+  @Column
+  LocalDateTime publishedAt;
+
+  @Column(nullable = false, updatable = false)
+  @CreationTimestamp
+  LocalDateTime createdAt;
+
+  @Builder
+  public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload,
+      LocalDateTime nextAttemptAt) {
+    this.aggregateType = aggregateType;
+    this.aggregateId = aggregateId;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.status = OutboxStatus.PENDING;
+    this.attempts = 0;
+    this.nextAttemptAt = nextAttemptAt;
+  }
+
+  public void lease(LocalDateTime leaseUntil) {
+    this.nextAttemptAt = leaseUntil;
+  }
+
+  public void markPublished(LocalDateTime now) {
+    this.status = OutboxStatus.PUBLISHED;
+    this.attempts = this.attempts + 1;
+    this.publishedAt = now;
+    this.lastError = null;
+  }
+
+  public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+    this.attempts = this.attempts + 1;
+    this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    this.nextAttemptAt = nextAttemptAt;
+    if (this.attempts >= maxAttempts) {
+      this.status = OutboxStatus.FAILED;
+    }
+  }
+
+}
@@ -0,0 +1,14 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.event;
+
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+
+public interface OutboxEventHandler {
+
+  String getEventType();
+
+  void handle(OutboxEvent event) throws Exception;
+
+  default boolean requiresTransaction() {
+    return true;
+  }
+}
@@ -0,0 +1,18 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.event;
+
+import com.sparta.camp.java.FinalProject.domain.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+  private final OutboxService outboxService;
+
+  @EventListener
+  public void record(OutboxMessage message) {
+    outboxService.append(message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.event;
+
+public interface OutboxMessage {
+
+  String aggregateType();
+
+  Long aggregateId();
+
+  default String eventType() {
+    return getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,32 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.repository;
+
+import com.sparta.camp.java.FinalProject.common.enums.OutboxStatus;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+  List<OutboxEvent> findPublishableForUpdate(@Param("status") OutboxStatus status,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+  int deletePublishedBefore(@Param("status") OutboxStatus status,
+      @Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,36 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.scheduler;
+
+import com.sparta.camp.java.FinalProject.domain.outbox.service.OutboxService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+  private final OutboxService outboxService;
+
+  @Value("${outbox.relay-batch-size:100}")
+  private int batchSize;
+
+  @Value("${outbox.retention:P7D}")
+  private Duration retention;
+
+  @Scheduled(fixedDelayString = "${outbox.relay-interval:PT1S}")
+  public void relay() {
+    int relayed;
+    do {
+      relayed = outboxService.relay(batchSize);
+    } while (relayed == batchSize);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.purge-interval:PT1H}")
+  public void purge() {
+    outboxService.purgePublished(LocalDateTime.now().minus(retention));
+  }
+
+}
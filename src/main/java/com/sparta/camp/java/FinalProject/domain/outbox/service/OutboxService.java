@@ -0,0 +1,156 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.common.enums.OutboxStatus;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxMessage;
+import com.sparta.camp.java.FinalProject.domain.outbox.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final Map<String, List<OutboxEventHandler>> handlers;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate requiresNewTemplate;
+
+  @Value("${outbox.max-attempts:10}")
+  private int maxAttempts;
+
+  @Value("${outbox.claim-lease:PT1M}")
+  private Duration claimLease;
+
+  @Value("${outbox.retry-backoff:PT5S}")
+  private Duration retryBackoff;
+
+  @Value("${outbox.max-retry-backoff:PT10M}")
+  private Duration maxRetryBackoff;
+
+  public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+      List<OutboxEventHandler> handlers, PlatformTransactionManager transactionManager) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.objectMapper = objectMapper;
+    this.handlers = handlers.stream()
+        .collect(Collectors.groupingBy(OutboxEventHandler::getEventType));
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(OutboxMessage message) {
+    OutboxEvent event = OutboxEvent.builder()
+        .aggregateType(message.aggregateType())
+        .aggregateId(message.aggregateId())
+        .eventType(message.eventType())
+        .payload(serialize(message))
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+
+    outboxEventRepository.save(event);
+  }
+
+  public int relay(int batchSize) {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> events = transactionTemplate.execute(status -> claim(now, batchSize));
+
+    for (OutboxEvent event : events) {
+      dispatch(event, now);
+    }
+
+    return events.size();
+  }
+
+  private List<OutboxEvent> claim(LocalDateTime now, int batchSize) {
+    List<OutboxEvent> events = outboxEventRepository.findPublishableForUpdate(
+        OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+    LocalDateTime leaseUntil = now.plus(claimLease);
+    events.forEach(event -> event.lease(leaseUntil));
+
+    return events;
+  }
+
+  private void dispatch(OutboxEvent event, LocalDateTime now) {
+    try {
+      for (OutboxEventHandler handler : handlersOf(event)) {
+        if (!handler.requiresTransaction()) {
+          handle(handler, event);
+        }
+      }
+      requiresNewTemplate.executeWithoutResult(status -> publish(event.getId(), now));
+    } catch (RuntimeException e) {
+      requiresNewTemplate.executeWithoutResult(status -> fail(event.getId(), now, e));
+    }
+  }
+
+  private void publish(Long eventId, LocalDateTime now) {
+    OutboxEvent event = getEvent(eventId);
+    for (OutboxEventHandler handler : handlersOf(event)) {
+      if (handler.requiresTransaction()) {
+        handle(handler, event);
+      }
+    }
+    event.markPublished(now);
+  }
+
+  private void fail(Long eventId, LocalDateTime now, RuntimeException cause) {
+    OutboxEvent event = getEvent(eventId);
+    event.markFailed(cause.getMessage(), now.plus(backoff(event.getAttempts())), maxAttempts);
+  }
+
+  private List<OutboxEventHandler> handlersOf(OutboxEvent event) {
+    return handlers.getOrDefault(event.getEventType(), List.of());
+  }
+
+  private OutboxEvent getEvent(Long eventId) {
+    return outboxEventRepository.findById(eventId)
+        .orElseThrow(() -> new IllegalStateException("Outbox event not found: " + eventId));
+  }
+
+  private void handle(OutboxEventHandler handler, OutboxEvent event) {
+    try {
+      handler.handle(event);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  @Transactional
+  public int purgePublished(LocalDateTime before) {
+    return outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, before);
+  }
+
+  private Duration backoff(int attempts) {
+    Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 16));
+    return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+  }
+
+  private String serialize(OutboxMessage message) {
+    try {
+      return objectMapper.writeValueAsString(message);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize " + message.eventType(), e);
+    }
+  }
+
+}
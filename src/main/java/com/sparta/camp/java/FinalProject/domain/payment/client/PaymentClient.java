@@ -10,4 +10,6 @@ public interface PaymentClient {
   PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request) throws Exception;
 
   PaymentCancelResponse cancelPayment(PaymentCancelRequest request) throws Exception;
+
+  PaymentCancelResponse refundPayment(PaymentCancelRequest request) throws Exception;
 }
@@ -0,0 +1,23 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class PaymentFailurePredicate implements Predicate<Throwable> {
+
+  private static final Set<String> TRANSIENT_ERROR_CODES = Set.of(
+      "PAYMENT_API_ERROR",
+      "PAYMENT_API_TIMEOUT",
+      "PROVIDER_ERROR",
+      "FAILED_INTERNAL_SYSTEM_PROCESSING",
+      "FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING",
+      "UNKNOWN_PAYMENT_ERROR"
+  );
+
+  @Override
+  public boolean test(Throwable throwable) {
+    return throwable instanceof PaymentException e
+        && TRANSIENT_ERROR_CODES.contains(e.getCode());
+  }
+}
@@ -0,0 +1,15 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+
+public interface PaymentGateway {
+
+  PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request, String idempotencyKey)
+      throws Exception;
+
+  PaymentCancelResponse cancelPayment(PaymentCancelRequest request, String idempotencyKey)
+      throws Exception;
+}
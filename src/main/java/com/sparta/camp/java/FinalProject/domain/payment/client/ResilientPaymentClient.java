@@ -0,0 +1,64 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResilientPaymentClient implements PaymentClient {
+
+  public static final String INSTANCE_NAME = "tossPayment";
+
+  private final PaymentGateway paymentGateway;
+  private final CircuitBreaker circuitBreaker;
+  private final Retry retry;
+
+  public ResilientPaymentClient(PaymentGateway paymentGateway,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      RetryRegistry retryRegistry) {
+    this.paymentGateway = paymentGateway;
+    this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+    this.retry = retryRegistry.retry(INSTANCE_NAME);
+  }
+
+  @Override
+  public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request) throws Exception {
+    String idempotencyKey = "confirm-" + request.getPurchaseId() + "-" + request.getPaymentKey();
+    return execute(() -> paymentGateway.confirmPayment(request, idempotencyKey));
+  }
+
+  @Override
+  public PaymentCancelResponse cancelPayment(PaymentCancelRequest request) throws Exception {
+    String idempotencyKey = "cancel-" + request.getPurchaseId() + "-" + UUID.randomUUID();
+    return execute(() -> paymentGateway.cancelPayment(request, idempotencyKey));
+  }
+
+  @Override
+  public PaymentCancelResponse refundPayment(PaymentCancelRequest request) throws Exception {
+    String idempotencyKey = "refund-" + request.getPurchaseId() + "-" + request.getPaymentKey();
+    return execute(() -> paymentGateway.cancelPayment(request, idempotencyKey));
+  }
+
+  private <T> T execute(Callable<T> call) throws Exception {
+    Callable<T> decorated = Retry.decorateCallable(retry,
+        CircuitBreaker.decorateCallable(circuitBreaker, call));
+
+    try {
+      return decorated.call();
+    } catch (CallNotPermittedException e) {
+      throw new PaymentException("PAYMENT_CIRCUIT_OPEN",
+          "Payment provider is temporarily unavailable");
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentErrorResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "payment.client", havingValue = "http-client", matchIfMissing = true)
+public class TossHttpPaymentClient implements PaymentGateway {
+
+  private final ObjectMapper objectMapper;
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final String authorization;
+  private final Duration readTimeout;
+  private final Semaphore bulkhead;
+  private final Duration bulkheadWait;
+
+  public TossHttpPaymentClient(ObjectMapper objectMapper,
+      @Value("${payment.secret-key}") String secretKey,
+      @Value("${payment.base-url:https://api.tosspayments.com}") String baseUrl,
+      @Value("${payment.connect-timeout:PT3S}") Duration connectTimeout,
+      @Value("${payment.read-timeout:PT10S}") Duration readTimeout,
+      @Value("${payment.max-concurrent-requests:50}") int maxConcurrentRequests,
+      @Value("${payment.bulkhead-wait:PT0.5S}") Duration bulkheadWait) {
+    this.objectMapper = objectMapper;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(connectTimeout)
+        .build();
+    this.baseUrl = baseUrl;
+    this.authorization = "Basic " + Base64.getEncoder()
+        .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    this.readTimeout = readTimeout;
+    this.bulkhead = new Semaphore(maxConcurrentRequests);
+    this.bulkheadWait = bulkheadWait;
+  }
+
+  @Override
+  public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request, String idempotencyKey)
+      throws Exception {
+    return sendRequest("/v1/payments/confirm", request, idempotencyKey,
+        PaymentConfirmResponse.class);
+  }
+
+  @Override
+  public PaymentCancelResponse cancelPayment(PaymentCancelRequest request, String idempotencyKey)
+      throws Exception {
+    return sendRequest("/v1/payments/" + request.getPaymentKey() + "/cancel", request,
+        idempotencyKey, PaymentCancelResponse.class);
+  }
+
+  private <T> T sendRequest(String path, Object requestBody, String idempotencyKey,
+      Class<T> responseType)
+      throws Exception {
+
+    if (!bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+      throw new PaymentException("PAYMENT_BULKHEAD_FULL", "Too many concurrent payment requests");
+    }
+
+    try {
+      HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .timeout(readTimeout)
+          .header("Authorization", authorization)
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody)));
+
+      if (idempotencyKey != null) {
+        builder.header("Idempotency-Key", idempotencyKey);
+      }
+
+      HttpRequest httpRequest = builder.build();
+
+      HttpResponse<byte[]> response =
+          httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+      int statusCode = response.statusCode();
+      if (statusCode < 200 || statusCode >= 300) {
+        PaymentErrorResponse errorResponse =
+            objectMapper.readValue(response.body(), PaymentErrorResponse.class);
+
+        throw new PaymentException(errorResponse.getCode(), errorResponse.getMessage());
+      }
+
+      return objectMapper.readValue(response.body(), responseType);
+    } catch (PaymentException e) {
+      throw e;
+    } catch (HttpTimeoutException e) {
+      throw new PaymentException("PAYMENT_API_TIMEOUT", e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PaymentException("PAYMENT_API_ERROR", e.getMessage());
+    } catch (IOException e) {
+      throw new PaymentException("PAYMENT_API_ERROR", e.getMessage());
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+}
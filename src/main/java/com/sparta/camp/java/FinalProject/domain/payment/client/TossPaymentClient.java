@@ -17,11 +17,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class TossPaymentClient implements PaymentClient {
+@ConditionalOnProperty(name = "payment.client", havingValue = "url-connection")
+public class TossPaymentClient implements PaymentGateway {
 
   private final ObjectMapper objectMapper;
 
@@ -29,24 +31,29 @@ public class TossPaymentClient implements PaymentClient {
   private String secretKey;
 
   @Override
-  public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request) throws Exception {
+  public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request, String idempotencyKey)
+      throws Exception {
     return sendRequest(
         "https://api.tosspayments.com/v1/payments/confirm",
         request,
+        idempotencyKey,
         PaymentConfirmResponse.class
     );
   }
 
   @Override
-  public PaymentCancelResponse cancelPayment(PaymentCancelRequest request) throws Exception {
+  public PaymentCancelResponse cancelPayment(PaymentCancelRequest request, String idempotencyKey)
+      throws Exception {
     return sendRequest(
         "https://api.tosspayments.com/v1/payments/" + request.getPaymentKey() + "/cancel",
         request,
+        idempotencyKey,
         PaymentCancelResponse.class
     );
   }
 
-  private <T> T sendRequest(String urlString, Object requestBody, Class<T> responseType)
+  private <T> T sendRequest(String urlString, Object requestBody, String idempotencyKey,
+      Class<T> responseType)
       throws Exception {
 
     HttpURLConnection connection = null;
@@ -61,6 +68,9 @@ public class TossPaymentClient implements PaymentClient {
       connection.setRequestMethod("POST");
       connection.setRequestProperty("Authorization", "Basic " + auth);
       connection.setRequestProperty("Content-Type", "application/json");
+      if (idempotencyKey != null) {
+        connection.setRequestProperty("Idempotency-Key", idempotencyKey);
+      }
       connection.setDoOutput(true);
 
       try (OutputStream os = connection.getOutputStream()) {
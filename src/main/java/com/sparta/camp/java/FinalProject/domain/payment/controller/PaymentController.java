@@ -9,15 +9,23 @@ import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRequest
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelResponse;
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentTicketResponse;
 import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentCacheService;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentConfirmAsyncService;
 import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentService;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +34,7 @@ public class PaymentController {
 
   private final PaymentService paymentService;
   private final PaymentCacheService paymentCacheService;
+  private final PaymentConfirmAsyncService paymentConfirmAsyncService;
 
   @PostMapping("/cacheAmount")
   public ApiResponse<Void> cacheAmount(@RequestBody PaymentConfirmRequest request) {
@@ -44,19 +53,53 @@ public class PaymentController {
 
   @PostMapping(value = "/confirm")
   public ApiResponse<PaymentConfirmResponse> confirmPayment(@RequestBody PaymentConfirmRequest request,
-      CustomUserDetails userDetails) throws Exception {
-    String userName = userDetails.getUsername();
-    boolean isAdmin = Role.ROLE_ADMIN.name().equals(userDetails.getRole());
-    return ApiResponse.success(paymentService.confirmPayment(request, userName, isAdmin));
+      @AuthenticationPrincipal CustomUserDetails userDetails) throws Exception {
+    boolean isAdmin = isAdmin(userDetails);
+    Long userId = isAdmin ? null : userDetails.getId();
+    return ApiResponse.success(paymentService.confirmPayment(request, userId, isAdmin));
+  }
+
+  @PostMapping(value = "/confirm/async")
+  public ApiResponse<PaymentTicketResponse> confirmPaymentAsync(
+      @RequestBody PaymentConfirmRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    boolean isAdmin = isAdmin(userDetails);
+    Long userId = isAdmin ? null : userDetails.getId();
+    return ApiResponse.success(paymentConfirmAsyncService.submit(request, userId, isAdmin));
+  }
+
+  @GetMapping(value = "/confirm/tickets/{ticketId}")
+  public DeferredResult<ApiResponse<PaymentTicketResponse>> getConfirmTicket(
+      @PathVariable("ticketId") String ticketId,
+      @RequestParam(value = "waitSeconds", defaultValue = "0") long waitSeconds,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    boolean isAdmin = isAdmin(userDetails);
+    Long userId = isAdmin ? null : userDetails.getId();
+
+    DeferredResult<ApiResponse<PaymentTicketResponse>> result = new DeferredResult<>();
+    paymentConfirmAsyncService.awaitTicket(ticketId, userId, isAdmin,
+            Duration.ofSeconds(waitSeconds))
+        .whenComplete((ticket, e) -> {
+          if (e != null) {
+            result.setErrorResult(e instanceof CompletionException ? e.getCause() : e);
+          } else {
+            result.setResult(ApiResponse.success(ticket));
+          }
+        });
+    return result;
   }
 
   @PutMapping(value = "/cancel/{paymentId}")
   public ApiResponse<PaymentCancelResponse> cancelPayment(@PathVariable("paymentId") Long paymentId,
       PaymentCancelRequest request,
-      CustomUserDetails userDetails) throws Exception {
-    String userName = userDetails.getUsername();
-    boolean isAdmin = Role.ROLE_ADMIN.name().equals(userDetails.getRole());
-    return ApiResponse.success(paymentService.cancelPayment(paymentId, request, userName, isAdmin));
+      @AuthenticationPrincipal CustomUserDetails userDetails) throws Exception {
+    boolean isAdmin = isAdmin(userDetails);
+    Long userId = isAdmin ? null : userDetails.getId();
+    return ApiResponse.success(paymentService.cancelPayment(paymentId, request, userId, isAdmin));
+  }
+
+  private boolean isAdmin(CustomUserDetails userDetails) {
+    return Role.ROLE_ADMIN.name().equals(userDetails.getRole());
   }
 
 }
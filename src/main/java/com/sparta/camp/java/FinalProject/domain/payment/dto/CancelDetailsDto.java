@@ -1,5 +1,6 @@
 package com.sparta.camp.java.FinalProject.domain.payment.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -14,6 +15,7 @@ public class CancelDetailsDto {
 
   BigDecimal cancelAmount;
 
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss[XXX]")
   LocalDateTime canceledAt;
 
   String cancelStatus;
@@ -1,16 +1,21 @@
 package com.sparta.camp.java.FinalProject.domain.payment.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sparta.camp.java.FinalProject.common.enums.PaymentStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class PaymentConfirmResponse {
 
@@ -29,7 +34,9 @@ public class PaymentConfirmResponse {
 
   PaymentStatus status;
 
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss[XXX]")
   LocalDateTime requestedAt;
 
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss[XXX]")
   LocalDateTime approvedAt;
 }
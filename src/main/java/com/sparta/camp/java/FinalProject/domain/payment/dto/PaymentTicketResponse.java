@@ -0,0 +1,35 @@
+package com.sparta.camp.java.FinalProject.domain.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sparta.camp.java.FinalProject.common.enums.PaymentTicketStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PaymentTicketResponse {
+
+  String ticketId;
+
+  Long purchaseId;
+
+  PaymentTicketStatus status;
+
+  PaymentConfirmResponse payment;
+
+  String errorCode;
+
+  String errorMessage;
+
+  @JsonIgnore
+  public boolean isCompleted() {
+    return status != PaymentTicketStatus.PENDING;
+  }
+}
@@ -63,6 +63,9 @@ public class Payment {
   @Column
   LocalDateTime paidAt;
 
+  @Column
+  LocalDateTime cancelRequestedAt;
+
   @Column(nullable = false, updatable = false)
   @CreationTimestamp
   LocalDateTime createdAt;
@@ -94,6 +97,18 @@ public class Payment {
     return this.status == PaymentStatus.DONE || this.status == PaymentStatus.PARTIAL_CANCELLED;
   }
 
+  public boolean hasPendingCancel(LocalDateTime expiredBefore) {
+    return this.cancelRequestedAt != null && this.cancelRequestedAt.isAfter(expiredBefore);
+  }
+
+  public void markCancelRequested(LocalDateTime now) {
+    this.cancelRequestedAt = now;
+  }
+
+  public void clearCancelRequest() {
+    this.cancelRequestedAt = null;
+  }
+
   public BigDecimal getRemainingAmount() {
     BigDecimal refunded =
         refundedAmount == null ? BigDecimal.ZERO : refundedAmount;
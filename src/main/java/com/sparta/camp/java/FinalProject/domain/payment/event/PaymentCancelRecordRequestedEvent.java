@@ -0,0 +1,24 @@
+package com.sparta.camp.java.FinalProject.domain.payment.event;
+
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxMessage;
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record PaymentCancelRecordRequestedEvent(
+    Long paymentId,
+    Long purchaseId,
+    BigDecimal amount,
+    Map<Long, Integer> cancelQuantities
+) implements OutboxMessage {
+
+  @Override
+  public String aggregateType() {
+    return "PURCHASE";
+  }
+
+  @Override
+  public Long aggregateId() {
+    return purchaseId;
+  }
+
+}
@@ -0,0 +1,29 @@
+package com.sparta.camp.java.FinalProject.domain.payment.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentCancelRecordRequestedEventHandler implements OutboxEventHandler {
+
+  private final PaymentService paymentService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String getEventType() {
+    return PaymentCancelRecordRequestedEvent.class.getSimpleName();
+  }
+
+  @Override
+  public void handle(OutboxEvent event) throws Exception {
+    PaymentCancelRecordRequestedEvent payload = objectMapper.readValue(event.getPayload(),
+        PaymentCancelRecordRequestedEvent.class);
+    paymentService.recordUnrecordedCancel(payload.paymentId(), payload.amount(),
+        payload.cancelQuantities());
+  }
+}
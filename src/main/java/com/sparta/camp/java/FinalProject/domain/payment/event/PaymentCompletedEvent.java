@@ -1,5 +1,17 @@
 package com.sparta.camp.java.FinalProject.domain.payment.event;
 
-public record PaymentCompletedEvent(Long purchaseId) {
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxMessage;
+
+public record PaymentCompletedEvent(Long purchaseId) implements OutboxMessage {
+
+  @Override
+  public String aggregateType() {
+    return "PURCHASE";
+  }
+
+  @Override
+  public Long aggregateId() {
+    return purchaseId;
+  }
 
 }
@@ -0,0 +1,28 @@
+package com.sparta.camp.java.FinalProject.domain.payment.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentCompletedEventHandler implements OutboxEventHandler {
+
+  private final PaymentCacheService paymentCacheService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String getEventType() {
+    return PaymentCompletedEvent.class.getSimpleName();
+  }
+
+  @Override
+  public void handle(OutboxEvent event) throws Exception {
+    PaymentCompletedEvent payload = objectMapper.readValue(event.getPayload(),
+        PaymentCompletedEvent.class);
+    paymentCacheService.removeAmount(payload.purchaseId());
+  }
+}
@@ -0,0 +1,22 @@
+package com.sparta.camp.java.FinalProject.domain.payment.event;
+
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxMessage;
+import java.math.BigDecimal;
+
+public record PaymentRefundRequestedEvent(
+    Long purchaseId,
+    String paymentKey,
+    BigDecimal amount
+) implements OutboxMessage {
+
+  @Override
+  public String aggregateType() {
+    return "PURCHASE";
+  }
+
+  @Override
+  public Long aggregateId() {
+    return purchaseId;
+  }
+
+}
@@ -0,0 +1,34 @@
+package com.sparta.camp.java.FinalProject.domain.payment.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentRefundRequestedEventHandler implements OutboxEventHandler {
+
+  private final PaymentService paymentService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String getEventType() {
+    return PaymentRefundRequestedEvent.class.getSimpleName();
+  }
+
+  @Override
+  public boolean requiresTransaction() {
+    return false;
+  }
+
+  @Override
+  public void handle(OutboxEvent event) throws Exception {
+    PaymentRefundRequestedEvent payload = objectMapper.readValue(event.getPayload(),
+        PaymentRefundRequestedEvent.class);
+    paymentService.refundUnrecordedPayment(payload.purchaseId(), payload.paymentKey(),
+        payload.amount());
+  }
+}
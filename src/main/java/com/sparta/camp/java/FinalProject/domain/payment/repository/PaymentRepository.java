@@ -1,10 +1,21 @@
 package com.sparta.camp.java.FinalProject.domain.payment.repository;
 
 import com.sparta.camp.java.FinalProject.domain.payment.entity.Payment;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Payment p WHERE p.id = :paymentId")
+  Optional<Payment> findByIdForUpdate(@Param("paymentId") Long paymentId);
+
+  boolean existsByPurchaseIdAndTransactionId(Long purchaseId, String transactionId);
+
 }
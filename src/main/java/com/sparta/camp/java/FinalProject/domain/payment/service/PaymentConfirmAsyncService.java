@@ -0,0 +1,157 @@
+package com.sparta.camp.java.FinalProject.domain.payment.service;
+
+import com.sparta.camp.java.FinalProject.common.enums.PaymentTicketStatus;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentTicketResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentTicketStore.StoredTicket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PaymentConfirmAsyncService {
+
+  private final PaymentService paymentService;
+  private final PaymentTicketStore paymentTicketStore;
+  private final Executor paymentConfirmExecutor;
+  private final Duration maxPollWait;
+
+  private final Map<String, List<CompletableFuture<PaymentTicketResponse>>> waiters =
+      new ConcurrentHashMap<>();
+
+  public PaymentConfirmAsyncService(PaymentService paymentService,
+      PaymentTicketStore paymentTicketStore,
+      @Qualifier("paymentConfirmExecutor") Executor paymentConfirmExecutor,
+      @Value("${payment.async.max-poll-wait:PT30S}") Duration maxPollWait) {
+    this.paymentService = paymentService;
+    this.paymentTicketStore = paymentTicketStore;
+    this.paymentConfirmExecutor = paymentConfirmExecutor;
+    this.maxPollWait = maxPollWait;
+  }
+
+  public PaymentTicketResponse submit(PaymentConfirmRequest request, Long userId,
+      boolean isAdmin) {
+
+    String ticketId = UUID.randomUUID().toString();
+
+    String existingTicketId = paymentTicketStore.reserve(request.getPurchaseId(), userId, ticketId)
+        .orElse(null);
+    if (existingTicketId != null) {
+      return getTicket(existingTicketId, userId, isAdmin);
+    }
+
+    PaymentTicketResponse ticket = PaymentTicketResponse.builder()
+        .ticketId(ticketId)
+        .purchaseId(request.getPurchaseId())
+        .status(PaymentTicketStatus.PENDING)
+        .build();
+    paymentTicketStore.save(userId, ticket);
+
+    try {
+      paymentConfirmExecutor.execute(() -> process(ticket, request, userId, isAdmin));
+    } catch (RejectedExecutionException e) {
+      paymentTicketStore.delete(ticketId);
+      paymentTicketStore.release(request.getPurchaseId(), userId);
+      throw new ServiceException(ServiceExceptionCode.PAYMENT_QUEUE_FULL);
+    }
+
+    return ticket;
+  }
+
+  public PaymentTicketResponse getTicket(String ticketId, Long userId, boolean isAdmin) {
+    StoredTicket storedTicket = paymentTicketStore.find(ticketId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PAYMENT_TICKET));
+
+    if (!isAdmin && !userId.equals(storedTicket.userId())) {
+      throw new ServiceException(ServiceExceptionCode.NOT_PERMIT_ACCESS);
+    }
+
+    return storedTicket.ticket();
+  }
+
+  public CompletableFuture<PaymentTicketResponse> awaitTicket(String ticketId, Long userId,
+      boolean isAdmin, Duration wait) {
+
+    PaymentTicketResponse ticket = getTicket(ticketId, userId, isAdmin);
+    if (ticket.isCompleted() || wait.isZero() || wait.isNegative()) {
+      return CompletableFuture.completedFuture(ticket);
+    }
+
+    CompletableFuture<PaymentTicketResponse> future = new CompletableFuture<>();
+    waiters.computeIfAbsent(ticketId, key -> new CopyOnWriteArrayList<>()).add(future);
+    future.whenComplete((result, e) -> removeWaiter(ticketId, future));
+
+    paymentTicketStore.find(ticketId)
+        .map(StoredTicket::ticket)
+        .filter(PaymentTicketResponse::isCompleted)
+        .ifPresent(future::complete);
+
+    long waitMillis = Math.min(wait.toMillis(), maxPollWait.toMillis());
+    return future
+        .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+        .thenApply(result -> result != null ? result : getTicket(ticketId, userId, isAdmin));
+  }
+
+  private void process(PaymentTicketResponse ticket, PaymentConfirmRequest request,
+      Long userId, boolean isAdmin) {
+
+    PaymentTicketResponse result;
+    try {
+      PaymentConfirmResponse response = paymentService.confirmPayment(request, userId, isAdmin);
+      result = ticket.toBuilder()
+          .status(PaymentTicketStatus.SUCCEEDED)
+          .payment(response)
+          .build();
+    } catch (ServiceException e) {
+      result = failed(ticket, e.getCode(), e.getMessage());
+    } catch (PaymentException e) {
+      result = failed(ticket, e.getCode(), e.getMessage());
+    } catch (Exception e) {
+      result = failed(ticket, ServiceExceptionCode.PAYMENT_FAILED.name(),
+          ServiceExceptionCode.PAYMENT_FAILED.getMessage());
+    }
+
+    paymentTicketStore.save(userId, result);
+    if (result.getStatus() == PaymentTicketStatus.FAILED) {
+      paymentTicketStore.release(request.getPurchaseId(), userId);
+    }
+
+    List<CompletableFuture<PaymentTicketResponse>> futures = waiters.remove(ticket.getTicketId());
+    if (futures != null) {
+      for (CompletableFuture<PaymentTicketResponse> future : futures) {
+        future.complete(result);
+      }
+    }
+  }
+
+  private PaymentTicketResponse failed(PaymentTicketResponse ticket, String errorCode,
+      String errorMessage) {
+    return ticket.toBuilder()
+        .status(PaymentTicketStatus.FAILED)
+        .errorCode(errorCode)
+        .errorMessage(errorMessage)
+        .build();
+  }
+
+  private void removeWaiter(String ticketId, CompletableFuture<PaymentTicketResponse> future) {
+    waiters.computeIfPresent(ticketId, (key, futures) -> {
+      futures.remove(future);
+      return futures.isEmpty() ? null : futures;
+    });
+  }
+
+}
@@ -1,10 +1,12 @@
 package com.sparta.camp.java.FinalProject.domain.payment.service;
 
 import com.sparta.camp.java.FinalProject.common.enums.CancelType;
+import com.sparta.camp.java.FinalProject.common.enums.CreatorType;
 import com.sparta.camp.java.FinalProject.common.enums.HistoryType;
 import com.sparta.camp.java.FinalProject.common.enums.PaymentStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
@@ -16,17 +18,26 @@ import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRespons
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
 import com.sparta.camp.java.FinalProject.domain.payment.entity.Payment;
+import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentCancelRecordRequestedEvent;
 import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentCompletedEvent;
+import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentRefundRequestedEvent;
 import com.sparta.camp.java.FinalProject.domain.payment.repository.PaymentRepository;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockDecreaseResult;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.purchase.event.PurchaseStatusChangedEvent;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseProductRepository;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseRepository;
+import com.sparta.camp.java.FinalProject.domain.purchase.service.StockHoldService;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,20 +46,26 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+  private static final String ALREADY_CANCELED_PAYMENT = "ALREADY_CANCELED_PAYMENT";
+  private static final Duration CANCEL_PENDING_TIMEOUT = Duration.ofMinutes(5);
+
   private final ProductOptionRepository productOptionRepository;
   private final PurchaseRepository purchaseRepository;
   private final PurchaseProductRepository purchaseProductRepository;
   private final PaymentRepository paymentRepository;
   private final HistoryRepository historyRepository;
 
+  private final StockManager stockManager;
+  private final StockHoldService stockHoldService;
   private final PaymentClient paymentClient;
   private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
 
   public record CancelProductInfo(
       PurchaseProduct pp,
@@ -56,21 +73,49 @@ public class PaymentService {
   ) {}
 
   public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request,
-      String userName, boolean isAdmin)
+      Long userId, boolean isAdmin)
       throws Exception {
 
-    Purchase purchase = getValidatePurchase(request);
-    validateRequesterPermission(purchase.getUser().getEmail(), userName, isAdmin);
-
-    validateStock(purchase);
+    Long purchaseId = transactionTemplate.execute(status ->
+        prepareConfirm(request, userId, isAdmin));
 
     PaymentConfirmResponse response = paymentClient.confirmPayment(request);
 
-    savePaymentResult(purchase, response);
+    try {
+      transactionTemplate.executeWithoutResult(status -> savePaymentResult(purchaseId, response));
+    } catch (RuntimeException e) {
+      if (isPaymentRecorded(purchaseId, response.getPaymentKey(), e)) {
+        return response;
+      }
+      compensateConfirm(purchaseId, response, e);
+      throw e;
+    }
 
     return response;
   }
 
+  public void refundUnrecordedPayment(Long purchaseId, String paymentKey, BigDecimal amount)
+      throws Exception {
+    if (Boolean.TRUE.equals(transactionTemplate.execute(status ->
+        paymentRepository.existsByPurchaseIdAndTransactionId(purchaseId, paymentKey)))) {
+      return;
+    }
+
+    refundGateway(purchaseId, paymentKey, amount);
+    transactionTemplate.executeWithoutResult(status -> cancelUnpaidPurchase(purchaseId));
+  }
+
+  private Long prepareConfirm(PaymentConfirmRequest request, Long userId, boolean isAdmin) {
+    Purchase purchase = getValidatePurchase(request);
+    validateRequesterPermission(purchase.getUser().getId(), userId, isAdmin);
+
+    if (!stockHoldService.validateHold(purchase.getId())) {
+      validateStock(purchase);
+    }
+
+    return purchase.getId();
+  }
+
   private Purchase getValidatePurchase(PaymentConfirmRequest request) {
     Purchase purchase = purchaseRepository.findByIdAndPurchaseStatus(request.getPurchaseId(),
             PurchaseStatus.PURCHASE_CREATED)
@@ -83,15 +128,26 @@ public class PaymentService {
     return purchase;
   }
 
-  @Transactional
-  protected void savePaymentResult(Purchase purchase, PaymentConfirmResponse response) {
+  private Purchase getPurchaseForUpdate(Long purchaseId) {
+    return purchaseRepository.findByIdForUpdate(purchaseId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PURCHASE));
+  }
+
+  private void savePaymentResult(Long purchaseId, PaymentConfirmResponse response) {
+    Purchase purchase = getPurchaseForUpdate(purchaseId);
+    if (purchase.getPurchaseStatus() != PurchaseStatus.PURCHASE_CREATED) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_PURCHASE_STATUS);
+    }
+
+    if (!stockHoldService.consume(purchase.getId())) {
+      decreaseStock(purchase.getPurchaseProductList());
+    }
+
     String oldStatus = String.valueOf(purchase.getPurchaseStatus());
 
     purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_PAID);
     purchase.getPurchaseProductList().forEach(pp -> pp.setStatus(PurchaseProductStatus.PAID));
 
-    decreaseStock(purchase.getPurchaseProductList());
-
     Payment newPayment = convertToPayment(purchase, response);
     paymentRepository.save(newPayment);
 
@@ -100,6 +156,93 @@ public class PaymentService {
     eventPublisher.publishEvent(
         new PaymentCompletedEvent(purchase.getId())
     );
+    eventPublisher.publishEvent(new PurchaseStatusChangedEvent(purchase.getId(),
+        PurchaseStatus.PURCHASE_CREATED, PurchaseStatus.PURCHASE_PAID));
+  }
+
+  private boolean isPaymentRecorded(Long purchaseId, String paymentKey, RuntimeException cause) {
+    try {
+      return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+          paymentRepository.existsByPurchaseIdAndTransactionId(purchaseId, paymentKey)));
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+      return false;
+    }
+  }
+
+  private void compensateConfirm(Long purchaseId, PaymentConfirmResponse response,
+      RuntimeException cause) {
+    try {
+      refundGateway(purchaseId, response.getPaymentKey(), response.getAmount());
+    } catch (Exception e) {
+      cause.addSuppressed(e);
+      requestRefund(purchaseId, response, cause);
+      return;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> cancelUnpaidPurchase(purchaseId));
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private void requestRefund(Long purchaseId, PaymentConfirmResponse response,
+      RuntimeException cause) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(
+          new PaymentRefundRequestedEvent(purchaseId, response.getPaymentKey(),
+              response.getAmount())));
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private void refundGateway(Long purchaseId, String paymentKey, BigDecimal amount)
+      throws Exception {
+    try {
+      paymentClient.refundPayment(unrecordedCancelRequest(purchaseId, paymentKey, amount));
+    } catch (PaymentException e) {
+      if (!ALREADY_CANCELED_PAYMENT.equals(e.getCode())) {
+        throw e;
+      }
+    }
+  }
+
+  private PaymentCancelRequest unrecordedCancelRequest(Long purchaseId, String paymentKey,
+      BigDecimal amount) {
+    return PaymentCancelRequest.builder()
+        .paymentKey(paymentKey)
+        .purchaseId(purchaseId)
+        .cancelType(CancelType.ALL)
+        .cancelReason("결제 처리 실패")
+        .amount(amount)
+        .build();
+  }
+
+  private void cancelUnpaidPurchase(Long purchaseId) {
+    Purchase purchase = getPurchaseForUpdate(purchaseId);
+    if (purchase.getPurchaseStatus() != PurchaseStatus.PURCHASE_CREATED) {
+      return;
+    }
+
+    purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_CANCELED);
+    purchase.getPurchaseProductList().forEach(pp -> pp.setStatus(PurchaseProductStatus.CANCELED));
+    stockHoldService.release(purchaseId);
+
+    History history = History.builder()
+        .historyType(HistoryType.PURCHASE)
+        .purchase(purchase)
+        .oldStatus(String.valueOf(PurchaseStatus.PURCHASE_CREATED))
+        .newStatus(String.valueOf(PurchaseStatus.PURCHASE_CANCELED))
+        .description("결제 처리 실패")
+        .creatorType(CreatorType.SYSTEM)
+        .createdBy(purchase.getUser().getId())
+        .build();
+    historyRepository.save(history);
+
+    eventPublisher.publishEvent(new PurchaseStatusChangedEvent(purchaseId,
+        PurchaseStatus.PURCHASE_CREATED, PurchaseStatus.PURCHASE_CANCELED));
   }
 
   private void validateStock(Purchase purchase) {
@@ -107,26 +250,31 @@ public class PaymentService {
     Map<Long, ProductOption> options = getProductOptions(purchaseProductList);
 
     for (PurchaseProduct pp : purchaseProductList) {
-      if (options.get(pp.getPurchasedOption().getId()).getStock() < pp.getQuantity()) {
+      if (stockManager.getAvailableStock(options.get(pp.getPurchasedOption().getId())) < pp.getQuantity()) {
         throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
       }
     }
   }
 
   private void decreaseStock(List<PurchaseProduct> purchaseProductList) {
-    Map<Long, ProductOption> options = getProductOptions(purchaseProductList);
-
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
     for (PurchaseProduct pp : purchaseProductList) {
-      options.get(pp.getPurchasedOption().getId()).decreaseStock(pp.getQuantity());
+      quantities.merge(pp.getPurchasedOption().getId(), pp.getQuantity(), Integer::sum);
+    }
+
+    StockDecreaseResult result = stockManager.decrease(quantities);
+    if (!result.isSuccess()) {
+      throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
     }
   }
 
   private Map<Long, ProductOption> getProductOptions(List<PurchaseProduct> purchaseProductList) {
     List<Long> optionIds = purchaseProductList.stream()
         .map(pp -> pp.getPurchasedOption().getId())
+        .distinct()
         .toList();
     List<ProductOption> options =
-        productOptionRepository.findByIdForUpdate(optionIds);
+        productOptionRepository.findAllValidByIds(optionIds);
 
     if (options.size() != optionIds.size()) {
       throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
@@ -149,27 +297,95 @@ public class PaymentService {
 
   public PaymentCancelResponse cancelPayment(Long paymentId,
       PaymentCancelRequest request,
-      String userName,
+      Long userId,
       boolean isAdmin) throws Exception {
 
     validateCancelType(request);
 
+    Map<Long, Integer> cancelQuantities = transactionTemplate.execute(status ->
+        prepareCancel(paymentId, request, userId, isAdmin));
+
+    PaymentCancelResponse response;
+    try {
+      response = paymentClient.cancelPayment(request);
+    } catch (Exception e) {
+      releaseCancel(paymentId, e);
+      throw e;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          updatePaymentResult(paymentId, request.getAmount(), cancelQuantities));
+    } catch (RuntimeException e) {
+      if (!requestCancelRecord(paymentId, request, cancelQuantities, e)) {
+        throw e;
+      }
+    }
+
+    return response;
+  }
+
+  public void recordUnrecordedCancel(Long paymentId, BigDecimal amount,
+      Map<Long, Integer> cancelQuantities) {
+    transactionTemplate.executeWithoutResult(status -> {
+      Payment payment = getPaymentForUpdate(paymentId);
+      if (payment.getCancelRequestedAt() == null) {
+        return;
+      }
+      updatePaymentResult(payment, amount, cancelQuantities);
+    });
+  }
+
+  private Map<Long, Integer> prepareCancel(Long paymentId,
+      PaymentCancelRequest request,
+      Long userId,
+      boolean isAdmin) {
+
+    LocalDateTime now = LocalDateTime.now();
     Payment cancelPayment = getCancelablePayment(paymentId);
     Purchase cancelPurchase = cancelPayment.getPurchase();
-    validateRequesterPermission(cancelPurchase.getUser().getEmail(), userName, isAdmin);
+    validateRequesterPermission(cancelPurchase.getUser().getId(), userId, isAdmin);
+
+    if (cancelPayment.hasPendingCancel(now.minus(CANCEL_PENDING_TIMEOUT))) {
+      throw new ServiceException(ServiceExceptionCode.ALREADY_REFUND_REQUEST);
+    }
 
     List<CancelProductInfo> cancelItems =
         validateAndCollectCancelItems(cancelPurchase, request);
 
     BigDecimal cancelAmount = calculateCancelAmount(cancelItems);
 
-    validateCancelAmount(cancelPayment, request, cancelAmount);
+    validateCancelAmount(cancelPayment, request.getAmount(), cancelAmount);
 
-    PaymentCancelResponse response = paymentClient.cancelPayment(request);
+    cancelPayment.markCancelRequested(now);
 
-    updatePaymentResult(cancelPayment, cancelPurchase, cancelItems, cancelAmount);
+    Map<Long, Integer> cancelQuantities = new LinkedHashMap<>();
+    for (CancelProductInfo item : cancelItems) {
+      cancelQuantities.put(item.pp().getId(), item.quantity());
+    }
+    return cancelQuantities;
+  }
 
-    return response;
+  private void releaseCancel(Long paymentId, Exception cause) {
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          getPaymentForUpdate(paymentId).clearCancelRequest());
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private boolean requestCancelRecord(Long paymentId, PaymentCancelRequest request,
+      Map<Long, Integer> cancelQuantities, RuntimeException cause) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(
+          new PaymentCancelRecordRequestedEvent(paymentId, request.getPurchaseId(),
+              request.getAmount(), cancelQuantities)));
+      return true;
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+      return false;
+    }
   }
 
   private void validateCancelType(PaymentCancelRequest request) {
@@ -183,9 +399,13 @@ public class PaymentService {
     }
   }
 
-  private Payment getCancelablePayment(Long id) {
-    Payment payment = paymentRepository.findById(id)
+  private Payment getPaymentForUpdate(Long id) {
+    return paymentRepository.findByIdForUpdate(id)
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PAYMENT));
+  }
+
+  private Payment getCancelablePayment(Long id) {
+    Payment payment = getPaymentForUpdate(id);
 
     if (!payment.isCancelable()) {
       throw new ServiceException(ServiceExceptionCode.INVALID_PAYMENT_STATUS);
@@ -275,7 +495,7 @@ public class PaymentService {
 
   private void validateCancelAmount(
       Payment payment,
-      PaymentCancelRequest request,
+      BigDecimal requestedAmount,
       BigDecimal cancelAmount
   ) {
 
@@ -284,28 +504,64 @@ public class PaymentService {
       throw new ServiceException(ServiceExceptionCode.EXCEEDS_PAYMENT_AMOUNT);
     }
 
-    if (request.getAmount() != null && request.getAmount().compareTo(cancelAmount) != 0) {
+    if (requestedAmount != null && requestedAmount.compareTo(cancelAmount) != 0) {
       throw new ServiceException(ServiceExceptionCode.NOT_MATCH_PAYMENT_INFO);
     }
   }
 
-  @Transactional
-  protected void updatePaymentResult(Payment payment,
-      Purchase purchase,
-      List<CancelProductInfo> cancelProductInfos,
-      BigDecimal amount) {
+  private void updatePaymentResult(Long paymentId,
+      BigDecimal requestedAmount,
+      Map<Long, Integer> cancelQuantities) {
+    updatePaymentResult(getPaymentForUpdate(paymentId), requestedAmount, cancelQuantities);
+  }
+
+  private void updatePaymentResult(Payment payment,
+      BigDecimal requestedAmount,
+      Map<Long, Integer> cancelQuantities) {
+
+    if (!payment.isCancelable()) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_PAYMENT_STATUS);
+    }
+
+    Purchase purchase = payment.getPurchase();
+    List<CancelProductInfo> cancelProductInfos = rebindCancelItems(purchase, cancelQuantities);
+    BigDecimal amount = calculateCancelAmount(cancelProductInfos);
+    validateCancelAmount(payment, requestedAmount, amount);
 
     String oldStatus = String.valueOf(payment.getStatus());
+    PurchaseStatus oldPurchaseStatus = purchase.getPurchaseStatus();
 
     boolean isFullyCancelled = payment.getRemainingAmount()
         .subtract(amount)
         .compareTo(BigDecimal.ZERO) == 0;
 
     updatePayment(payment, amount, isFullyCancelled);
+    payment.clearCancelRequest();
     updatePurchase(purchase, amount, isFullyCancelled);
     updatePurchaseProducts(cancelProductInfos);
     restoreStock(cancelProductInfos);
     saveHistory(payment, purchase, oldStatus);
+
+    eventPublisher.publishEvent(new PurchaseStatusChangedEvent(purchase.getId(),
+        oldPurchaseStatus, purchase.getPurchaseStatus()));
+  }
+
+  private List<CancelProductInfo> rebindCancelItems(Purchase purchase,
+      Map<Long, Integer> cancelQuantities) {
+
+    Map<Long, PurchaseProduct> productMap = purchase.getPurchaseProductList().stream()
+        .collect(Collectors.toMap(PurchaseProduct::getId, Function.identity()));
+
+    List<CancelProductInfo> result = new ArrayList<>();
+    for (Map.Entry<Long, Integer> entry : cancelQuantities.entrySet()) {
+      PurchaseProduct pp = productMap.get(entry.getKey());
+      if (pp == null || entry.getValue() > pp.getRemainingQuantity()) {
+        throw new ServiceException(ServiceExceptionCode.EXCEED_CANCEL_QUANTITY);
+      }
+      result.add(new CancelProductInfo(pp, entry.getValue()));
+    }
+
+    return result;
   }
 
   private void updatePayment(Payment payment, BigDecimal amount, boolean isFullyCancelled) {
@@ -342,25 +598,24 @@ public class PaymentService {
   }
 
   private void restoreStock(List<CancelProductInfo> cancelProductInfos) {
-    Map<Long, ProductOption> options = getProductOptions(cancelProductInfos.stream()
-        .map(cancelProductInfo -> cancelProductInfo.pp())
-        .toList());
-
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
     for (CancelProductInfo info : cancelProductInfos) {
-      options.get(info.pp().getPurchasedOption().getId()).increaseStock(info.quantity());
+      quantities.merge(info.pp().getPurchasedOption().getId(), info.quantity(), Integer::sum);
     }
+
+    stockManager.increase(quantities);
   }
 
   private void validateRequesterPermission(
-      String purchaserEmail,
-      String requesterEmail,
+      Long purchaserId,
+      Long requesterId,
       boolean isAdmin
   ) {
     if (isAdmin) {
       return;
     }
 
-    if (!purchaserEmail.equals(requesterEmail)) {
+    if (!purchaserId.equals(requesterId)) {
       throw new ServiceException(ServiceExceptionCode.NOT_PERMIT_ACCESS);
     }
   }
@@ -372,6 +627,7 @@ public class PaymentService {
         .payment(payment)
         .oldStatus(String.valueOf(oldStatus))
         .newStatus(String.valueOf(payment.getStatus()))
+        .creatorType(CreatorType.USER)
         .createdBy(purchase.getUser().getId())
         .build();
     historyRepository.save(history);
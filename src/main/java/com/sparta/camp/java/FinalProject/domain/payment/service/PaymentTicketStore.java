@@ -0,0 +1,74 @@
+package com.sparta.camp.java.FinalProject.domain.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentTicketResponse;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentTicketStore {
+
+  private static final String TICKET_KEY_PREFIX = "payment:ticket:";
+  private static final String PURCHASE_TICKET_KEY_PREFIX = "payment:ticket:purchase:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${payment.async.ticket-ttl:PT10M}")
+  private Duration ticketTtl;
+
+  public record StoredTicket(
+      Long userId,
+      PaymentTicketResponse ticket
+  ) {}
+
+  public Optional<String> reserve(Long purchaseId, Long userId, String ticketId) {
+    String key = purchaseTicketKey(purchaseId, userId);
+    Boolean reserved = redisTemplate.opsForValue().setIfAbsent(key, ticketId, ticketTtl);
+    if (Boolean.TRUE.equals(reserved)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+  }
+
+  public void release(Long purchaseId, Long userId) {
+    redisTemplate.delete(purchaseTicketKey(purchaseId, userId));
+  }
+
+  public void save(Long userId, PaymentTicketResponse ticket) {
+    try {
+      String value = objectMapper.writeValueAsString(new StoredTicket(userId, ticket));
+      redisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticket.getTicketId(), value, ticketTtl);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize payment ticket", e);
+    }
+  }
+
+  public Optional<StoredTicket> find(String ticketId) {
+    String value = redisTemplate.opsForValue().get(TICKET_KEY_PREFIX + ticketId);
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(objectMapper.readValue(value, StoredTicket.class));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to deserialize payment ticket", e);
+    }
+  }
+
+  public void delete(String ticketId) {
+    redisTemplate.delete(TICKET_KEY_PREFIX + ticketId);
+  }
+
+  private String purchaseTicketKey(Long purchaseId, Long userId) {
+    return PURCHASE_TICKET_KEY_PREFIX + purchaseId + ":" + (userId != null ? userId : "admin");
+  }
+
+}
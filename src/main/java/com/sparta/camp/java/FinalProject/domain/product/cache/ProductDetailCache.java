@@ -0,0 +1,195 @@
+package com.sparta.camp.java.FinalProject.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductDetailCache implements MessageListener {
+
+  static final String KEY_PREFIX = "product:detail:";
+  static final String GENERATION_KEY_PREFIX = "product:detail:generation:";
+  static final String CHANNEL = "product:detail:evict";
+
+  static final RedisScript<Long> WRITE_SCRIPT = script("scripts/product-detail-write.lua");
+  static final RedisScript<Long> EVICT_SCRIPT = script("scripts/product-detail-evict.lua");
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ProductOptionRepository productOptionRepository;
+  private final ObjectMapper objectMapper;
+
+  private final Cache<Long, ProductResponse> localCache;
+  private final Duration redisTtl;
+
+  private final Counter redisHits;
+  private final Counter redisMisses;
+  private final Timer loadTimer;
+
+  public ProductDetailCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      ProductOptionRepository productOptionRepository,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${product.detail-cache.maximum-size:10000}") long maximumSize,
+      @Value("${product.detail-cache.local-ttl:PT5M}") Duration localTtl,
+      @Value("${product.detail-cache.redis-ttl:PT30M}") Duration redisTtl) {
+
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.productOptionRepository = productOptionRepository;
+    this.objectMapper = objectMapper;
+    this.redisTtl = redisTtl;
+
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(localTtl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, "productDetail");
+
+    this.redisHits = Counter.builder("product.detail.cache.redis")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.redisMisses = Counter.builder("product.detail.cache.redis")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    this.loadTimer = Timer.builder("product.detail.cache.load")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+    return localCache.get(productId, id -> readThrough(id, loader));
+  }
+
+  public void evict(Long productId) {
+    evictAll(List.of(productId));
+  }
+
+  @EventListener
+  public void evictByStockChange(ProductStockChangedEvent event) {
+    if (event.productOptionIds().isEmpty()) {
+      return;
+    }
+    evictAll(productOptionRepository.findProductIdsByIds(event.productOptionIds()));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    localCache.invalidate(Long.valueOf(String.valueOf(body)));
+  }
+
+  private void evictAll(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return;
+    }
+
+    AfterCommit.run(() -> {
+      localCache.invalidateAll(productIds);
+      try {
+        List<String> keys = new ArrayList<>();
+        productIds.forEach(productId -> {
+          keys.add(key(productId));
+          keys.add(generationKey(productId));
+        });
+        redisTemplate.execute(EVICT_SCRIPT, keys, redisTtl.toMillis());
+        productIds.forEach(productId ->
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(productId)));
+      } catch (DataAccessException ignored) {
+      }
+    });
+  }
+
+  private ProductResponse readThrough(Long productId, Function<Long, ProductResponse> loader) {
+    ProductResponse cached = readShared(productId);
+    if (cached != null) {
+      redisHits.increment();
+      return cached;
+    }
+    redisMisses.increment();
+
+    Long generation = readGeneration(productId);
+    ProductResponse loaded = loadTimer.record(() -> loader.apply(productId));
+    if (generation != null) {
+      writeShared(productId, generation, loaded);
+    }
+    return loaded;
+  }
+
+  private Long readGeneration(Long productId) {
+    try {
+      Object generation = redisTemplate.opsForValue().get(generationKey(productId));
+      return generation != null ? Long.valueOf(String.valueOf(generation)) : 0L;
+    } catch (DataAccessException e) {
+      return null;
+    }
+  }
+
+  private ProductResponse readShared(Long productId) {
+    try {
+      Object json = redisTemplate.opsForValue().get(key(productId));
+      return json != null ? objectMapper.readValue(String.valueOf(json), ProductResponse.class) : null;
+    } catch (DataAccessException | JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private void writeShared(Long productId, Long generation, ProductResponse response) {
+    try {
+      redisTemplate.execute(WRITE_SCRIPT, List.of(key(productId), generationKey(productId)),
+          generation, objectMapper.writeValueAsString(response), redisTtl.toMillis());
+    } catch (DataAccessException | JsonProcessingException ignored) {
+    }
+  }
+
+  private String key(Long productId) {
+    return KEY_PREFIX + productId;
+  }
+
+  private String generationKey(Long productId) {
+    return GENERATION_KEY_PREFIX + productId;
+  }
+
+  private static RedisScript<Long> script(String path) {
+    DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+    script.setResultType(Long.class);
+    return script;
+  }
+
+}
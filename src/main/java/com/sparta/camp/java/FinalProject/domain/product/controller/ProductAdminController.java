@@ -40,6 +40,12 @@ public class ProductAdminController {
     return ApiResponse.success(productAdminService.updateProduct(productId, productUpdateRequest));
   }
 
+  @PostMapping("/listing-view/rebuild")
+  @ResponseStatus(HttpStatus.OK)
+  public ApiResponse<Integer> rebuildListingView() {
+    return ApiResponse.success(productAdminService.rebuildListingView());
+  }
+
   @DeleteMapping("/{productId}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   public ApiResponse<Void> deleteProduct(@PathVariable("productId") Long productId) {
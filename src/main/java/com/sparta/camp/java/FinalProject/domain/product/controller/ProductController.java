@@ -1,11 +1,18 @@
 package com.sparta.camp.java.FinalProject.domain.product.controller;
 
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductListingResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.service.ProductService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -21,9 +28,32 @@ public class ProductController {
   private final ProductService productService;
 
   @GetMapping
-  public ApiResponse<PaginationResponse<ProductResponse>> getAllProducts(@ModelAttribute ProductSearchRequest searchRequest,
+  public ApiResponse<PaginationResponse<ProductResponse>> getAllProducts(@Valid @ModelAttribute ProductSearchRequest searchRequest,
       @ModelAttribute PaginationRequest pageRequest) {
-    return ApiResponse.success(productService.getAllProducts(searchRequest, pageRequest));
+    return ApiResponse.success(
+        productService.getAllProducts(searchRequest, pageRequest, CountStrategy.CACHED));
+  }
+
+  @GetMapping("/listing")
+  public ApiResponse<PaginationResponse<ProductListingResponse>> getProductListing(
+      @Valid @ModelAttribute ProductSearchRequest searchRequest,
+      @ModelAttribute PaginationRequest pageRequest) {
+    return ApiResponse.success(
+        productService.getProductListing(searchRequest, pageRequest, CountStrategy.CACHED));
+  }
+
+  @GetMapping("/facets")
+  public ApiResponse<ProductFacetResponse> getFacetedProducts(
+      @Valid @ModelAttribute ProductFacetSearchRequest searchRequest,
+      @ModelAttribute PaginationRequest pageRequest) {
+    return ApiResponse.success(productService.getFacetedProducts(searchRequest, pageRequest));
+  }
+
+  @GetMapping("/cursor")
+  public ApiResponse<CursorResponse<ProductResponse>> getAllProductsByCursor(
+      @Valid @ModelAttribute ProductSearchRequest searchRequest,
+      @Valid @ModelAttribute CursorRequest cursorRequest) {
+    return ApiResponse.success(productService.getAllProductsByCursor(searchRequest, cursorRequest));
   }
 
   @GetMapping("/{productId}")
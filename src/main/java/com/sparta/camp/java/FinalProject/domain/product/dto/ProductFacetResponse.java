@@ -0,0 +1,29 @@
+package com.sparta.camp.java.FinalProject.domain.product.dto;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFacetResponse {
+
+  PaginationResponse<ProductResponse> products;
+
+  Map<ColorType, Integer> colors;
+
+  Map<SizeType, Integer> sizes;
+
+  Map<PriceBand, Integer> priceBands;
+
+  Map<SellStatus, Integer> sellStatuses;
+
+}
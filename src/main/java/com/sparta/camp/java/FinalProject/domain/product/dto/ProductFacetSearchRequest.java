@@ -0,0 +1,36 @@
+package com.sparta.camp.java.FinalProject.domain.product.dto;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFacetSearchRequest {
+
+  @NotNull
+  Long categoryId;
+
+  Boolean includeDescendants;
+
+  List<ColorType> colors;
+
+  List<SizeType> sizes;
+
+  List<PriceBand> priceBands;
+
+  List<SellStatus> sellStatuses;
+
+  String keywordType;
+
+  String keyword;
+
+}
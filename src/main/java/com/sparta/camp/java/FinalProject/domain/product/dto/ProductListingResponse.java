@@ -0,0 +1,70 @@
+package com.sparta.camp.java.FinalProject.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductListingView;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.util.StringUtils;
+
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductListingResponse {
+
+  Long productId;
+
+  Long categoryId;
+
+  String categoryPath;
+
+  String name;
+
+  BigDecimal price;
+
+  SellStatus sellStatus;
+
+  String mainImageUrl;
+
+  Integer totalStock;
+
+  List<ColorType> colors;
+
+  List<SizeType> sizes;
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+  LocalDateTime createdAt;
+
+  public static ProductListingResponse from(ProductListingView view) {
+    return ProductListingResponse.builder()
+        .productId(view.getProductId())
+        .categoryId(view.getCategoryId())
+        .categoryPath(view.getCategoryPath())
+        .name(view.getName())
+        .price(view.getPrice())
+        .sellStatus(view.getSellStatus())
+        .mainImageUrl(view.getMainImageUrl())
+        .totalStock(view.getTotalStock())
+        .colors(split(view.getColors(), ColorType::valueOf))
+        .sizes(split(view.getSizes(), SizeType::valueOf))
+        .createdAt(view.getCreatedAt())
+        .build();
+  }
+
+  private static <E> List<E> split(String values, Function<String, E> parser) {
+    if (!StringUtils.hasText(values)) {
+      return List.of();
+    }
+    return Arrays.stream(values.split(",")).map(parser).toList();
+  }
+
+}
@@ -1,17 +1,26 @@
 package com.sparta.camp.java.FinalProject.domain.product.dto;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.Locale;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.springframework.util.StringUtils;
 
 @Getter
+@Setter
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class ProductSearchRequest {
 
+  private static final Set<String> KEYWORD_TYPES = Set.of("category", "name", "description");
+
   @NotNull
   Long categoryId;
 
+  Boolean includeDescendants;
+
   Integer minPrice;
 
   Integer maxPrice;
@@ -24,4 +33,17 @@ public class ProductSearchRequest {
 
   String keyword;
 
+  public String toCountKey() {
+    boolean hasKeyword = keywordType != null && KEYWORD_TYPES.contains(keywordType)
+        && StringUtils.hasText(keyword);
+    return String.join("|",
+        String.valueOf(categoryId),
+        String.valueOf(Boolean.TRUE.equals(includeDescendants)),
+        String.valueOf(minPrice),
+        String.valueOf(maxPrice),
+        hasKeyword ? keywordType : "",
+        hasKeyword ? keyword.toLowerCase(Locale.ROOT) : ""
+    );
+  }
+
 }
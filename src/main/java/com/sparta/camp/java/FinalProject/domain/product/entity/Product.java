@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,7 +33,13 @@ import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table
+@Table(indexes = {
+    @Index(name = "idx_product_category_deleted_created", columnList = "category_id, deleted_at, created_at"),
+    @Index(name = "idx_product_category_deleted_price", columnList = "category_id, deleted_at, price"),
+    @Index(name = "idx_product_created_at", columnList = "created_at"),
+    @Index(name = "idx_product_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_product_deleted_at", columnList = "deleted_at")
+})
 @Getter
 @DynamicInsert
 @DynamicUpdate
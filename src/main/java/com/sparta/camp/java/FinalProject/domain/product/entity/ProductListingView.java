@@ -0,0 +1,98 @@
+package com.sparta.camp.java.FinalProject.domain.product.entity;
+
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_product_listing_view_category_created", columnList = "category_id, created_at"),
+    @Index(name = "idx_product_listing_view_category_price", columnList = "category_id, price")
+})
+@Getter
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductListingView {
+
+  @Id
+  Long productId;
+
+  @Column(nullable = false)
+  Long categoryId;
+
+  @Column(nullable = false, length = 1000)
+  String categoryPath;
+
+  @Column(nullable = false)
+  String name;
+
+  @Column(nullable = false)
+  BigDecimal price;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 30)
+  SellStatus sellStatus;
+
+  @Column(length = 500)
+  String mainImageUrl;
+
+  @Column(nullable = false)
+  Integer totalStock;
+
+  @Column(nullable = false)
+  String colors;
+
+  @Column(nullable = false)
+  String sizes;
+
+  @Column(nullable = false)
+  LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  LocalDateTime projectedAt;
+
+  @Builder
+  public ProductListingView(Long productId, Long categoryId, String categoryPath, String name,
+      BigDecimal price, SellStatus sellStatus, String mainImageUrl, Integer totalStock,
+      String colors, String sizes, LocalDateTime createdAt) {
+    this.productId = productId;
+    this.categoryId = categoryId;
+    this.categoryPath = categoryPath;
+    this.name = name;
+    this.price = price;
+    this.sellStatus = sellStatus;
+    this.mainImageUrl = mainImageUrl;
+    this.totalStock = totalStock;
+    this.colors = colors;
+    this.sizes = sizes;
+    this.createdAt = createdAt;
+    this.projectedAt = LocalDateTime.now();
+  }
+
+  public void refresh(ProductListingView source) {
+    this.categoryId = source.categoryId;
+    this.categoryPath = source.categoryPath;
+    this.name = source.name;
+    this.price = source.price;
+    this.sellStatus = source.sellStatus;
+    this.mainImageUrl = source.mainImageUrl;
+    this.totalStock = source.totalStock;
+    this.colors = source.colors;
+    this.sizes = source.sizes;
+    this.createdAt = source.createdAt;
+    this.projectedAt = source.projectedAt;
+  }
+
+}
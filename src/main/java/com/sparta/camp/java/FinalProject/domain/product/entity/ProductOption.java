@@ -13,9 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -24,25 +26,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.DynamicInsert;
-import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"product_id", "color", "size"})
+    },
+    indexes = {
+        @Index(name = "idx_product_option_product_deleted",
+            columnList = "product_id, deleted_at, color, size, stock"),
+        @Index(name = "idx_product_option_created_at", columnList = "created_at"),
+        @Index(name = "idx_product_option_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_product_option_deleted_at", columnList = "deleted_at")
     }
 )
 @Getter
-@DynamicInsert
-@DynamicUpdate
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class ProductOption {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_option_id_generator")
+  @TableGenerator(name = "product_option_id_generator", table = "id_generator",
+      pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "product_option",
+      allocationSize = 50)
   Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,7 @@
+package com.sparta.camp.java.FinalProject.domain.product.event;
+
+public record ProductChangedEvent(
+    Long productId
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sparta.camp.java.FinalProject.domain.product.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+public record ProductStockChangedEvent(
+    Set<Long> productOptionIds
+) {
+
+  public static ProductStockChangedEvent of(Collection<Long> productOptionIds) {
+    return new ProductStockChangedEvent(Set.copyOf(productOptionIds));
+  }
+
+}
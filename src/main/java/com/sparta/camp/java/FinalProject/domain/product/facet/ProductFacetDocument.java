@@ -0,0 +1,54 @@
+package com.sparta.camp.java.FinalProject.domain.product.facet;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public record ProductFacetDocument(
+    Long productId,
+    Long categoryId,
+    PriceBand priceBand,
+    SellStatus sellStatus,
+    Set<ColorType> colors,
+    Set<SizeType> sizes,
+    Map<ColorType, Set<SizeType>> variants
+) {
+
+  public static ProductFacetDocument of(Product product, Collection<ProductOptionFacet> options) {
+    Set<ColorType> colors = EnumSet.noneOf(ColorType.class);
+    Set<SizeType> sizes = EnumSet.noneOf(SizeType.class);
+    Map<ColorType, Set<SizeType>> variants = new EnumMap<>(ColorType.class);
+    for (ProductOptionFacet option : options) {
+      colors.add(option.color());
+      sizes.add(option.size());
+      variants.computeIfAbsent(option.color(), color -> EnumSet.noneOf(SizeType.class))
+          .add(option.size());
+    }
+
+    return new ProductFacetDocument(
+        product.getId(),
+        product.getCategory().getId(),
+        PriceBand.of(product.getPrice()),
+        product.getSellStatus(),
+        colors,
+        sizes,
+        variants
+    );
+  }
+
+  public static ProductFacetDocument fromRequest(Product product,
+      Collection<ProductOptionRequest> options) {
+    return of(product, options.stream()
+        .map(option -> new ProductOptionFacet(product.getId(), option.getColor(), option.getSize()))
+        .toList());
+  }
+
+}
@@ -0,0 +1,362 @@
+package com.sparta.camp.java.FinalProject.domain.product.facet;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndex {
+
+  private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+  private final ProductRepository productRepository;
+  private final ProductOptionRepository productOptionRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, ProductFacetDocument> documents = new HashMap<>();
+  private final Map<Long, SparseIdSet> categories = new HashMap<>();
+  private final Map<ColorType, BitSet> colors = new EnumMap<>(ColorType.class);
+  private final Map<SizeType, BitSet> sizes = new EnumMap<>(SizeType.class);
+  private final Map<ColorType, Map<SizeType, BitSet>> variants = new EnumMap<>(ColorType.class);
+  private final Map<PriceBand, BitSet> priceBands = new EnumMap<>(PriceBand.class);
+  private final Map<SellStatus, BitSet> sellStatuses = new EnumMap<>(SellStatus.class);
+
+  private volatile boolean ready;
+  private volatile LocalDateTime lastSyncedAt;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void rebuild() {
+    LocalDateTime startedAt = LocalDateTime.now();
+    List<Product> products = new ArrayList<>(productRepository.findAllForSearchIndex());
+    products.sort(Comparator.comparing(Product::getId));
+    Map<Long, List<ProductOptionFacet>> options = productOptionRepository.findAllActiveFacets()
+        .stream()
+        .collect(groupingBy(ProductOptionFacet::productId));
+
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      categories.clear();
+      clear(colors, ColorType.values());
+      clear(sizes, SizeType.values());
+      variants.clear();
+      clear(priceBands, PriceBand.values());
+      clear(sellStatuses, SellStatus.values());
+
+      for (Product product : products) {
+        put(ProductFacetDocument.of(product, options.getOrDefault(product.getId(), List.of())));
+      }
+      categories.values().forEach(SparseIdSet::trim);
+      lastSyncedAt = startedAt;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void refresh() {
+    if (!ready) {
+      rebuild();
+      return;
+    }
+
+    LocalDateTime startedAt = LocalDateTime.now();
+    LocalDateTime since = lastSyncedAt.minus(REFRESH_OVERLAP);
+
+    List<Long> deletedIds = new ArrayList<>();
+    Map<Long, Product> changed = new HashMap<>();
+    for (Product product : productRepository.findAllChangedSince(since)) {
+      if (product.getDeletedAt() != null) {
+        deletedIds.add(product.getId());
+      } else {
+        changed.put(product.getId(), product);
+      }
+    }
+
+    Set<Long> optionChangedIds = new HashSet<>(
+        productOptionRepository.findProductIdsWithOptionsChangedSince(since));
+    optionChangedIds.removeAll(changed.keySet());
+    optionChangedIds.removeAll(deletedIds);
+    if (!optionChangedIds.isEmpty()) {
+      productRepository.findAllByIn(new ArrayList<>(optionChangedIds))
+          .forEach(product -> changed.put(product.getId(), product));
+    }
+
+    Map<Long, List<ProductOptionFacet>> options = changed.isEmpty()
+        ? Map.of()
+        : productOptionRepository.findActiveFacetsByProductIds(new ArrayList<>(changed.keySet()))
+            .stream()
+            .collect(groupingBy(ProductOptionFacet::productId));
+
+    lock.writeLock().lock();
+    try {
+      deletedIds.forEach(this::delete);
+      changed.values().forEach(product -> put(ProductFacetDocument.of(product,
+          options.getOrDefault(product.getId(), List.of()))));
+      lastSyncedAt = startedAt;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void index(ProductFacetDocument document) {
+    AfterCommit.run(() -> {
+      lock.writeLock().lock();
+      try {
+        put(document);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  public void remove(Long productId) {
+    AfterCommit.run(() -> {
+      lock.writeLock().lock();
+      try {
+        delete(productId);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  public ProductFacetResult search(ProductFacetSearchRequest request, BitSet keywordMatches,
+      PaginationRequest pageRequest) {
+    return search(request, Collections.singleton(request.getCategoryId()), keywordMatches, pageRequest);
+  }
+
+  public ProductFacetResult search(ProductFacetSearchRequest request, Collection<Long> categoryIds,
+      BitSet keywordMatches, PaginationRequest pageRequest) {
+
+    BitSet matched;
+    Map<ColorType, Integer> colorCounts;
+    Map<SizeType, Integer> sizeCounts;
+    Map<PriceBand, Integer> priceBandCounts;
+    Map<SellStatus, Integer> sellStatusCounts;
+
+    lock.readLock().lock();
+    try {
+      BitSet base = categoryUnion(categoryIds);
+      if (keywordMatches != null) {
+        base.and(keywordMatches);
+      }
+
+      List<ColorType> selectedColors = request.getColors();
+      List<SizeType> selectedSizes = request.getSizes();
+      BitSet optionFilter = optionFilter(selectedColors, selectedSizes);
+      BitSet priceBandFilter = union(priceBands, request.getPriceBands());
+      BitSet sellStatusFilter = union(sellStatuses, request.getSellStatuses());
+
+      matched = intersect(base, optionFilter, priceBandFilter, sellStatusFilter);
+      BitSet optionScope = intersect(base, priceBandFilter, sellStatusFilter);
+      colorCounts = isEmpty(selectedSizes)
+          ? count(colors, optionScope)
+          : countVariants(colors, optionScope,
+              color -> variantUnion(List.of(color), selectedSizes));
+      sizeCounts = isEmpty(selectedColors)
+          ? count(sizes, optionScope)
+          : countVariants(sizes, optionScope,
+              size -> variantUnion(selectedColors, List.of(size)));
+      priceBandCounts = count(priceBands,
+          intersect(base, optionFilter, sellStatusFilter));
+      sellStatusCounts = count(sellStatuses,
+          intersect(base, optionFilter, priceBandFilter));
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    int page = pageRequest.getPage() != null ? pageRequest.getPage() : 1;
+    int size = pageRequest.getSize() != null ? pageRequest.getSize() : 10;
+    long skip = (long) size * Math.max(0, page - 1);
+
+    List<Long> productIds = new ArrayList<>(size);
+    for (int bit = matched.previousSetBit(matched.length() - 1);
+        bit >= 0 && productIds.size() < size;
+        bit = matched.previousSetBit(bit - 1)) {
+      if (skip > 0) {
+        skip--;
+        continue;
+      }
+      productIds.add((long) bit);
+    }
+
+    return new ProductFacetResult(productIds, matched.cardinality(),
+        colorCounts, sizeCounts, priceBandCounts, sellStatusCounts);
+  }
+
+  private void put(ProductFacetDocument document) {
+    delete(document.productId());
+    int bit = Math.toIntExact(document.productId());
+
+    documents.put(document.productId(), document);
+    categories.computeIfAbsent(document.categoryId(), categoryId -> new SparseIdSet()).add(bit);
+    document.colors().forEach(color -> set(colors, color, bit));
+    document.sizes().forEach(size -> set(sizes, size, bit));
+    document.variants().forEach((color, variantSizes) -> variantSizes.forEach(size -> set(
+        variants.computeIfAbsent(color, key -> new EnumMap<>(SizeType.class)), size, bit)));
+    if (document.priceBand() != null) {
+      set(priceBands, document.priceBand(), bit);
+    }
+    if (document.sellStatus() != null) {
+      set(sellStatuses, document.sellStatus(), bit);
+    }
+  }
+
+  private void delete(Long productId) {
+    ProductFacetDocument document = documents.remove(productId);
+    if (document == null) {
+      return;
+    }
+
+    int bit = Math.toIntExact(productId);
+    SparseIdSet category = categories.get(document.categoryId());
+    if (category != null) {
+      category.remove(bit);
+      if (category.isEmpty()) {
+        categories.remove(document.categoryId());
+      }
+    }
+    document.colors().forEach(color -> unset(colors, color, bit));
+    document.sizes().forEach(size -> unset(sizes, size, bit));
+    document.variants().forEach((color, variantSizes) -> variantSizes.forEach(size -> unset(
+        variants.getOrDefault(color, Map.of()), size, bit)));
+    if (document.priceBand() != null) {
+      unset(priceBands, document.priceBand(), bit);
+    }
+    if (document.sellStatus() != null) {
+      unset(sellStatuses, document.sellStatus(), bit);
+    }
+  }
+
+  private <K> void set(Map<K, BitSet> facet, K key, int bit) {
+    facet.computeIfAbsent(key, value -> new BitSet()).set(bit);
+  }
+
+  private <K> void unset(Map<K, BitSet> facet, K key, int bit) {
+    BitSet bits = facet.get(key);
+    if (bits != null) {
+      bits.clear(bit);
+    }
+  }
+
+  private <E extends Enum<E>> void clear(Map<E, BitSet> facet, E[] values) {
+    facet.clear();
+    for (E value : values) {
+      facet.put(value, new BitSet());
+    }
+  }
+
+  private BitSet categoryUnion(Collection<Long> categoryIds) {
+    BitSet union = new BitSet();
+    categoryIds.stream()
+        .map(categories::get)
+        .filter(Objects::nonNull)
+        .forEach(category -> category.orInto(union));
+    return union;
+  }
+
+  private <K> BitSet union(Map<K, BitSet> facet, Collection<K> selected) {
+    if (selected == null || selected.isEmpty()) {
+      return null;
+    }
+
+    BitSet union = new BitSet();
+    selected.stream()
+        .map(facet::get)
+        .filter(Objects::nonNull)
+        .forEach(union::or);
+    return union;
+  }
+
+  private BitSet optionFilter(List<ColorType> selectedColors, List<SizeType> selectedSizes) {
+    if (isEmpty(selectedColors)) {
+      return union(sizes, selectedSizes);
+    }
+    if (isEmpty(selectedSizes)) {
+      return union(colors, selectedColors);
+    }
+    return variantUnion(selectedColors, selectedSizes);
+  }
+
+  private BitSet variantUnion(Collection<ColorType> selectedColors,
+      Collection<SizeType> selectedSizes) {
+    BitSet union = new BitSet();
+    for (ColorType color : selectedColors) {
+      Map<SizeType, BitSet> bySize = variants.get(color);
+      if (bySize != null) {
+        selectedSizes.stream()
+            .map(bySize::get)
+            .filter(Objects::nonNull)
+            .forEach(union::or);
+      }
+    }
+    return union;
+  }
+
+  private boolean isEmpty(Collection<?> selected) {
+    return selected == null || selected.isEmpty();
+  }
+
+  private BitSet intersect(BitSet base, BitSet... filters) {
+    BitSet result = (BitSet) base.clone();
+    for (BitSet filter : filters) {
+      if (filter != null) {
+        result.and(filter);
+      }
+    }
+    return result;
+  }
+
+  private <E extends Enum<E>> Map<E, Integer> count(Map<E, BitSet> facet, BitSet scope) {
+    Map<E, Integer> counts = new LinkedHashMap<>();
+    facet.forEach((value, bits) -> {
+      BitSet intersection = (BitSet) scope.clone();
+      intersection.and(bits);
+      counts.put(value, intersection.cardinality());
+    });
+    return counts;
+  }
+
+  private <E extends Enum<E>> Map<E, Integer> countVariants(Map<E, BitSet> facet, BitSet scope,
+      Function<E, BitSet> variantBits) {
+    Map<E, Integer> counts = new LinkedHashMap<>();
+    facet.keySet().forEach(value ->
+        counts.put(value, intersect(scope, variantBits.apply(value)).cardinality()));
+    return counts;
+  }
+
+}
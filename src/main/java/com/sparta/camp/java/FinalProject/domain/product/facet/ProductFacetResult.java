@@ -0,0 +1,17 @@
+package com.sparta.camp.java.FinalProject.domain.product.facet;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import java.util.List;
+import java.util.Map;
+
+public record ProductFacetResult(
+    List<Long> productIds,
+    long totalItems,
+    Map<ColorType, Integer> colors,
+    Map<SizeType, Integer> sizes,
+    Map<PriceBand, Integer> priceBands,
+    Map<SellStatus, Integer> sellStatuses
+) {}
@@ -0,0 +1,10 @@
+package com.sparta.camp.java.FinalProject.domain.product.facet;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+
+public record ProductOptionFacet(
+    Long productId,
+    ColorType color,
+    SizeType size
+) {}
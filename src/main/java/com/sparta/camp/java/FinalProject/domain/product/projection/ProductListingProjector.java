@@ -0,0 +1,130 @@
+package com.sparta.camp.java.FinalProject.domain.product.projection;
+
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.category.event.CategoryChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductListingView;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingViewRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class ProductListingProjector {
+
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  private final ProductListingViewRepository productListingViewRepository;
+  private final ProductListingQueryRepository productListingQueryRepository;
+  private final ProductOptionRepository productOptionRepository;
+  private final CategoryClosureRepository categoryClosureRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Set<Long> changedOptionIds = ConcurrentHashMap.newKeySet();
+
+  @EventListener
+  @Transactional
+  public void onProductChanged(ProductChangedEvent event) {
+    this.project(List.of(event.productId()));
+  }
+
+  @EventListener
+  public void onStockChanged(ProductStockChangedEvent event) {
+    if (event.productOptionIds().isEmpty()) {
+      return;
+    }
+    AfterCommit.run(() -> changedOptionIds.addAll(event.productOptionIds()));
+  }
+
+  @Scheduled(fixedDelayString = "${product.listing.stock-flush-interval:PT1S}")
+  public void flushStockChanges() {
+    List<Long> optionIds = new ArrayList<>(changedOptionIds);
+    if (optionIds.isEmpty()) {
+      return;
+    }
+    changedOptionIds.removeAll(optionIds);
+
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          this.project(productOptionRepository.findProductIdsByIds(optionIds)));
+    } catch (RuntimeException e) {
+      changedOptionIds.addAll(optionIds);
+      throw e;
+    }
+  }
+
+  @EventListener
+  @Transactional
+  public void onCategoryChanged(CategoryChangedEvent event) {
+    List<Long> categoryIds = categoryClosureRepository.findDescendantIds(event.categoryId());
+    this.project(productListingViewRepository.findProductIdsByCategoryIdIn(
+        categoryIds.isEmpty() ? List.of(event.categoryId()) : categoryIds));
+  }
+
+  public int rebuild() {
+    int projected = 0;
+    Long lastProductId = 0L;
+
+    while (true) {
+      List<Long> productIds =
+          productListingQueryRepository.findActiveProductIdsAfter(lastProductId, REBUILD_CHUNK_SIZE);
+      if (productIds.isEmpty()) {
+        break;
+      }
+
+      transactionTemplate.executeWithoutResult(status -> this.project(productIds));
+      projected += productIds.size();
+      lastProductId = productIds.get(productIds.size() - 1);
+    }
+
+    transactionTemplate.executeWithoutResult(status -> productListingViewRepository.deleteOrphans());
+    return projected;
+  }
+
+  private void project(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return;
+    }
+
+    Set<Long> targetIds = new HashSet<>(productIds);
+    Map<Long, ProductListingView> existing = productListingViewRepository.findAllById(targetIds)
+        .stream()
+        .collect(Collectors.toMap(ProductListingView::getProductId, Function.identity()));
+
+    List<ProductListingView> created = new ArrayList<>();
+    for (ProductListingView view : productListingQueryRepository.buildViews(targetIds)) {
+      targetIds.remove(view.getProductId());
+      ProductListingView current = existing.get(view.getProductId());
+      if (current != null) {
+        current.refresh(view);
+      } else {
+        created.add(view);
+      }
+    }
+
+    productListingViewRepository.saveAll(created);
+    productListingViewRepository.deleteAll(targetIds.stream()
+        .map(existing::get)
+        .filter(Objects::nonNull)
+        .toList());
+  }
+
+}
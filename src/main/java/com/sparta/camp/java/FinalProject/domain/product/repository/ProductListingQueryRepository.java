@@ -0,0 +1,249 @@
+package com.sparta.camp.java.FinalProject.domain.product.repository;
+
+import static com.sparta.camp.java.FinalProject.domain.category.entity.QCategory.category;
+import static com.sparta.camp.java.FinalProject.domain.category.entity.QCategoryClosure.categoryClosure;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProduct.product;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductImage.productImage;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductListingView.productListingView;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductOption.productOption;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.query.CappedCount;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductListingView;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductListingQueryRepository {
+
+  private static final String CATEGORY_PATH_SEPARATOR = " > ";
+  private static final String VALUE_SEPARATOR = ",";
+
+  private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+
+  public List<ProductListingView> findListing(ProductSearchRequest searchRequest,
+      PaginationRequest pageRequest) {
+
+    return queryFactory
+        .selectFrom(productListingView)
+        .where(this.searchConditions(searchRequest))
+        .orderBy(this.orderBySortType(searchRequest), productListingView.productId.desc())
+        .offset(this.calculateOffset(pageRequest))
+        .limit(pageRequest.getSize())
+        .fetch();
+  }
+
+  public long countListing(ProductSearchRequest searchRequest) {
+    return queryFactory
+        .select(productListingView.count())
+        .from(productListingView)
+        .where(this.searchConditions(searchRequest))
+        .fetchOne();
+  }
+
+  public long countListingUpTo(ProductSearchRequest searchRequest, long limit) {
+    return CappedCount.count(entityManager, queryFactory
+        .from(productListingView)
+        .where(this.searchConditions(searchRequest)), limit);
+  }
+
+  public List<Long> findActiveProductIdsAfter(Long lastProductId, int size) {
+    return queryFactory
+        .select(product.id)
+        .from(product)
+        .join(product.category, category)
+        .where(
+            product.id.gt(lastProductId),
+            product.deletedAt.isNull(),
+            category.deletedAt.isNull()
+        )
+        .orderBy(product.id.asc())
+        .limit(size)
+        .fetch();
+  }
+
+  public List<ProductListingView> buildViews(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<Tuple> products = queryFactory
+        .select(
+            product.id,
+            category.id,
+            product.name,
+            product.price,
+            product.sellStatus,
+            product.createdAt
+        )
+        .from(product)
+        .join(product.category, category)
+        .where(
+            product.id.in(productIds),
+            product.deletedAt.isNull(),
+            category.deletedAt.isNull()
+        )
+        .fetch();
+    if (products.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> activeIds = products.stream().map(row -> row.get(product.id)).toList();
+    Map<Long, String> categoryPaths = this.findCategoryPaths(
+        products.stream().map(row -> row.get(category.id)).distinct().toList());
+    Map<Long, String> mainImages = this.findMainImageUrls(activeIds);
+    Map<Long, OptionSummary> options = this.summarizeOptions(activeIds);
+
+    return products.stream()
+        .map(row -> {
+          Long productId = row.get(product.id);
+          OptionSummary summary = options.getOrDefault(productId, new OptionSummary());
+          return ProductListingView.builder()
+              .productId(productId)
+              .categoryId(row.get(category.id))
+              .categoryPath(categoryPaths.getOrDefault(row.get(category.id), ""))
+              .name(row.get(product.name))
+              .price(row.get(product.price))
+              .sellStatus(row.get(product.sellStatus))
+              .mainImageUrl(mainImages.get(productId))
+              .totalStock(summary.totalStock)
+              .colors(String.join(VALUE_SEPARATOR, summary.colors))
+              .sizes(String.join(VALUE_SEPARATOR, summary.sizes))
+              .createdAt(row.get(product.createdAt))
+              .build();
+        })
+        .toList();
+  }
+
+  private Map<Long, String> findCategoryPaths(List<Long> categoryIds) {
+    Map<Long, String> paths = new HashMap<>();
+    queryFactory
+        .select(categoryClosure.descendantId, category.name)
+        .from(categoryClosure)
+        .join(category).on(category.id.eq(categoryClosure.ancestorId))
+        .where(categoryClosure.descendantId.in(categoryIds))
+        .orderBy(categoryClosure.descendantId.asc(), categoryClosure.depth.desc())
+        .fetch()
+        .forEach(row -> paths.merge(row.get(categoryClosure.descendantId), row.get(category.name),
+            (path, name) -> path + CATEGORY_PATH_SEPARATOR + name));
+    return paths;
+  }
+
+  private Map<Long, String> findMainImageUrls(List<Long> productIds) {
+    Map<Long, String> urls = new HashMap<>();
+    queryFactory
+        .select(productImage.product.id, productImage.uploadPath)
+        .from(productImage)
+        .where(
+            productImage.product.id.in(productIds),
+            productImage.isMain.isTrue(),
+            productImage.deletedAt.isNull()
+        )
+        .orderBy(productImage.id.asc())
+        .fetch()
+        .forEach(row -> urls.putIfAbsent(row.get(productImage.product.id),
+            row.get(productImage.uploadPath)));
+    return urls;
+  }
+
+  private Map<Long, OptionSummary> summarizeOptions(List<Long> productIds) {
+    Map<Long, OptionSummary> summaries = new HashMap<>();
+    queryFactory
+        .select(productOption.product.id, productOption.color, productOption.size,
+            productOption.stock)
+        .from(productOption)
+        .where(
+            productOption.product.id.in(productIds),
+            productOption.deletedAt.isNull()
+        )
+        .fetch()
+        .forEach(row -> {
+          OptionSummary summary = summaries.computeIfAbsent(row.get(productOption.product.id),
+              id -> new OptionSummary());
+          summary.totalStock += row.get(productOption.stock);
+          summary.colors.add(row.get(productOption.color).name());
+          summary.sizes.add(row.get(productOption.size).name());
+        });
+    return summaries;
+  }
+
+  private BooleanExpression[] searchConditions(ProductSearchRequest searchRequest) {
+    return new BooleanExpression[] {
+        this.categoryIn(searchRequest.getCategoryId(), searchRequest.getIncludeDescendants()),
+        this.findContainKeyword(searchRequest.getKeywordType(), searchRequest.getKeyword()),
+        searchRequest.getMinPrice() != null
+            ? productListingView.price.goe(searchRequest.getMinPrice()) : null,
+        searchRequest.getMaxPrice() != null
+            ? productListingView.price.loe(searchRequest.getMaxPrice()) : null
+    };
+  }
+
+  private BooleanExpression categoryIn(Long categoryId, Boolean includeDescendants) {
+    if (!Boolean.TRUE.equals(includeDescendants)) {
+      return productListingView.categoryId.eq(categoryId);
+    }
+
+    return productListingView.categoryId.in(JPAExpressions
+        .select(categoryClosure.descendantId)
+        .from(categoryClosure)
+        .where(categoryClosure.ancestorId.eq(categoryId)));
+  }
+
+  private BooleanExpression findContainKeyword(String keywordType, String keyword) {
+    if (!StringUtils.hasText(keywordType) || !StringUtils.hasText(keyword)) return null;
+
+    return switch (keywordType) {
+      case "category" -> productListingView.categoryPath.containsIgnoreCase(keyword);
+      case "name" -> productListingView.name.containsIgnoreCase(keyword);
+      default -> throw new ServiceException(ServiceExceptionCode.UNSUPPORTED_KEYWORD_TYPE);
+    };
+  }
+
+  private OrderSpecifier<?> orderBySortType(ProductSearchRequest request) {
+    String sortType = StringUtils.hasText(request.getSortType()) ? request.getSortType() : "createdAt";
+    boolean isAscending = "ASC".equalsIgnoreCase(request.getSortDirection());
+
+    return switch (sortType) {
+      case "name" -> isAscending ? productListingView.name.asc() : productListingView.name.desc();
+      case "price" -> isAscending ? productListingView.price.asc() : productListingView.price.desc();
+      case "sellStatus" -> isAscending
+          ? productListingView.sellStatus.asc() : productListingView.sellStatus.desc();
+      case "createdAt" -> isAscending
+          ? productListingView.createdAt.asc() : productListingView.createdAt.desc();
+      default -> productListingView.createdAt.desc();
+    };
+  }
+
+  private int calculateOffset(PaginationRequest request) {
+    int page = request.getPage() != null ? request.getPage() : 1;
+    int size = request.getSize() != null ? request.getSize() : 10;
+    return size * Math.max(0, page - 1);
+  }
+
+  private static class OptionSummary {
+
+    int totalStock;
+    final SortedSet<String> colors = new TreeSet<>();
+    final SortedSet<String> sizes = new TreeSet<>();
+
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.sparta.camp.java.FinalProject.domain.product.repository;
+
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductListingView;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductListingViewRepository extends JpaRepository<ProductListingView, Long> {
+
+  @Query("SELECT v.productId FROM ProductListingView v WHERE v.categoryId IN :categoryIds")
+  List<Long> findProductIdsByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds);
+
+  @Modifying
+  @Query("DELETE FROM ProductListingView v WHERE NOT EXISTS ("
+      + "SELECT 1 FROM Product p JOIN p.category c "
+      + "WHERE p.id = v.productId AND p.deletedAt IS NULL AND c.deletedAt IS NULL)")
+  int deleteOrphans();
+
+}
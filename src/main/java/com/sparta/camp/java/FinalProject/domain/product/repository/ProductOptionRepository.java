@@ -1,7 +1,10 @@
 package com.sparta.camp.java.FinalProject.domain.product.repository;
 
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductOptionFacet;
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,7 +17,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
 
-  @Query("SELECT po FROM ProductOption po WHERE po.id IN :optionId AND po.deletedAt IS NULL")
+  @Query("SELECT po FROM ProductOption po WHERE po.id IN :optionIds AND po.deletedAt IS NULL")
   List<ProductOption> findAllValidByIds(@Param("optionIds") List<Long> optionIds);
 
   @Query("SELECT po FROM ProductOption po WHERE po.id = :productOptionId AND po.deletedAt IS NULL")
@@ -30,11 +33,40 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
   @Query("SELECT po FROM ProductOption po WHERE po.product.id IN :productIds AND po.deletedAt IS NULL")
   List<ProductOption> findProductOptionInProductIds(@Param("productIds") List<Long> productIds);
 
+  @Query("SELECT DISTINCT po.product.id FROM ProductOption po WHERE po.id IN :productOptionIds")
+  List<Long> findProductIdsByIds(@Param("productOptionIds") Collection<Long> productOptionIds);
+
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT po FROM ProductOption po WHERE po.id IN :productOptionIds AND po.deletedAt IS NULL")
   List<ProductOption> findByIdForUpdate(@Param("productOptionIds") List<Long> productOptionIds);
 
+  @Modifying
+  @Query("UPDATE ProductOption po SET po.stock = po.stock - :quantity "
+      + "WHERE po.id = :productOptionId "
+      + "AND po.stock >= :quantity "
+      + "AND po.deletedAt IS NULL")
+  int decreaseStockIfAvailable(@Param("productOptionId") Long productOptionId,
+      @Param("quantity") int quantity);
+
+  @Modifying
+  @Query("UPDATE ProductOption po SET po.stock = po.stock + :quantity WHERE po.id = :productOptionId")
+  int increaseStock(@Param("productOptionId") Long productOptionId, @Param("quantity") int quantity);
+
   @Modifying(clearAutomatically = true)
   @Query("UPDATE ProductOption po SET po.deletedAt = CURRENT_TIMESTAMP WHERE po.product.id = :productId")
   void softDeleteByProductId(@Param("productId") Long productId);
+
+  @Query("SELECT new com.sparta.camp.java.FinalProject.domain.product.facet.ProductOptionFacet("
+      + "po.product.id, po.color, po.size) FROM ProductOption po WHERE po.deletedAt IS NULL")
+  List<ProductOptionFacet> findAllActiveFacets();
+
+  @Query("SELECT new com.sparta.camp.java.FinalProject.domain.product.facet.ProductOptionFacet("
+      + "po.product.id, po.color, po.size) FROM ProductOption po "
+      + "WHERE po.product.id IN :productIds AND po.deletedAt IS NULL")
+  List<ProductOptionFacet> findActiveFacetsByProductIds(@Param("productIds") List<Long> productIds);
+
+  @Query("SELECT po.product.id FROM ProductOption po WHERE po.createdAt >= :since "
+      + "UNION SELECT po.product.id FROM ProductOption po WHERE po.updatedAt >= :since "
+      + "UNION SELECT po.product.id FROM ProductOption po WHERE po.deletedAt >= :since")
+  List<Long> findProductIdsWithOptionsChangedSince(@Param("since") LocalDateTime since);
 }
@@ -1,17 +1,44 @@
 package com.sparta.camp.java.FinalProject.domain.product.repository;
 
 import static com.sparta.camp.java.FinalProject.domain.category.entity.QCategory.category;
+import static com.sparta.camp.java.FinalProject.domain.category.entity.QCategoryClosure.categoryClosure;
 import static com.sparta.camp.java.FinalProject.domain.product.entity.QProduct.product;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductImage.productImage;
+import static com.sparta.camp.java.FinalProject.domain.product.entity.QProductOption.productOption;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.Cursor;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorDirection;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
+import com.sparta.camp.java.FinalProject.common.pagination.KeysetCondition;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.query.CappedCount;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductImageResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.QProduct;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -21,11 +48,38 @@ import org.springframework.util.StringUtils;
 public class ProductQueryRepository {
 
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+
+  private JPAQuery<ProductResponse> baseQuery(ProductSearchRequest searchRequest) {
+    return queryFactory
+        .select(Projections.constructor(
+            ProductResponse.class,
+            product.id,
+            product.category.id,
+            product.name,
+            product.price,
+            product.description,
+            product.sellStatus,
+            product.createdAt,
+            product.updatedAt
+        ))
+        .from(product)
+        .join(product.category, category)
+        .where(this.searchConditions(searchRequest));
+  }
 
   public List<ProductResponse> findProducts(ProductSearchRequest searchRequest,
       PaginationRequest pageRequest) {
 
-    return queryFactory
+    return baseQuery(searchRequest)
+        .offset(this.calculateOffset(pageRequest))
+        .limit(pageRequest.getSize())
+        .orderBy(this.orderBySortType(product, searchRequest))
+        .fetch();
+  }
+
+  public List<ProductResponse> findProductsByIds(List<Long> productIds) {
+    Map<Long, ProductResponse> found = queryFactory
         .select(Projections.constructor(
             ProductResponse.class,
             product.id,
@@ -40,17 +94,91 @@ public class ProductQueryRepository {
         .from(product)
         .join(product.category, category)
         .where(
-            category.id.eq(searchRequest.getCategoryId()),
+            product.id.in(productIds),
             product.deletedAt.isNull(),
-            category.deletedAt.isNull(),
-            this.findContainKeyword(searchRequest.getKeywordType(), searchRequest.getKeyword()),
-            this.priceGoe(searchRequest.getMinPrice()),
-            this.priceLoe(searchRequest.getMaxPrice())
+            category.deletedAt.isNull()
         )
-        .offset(this.calculateOffset(pageRequest))
-        .limit(pageRequest.getSize())
-        .orderBy(this.orderBySortType(product, searchRequest))
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+
+    return productIds.stream()
+        .map(found::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  public void attachOptionsAndMainImages(List<ProductResponse> products) {
+    if (products.isEmpty()) {
+      return;
+    }
+
+    Map<Long, ProductResponse> productById = new HashMap<>(products.size() * 2);
+    for (ProductResponse response : products) {
+      response.setProductOptions(new ArrayList<>());
+      response.setProductImages(new ArrayList<>(1));
+      productById.put(response.getId(), response);
+    }
+
+    try (Stream<Tuple> rows = queryFactory
+        .select(
+            product.id,
+            productOption.id,
+            productOption.color,
+            productOption.size,
+            productOption.stock,
+            productImage.id,
+            productImage.originalName,
+            productImage.storedName,
+            productImage.uploadPath,
+            productImage.sortOrder,
+            productImage.createdAt,
+            productImage.updatedAt
+        )
+        .from(product)
+        .leftJoin(productOption).on(
+            productOption.product.id.eq(product.id),
+            productOption.deletedAt.isNull()
+        )
+        .leftJoin(productImage).on(
+            productImage.product.id.eq(product.id),
+            productImage.isMain.isTrue(),
+            productImage.deletedAt.isNull()
+        )
+        .where(product.id.in(productById.keySet()))
+        .orderBy(product.id.asc(), productOption.id.asc(), productImage.id.asc())
+        .stream()) {
+
+      rows.forEach(row -> {
+        ProductResponse target = productById.get(row.get(product.id));
+        this.appendOption(target, row);
+        this.appendMainImage(target, row);
+      });
+    }
+  }
+
+  public CursorResponse<ProductResponse> findProductsByCursor(ProductSearchRequest searchRequest,
+      CursorRequest cursorRequest) {
+
+    Cursor cursor = Cursor.decode(cursorRequest.getCursor());
+    String sortType = cursor != null ? cursor.sortType() : resolveCursorSortType(searchRequest);
+    boolean ascending = cursor != null
+        ? cursor.ascending()
+        : "ASC".equalsIgnoreCase(searchRequest.getSortDirection());
+    boolean queryAscending = cursor != null && cursor.isBackward() ? !ascending : ascending;
+    int size = cursorRequest.getSizeOrDefault();
+
+    List<ProductResponse> rows = baseQuery(searchRequest)
+        .where(cursor != null ? this.seek(sortType, cursor, queryAscending) : null)
+        .orderBy(
+            this.orderByCursorSortType(sortType, queryAscending),
+            queryAscending ? product.id.asc() : product.id.desc()
+        )
+        .limit(size + 1)
         .fetch();
+
+    return CursorResponse.of(rows, size, cursor, row ->
+        new Cursor(sortType, ascending, CursorDirection.NEXT, row.getId(), cursorValue(sortType, row)));
   }
 
   public long countProducts(ProductSearchRequest searchRequest) {
@@ -58,17 +186,81 @@ public class ProductQueryRepository {
         .select(product.count())
         .from(product)
         .join(product.category, category)
-        .where(
-            category.id.eq(searchRequest.getCategoryId()),
-            product.deletedAt.isNull(),
-            category.deletedAt.isNull(),
-            this.findContainKeyword(searchRequest.getKeywordType(), searchRequest.getKeyword()),
-            this.priceGoe(searchRequest.getMinPrice()),
-            this.priceLoe(searchRequest.getMaxPrice())
-        )
+        .where(this.searchConditions(searchRequest))
         .fetchOne();
   }
 
+  public long countProductsUpTo(ProductSearchRequest searchRequest, long limit) {
+    return CappedCount.count(entityManager, queryFactory
+        .from(product)
+        .join(product.category, category)
+        .where(this.searchConditions(searchRequest)), limit);
+  }
+
+  private void appendOption(ProductResponse target, Tuple row) {
+    Long optionId = row.get(productOption.id);
+    List<ProductOptionResponse> options = target.getProductOptions();
+    if (optionId == null
+        || (!options.isEmpty() && options.get(options.size() - 1).getId().equals(optionId))) {
+      return;
+    }
+
+    options.add(ProductOptionResponse.builder()
+        .id(optionId)
+        .productId(target.getId())
+        .color(row.get(productOption.color))
+        .size(row.get(productOption.size))
+        .stock(row.get(productOption.stock))
+        .build());
+  }
+
+  private void appendMainImage(ProductResponse target, Tuple row) {
+    Long imageId = row.get(productImage.id);
+    if (imageId == null) {
+      return;
+    }
+
+    for (ProductImageResponse image : target.getProductImages()) {
+      if (image.getId().equals(imageId)) {
+        return;
+      }
+    }
+
+    target.getProductImages().add(ProductImageResponse.builder()
+        .id(imageId)
+        .productId(target.getId())
+        .originalName(row.get(productImage.originalName))
+        .storedName(row.get(productImage.storedName))
+        .uploadPath(row.get(productImage.uploadPath))
+        .sortOrder(row.get(productImage.sortOrder))
+        .isMain(true)
+        .createdAt(row.get(productImage.createdAt))
+        .updatedAt(row.get(productImage.updatedAt))
+        .build());
+  }
+
+  private BooleanExpression[] searchConditions(ProductSearchRequest searchRequest) {
+    return new BooleanExpression[] {
+        this.categoryIn(searchRequest.getCategoryId(), searchRequest.getIncludeDescendants()),
+        product.deletedAt.isNull(),
+        category.deletedAt.isNull(),
+        this.findContainKeyword(searchRequest.getKeywordType(), searchRequest.getKeyword()),
+        this.priceGoe(searchRequest.getMinPrice()),
+        this.priceLoe(searchRequest.getMaxPrice())
+    };
+  }
+
+  private BooleanExpression categoryIn(Long categoryId, Boolean includeDescendants) {
+    if (!Boolean.TRUE.equals(includeDescendants)) {
+      return category.id.eq(categoryId);
+    }
+
+    return category.id.in(JPAExpressions
+        .select(categoryClosure.descendantId)
+        .from(categoryClosure)
+        .where(categoryClosure.ancestorId.eq(categoryId)));
+  }
+
   private BooleanExpression findContainKeyword(String keywordType, String keyword) {
     if (!StringUtils.hasText(keywordType)) return null;
 
@@ -125,4 +317,41 @@ public class ProductQueryRepository {
     };
   }
 
+  private String resolveCursorSortType(ProductSearchRequest request) {
+    String sortType = request.getSortType();
+    return "price".equals(sortType) || "name".equals(sortType) ? sortType : "createdAt";
+  }
+
+  private BooleanExpression seek(String sortType, Cursor cursor, boolean ascending) {
+    try {
+      return switch (sortType) {
+        case "name" -> KeysetCondition.seek(product.name, cursor.value(), product.id,
+            cursor.id(), ascending);
+        case "price" -> KeysetCondition.seek(product.price, new BigDecimal(cursor.value()),
+            product.id, cursor.id(), ascending);
+        case "createdAt" -> KeysetCondition.seek(product.createdAt,
+            LocalDateTime.parse(cursor.value()), product.id, cursor.id(), ascending);
+        default -> throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+      };
+    } catch (NumberFormatException | DateTimeParseException e) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+    }
+  }
+
+  private OrderSpecifier<?> orderByCursorSortType(String sortType, boolean ascending) {
+    return switch (sortType) {
+      case "name" -> ascending ? product.name.asc() : product.name.desc();
+      case "price" -> ascending ? product.price.asc() : product.price.desc();
+      default -> ascending ? product.createdAt.asc() : product.createdAt.desc();
+    };
+  }
+
+  private String cursorValue(String sortType, ProductResponse row) {
+    return switch (sortType) {
+      case "name" -> row.getName();
+      case "price" -> row.getPrice().toPlainString();
+      default -> row.getCreatedAt().toString();
+    };
+  }
+
 }
@@ -1,6 +1,7 @@
 package com.sparta.camp.java.FinalProject.domain.product.repository;
 
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +24,22 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
   @Query("SELECT p FROM Product p WHERE p.id IN :productIds AND p.deletedAt IS NULL")
   List<Product> findAllByIn(@Param("productIds") List<Long> productIds);
 
+  @Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE p.deletedAt IS NULL AND c.deletedAt IS NULL")
+  List<Product> findAllForSearchIndex();
+
+  @Query("SELECT p.id FROM Product p WHERE p.createdAt >= :since "
+      + "UNION SELECT p.id FROM Product p WHERE p.updatedAt >= :since "
+      + "UNION SELECT p.id FROM Product p WHERE p.deletedAt >= :since")
+  List<Long> findIdsChangedSince(@Param("since") LocalDateTime since);
+
+  @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :productIds")
+  List<Product> findAllWithCategoryByIds(@Param("productIds") List<Long> productIds);
+
+  default List<Product> findAllChangedSince(LocalDateTime since) {
+    List<Long> productIds = findIdsChangedSince(since);
+    return productIds.isEmpty() ? List.of() : findAllWithCategoryByIds(productIds);
+  }
+
   @Query("SELECT count(p) > 0 FROM Product p WHERE p.category.id = :categoryId AND p.deletedAt IS NULL")
   boolean existsByCategoryId(@Param("categoryId") Long categoryId);
 
@@ -0,0 +1,30 @@
+package com.sparta.camp.java.FinalProject.domain.product.scheduler;
+
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetIndex;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductIndexRefresher {
+
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductFacetIndex productFacetIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void build() {
+    productSearchIndex.rebuild();
+    productFacetIndex.rebuild();
+  }
+
+  @Scheduled(fixedDelayString = "${product.search.refresh-interval:PT30S}")
+  public void refresh() {
+    productSearchIndex.refresh();
+    productFacetIndex.refresh();
+  }
+
+}
@@ -0,0 +1,92 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class InvertedFieldIndex {
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+
+  private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+  private final Map<Long, String> texts = new HashMap<>();
+  private final Map<Long, Integer> lengths = new HashMap<>();
+  private long totalLength;
+
+  void add(Long id, String text) {
+    String normalized = NgramTokenizer.normalize(text);
+    List<String> grams = NgramTokenizer.tokenize(normalized);
+    for (String gram : grams) {
+      postings.computeIfAbsent(gram, key -> new HashMap<>()).merge(id, 1, Integer::sum);
+    }
+    texts.put(id, normalized);
+    lengths.put(id, grams.size());
+    totalLength += grams.size();
+  }
+
+  void remove(Long id) {
+    String normalized = texts.remove(id);
+    if (normalized == null) {
+      return;
+    }
+    for (String gram : NgramTokenizer.tokenize(normalized)) {
+      Map<Long, Integer> posting = postings.get(gram);
+      if (posting != null) {
+        posting.remove(id);
+        if (posting.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+    totalLength -= lengths.remove(id);
+  }
+
+  Map<Long, Double> search(String keyword) {
+    String normalized = NgramTokenizer.normalize(keyword);
+    Set<String> grams = NgramTokenizer.queryGrams(normalized);
+
+    List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+    for (String gram : grams) {
+      Map<Long, Integer> posting = postings.get(gram);
+      if (posting == null) {
+        return Map.of();
+      }
+      lists.add(posting);
+    }
+    lists.sort(Comparator.comparingInt(Map::size));
+
+    int documentCount = texts.size();
+    double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+    Map<Long, Double> scores = new HashMap<>();
+
+    for (Long id : lists.get(0).keySet()) {
+      if (!containsInAll(lists, id) || !texts.get(id).contains(normalized)) {
+        continue;
+      }
+
+      double lengthNorm = 1 - B + B * lengths.get(id) / averageLength;
+      double score = 0;
+      for (Map<Long, Integer> posting : lists) {
+        int tf = posting.get(id);
+        double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+        score += idf * tf * (K1 + 1) / (tf + K1 * lengthNorm);
+      }
+      scores.put(id, score);
+    }
+    return scores;
+  }
+
+  private boolean containsInAll(List<Map<Long, Integer>> lists, Long id) {
+    for (int i = 1; i < lists.size(); i++) {
+      if (!lists.get(i).containsKey(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class NgramTokenizer {
+
+  private NgramTokenizer() {
+  }
+
+  public static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT);
+  }
+
+  public static List<String> tokenize(String normalized) {
+    List<String> grams = new ArrayList<>(normalized.length() * 2);
+    for (int i = 0; i < normalized.length(); i++) {
+      grams.add(normalized.substring(i, i + 1));
+      if (i + 1 < normalized.length()) {
+        grams.add(normalized.substring(i, i + 2));
+      }
+    }
+    return grams;
+  }
+
+  public static Set<String> queryGrams(String normalized) {
+    Set<String> grams = new LinkedHashSet<>();
+    if (normalized.length() == 1) {
+      grams.add(normalized);
+      return grams;
+    }
+    for (int i = 0; i + 1 < normalized.length(); i++) {
+      grams.add(normalized.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductDocument(
+    Long id,
+    Long categoryId,
+    String name,
+    String description,
+    BigDecimal price,
+    SellStatus sellStatus,
+    LocalDateTime createdAt
+) {
+
+  public static ProductDocument from(Product product) {
+    return new ProductDocument(
+        product.getId(),
+        product.getCategory().getId(),
+        product.getName(),
+        product.getDescription(),
+        product.getPrice(),
+        product.getSellStatus(),
+        product.getCreatedAt()
+    );
+  }
+
+  public String text(ProductSearchField field) {
+    return switch (field) {
+      case NAME -> name;
+      case DESCRIPTION -> description;
+    };
+  }
+
+}
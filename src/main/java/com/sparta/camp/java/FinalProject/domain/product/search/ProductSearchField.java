@@ -0,0 +1,23 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductSearchField {
+
+  NAME("name"),
+  DESCRIPTION("description");
+
+  private final String keywordType;
+
+  public static Optional<ProductSearchField> from(String keywordType) {
+    return Arrays.stream(values())
+        .filter(field -> field.keywordType.equals(keywordType))
+        .findFirst();
+  }
+
+}
@@ -0,0 +1,213 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.transaction.AfterCommit;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+  private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+  private final ProductRepository productRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, ProductDocument> documents = new HashMap<>();
+  private final Map<ProductSearchField, InvertedFieldIndex> fields = new EnumMap<>(ProductSearchField.class);
+
+  private volatile boolean ready;
+  private volatile LocalDateTime lastSyncedAt;
+
+  public void rebuild() {
+    LocalDateTime startedAt = LocalDateTime.now();
+    List<Product> products = productRepository.findAllForSearchIndex();
+
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      fields.clear();
+      for (ProductSearchField field : ProductSearchField.values()) {
+        fields.put(field, new InvertedFieldIndex());
+      }
+      products.forEach(product -> put(ProductDocument.from(product)));
+      lastSyncedAt = startedAt;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void refresh() {
+    if (!ready) {
+      rebuild();
+      return;
+    }
+
+    LocalDateTime startedAt = LocalDateTime.now();
+    List<Product> changed =
+        productRepository.findAllChangedSince(lastSyncedAt.minus(REFRESH_OVERLAP));
+
+    lock.writeLock().lock();
+    try {
+      for (Product product : changed) {
+        if (product.getDeletedAt() != null) {
+          delete(product.getId());
+        } else {
+          put(ProductDocument.from(product));
+        }
+      }
+      lastSyncedAt = startedAt;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void index(Product product) {
+    ProductDocument document = ProductDocument.from(product);
+    AfterCommit.run(() -> {
+      lock.writeLock().lock();
+      try {
+        put(document);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  public void remove(Long productId) {
+    AfterCommit.run(() -> {
+      lock.writeLock().lock();
+      try {
+        delete(productId);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  public boolean supports(ProductSearchRequest request) {
+    return ready && isIndexedKeyword(request.getKeywordType(), request.getKeyword());
+  }
+
+  public BitSet matchingIds(String keywordType, String keyword) {
+    if (!isIndexedKeyword(keywordType, keyword)) {
+      return null;
+    }
+    if (!ready) {
+      throw new ServiceException(ServiceExceptionCode.PRODUCT_INDEX_NOT_READY);
+    }
+
+    BitSet matches = new BitSet();
+    lock.readLock().lock();
+    try {
+      fields.get(ProductSearchField.from(keywordType).orElseThrow()).search(keyword).keySet()
+          .forEach(id -> matches.set(Math.toIntExact(id)));
+    } finally {
+      lock.readLock().unlock();
+    }
+    return matches;
+  }
+
+  public ProductSearchResult search(ProductSearchRequest request, PaginationRequest pageRequest) {
+    return search(request, Collections.singleton(request.getCategoryId()), pageRequest);
+  }
+
+  public ProductSearchResult search(ProductSearchRequest request, Collection<Long> categoryIds,
+      PaginationRequest pageRequest) {
+    ProductSearchField field = ProductSearchField.from(request.getKeywordType()).orElseThrow();
+
+    List<Entry<ProductDocument, Double>> matches;
+    lock.readLock().lock();
+    try {
+      matches = fields.get(field).search(request.getKeyword()).entrySet().stream()
+          .map(entry -> Map.entry(documents.get(entry.getKey()), entry.getValue()))
+          .filter(entry -> matchesFilter(entry.getKey(), categoryIds, request))
+          .sorted(comparator(request))
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    int page = pageRequest.getPage() != null ? pageRequest.getPage() : 1;
+    int size = pageRequest.getSize() != null ? pageRequest.getSize() : 10;
+    List<Long> productIds = matches.stream()
+        .skip((long) size * Math.max(0, page - 1))
+        .limit(size)
+        .map(entry -> entry.getKey().id())
+        .toList();
+
+    return new ProductSearchResult(productIds, matches.size());
+  }
+
+  private boolean isIndexedKeyword(String keywordType, String keyword) {
+    return ProductSearchField.from(keywordType).isPresent() && StringUtils.hasText(keyword);
+  }
+
+  private void put(ProductDocument document) {
+    delete(document.id());
+    documents.put(document.id(), document);
+    fields.forEach((field, index) -> index.add(document.id(), document.text(field)));
+  }
+
+  private void delete(Long productId) {
+    if (documents.remove(productId) != null) {
+      fields.values().forEach(index -> index.remove(productId));
+    }
+  }
+
+  private boolean matchesFilter(ProductDocument document, Collection<Long> categoryIds,
+      ProductSearchRequest request) {
+    return categoryIds.contains(document.categoryId())
+        && (request.getMinPrice() == null
+            || document.price().compareTo(BigDecimal.valueOf(request.getMinPrice())) >= 0)
+        && (request.getMaxPrice() == null
+            || document.price().compareTo(BigDecimal.valueOf(request.getMaxPrice())) <= 0);
+  }
+
+  private Comparator<Entry<ProductDocument, Double>> comparator(ProductSearchRequest request) {
+    String sortType = request.getSortType();
+    boolean ascending = "ASC".equalsIgnoreCase(request.getSortDirection());
+
+    Comparator<ProductDocument> byField = switch (sortType == null ? "relevance" : sortType) {
+      case "relevance" -> null;
+      case "name" -> Comparator.comparing(ProductDocument::name);
+      case "price" -> Comparator.comparing(ProductDocument::price);
+      case "sellStatus" -> Comparator.comparing(ProductDocument::sellStatus,
+          Comparator.nullsFirst(Comparator.naturalOrder()));
+      case "createdAt" -> Comparator.comparing(ProductDocument::createdAt);
+      default -> {
+        ascending = false;
+        yield Comparator.comparing(ProductDocument::createdAt);
+      }
+    };
+
+    Comparator<Entry<ProductDocument, Double>> comparator = byField == null
+        ? Entry.<ProductDocument, Double>comparingByValue().reversed()
+        : Entry.comparingByKey(ascending ? byField : byField.reversed());
+
+    return comparator.thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder());
+  }
+
+}
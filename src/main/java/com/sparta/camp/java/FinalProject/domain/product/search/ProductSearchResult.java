@@ -0,0 +1,8 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import java.util.List;
+
+public record ProductSearchResult(
+    List<Long> productIds,
+    long totalItems
+) {}
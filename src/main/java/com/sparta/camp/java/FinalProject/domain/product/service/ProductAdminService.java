@@ -2,23 +2,33 @@ package com.sparta.camp.java.FinalProject.domain.product.service;
 
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
 import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.cache.ProductDetailCache;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductImageResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetDocument;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetIndex;
+import com.sparta.camp.java.FinalProject.domain.product.projection.ProductListingProjector;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductImageRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchIndex;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseProductQueryRepository;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -35,6 +45,13 @@ public class ProductAdminService {
   private final PurchaseProductQueryRepository purchaseProductQueryRepository;
   private final ProductOptionRepository productOptionRepository;
 
+  private final PaginationCounter paginationCounter;
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductFacetIndex productFacetIndex;
+  private final ProductDetailCache productDetailCache;
+  private final ProductListingProjector productListingProjector;
+  private final ApplicationEventPublisher eventPublisher;
+
   public Long createProduct(ProductCreateRequest productCreateRequest) throws IOException {
 
     Category category = this.getCategoryById(productCreateRequest.getCategoryId());
@@ -56,6 +73,12 @@ public class ProductAdminService {
     productOptionService.createProductOption(newProduct, productCreateRequest.getOptions());
     productImageService.createProductImages(newProduct, productCreateRequest.getImages());
 
+    paginationCounter.invalidate(CountScope.PRODUCT);
+    productSearchIndex.index(newProduct);
+    productFacetIndex.index(
+        ProductFacetDocument.fromRequest(newProduct, productCreateRequest.getOptions()));
+    eventPublisher.publishEvent(new ProductChangedEvent(newProduct.getId()));
+
     return newProduct.getId();
   }
 
@@ -78,6 +101,13 @@ public class ProductAdminService {
     List<ProductOptionResponse> optionResponseList = productOptionService.updateProductOption(product, productUpdateRequest.getOptions());
     List<ProductImageResponse> updateImageList = productImageService.updateProductImages(product, productUpdateRequest.getImages());
 
+    paginationCounter.invalidate(CountScope.PRODUCT);
+    productSearchIndex.index(product);
+    productFacetIndex.index(
+        ProductFacetDocument.fromRequest(product, productUpdateRequest.getOptions()));
+    productDetailCache.evict(productId);
+    eventPublisher.publishEvent(new ProductChangedEvent(productId));
+
     return ProductResponse.builder()
         .id(productId)
         .categoryId(product.getCategory().getId())
@@ -102,6 +132,17 @@ public class ProductAdminService {
 
     productOptionRepository.softDeleteByProductId(product.getId());
     productImageRepository.softDeleteByProductId(product.getId());
+
+    paginationCounter.invalidate(CountScope.PRODUCT);
+    productSearchIndex.remove(product.getId());
+    productFacetIndex.remove(product.getId());
+    productDetailCache.evict(product.getId());
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+  }
+
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public int rebuildListingView() {
+    return productListingProjector.rebuild();
   }
 
   private Category getCategoryById(Long categoryId) {
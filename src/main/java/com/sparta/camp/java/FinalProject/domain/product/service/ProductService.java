@@ -1,30 +1,45 @@
 package com.sparta.camp.java.FinalProject.domain.product.service;
 
-import static java.util.stream.Collectors.groupingBy;
-
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
+import com.sparta.camp.java.FinalProject.common.pagination.TotalCount;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
+import com.sparta.camp.java.FinalProject.domain.product.cache.ProductDetailCache;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductImageResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductListingResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductImage;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetIndex;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetResult;
 import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductImageMapper;
 import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductMapper;
 import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductOptionMapper;
-import com.sparta.camp.java.FinalProject.domain.product.repository.ProductImageRepository;
-import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingQueryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductQueryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchIndex;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchResult;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,8 +48,14 @@ public class ProductService {
 
   private final ProductRepository productRepository;
   private final ProductQueryRepository productQueryRepository;
-  private final ProductOptionRepository productOptionRepository;
-  private final ProductImageRepository productImageRepository;
+  private final ProductListingQueryRepository productListingQueryRepository;
+  private final CategoryClosureRepository categoryClosureRepository;
+
+  private final PaginationCounter paginationCounter;
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductFacetIndex productFacetIndex;
+  private final ProductDetailCache productDetailCache;
+  private final TransactionTemplate transactionTemplate;
 
   private final ProductMapper productMapper;
   private final ProductOptionMapper productOptionMapper;
@@ -42,49 +63,124 @@ public class ProductService {
 
   public PaginationResponse<ProductResponse> getAllProducts(ProductSearchRequest searchRequest,
       PaginationRequest pageRequest) {
+    return getAllProducts(searchRequest, pageRequest, CountStrategy.EXACT);
+  }
+
+  public PaginationResponse<ProductResponse> getAllProducts(ProductSearchRequest searchRequest,
+      PaginationRequest pageRequest, CountStrategy countStrategy) {
+
+    if (productSearchIndex.supports(searchRequest)) {
+      return searchProducts(searchRequest, pageRequest);
+    }
 
     List<ProductResponse> products = productQueryRepository.findProducts(searchRequest, pageRequest);
 
-    if (products.isEmpty()) {
-      long totalItems = productQueryRepository.countProducts(searchRequest);
+    List<ProductResponse> responseList =
+        products.isEmpty() ? List.of() : attachOptionsAndImages(products);
 
-      return PaginationResponse.<ProductResponse>builder()
-          .paginationRequest(pageRequest)
-          .totalItems(totalItems)
-          .content(List.of())
-          .build();
-    }
+    TotalCount totalCount = paginationCounter.count(countStrategy, CountScope.PRODUCT,
+        searchRequest.toCountKey(), pageRequest,
+        () -> productQueryRepository.countProducts(searchRequest),
+        limit -> productQueryRepository.countProductsUpTo(searchRequest, limit));
 
-    List<Long> productIds = products.stream()
-        .map(ProductResponse::getId)
+    return PaginationResponse.<ProductResponse>builder()
+        .paginationRequest(pageRequest)
+        .totalItems(totalCount.value())
+        .approximateTotal(totalCount.approximate())
+        .content(responseList)
+        .build();
+  }
+
+  public PaginationResponse<ProductListingResponse> getProductListing(
+      ProductSearchRequest searchRequest, PaginationRequest pageRequest, CountStrategy countStrategy) {
+
+    List<ProductListingResponse> responseList = productListingQueryRepository
+        .findListing(searchRequest, pageRequest)
+        .stream()
+        .map(ProductListingResponse::from)
         .toList();
 
-    List<ProductOption> options = productOptionRepository.findProductOptionInProductIds(productIds);
-    Map<Long, List<ProductOption>> optionMap =
-        options.stream().collect(groupingBy(po -> po.getProduct().getId()));
+    TotalCount totalCount = paginationCounter.count(countStrategy, CountScope.PRODUCT,
+        "listing|" + searchRequest.toCountKey(), pageRequest,
+        () -> productListingQueryRepository.countListing(searchRequest),
+        limit -> productListingQueryRepository.countListingUpTo(searchRequest, limit));
 
-    List<ProductImage> images = productImageRepository.findProductImageInProductIds(productIds);
-    Map<Long, List<ProductImage>> imageMap =
-        images.stream().collect(groupingBy(img -> img.getProduct().getId()));
+    return PaginationResponse.<ProductListingResponse>builder()
+        .paginationRequest(pageRequest)
+        .totalItems(totalCount.value())
+        .approximateTotal(totalCount.approximate())
+        .content(responseList)
+        .build();
+  }
 
-    List<ProductResponse> responseList = products.stream()
-        .map(product -> {
-          product.setProductOptions(convertToOptionResponse(optionMap.getOrDefault(product.getId(), List.of())));
-          product.setProductImages(convertToImageResponse(imageMap.getOrDefault(product.getId(), List.of())));
-          return product;
-        })
-        .toList();
+  private PaginationResponse<ProductResponse> searchProducts(ProductSearchRequest searchRequest,
+      PaginationRequest pageRequest) {
 
-    long totalItems = productQueryRepository.countProducts(searchRequest);
+    ProductSearchResult result = productSearchIndex.search(searchRequest,
+        resolveCategoryIds(searchRequest.getCategoryId(), searchRequest.getIncludeDescendants()),
+        pageRequest);
+
+    List<ProductResponse> products = result.productIds().isEmpty()
+        ? List.of()
+        : attachOptionsAndImages(productQueryRepository.findProductsByIds(result.productIds()));
 
     return PaginationResponse.<ProductResponse>builder()
         .paginationRequest(pageRequest)
-        .totalItems(totalItems)
-        .content(responseList)
+        .totalItems(result.totalItems())
+        .content(products)
         .build();
   }
 
-  public ProductResponse getProductById(Long productId){
+  public ProductFacetResponse getFacetedProducts(ProductFacetSearchRequest searchRequest,
+      PaginationRequest pageRequest) {
+
+    if (!productFacetIndex.isReady()) {
+      throw new ServiceException(ServiceExceptionCode.PRODUCT_INDEX_NOT_READY);
+    }
+
+    BitSet keywordMatches =
+        productSearchIndex.matchingIds(searchRequest.getKeywordType(), searchRequest.getKeyword());
+    ProductFacetResult result = productFacetIndex.search(searchRequest,
+        resolveCategoryIds(searchRequest.getCategoryId(), searchRequest.getIncludeDescendants()),
+        keywordMatches, pageRequest);
+
+    List<ProductResponse> products = result.productIds().isEmpty()
+        ? List.of()
+        : attachOptionsAndImages(productQueryRepository.findProductsByIds(result.productIds()));
+
+    return ProductFacetResponse.builder()
+        .products(PaginationResponse.<ProductResponse>builder()
+            .paginationRequest(pageRequest)
+            .totalItems(result.totalItems())
+            .content(products)
+            .build())
+        .colors(result.colors())
+        .sizes(result.sizes())
+        .priceBands(result.priceBands())
+        .sellStatuses(result.sellStatuses())
+        .build();
+  }
+
+  public CursorResponse<ProductResponse> getAllProductsByCursor(ProductSearchRequest searchRequest,
+      CursorRequest cursorRequest) {
+
+    CursorResponse<ProductResponse> response =
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest);
+
+    if (!response.getContent().isEmpty()) {
+      attachOptionsAndImages(response.getContent());
+    }
+
+    return response;
+  }
+
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ProductResponse getProductById(Long productId) {
+    return productDetailCache.get(productId,
+        id -> transactionTemplate.execute(status -> loadProductDetail(id)));
+  }
+
+  private ProductResponse loadProductDetail(Long productId) {
     Product product = productRepository.findProductById(productId)
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT));
 
@@ -121,4 +217,22 @@ public class ProductService {
         .toList();
   }
 
+  private List<Long> resolveCategoryIds(Long categoryId, Boolean includeDescendants) {
+    if (categoryId == null) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_CATEGORY);
+    }
+
+    if (!Boolean.TRUE.equals(includeDescendants)) {
+      return Collections.singletonList(categoryId);
+    }
+
+    List<Long> categoryIds = categoryClosureRepository.findDescendantIds(categoryId);
+    return categoryIds.isEmpty() ? List.of(categoryId) : categoryIds;
+  }
+
+  private List<ProductResponse> attachOptionsAndImages(List<ProductResponse> products) {
+    productQueryRepository.attachOptionsAndMainImages(products);
+    return products;
+  }
+
 }
@@ -0,0 +1,55 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "conditional-update")
+public class ConditionalUpdateStockManager implements StockManager {
+
+  private final ProductOptionRepository productOptionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  @Transactional
+  public StockDecreaseResult decrease(Map<Long, Integer> quantities) {
+    Map<Long, Integer> sorted = new TreeMap<>(quantities);
+
+    List<Long> failedOptionIds = new ArrayList<>();
+    Map<Long, Integer> decreased = new TreeMap<>();
+
+    sorted.forEach((optionId, quantity) -> {
+      if (productOptionRepository.decreaseStockIfAvailable(optionId, quantity) == 1) {
+        decreased.put(optionId, quantity);
+      } else {
+        failedOptionIds.add(optionId);
+      }
+    });
+
+    if (failedOptionIds.isEmpty()) {
+      eventPublisher.publishEvent(ProductStockChangedEvent.of(decreased.keySet()));
+      return StockDecreaseResult.success();
+    }
+
+    increase(decreased);
+    return StockDecreaseResult.failure(failedOptionIds);
+  }
+
+  @Override
+  @Transactional
+  public void increase(Map<Long, Integer> quantities) {
+    new TreeMap<>(quantities).forEach(productOptionRepository::increaseStock);
+    eventPublisher.publishEvent(ProductStockChangedEvent.of(quantities.keySet()));
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "pessimistic-lock", matchIfMissing = true)
+public class PessimisticLockStockManager implements StockManager {
+
+  private final ProductOptionRepository productOptionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  @Transactional
+  public StockDecreaseResult decrease(Map<Long, Integer> quantities) {
+    Map<Long, ProductOption> options = getProductOptionsForUpdate(quantities);
+
+    List<Long> failedOptionIds = new ArrayList<>();
+    quantities.forEach((optionId, quantity) -> {
+      if (options.get(optionId).getStock() < quantity) {
+        failedOptionIds.add(optionId);
+      }
+    });
+
+    if (!failedOptionIds.isEmpty()) {
+      return StockDecreaseResult.failure(failedOptionIds);
+    }
+
+    quantities.forEach((optionId, quantity) -> options.get(optionId).decreaseStock(quantity));
+    eventPublisher.publishEvent(ProductStockChangedEvent.of(quantities.keySet()));
+    return StockDecreaseResult.success();
+  }
+
+  @Override
+  @Transactional
+  public void increase(Map<Long, Integer> quantities) {
+    Map<Long, ProductOption> options = getProductOptionsForUpdate(quantities);
+
+    quantities.forEach((optionId, quantity) -> options.get(optionId).increaseStock(quantity));
+    eventPublisher.publishEvent(ProductStockChangedEvent.of(quantities.keySet()));
+  }
+
+  private Map<Long, ProductOption> getProductOptionsForUpdate(Map<Long, Integer> quantities) {
+    List<Long> optionIds = new ArrayList<>(quantities.keySet());
+    List<ProductOption> options = productOptionRepository.findByIdForUpdate(optionIds);
+
+    if (options.size() != optionIds.size()) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
+    }
+
+    return options.stream()
+        .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+  }
+
+}
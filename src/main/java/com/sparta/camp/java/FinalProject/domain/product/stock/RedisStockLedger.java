@@ -0,0 +1,246 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "redis")
+public class RedisStockLedger {
+
+  private static final String STOCK_KEY_PREFIX = "stock:option:";
+  private static final String RESERVATION_KEY_PREFIX = "stock:reservation:";
+  private static final String RESERVATION_DEADLINE_KEY = "stock:reservation-deadlines";
+  private static final String PENDING_DELTA_KEY = "stock:pending-deltas";
+  private static final String DRAINING_DELTA_KEY = "stock:draining-deltas";
+
+  private static final long RESERVED = 0L;
+  private static final long INSUFFICIENT = 1L;
+  private static final long NOT_LOADED = 2L;
+
+  private static final RedisScript<List<Long>> RESERVE_SCRIPT = listScript("scripts/stock-reserve.lua");
+  private static final RedisScript<Long> COMMIT_SCRIPT = script("scripts/stock-commit.lua", Long.class);
+  private static final RedisScript<Long> RECOMMIT_SCRIPT = script("scripts/stock-recommit.lua", Long.class);
+  private static final RedisScript<Long> RELEASE_SCRIPT = script("scripts/stock-release.lua", Long.class);
+  private static final RedisScript<List<Long>> RESTOCK_SCRIPT = listScript("scripts/stock-restock.lua");
+  private static final RedisScript<List<Long>> SEED_SCRIPT = listScript("scripts/stock-seed.lua");
+  private static final RedisScript<List<String>> DRAIN_DELTAS_SCRIPT = listScript("scripts/stock-drain-deltas.lua");
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ProductOptionRepository productOptionRepository;
+
+  public StockDecreaseResult reserve(String reservationId, Map<Long, Integer> quantities, Duration ttl) {
+    List<Long> optionIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+
+    List<String> keys = new ArrayList<>();
+    keys.add(reservationKey(reservationId));
+    keys.add(RESERVATION_DEADLINE_KEY);
+    optionIds.forEach(optionId -> keys.add(stockKey(optionId)));
+
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(System.currentTimeMillis() + ttl.toMillis()));
+    args.add("");
+    optionIds.forEach(optionId -> args.add(String.valueOf(quantities.get(optionId))));
+
+    List<Long> result = executeReserve(keys, args);
+    if (result.get(0) == NOT_LOADED) {
+      loadStocks(selectOptionIds(optionIds, result));
+      result = executeReserve(keys, args);
+    }
+
+    if (result.get(0) == RESERVED) {
+      return StockDecreaseResult.success();
+    }
+    return StockDecreaseResult.failure(selectOptionIds(optionIds, result));
+  }
+
+  public boolean commit(String reservationId) {
+    Long committed = stringRedisTemplate.execute(COMMIT_SCRIPT,
+        List.of(reservationKey(reservationId), RESERVATION_DEADLINE_KEY, PENDING_DELTA_KEY));
+    return committed != null && committed == 1L;
+  }
+
+  public void recommit(Map<Long, Integer> quantities) {
+    List<Long> optionIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+
+    List<String> keys = new ArrayList<>();
+    keys.add(PENDING_DELTA_KEY);
+    optionIds.forEach(optionId -> keys.add(stockKey(optionId)));
+
+    List<String> args = new ArrayList<>();
+    args.add("");
+    optionIds.forEach(optionId -> args.add(String.valueOf(quantities.get(optionId))));
+
+    stringRedisTemplate.execute(RECOMMIT_SCRIPT, keys, args.toArray());
+  }
+
+  public void release(String reservationId) {
+    releaseReservationKey(reservationKey(reservationId));
+  }
+
+  public int releaseExpired(int limit) {
+    Set<String> expired = stringRedisTemplate.opsForZSet()
+        .rangeByScore(RESERVATION_DEADLINE_KEY, 0, System.currentTimeMillis(), 0, limit);
+    if (expired == null) {
+      return 0;
+    }
+
+    expired.forEach(this::releaseReservationKey);
+    return expired.size();
+  }
+
+  public List<Long> restock(Map<Long, Integer> quantities) {
+    List<Long> optionIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+
+    List<String> keys = new ArrayList<>();
+    keys.add(PENDING_DELTA_KEY);
+    optionIds.forEach(optionId -> keys.add(stockKey(optionId)));
+
+    List<String> args = new ArrayList<>();
+    args.add("");
+    optionIds.forEach(optionId -> args.add(String.valueOf(quantities.get(optionId))));
+
+    List<Long> missing = stringRedisTemplate.execute(RESTOCK_SCRIPT, keys, args.toArray());
+    return missing == null ? List.of() : missing.stream()
+        .map(index -> optionIds.get(index.intValue() - 1))
+        .toList();
+  }
+
+  public int getAvailableStock(ProductOption option) {
+    String key = stockKey(option.getId());
+    String stock = stringRedisTemplate.opsForValue().get(key);
+    if (stock == null) {
+      seedStocks(List.of(option));
+      stock = stringRedisTemplate.opsForValue().get(key);
+    }
+    return stock == null ? option.getStock() : Integer.parseInt(stock);
+  }
+
+  public Map<Long, Integer> getAvailableStocks(Map<Long, Integer> storedStocks) {
+    if (storedStocks.isEmpty()) {
+      return storedStocks;
+    }
+
+    List<Long> optionIds = new ArrayList<>(storedStocks.keySet());
+    List<String> stocks = stringRedisTemplate.opsForValue()
+        .multiGet(optionIds.stream().map(this::stockKey).toList());
+
+    Map<Long, Integer> availableStocks = new LinkedHashMap<>();
+    for (int i = 0; i < optionIds.size(); i++) {
+      String stock = stocks == null ? null : stocks.get(i);
+      Long optionId = optionIds.get(i);
+      availableStocks.put(optionId, stock == null ? storedStocks.get(optionId) : Integer.parseInt(stock));
+    }
+    return availableStocks;
+  }
+
+  public Map<Long, Integer> drainDeltas() {
+    List<String> entries = stringRedisTemplate.execute(DRAIN_DELTAS_SCRIPT,
+        List.of(PENDING_DELTA_KEY, DRAINING_DELTA_KEY));
+
+    Map<Long, Integer> deltas = new LinkedHashMap<>();
+    if (entries == null) {
+      return deltas;
+    }
+
+    List<Long> unchanged = new ArrayList<>();
+    for (int i = 0; i + 1 < entries.size(); i += 2) {
+      Long optionId = Long.valueOf(entries.get(i).substring(STOCK_KEY_PREFIX.length()));
+      int delta = Integer.parseInt(entries.get(i + 1));
+      if (delta != 0) {
+        deltas.put(optionId, delta);
+      } else {
+        unchanged.add(optionId);
+      }
+    }
+    acknowledgeDeltas(unchanged);
+    return deltas;
+  }
+
+  public void acknowledgeDeltas(Collection<Long> optionIds) {
+    if (optionIds.isEmpty()) {
+      return;
+    }
+    stringRedisTemplate.opsForHash()
+        .delete(DRAINING_DELTA_KEY, optionIds.stream().map(this::stockKey).toArray());
+  }
+
+  public void restoreDeltas(Map<Long, Integer> deltas) {
+    deltas.forEach((optionId, delta) ->
+        stringRedisTemplate.opsForHash().increment(PENDING_DELTA_KEY, stockKey(optionId), delta));
+    acknowledgeDeltas(deltas.keySet());
+  }
+
+  private List<Long> executeReserve(List<String> keys, List<String> args) {
+    return stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+  }
+
+  private void releaseReservationKey(String reservationKey) {
+    stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(reservationKey, RESERVATION_DEADLINE_KEY));
+  }
+
+  private void loadStocks(List<Long> optionIds) {
+    seedStocks(productOptionRepository.findAllValidByIds(optionIds));
+  }
+
+  private void seedStocks(List<ProductOption> options) {
+    if (options.isEmpty()) {
+      return;
+    }
+
+    List<String> keys = new ArrayList<>();
+    keys.add(PENDING_DELTA_KEY);
+    keys.add(DRAINING_DELTA_KEY);
+    options.forEach(option -> keys.add(stockKey(option.getId())));
+
+    List<String> args = new ArrayList<>();
+    args.add("");
+    args.add("");
+    options.forEach(option -> args.add(String.valueOf(option.getStock())));
+
+    stringRedisTemplate.execute(SEED_SCRIPT, keys, args.toArray());
+  }
+
+  private List<Long> selectOptionIds(List<Long> optionIds, List<Long> result) {
+    return result.subList(1, result.size()).stream()
+        .map(index -> optionIds.get(index.intValue() - 1))
+        .toList();
+  }
+
+  private String stockKey(Long optionId) {
+    return STOCK_KEY_PREFIX + optionId;
+  }
+
+  private String reservationKey(String reservationId) {
+    return RESERVATION_KEY_PREFIX + reservationId;
+  }
+
+  private static <T> RedisScript<T> script(String path, Class<T> resultType) {
+    DefaultRedisScript<T> script = new DefaultRedisScript<>();
+    script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+    script.setResultType(resultType);
+    return script;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> RedisScript<List<T>> listScript(String path) {
+    return script(path, (Class<List<T>>) (Class<?>) List.class);
+  }
+
+}
@@ -0,0 +1,84 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "redis")
+public class RedisStockManager implements StockManager {
+
+  private final RedisStockLedger redisStockLedger;
+  private final ProductOptionRepository productOptionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${stock.redis.reservation-ttl:PT5M}")
+  private Duration reservationTtl;
+
+  @Override
+  public StockDecreaseResult decrease(Map<Long, Integer> quantities) {
+    String reservationId = UUID.randomUUID().toString();
+
+    StockDecreaseResult result = redisStockLedger.reserve(reservationId, quantities, reservationTtl);
+    if (!result.isSuccess()) {
+      return result;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      commit(reservationId, quantities);
+      return result;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          commit(reservationId, quantities);
+        } else {
+          redisStockLedger.release(reservationId);
+        }
+      }
+    });
+    return result;
+  }
+
+  @Override
+  @Transactional
+  public void increase(Map<Long, Integer> quantities) {
+    List<Long> notLoaded = redisStockLedger.restock(quantities);
+    notLoaded.forEach(optionId -> productOptionRepository.increaseStock(optionId, quantities.get(optionId)));
+    if (!notLoaded.isEmpty()) {
+      eventPublisher.publishEvent(ProductStockChangedEvent.of(notLoaded));
+    }
+  }
+
+  @Override
+  public int getAvailableStock(ProductOption option) {
+    return redisStockLedger.getAvailableStock(option);
+  }
+
+  @Override
+  public Map<Long, Integer> getAvailableStocks(Map<Long, Integer> storedStocks) {
+    return redisStockLedger.getAvailableStocks(storedStocks);
+  }
+
+  private void commit(String reservationId, Map<Long, Integer> quantities) {
+    if (!redisStockLedger.commit(reservationId)) {
+      redisStockLedger.recommit(quantities);
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "redis")
+public class RedisStockReconciler {
+
+  private final RedisStockLedger redisStockLedger;
+  private final ProductOptionRepository productOptionRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${stock.redis.reconcile-batch-size:500}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${stock.redis.reconcile-interval:PT1S}")
+  public void reconcile() {
+    redisStockLedger.releaseExpired(batchSize);
+
+    Map<Long, Integer> deltas = redisStockLedger.drainDeltas();
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    List<Map<Long, Integer>> batches = partition(new TreeMap<>(deltas));
+    for (int i = 0; i < batches.size(); i++) {
+      Map<Long, Integer> batch = batches.get(i);
+      try {
+        transactionTemplate.executeWithoutResult(status ->
+            batch.forEach(productOptionRepository::increaseStock));
+      } catch (RuntimeException e) {
+        batches.subList(i, batches.size()).forEach(redisStockLedger::restoreDeltas);
+        throw e;
+      }
+      redisStockLedger.acknowledgeDeltas(batch.keySet());
+      eventPublisher.publishEvent(ProductStockChangedEvent.of(batch.keySet()));
+    }
+  }
+
+  private List<Map<Long, Integer>> partition(Map<Long, Integer> deltas) {
+    List<Map<Long, Integer>> batches = new ArrayList<>();
+    Map<Long, Integer> batch = new LinkedHashMap<>();
+
+    for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+      batch.put(entry.getKey(), entry.getValue());
+      if (batch.size() == batchSize) {
+        batches.add(batch);
+        batch = new LinkedHashMap<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
+}
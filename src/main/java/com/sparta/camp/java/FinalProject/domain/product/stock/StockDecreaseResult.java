@@ -0,0 +1,21 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import java.util.List;
+
+public record StockDecreaseResult(
+    List<Long> failedOptionIds
+) {
+
+  public static StockDecreaseResult success() {
+    return new StockDecreaseResult(List.of());
+  }
+
+  public static StockDecreaseResult failure(List<Long> failedOptionIds) {
+    return new StockDecreaseResult(List.copyOf(failedOptionIds));
+  }
+
+  public boolean isSuccess() {
+    return failedOptionIds.isEmpty();
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import java.util.Map;
+
+public interface StockManager {
+
+  StockDecreaseResult decrease(Map<Long, Integer> quantities);
+
+  void increase(Map<Long, Integer> quantities);
+
+  default int getAvailableStock(ProductOption option) {
+    return option.getStock();
+  }
+
+  default Map<Long, Integer> getAvailableStocks(Map<Long, Integer> storedStocks) {
+    return storedStocks;
+  }
+
+}
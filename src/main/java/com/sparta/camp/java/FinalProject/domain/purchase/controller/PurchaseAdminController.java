@@ -1,5 +1,8 @@
 package com.sparta.camp.java.FinalProject.domain.purchase.controller;
 
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
@@ -9,8 +12,10 @@ import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSearchReque
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseStatusUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSummaryResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.service.PurchaseAdminService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -30,8 +36,17 @@ public class PurchaseAdminController {
   @PreAuthorize("hasRole('ADMIN')")
   @GetMapping
   public ApiResponse<PaginationResponse<PurchaseSummaryResponse>> getPurchases(@ModelAttribute
-      PurchaseSearchRequest searchRequest, @ModelAttribute PaginationRequest pageRequest) {
-    return ApiResponse.success(purchaseAdminService.getPurchases(searchRequest, pageRequest));
+      PurchaseSearchRequest searchRequest, @ModelAttribute PaginationRequest pageRequest,
+      @RequestParam(defaultValue = "CACHED") CountStrategy countStrategy) {
+    return ApiResponse.success(
+        purchaseAdminService.getPurchases(searchRequest, pageRequest, countStrategy));
+  }
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @GetMapping("/cursor")
+  public ApiResponse<CursorResponse<PurchaseSummaryResponse>> getPurchasesByCursor(@ModelAttribute
+      PurchaseSearchRequest searchRequest, @Valid @ModelAttribute CursorRequest cursorRequest) {
+    return ApiResponse.success(purchaseAdminService.getPurchasesByCursor(searchRequest, cursorRequest));
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -42,17 +57,17 @@ public class PurchaseAdminController {
 
   @PutMapping
   public ApiResponse<Void> updatePurchaseStatus(@RequestBody PurchaseStatusUpdateRequest request,
-      CustomUserDetails customUserDetails) {
-    String userName = customUserDetails.getUsername();
-    purchaseAdminService.updatePurchaseStatus(userName, request);
+      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    Long adminId = customUserDetails.getId();
+    purchaseAdminService.updatePurchaseStatus(adminId, request);
     return ApiResponse.success();
   }
 
   @DeleteMapping("/cancel/{purchaseId}")
-  public ApiResponse<Void> cancelPurchase(CustomUserDetails userDetails,
+  public ApiResponse<Void> cancelPurchase(@AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long purchaseId) {
-    String userName = userDetails.getUsername();
-    purchaseAdminService.cancelPurchase(userName, purchaseId);
+    Long adminId = userDetails.getId();
+    purchaseAdminService.cancelPurchase(adminId, purchaseId);
     return ApiResponse.success();
   }
 }
@@ -1,5 +1,7 @@
 package com.sparta.camp.java.FinalProject.domain.purchase.controller;
 
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
@@ -9,8 +11,10 @@ import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseCreateReque
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSummaryResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.service.PurchaseService;
+import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -28,38 +32,48 @@ public class PurchaseController {
   private final PurchaseService purchaseService;
 
   @GetMapping
-  public ApiResponse<PaginationResponse<PurchaseSummaryResponse>> getPurchases(CustomUserDetails userDetails,
+  public ApiResponse<PaginationResponse<PurchaseSummaryResponse>> getPurchases(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
       @ModelAttribute PaginationRequest pageRequest) {
-    String userName = userDetails.getUsername();
-    return ApiResponse.success(purchaseService.getPurchases(userName, pageRequest));
+    Long userId = userDetails.getId();
+    return ApiResponse.success(purchaseService.getPurchases(userId, pageRequest));
+  }
+
+  @GetMapping("/cursor")
+  public ApiResponse<CursorResponse<PurchaseSummaryResponse>> getPurchasesByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails, @Valid @ModelAttribute CursorRequest cursorRequest) {
+    Long userId = userDetails.getId();
+    return ApiResponse.success(purchaseService.getPurchasesByCursor(userId, cursorRequest));
   }
 
   @GetMapping("/{purchaseId}")
   public ApiResponse<PurchaseResponse> getPurchase(@PathVariable Long purchaseId,
-      CustomUserDetails userDetails) {
-    String userName = userDetails.getUsername();
-    return ApiResponse.success(purchaseService.getPurchase(userName, purchaseId));
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    Long userId = userDetails.getId();
+    return ApiResponse.success(purchaseService.getPurchase(userId, purchaseId));
   }
 
   @PostMapping("/cart")
-  public ApiResponse<PurchaseResponse> createPurchaseFromCart(CustomUserDetails userDetails,
+  public ApiResponse<PurchaseResponse> createPurchaseFromCart(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody PurchaseCreateRequest request) {
-    String userName = userDetails.getUsername();
-    return ApiResponse.success(purchaseService.createPurchaseFromCart(userName, request));
+    Long userId = userDetails.getId();
+    return ApiResponse.success(purchaseService.createPurchaseFromCart(userId, request));
   }
 
   @PostMapping("/direct")
-  public ApiResponse<PurchaseResponse> createPurchaseDirect(CustomUserDetails userDetails,
+  public ApiResponse<PurchaseResponse> createPurchaseDirect(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody DirectPurchaseCreateRequest request) {
-    String userName = userDetails.getUsername();
-    return ApiResponse.success(purchaseService.createPurchaseDirect(userName, request));
+    Long userId = userDetails.getId();
+    return ApiResponse.success(purchaseService.createPurchaseDirect(userId, request));
   }
 
   @DeleteMapping("/cancel/{purchaseId}")
-  public ApiResponse<Void> cancelPurchase(CustomUserDetails userDetails,
+  public ApiResponse<Void> cancelPurchase(@AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long purchaseId) {
-    String userName = userDetails.getUsername();
-    purchaseService.cancelPurchase(userName, purchaseId);
+    Long userId = userDetails.getId();
+    purchaseService.cancelPurchase(userId, purchaseId);
     return ApiResponse.success();
   }
 
@@ -13,7 +13,7 @@ import lombok.experimental.FieldDefaults;
 public class PurchaseCreateRequest {
 
   @NotEmpty
-  List<Long> cartProductIds;
+  List<Long> productOptionIds;
 
   @NotBlank
   String receiverName;
@@ -20,4 +20,14 @@ public class PurchaseSearchRequest {
 
   LocalDate endDate;
 
+  public String toCountKey() {
+    return String.join("|",
+        String.valueOf(purchaseNo),
+        String.valueOf(userEmail),
+        String.valueOf(purchaseStatus),
+        String.valueOf(startDate),
+        String.valueOf(endDate)
+    );
+  }
+
 }
@@ -13,10 +13,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -28,21 +30,24 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.DynamicInsert;
-import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table
+@Table(indexes = {
+    @Index(name = "idx_purchase_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_purchase_status_created", columnList = "purchase_status, created_at"),
+    @Index(name = "idx_purchase_created_at", columnList = "created_at")
+})
 @Getter
-@DynamicInsert
-@DynamicUpdate
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Purchase {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "purchase_id_generator")
+  @TableGenerator(name = "purchase_id_generator", table = "id_generator",
+      pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "purchase",
+      allocationSize = 50)
   Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
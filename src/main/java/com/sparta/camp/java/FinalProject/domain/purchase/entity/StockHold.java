@@ -0,0 +1,90 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.entity;
+
+import com.sparta.camp.java.FinalProject.common.enums.StockHoldStatus;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Entity
+@Table
+@Getter
+@DynamicInsert
+@DynamicUpdate
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StockHold {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "purchase_id", nullable = false)
+  Purchase purchase;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "product_option_id", nullable = false)
+  ProductOption productOption;
+
+  @Column(nullable = false)
+  Integer quantity;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  StockHoldStatus status;
+
+  @Column(nullable = false)
+  LocalDateTime expiresAt;
+
+  @Column(nullable = false, updatable = false)
+  @CreationTimestamp
+  LocalDateTime createdAt;
+
+  @Column
+  @UpdateTimestamp
+  LocalDateTime updatedAt;
+
+  @Builder
+  public StockHold(Purchase purchase, ProductOption productOption, Integer quantity,
+      StockHoldStatus status, LocalDateTime expiresAt) {
+    this.purchase = purchase;
+    this.productOption = productOption;
+    this.quantity = quantity;
+    this.status = status;
+    this.expiresAt = expiresAt;
+  }
+
+  public void setStatus(StockHoldStatus status) {
+    this.status = status;
+  }
+
+  public void extendExpiresAt(LocalDateTime expiresAt) {
+    if (expiresAt.isAfter(this.expiresAt)) {
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  public boolean isActive(LocalDateTime now) {
+    return this.status == StockHoldStatus.HELD && this.expiresAt.isAfter(now);
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.event;
+
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PurchaseCountCacheEvictor {
+
+  private final PaginationCounter paginationCounter;
+
+  @EventListener
+  public void evict(PurchaseStatusChangedEvent event) {
+    paginationCounter.invalidate(CountScope.PURCHASE);
+  }
+
+}
@@ -0,0 +1,22 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.event;
+
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxMessage;
+
+public record PurchaseStatusChangedEvent(
+    Long purchaseId,
+    PurchaseStatus oldStatus,
+    PurchaseStatus newStatus
+) implements OutboxMessage {
+
+  @Override
+  public String aggregateType() {
+    return "PURCHASE";
+  }
+
+  @Override
+  public Long aggregateId() {
+    return purchaseId;
+  }
+
+}
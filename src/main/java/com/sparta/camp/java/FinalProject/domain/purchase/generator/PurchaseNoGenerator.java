@@ -1,18 +1,84 @@
 package com.sparta.camp.java.FinalProject.domain.purchase.generator;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
+@Component
 public class PurchaseNoGenerator {
 
-  public PurchaseNoGenerator() {
+  private static final long EPOCH_MILLIS = 1735689600000L;
+
+  private static final int NODE_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+  private static final int ENCODED_LENGTH = 13;
+
+  private final long nodeId;
+  private final Clock clock;
+  private final AtomicLong lastState = new AtomicLong();
+
+  @Autowired
+  public PurchaseNoGenerator(@Value("${purchase.no.node-id:0}") long nodeId) {
+    this(nodeId, Clock.systemDefaultZone());
+  }
+
+  public PurchaseNoGenerator(long nodeId, Clock clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+    }
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  public String generate() {
+    long state = nextState();
+    long timestamp = state >>> SEQUENCE_BITS;
+    long id = (timestamp << (NODE_BITS + SEQUENCE_BITS))
+        | (nodeId << SEQUENCE_BITS)
+        | (state & SEQUENCE_MASK);
+
+    LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(EPOCH_MILLIS + timestamp),
+        clock.getZone());
+
+    return "PUR-" + date.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + encode(id);
+  }
+
+  private long nextState() {
+    while (true) {
+      long last = lastState.get();
+      long now = clock.millis() - EPOCH_MILLIS;
+      long lastTimestamp = last >>> SEQUENCE_BITS;
+
+      long next;
+      if (now > lastTimestamp) {
+        next = now << SEQUENCE_BITS;
+      } else {
+        next = last + 1;
+      }
+
+      if (lastState.compareAndSet(last, next)) {
+        return next;
+      }
+    }
   }
 
-  public static String generate() {
-    return "PUR-" +
-        LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) +
-        "-" +
-        UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+  private static String encode(long value) {
+    char[] chars = new char[ENCODED_LENGTH];
+    for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+      chars[i] = ALPHABET[(int) (value & 31)];
+      value >>>= 5;
+    }
+    return new String(chars);
   }
+
 }
@@ -8,10 +8,21 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.Cursor;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorDirection;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
+import com.sparta.camp.java.FinalProject.common.pagination.KeysetCondition;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.query.CappedCount;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSummaryResponse;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -20,7 +31,10 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class PurchaseQueryRepository {
 
+  private static final String CURSOR_SORT_TYPE = "createdAt";
+
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
 
   private JPAQuery<PurchaseSummaryResponse> baseQuery() {
     return queryFactory
@@ -67,6 +81,46 @@ public class PurchaseQueryRepository {
         .fetch();
   }
 
+  public CursorResponse<PurchaseSummaryResponse> findAllByCursor(PurchaseSearchRequest searchRequest,
+      CursorRequest cursorRequest) {
+    return findByCursor(cursorRequest,
+        this.purchaseNoEq(searchRequest.getPurchaseNo()),
+        this.userEmailEq(searchRequest.getUserEmail()),
+        this.statusEq(searchRequest.getPurchaseStatus()),
+        this.dateGoe(searchRequest.getStartDate()),
+        this.dateLt(searchRequest.getEndDate())
+    );
+  }
+
+  public CursorResponse<PurchaseSummaryResponse> findAllByUserIdByCursor(Long userId,
+      CursorRequest cursorRequest) {
+    return findByCursor(cursorRequest, purchase.user.id.eq(userId));
+  }
+
+  private CursorResponse<PurchaseSummaryResponse> findByCursor(CursorRequest cursorRequest,
+      BooleanExpression... conditions) {
+
+    Cursor cursor = Cursor.decode(cursorRequest.getCursor());
+    if (cursor != null && !CURSOR_SORT_TYPE.equals(cursor.sortType())) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+    }
+    boolean ascending = cursor != null && cursor.isBackward();
+    int size = cursorRequest.getSizeOrDefault();
+
+    List<PurchaseSummaryResponse> rows = baseQuery()
+        .where(conditions)
+        .where(cursor != null ? this.seek(cursor, ascending) : null)
+        .orderBy(
+            ascending ? purchase.createdAt.asc() : purchase.createdAt.desc(),
+            ascending ? purchase.id.asc() : purchase.id.desc()
+        )
+        .limit(size + 1)
+        .fetch();
+
+    return CursorResponse.of(rows, size, cursor, row -> new Cursor(CURSOR_SORT_TYPE, false,
+        CursorDirection.NEXT, row.getId(), row.getCreatedAt().toString()));
+  }
+
   public long countPurchases(PurchaseSearchRequest searchRequest) {
     return queryFactory
         .select(purchase.count())
@@ -82,6 +136,19 @@ public class PurchaseQueryRepository {
         .fetchOne();
   }
 
+  public long countPurchasesUpTo(PurchaseSearchRequest searchRequest, long limit) {
+    return CappedCount.count(entityManager, queryFactory
+        .from(purchase)
+        .join(purchase.user, user)
+        .where(
+            this.purchaseNoEq(searchRequest.getPurchaseNo()),
+            this.userEmailEq(searchRequest.getUserEmail()),
+            this.statusEq(searchRequest.getPurchaseStatus()),
+            this.dateGoe(searchRequest.getStartDate()),
+            this.dateLt(searchRequest.getEndDate())
+        ), limit);
+  }
+
   public long countPurchasesByUserId(Long userId) {
     return queryFactory
         .select(purchase.count())
@@ -113,6 +180,15 @@ public class PurchaseQueryRepository {
     return endDate != null ? purchase.createdAt.lt(endDate.plusDays(1).atStartOfDay()) : null;
   }
 
+  private BooleanExpression seek(Cursor cursor, boolean ascending) {
+    try {
+      return KeysetCondition.seek(purchase.createdAt, LocalDateTime.parse(cursor.value()),
+          purchase.id, cursor.id(), ascending);
+    } catch (DateTimeParseException e) {
+      throw new ServiceException(ServiceExceptionCode.INVALID_CURSOR);
+    }
+  }
+
   private int calculateOffset(PaginationRequest request) {
     int page = request.getPage() != null ? request.getPage() : 1;
     int size = request.getSize() != null ? request.getSize() : 10;
@@ -2,8 +2,10 @@ package com.sparta.camp.java.FinalProject.domain.purchase.repository;
 
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,4 +24,8 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
   Optional<Purchase> findByIdAndPurchaseStatus(@Param("purchaseId") Long purchaseId,
       @Param("status") PurchaseStatus status);
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Purchase p WHERE p.id = :purchaseId")
+  Optional<Purchase> findByIdForUpdate(@Param("purchaseId") Long purchaseId);
+
 }
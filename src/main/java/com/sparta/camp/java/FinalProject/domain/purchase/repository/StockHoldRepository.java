@@ -0,0 +1,30 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.repository;
+
+import com.sparta.camp.java.FinalProject.common.enums.StockHoldStatus;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.StockHold;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT h FROM StockHold h WHERE h.purchase.id = :purchaseId")
+  List<StockHold> findAllByPurchaseIdForUpdate(@Param("purchaseId") Long purchaseId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT h FROM StockHold h WHERE h.status = :status AND h.expiresAt < :now ORDER BY h.expiresAt")
+  List<StockHold> findExpiredForUpdate(@Param("status") StockHoldStatus status,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+}
@@ -0,0 +1,26 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.scheduler;
+
+import com.sparta.camp.java.FinalProject.domain.purchase.service.StockHoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StockHoldSweeper {
+
+  private final StockHoldService stockHoldService;
+
+  @Value("${stock.hold.sweep-batch-size:200}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${stock.hold.sweep-interval:PT30S}")
+  public void sweep() {
+    int expired;
+    do {
+      expired = stockHoldService.expireHolds(batchSize);
+    } while (expired == batchSize);
+  }
+
+}
@@ -6,10 +6,14 @@ import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
-import com.sparta.camp.java.FinalProject.domain.admin.entity.Admin;
-import com.sparta.camp.java.FinalProject.domain.admin.repository.AdminRepository;
+import com.sparta.camp.java.FinalProject.common.pagination.TotalCount;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
 import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseResponse;
@@ -18,11 +22,13 @@ import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseStatusUpdat
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSummaryResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.purchase.event.PurchaseStatusChangedEvent;
 import com.sparta.camp.java.FinalProject.domain.purchase.mapper.PurchaseMapper;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseQueryRepository;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,11 +38,16 @@ public class PurchaseAdminService {
 
   private final PurchaseMapper purchaseMapper;
 
-  private final AdminRepository adminRepository;
   private final PurchaseRepository purchaseRepository;
   private final PurchaseQueryRepository purchaseQueryRepository;
   private final HistoryRepository historyRepository;
 
+  private final StockHoldService stockHoldService;
+
+  private final PaginationCounter paginationCounter;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   record HistoryItem(
       Purchase purchase,
       PurchaseStatus oldStatus,
@@ -48,18 +59,34 @@ public class PurchaseAdminService {
   @Transactional(readOnly = true)
   public PaginationResponse<PurchaseSummaryResponse> getPurchases(PurchaseSearchRequest searchRequest,
       PaginationRequest paginationRequest) {
+    return getPurchases(searchRequest, paginationRequest, CountStrategy.EXACT);
+  }
+
+  @Transactional(readOnly = true)
+  public PaginationResponse<PurchaseSummaryResponse> getPurchases(PurchaseSearchRequest searchRequest,
+      PaginationRequest paginationRequest, CountStrategy countStrategy) {
 
     List<PurchaseSummaryResponse> purchases = purchaseQueryRepository.findAll(searchRequest, paginationRequest);
 
-    long totalCounts = purchaseQueryRepository.countPurchases(searchRequest);
+    TotalCount totalCount = paginationCounter.count(countStrategy, CountScope.PURCHASE,
+        searchRequest.toCountKey(), paginationRequest,
+        () -> purchaseQueryRepository.countPurchases(searchRequest),
+        limit -> purchaseQueryRepository.countPurchasesUpTo(searchRequest, limit));
 
     return PaginationResponse.<PurchaseSummaryResponse>builder()
         .paginationRequest(paginationRequest)
-        .totalItems(totalCounts)
+        .totalItems(totalCount.value())
+        .approximateTotal(totalCount.approximate())
         .content(purchases)
         .build();
   }
 
+  @Transactional(readOnly = true)
+  public CursorResponse<PurchaseSummaryResponse> getPurchasesByCursor(
+      PurchaseSearchRequest searchRequest, CursorRequest cursorRequest) {
+    return purchaseQueryRepository.findAllByCursor(searchRequest, cursorRequest);
+  }
+
   @Transactional(readOnly = true)
   public PurchaseResponse getPurchase(Long purchaseId) {
     Purchase purchase = getPurchaseById(purchaseId);
@@ -67,9 +94,7 @@ public class PurchaseAdminService {
   }
 
   @Transactional
-  public void updatePurchaseStatus(String userName, PurchaseStatusUpdateRequest request) {
-
-    Admin admin = getAdminByEmail(userName);
+  public void updatePurchaseStatus(Long adminId, PurchaseStatusUpdateRequest request) {
 
     Purchase purchase = purchaseRepository.findByPurchaseId(request.getPurchaseId())
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PURCHASE));
@@ -83,13 +108,12 @@ public class PurchaseAdminService {
 
     purchase.setPurchaseStatus(request.getStatus());
 
-    createHistory(new HistoryItem(purchase, oldStatus, request.getStatus(), request.getReason(), admin.getId()));
+    createHistory(new HistoryItem(purchase, oldStatus, request.getStatus(), request.getReason(), adminId));
   }
 
   @Transactional
-  public void cancelPurchase(String userName, Long purchaseId) {
+  public void cancelPurchase(Long adminId, Long purchaseId) {
 
-    Admin admin = getAdminByEmail(userName);
     Purchase purchase = getPurchaseById(purchaseId);
 
     if (!purchase.isCancelable()) {
@@ -101,14 +125,10 @@ public class PurchaseAdminService {
     for (PurchaseProduct purchaseProduct : purchase.getPurchaseProductList()) {
       purchaseProduct.setStatus(PurchaseProductStatus.CANCELED);
     }
+    stockHoldService.release(purchase.getId());
 
     createHistory(new HistoryItem(purchase, oldStatus, PurchaseStatus.PURCHASE_CANCELED,
-        "주문취소", admin.getId()));
-  }
-
-  private Admin getAdminByEmail(String email) {
-    return adminRepository.findByEmailAndDeletedAtIsNull(email)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_ADMIN));
+        "주문취소", adminId));
   }
 
   private Purchase getPurchaseById(Long purchaseId) {
@@ -128,6 +148,9 @@ public class PurchaseAdminService {
         .build();
 
     historyRepository.save(history);
+
+    eventPublisher.publishEvent(new PurchaseStatusChangedEvent(item.purchase().getId(),
+        item.oldStatus(), item.newStatus()));
   }
 
 }
@@ -6,24 +6,26 @@ import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartItem;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartStore;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
 import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.DirectPurchaseCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSummaryResponse;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.purchase.event.PurchaseStatusChangedEvent;
 import com.sparta.camp.java.FinalProject.domain.purchase.generator.PurchaseNoGenerator;
 import com.sparta.camp.java.FinalProject.domain.purchase.mapper.PurchaseMapper;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseQueryRepository;
@@ -35,8 +37,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,18 +50,23 @@ public class PurchaseService {
 
   private final UserRepository userRepository;
 
-  private final CartRepository cartRepository;
-  private final CartProductRepository cartProductRepository;
+  private final CartStore cartStore;
 
   private final ProductRepository productRepository;
   private final ProductOptionRepository productOptionRepository;
+  private final StockManager stockManager;
 
   private final PurchaseMapper purchaseMapper;
   private final PurchaseRepository purchaseRepository;
   private final PurchaseQueryRepository purchaseQueryRepository;
+  private final PurchaseNoGenerator purchaseNoGenerator;
 
   private final HistoryRepository historyRepository;
 
+  private final StockHoldService stockHoldService;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   record PurchaseItem(
       Product product,
       ProductOption option,
@@ -101,12 +110,10 @@ public class PurchaseService {
                      Long createdBy) {}
 
   @Transactional(readOnly = true)
-  public PaginationResponse<PurchaseSummaryResponse> getPurchases(String userName, PaginationRequest request) {
-    User user = getUserByEmail(userName);
+  public PaginationResponse<PurchaseSummaryResponse> getPurchases(Long userId, PaginationRequest request) {
+    List<PurchaseSummaryResponse> purchases = purchaseQueryRepository.findAllByUserId(userId, request);
 
-    List<PurchaseSummaryResponse> purchases = purchaseQueryRepository.findAllByUserId(user.getId(), request);
-
-    long totalCounts = purchaseQueryRepository.countPurchasesByUserId(user.getId());
+    long totalCounts = purchaseQueryRepository.countPurchasesByUserId(userId);
 
     return PaginationResponse.<PurchaseSummaryResponse>builder()
         .paginationRequest(request)
@@ -116,16 +123,19 @@ public class PurchaseService {
   }
 
   @Transactional(readOnly = true)
-  public PurchaseResponse getPurchase(String userName, Long purchaseId) {
-    User user = getUserByEmail(userName);
-    Purchase purchase = getPurchaseById(user.getId(), purchaseId);
+  public CursorResponse<PurchaseSummaryResponse> getPurchasesByCursor(Long userId,
+      CursorRequest request) {
+    return purchaseQueryRepository.findAllByUserIdByCursor(userId, request);
+  }
+
+  @Transactional(readOnly = true)
+  public PurchaseResponse getPurchase(Long userId, Long purchaseId) {
+    Purchase purchase = getPurchaseById(userId, purchaseId);
     return purchaseMapper.toResponse(purchase);
   }
 
   @Transactional
-  public PurchaseResponse createPurchaseDirect(String userName, DirectPurchaseCreateRequest request) {
-
-    User user = this.getUserByEmail(userName);
+  public PurchaseResponse createPurchaseDirect(Long userId, DirectPurchaseCreateRequest request) {
 
     Product product = productRepository.findProductById(request.getProductId())
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT));
@@ -134,33 +144,31 @@ public class PurchaseService {
             request.getProductOptionId())
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS));
 
-    if (option.getStock() < request.getQuantity()) {
+    if (stockManager.getAvailableStock(option) < request.getQuantity()) {
       throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
     }
 
     PurchaseItem purchaseItem = new PurchaseItem(product, option, request.getQuantity(), product.getPrice());
-    Purchase newPurchase = createPurchase(user, List.of(purchaseItem), ShippingInfo.from(request));
+    Purchase newPurchase = createPurchase(userRepository.getReferenceById(userId),
+        List.of(purchaseItem), ShippingInfo.from(request));
+    stockHoldService.hold(newPurchase);
 
     createHistory(new HistoryItem(newPurchase, null, PurchaseStatus.PURCHASE_CREATED,
-        "주문생성", CreatorType.USER, user.getId()));
+        "주문생성", CreatorType.USER, userId));
 
     return purchaseMapper.toResponse(newPurchase);
   }
 
   @Transactional
-  public PurchaseResponse createPurchaseFromCart(String userName, PurchaseCreateRequest request) {
-
-    User user = this.getUserByEmail(userName);
+  public PurchaseResponse createPurchaseFromCart(Long userId, PurchaseCreateRequest request) {
 
-    Cart cart = this.getCartByUserId(user.getId());
-    List<CartProduct> cartProducts = cartProductRepository.findAllByIn(cart.getId(),
-        request.getCartProductIds());
-    if (cartProducts.isEmpty() || cartProducts.size() != request.getCartProductIds().size()) {
+    List<CartItem> cartItems = cartStore.findItems(userId, request.getProductOptionIds());
+    if (cartItems.isEmpty() || cartItems.size() != request.getProductOptionIds().size()) {
       throw new ServiceException(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT);
     }
 
-    Set<Long> cartProductOptionIds = cartProducts.stream()
-        .map(cp -> cp.getOption().getId())
+    Set<Long> cartProductOptionIds = cartItems.stream()
+        .map(CartItem::productOptionId)
         .collect(Collectors.toSet());
 
     List<ProductOption> validOptions = productOptionRepository.findAllValidByIds(new ArrayList<>(cartProductOptionIds));
@@ -168,22 +176,23 @@ public class PurchaseService {
       throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS);
     }
 
-    validateStock(validOptions, cartProducts);
+    validateStock(validOptions, cartItems);
 
-    List<PurchaseItem> purchaseItems = createPurchaseItemFromCart(cartProducts);
-    Purchase newPurchase = createPurchase(user, purchaseItems, ShippingInfo.from(request));
+    List<PurchaseItem> purchaseItems = createPurchaseItemFromCart(validOptions, cartItems);
+    Purchase newPurchase = createPurchase(userRepository.getReferenceById(userId),
+        purchaseItems, ShippingInfo.from(request));
+    stockHoldService.hold(newPurchase);
 
     createHistory(new HistoryItem(newPurchase, null, PurchaseStatus.PURCHASE_CREATED,
-        "주문생성", CreatorType.USER, user.getId()));
+        "주문생성", CreatorType.USER, userId));
 
     return purchaseMapper.toResponse(newPurchase);
   }
 
   @Transactional
-  public void cancelPurchase(String userName, Long purchaseId) {
+  public void cancelPurchase(Long userId, Long purchaseId) {
 
-    User user = getUserByEmail(userName);
-    Purchase purchase = getPurchaseById(user.getId(), purchaseId);
+    Purchase purchase = getPurchaseForUpdate(userId, purchaseId);
 
     if (!purchase.isCancelable()) {
       throw new ServiceException(ServiceExceptionCode.INVALID_PURCHASE_STATUS);
@@ -194,14 +203,10 @@ public class PurchaseService {
     for (PurchaseProduct purchaseProduct : purchase.getPurchaseProductList()) {
       purchaseProduct.setStatus(PurchaseProductStatus.CANCELED);
     }
+    stockHoldService.release(purchase.getId());
 
     createHistory(new HistoryItem(purchase, oldStatus, PurchaseStatus.PURCHASE_CANCELED,
-        "주문취소", CreatorType.USER, user.getId()));
-  }
-
-  private User getUserByEmail(String email) {
-    return userRepository.findByEmailAndDeletedAtIsNull(email)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_USER));
+        "주문취소", CreatorType.USER, userId));
   }
 
   private Purchase getPurchaseById(Long userId, Long purchaseId) {
@@ -209,36 +214,48 @@ public class PurchaseService {
         .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PURCHASE));
   }
 
-  private Cart getCartByUserId(Long id) {
-    return cartRepository.findByUserId(id)
-        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
+  private Purchase getPurchaseForUpdate(Long userId, Long purchaseId) {
+    Purchase purchase = purchaseRepository.findByIdForUpdate(purchaseId)
+        .orElseThrow(() -> new ServiceException(ServiceExceptionCode.NOT_FOUND_PURCHASE));
+
+    if (!purchase.getUser().getId().equals(userId)) {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PURCHASE);
+    }
+
+    return purchase;
   }
 
-  private void validateStock(List<ProductOption> validOptions, List<CartProduct> cartProducts) {
+  private void validateStock(List<ProductOption> validOptions, List<CartItem> cartItems) {
     Map<Long, Integer> requiredQtyByOptionId =
-        cartProducts.stream()
+        cartItems.stream()
             .collect(Collectors.toMap(
-                cp -> cp.getOption().getId(),
-                CartProduct::getQuantity,
+                CartItem::productOptionId,
+                CartItem::quantity,
                 Integer::sum
             ));
 
     for (ProductOption productOption : validOptions) {
-      if (productOption.getStock() < requiredQtyByOptionId.get(productOption.getId())) {
+      if (stockManager.getAvailableStock(productOption) < requiredQtyByOptionId.get(productOption.getId())) {
         throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
       }
     }
   }
 
-  private List<PurchaseItem> createPurchaseItemFromCart(List<CartProduct> cartProducts) {
-    return cartProducts.stream()
-        .map(cp ->
-          new PurchaseItem(
-              cp.getProduct(),
-              cp.getOption(),
-              cp.getQuantity(),
-              cp.getProduct().getPrice()
-          ))
+  private List<PurchaseItem> createPurchaseItemFromCart(List<ProductOption> validOptions,
+      List<CartItem> cartItems) {
+    Map<Long, ProductOption> optionById = validOptions.stream()
+        .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+
+    return cartItems.stream()
+        .map(item -> {
+          ProductOption option = optionById.get(item.productOptionId());
+          return new PurchaseItem(
+              option.getProduct(),
+              option,
+              item.quantity(),
+              option.getProduct().getPrice()
+          );
+        })
         .toList();
   }
 
@@ -255,7 +272,7 @@ public class PurchaseService {
 
     Purchase newPurchase = Purchase.builder()
         .user(user)
-        .purchaseNo(PurchaseNoGenerator.generate())
+        .purchaseNo(purchaseNoGenerator.generate())
         .totalPrice(totalAmount)
         .purchaseStatus(PurchaseStatus.PURCHASE_CREATED)
         .receiverName(shippingInfo.receiverName)
@@ -291,6 +308,9 @@ public class PurchaseService {
         .createdBy(historyItem.createdBy())
         .build();
     historyRepository.save(history);
+
+    eventPublisher.publishEvent(new PurchaseStatusChangedEvent(historyItem.purchase().getId(),
+        historyItem.oldStatus(), historyItem.newStatus()));
   }
 
 }
@@ -0,0 +1,170 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.service;
+
+import com.sparta.camp.java.FinalProject.common.enums.CreatorType;
+import com.sparta.camp.java.FinalProject.common.enums.HistoryType;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.enums.StockHoldStatus;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.history.entity.History;
+import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockDecreaseResult;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.StockHold;
+import com.sparta.camp.java.FinalProject.domain.purchase.event.PurchaseStatusChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.purchase.repository.StockHoldRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class StockHoldService {
+
+  private final StockHoldRepository stockHoldRepository;
+  private final HistoryRepository historyRepository;
+  private final StockManager stockManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${stock.hold.ttl:PT15M}")
+  private Duration holdTtl;
+
+  @Value("${stock.hold.confirm-grace:PT2M}")
+  private Duration confirmGrace;
+
+  @Transactional
+  public void hold(Purchase purchase) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (PurchaseProduct pp : purchase.getPurchaseProductList()) {
+      quantities.merge(pp.getPurchasedOption().getId(), pp.getQuantity(), Integer::sum);
+    }
+
+    StockDecreaseResult result = stockManager.decrease(quantities);
+    if (!result.isSuccess()) {
+      throw new ServiceException(ServiceExceptionCode.INSUFFICIENT_STOCK);
+    }
+
+    LocalDateTime expiresAt = LocalDateTime.now().plus(holdTtl);
+    List<StockHold> holds = purchase.getPurchaseProductList().stream()
+        .map(pp -> StockHold.builder()
+            .purchase(purchase)
+            .productOption(pp.getPurchasedOption())
+            .quantity(pp.getQuantity())
+            .status(StockHoldStatus.HELD)
+            .expiresAt(expiresAt)
+            .build())
+        .toList();
+
+    stockHoldRepository.saveAll(holds);
+  }
+
+  @Transactional
+  public boolean validateHold(Long purchaseId) {
+    List<StockHold> holds = stockHoldRepository.findAllByPurchaseIdForUpdate(purchaseId);
+    if (holds.isEmpty()) {
+      return false;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (!holds.stream().allMatch(hold -> hold.isActive(now))) {
+      throw new ServiceException(ServiceExceptionCode.EXPIRED_STOCK_HOLD);
+    }
+
+    LocalDateTime confirmDeadline = now.plus(confirmGrace);
+    holds.forEach(hold -> hold.extendExpiresAt(confirmDeadline));
+    return true;
+  }
+
+  @Transactional
+  public boolean consume(Long purchaseId) {
+    List<StockHold> holds = stockHoldRepository.findAllByPurchaseIdForUpdate(purchaseId);
+    if (holds.isEmpty()) {
+      return false;
+    }
+
+    if (holds.stream().anyMatch(hold -> hold.getStatus() != StockHoldStatus.HELD)) {
+      throw new ServiceException(ServiceExceptionCode.EXPIRED_STOCK_HOLD);
+    }
+
+    holds.forEach(hold -> hold.setStatus(StockHoldStatus.CONSUMED));
+    return true;
+  }
+
+  @Transactional
+  public void release(Long purchaseId) {
+    List<StockHold> holds = stockHoldRepository.findAllByPurchaseIdForUpdate(purchaseId).stream()
+        .filter(hold -> hold.getStatus() == StockHoldStatus.HELD)
+        .toList();
+
+    returnStock(holds, StockHoldStatus.RELEASED);
+  }
+
+  @Transactional
+  public int expireHolds(int limit) {
+    List<StockHold> holds = stockHoldRepository.findExpiredForUpdate(StockHoldStatus.HELD,
+        LocalDateTime.now(), PageRequest.of(0, limit));
+
+    returnStock(holds, StockHoldStatus.EXPIRED);
+    cancelAbandonedPurchases(holds);
+
+    return holds.size();
+  }
+
+  private void returnStock(List<StockHold> holds, StockHoldStatus status) {
+    if (holds.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (StockHold hold : holds) {
+      hold.setStatus(status);
+      quantities.merge(hold.getProductOption().getId(), hold.getQuantity(), Integer::sum);
+    }
+
+    stockManager.increase(quantities);
+  }
+
+  private void cancelAbandonedPurchases(List<StockHold> holds) {
+    Set<Purchase> purchases = new LinkedHashSet<>();
+    holds.forEach(hold -> purchases.add(hold.getPurchase()));
+
+    for (Purchase purchase : purchases) {
+      if (purchase.getPurchaseStatus() != PurchaseStatus.PURCHASE_CREATED) {
+        continue;
+      }
+
+      purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_CANCELED);
+      for (PurchaseProduct purchaseProduct : purchase.getPurchaseProductList()) {
+        purchaseProduct.setStatus(PurchaseProductStatus.CANCELED);
+      }
+
+      History history = History.builder()
+          .historyType(HistoryType.PURCHASE)
+          .purchase(purchase)
+          .oldStatus(String.valueOf(PurchaseStatus.PURCHASE_CREATED))
+          .newStatus(String.valueOf(PurchaseStatus.PURCHASE_CANCELED))
+          .description("재고 확보 시간 만료")
+          .creatorType(CreatorType.SYSTEM)
+          .createdBy(purchase.getUser().getId())
+          .build();
+      historyRepository.save(history);
+
+      eventPublisher.publishEvent(new PurchaseStatusChangedEvent(purchase.getId(),
+          PurchaseStatus.PURCHASE_CREATED, PurchaseStatus.PURCHASE_CANCELED));
+    }
+  }
+
+}
@@ -3,6 +3,7 @@ package com.sparta.camp.java.FinalProject.domain.user.service;
 import com.sparta.camp.java.FinalProject.common.enums.Role;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserDeleteRequest;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserPasswordChangeRequest;
@@ -25,6 +26,7 @@ public class UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final UserMapper userMapper;
+  private final PrincipalCache principalCache;
 
   public UserResponse getUserById (Long id) {
     User user = this.getUser(id);
@@ -78,6 +80,7 @@ public class UserService {
     }
 
     user.setPassword(passwordEncoder.encode(userPasswordChangeRequest.getNewPassword()));
+    principalCache.evict(user.getEmail());
   }
 
   public void deleteUser(Long id, UserDeleteRequest userDeleteRequest) {
@@ -88,6 +91,7 @@ public class UserService {
     }
 
     user.setDeletedAt(LocalDateTime.now());
+    principalCache.evict(user.getEmail());
   }
 
   private User getUser (Long id) {
@@ -3,6 +3,7 @@ package com.sparta.camp.java.FinalProject.global.config;
 import static org.springframework.security.config.Customizer.withDefaults;
 
 import com.sparta.camp.java.FinalProject.global.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -42,9 +43,11 @@ public class SecurityConfig {
         .csrf(AbstractHttpConfigurer::disable)
         .formLogin(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(authorize -> authorize
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(SECURITY_EXCLUDE_PATHS).permitAll()
             .requestMatchers("/api/admins/**").hasRole("ADMIN")
             .requestMatchers("/api/users/**").hasRole("USER")
+            .requestMatchers("/api/carts/**", "/api/purchases/**").hasRole("USER")
             .requestMatchers("/api/**").hasAnyRole("USER", "ADMIN")
             .anyRequest().authenticated()
         )
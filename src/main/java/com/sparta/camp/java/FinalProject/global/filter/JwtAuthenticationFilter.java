@@ -2,9 +2,11 @@ package com.sparta.camp.java.FinalProject.global.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.camp.java.FinalProject.common.response.ApiResponse;
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
 import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
 import com.sparta.camp.java.FinalProject.domain.auth.service.CustomUserDetailService;
 import com.sparta.camp.java.FinalProject.domain.auth.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtService jwtService;
   private final CustomUserDetailService userDetailsService;
+  private final PrincipalCache principalCache;
   private final ObjectMapper objectMapper;
 
   @Override
@@ -45,14 +48,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     try {
       final String jwt = authHeader.substring(7);
-      final String userEmail = jwtService.extractUsername(jwt);
+      final Claims claims = jwtService.parseClaims(jwt);
+      final String userEmail = claims.getSubject();
 
       Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
       if (userEmail != null && authentication == null) {
-        CustomUserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+        CustomUserDetails userDetails = principalCache.get(userEmail,
+            userDetailsService::loadUserByUsername);
 
-        if (jwtService.isTokenValid(jwt, userDetails)) {
+        if (jwtService.isTokenValid(jwt, claims, userDetails)) {
           UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
               userDetails,
               null,
@@ -0,0 +1,13 @@
+CREATE TABLE `stock_hold` (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    purchase_id BIGINT NOT NULL,
+    product_option_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) DEFAULT NULL ON UPDATE CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX idx_stock_hold_purchase_id ON stock_hold (purchase_id);
+CREATE INDEX idx_stock_hold_status_expires_at ON stock_hold (status, expires_at);
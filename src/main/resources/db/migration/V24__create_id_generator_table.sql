@@ -0,0 +1,19 @@
+CREATE TABLE `id_generator` (
+    sequence_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO `id_generator` (sequence_name, next_val)
+SELECT 'purchase', COALESCE(MAX(id), 0) + 1 FROM `purchase`;
+
+INSERT INTO `id_generator` (sequence_name, next_val)
+SELECT 'purchase_product', COALESCE(MAX(id), 0) + 1 FROM `purchase_product`;
+
+INSERT INTO `id_generator` (sequence_name, next_val)
+SELECT 'history', COALESCE(MAX(id), 0) + 1 FROM `history`;
+
+INSERT INTO `id_generator` (sequence_name, next_val)
+SELECT 'cart_product', COALESCE(MAX(id), 0) + 1 FROM `cart_product`;
+
+INSERT INTO `id_generator` (sequence_name, next_val)
+SELECT 'product_option', COALESCE(MAX(id), 0) + 1 FROM `product_option`;
@@ -0,0 +1,49 @@
+CREATE TABLE `product_listing_view` (
+    product_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    category_path VARCHAR(1000) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    price DECIMAL(10, 2) NOT NULL,
+    sell_status VARCHAR(30),
+    main_image_url VARCHAR(500),
+    total_stock INT NOT NULL DEFAULT 0,
+    colors VARCHAR(255) NOT NULL DEFAULT '',
+    sizes VARCHAR(255) NOT NULL DEFAULT '',
+    created_at DATETIME NOT NULL,
+    projected_at DATETIME NOT NULL,
+    PRIMARY KEY (product_id)
+);
+
+CREATE INDEX idx_product_listing_view_category_created ON product_listing_view (category_id, created_at);
+CREATE INDEX idx_product_listing_view_category_price ON product_listing_view (category_id, price);
+
+INSERT INTO product_listing_view (product_id, category_id, category_path, name, price, sell_status,
+    main_image_url, total_stock, colors, sizes, created_at, projected_at)
+SELECT p.id,
+       p.category_id,
+       (SELECT GROUP_CONCAT(a.name ORDER BY cc.depth DESC SEPARATOR ' > ')
+        FROM category_closure cc
+        JOIN category a ON a.id = cc.ancestor_id
+        WHERE cc.descendant_id = p.category_id),
+       p.name,
+       p.price,
+       p.sell_status,
+       (SELECT pi.upload_path
+        FROM product_image pi
+        WHERE pi.product_id = p.id AND pi.is_main = 1 AND pi.deleted_at IS NULL
+        ORDER BY pi.id
+        LIMIT 1),
+       COALESCE((SELECT SUM(po.stock)
+                 FROM product_option po
+                 WHERE po.product_id = p.id AND po.deleted_at IS NULL), 0),
+       COALESCE((SELECT GROUP_CONCAT(DISTINCT po.color ORDER BY po.color SEPARATOR ',')
+                 FROM product_option po
+                 WHERE po.product_id = p.id AND po.deleted_at IS NULL), ''),
+       COALESCE((SELECT GROUP_CONCAT(DISTINCT po.size ORDER BY po.size SEPARATOR ',')
+                 FROM product_option po
+                 WHERE po.product_id = p.id AND po.deleted_at IS NULL), ''),
+       p.created_at,
+       NOW()
+FROM product p
+JOIN category c ON c.id = p.category_id
+WHERE p.deleted_at IS NULL AND c.deleted_at IS NULL;
@@ -0,0 +1,17 @@
+CREATE INDEX idx_product_category_deleted_created ON product (category_id, deleted_at, created_at);
+CREATE INDEX idx_product_category_deleted_price ON product (category_id, deleted_at, price);
+
+CREATE INDEX idx_product_option_product_deleted ON product_option (product_id, deleted_at, color, size, stock);
+CREATE INDEX idx_product_option_created_at ON product_option (created_at);
+CREATE INDEX idx_product_option_updated_at ON product_option (updated_at);
+CREATE INDEX idx_product_option_deleted_at ON product_option (deleted_at);
+
+CREATE INDEX idx_product_image_product_deleted ON product_image (product_id, deleted_at, is_main);
+
+CREATE INDEX idx_purchase_user_created ON purchase (user_id, created_at);
+CREATE INDEX idx_purchase_status_created ON purchase (purchase_status, created_at);
+CREATE INDEX idx_purchase_created_at ON purchase (created_at);
+
+CREATE INDEX idx_cart_product_cart_deleted ON cart_product (cart_id, deleted_at, product_id, product_option_id);
+
+CREATE INDEX idx_history_purchase_id ON history (purchase_id);
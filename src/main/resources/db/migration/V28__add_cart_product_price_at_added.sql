@@ -0,0 +1,7 @@
+ALTER TABLE cart_product
+    ADD COLUMN price_at_added DECIMAL(10, 2) NULL AFTER quantity;
+
+UPDATE cart_product cp
+    JOIN product p ON p.id = cp.product_id
+SET cp.price_at_added = p.price
+WHERE cp.price_at_added IS NULL;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_product_created_at ON product (created_at);
+CREATE INDEX idx_product_updated_at ON product (updated_at);
+CREATE INDEX idx_product_deleted_at ON product (deleted_at);
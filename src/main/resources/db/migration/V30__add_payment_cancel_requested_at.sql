@@ -0,0 +1,2 @@
+ALTER TABLE payment
+    ADD COLUMN cancel_requested_at DATETIME NULL AFTER paid_at;
@@ -0,0 +1,19 @@
+-- KEYS[1] cart hash, KEYS[2] dirty user set
+-- ARGV[1] ttl millis, ARGV[2] user id
+-- ARGV[3..] option id, product id, quantity (0 removes the item), price ('' if unknown)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return -1
+end
+for i = 3, #ARGV, 4 do
+  if tonumber(ARGV[i + 2]) > 0 then
+    redis.call('HSET', KEYS[1], 'q:' .. ARGV[i], ARGV[i + 2], 'p:' .. ARGV[i], ARGV[i + 1])
+    if ARGV[i + 3] ~= '' then
+      redis.call('HSETNX', KEYS[1], 'a:' .. ARGV[i], ARGV[i + 3])
+    end
+  else
+    redis.call('HDEL', KEYS[1], 'q:' .. ARGV[i], 'p:' .. ARGV[i], 'a:' .. ARGV[i])
+  end
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+redis.call('SADD', KEYS[2], ARGV[2])
+return 1
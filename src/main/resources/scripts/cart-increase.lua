@@ -0,0 +1,18 @@
+-- KEYS[1] cart hash, KEYS[2] dirty user set
+-- ARGV[1] option id, ARGV[2] product id, ARGV[3] delta, ARGV[4] ttl millis, ARGV[5] user id, ARGV[6] price ('' if unknown)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return -1
+end
+local quantity = redis.call('HINCRBY', KEYS[1], 'q:' .. ARGV[1], ARGV[3])
+if quantity <= 0 then
+  redis.call('HDEL', KEYS[1], 'q:' .. ARGV[1], 'p:' .. ARGV[1], 'a:' .. ARGV[1])
+  quantity = 0
+else
+  redis.call('HSET', KEYS[1], 'p:' .. ARGV[1], ARGV[2])
+  if ARGV[6] ~= '' then
+    redis.call('HSETNX', KEYS[1], 'a:' .. ARGV[1], ARGV[6])
+  end
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('SADD', KEYS[2], ARGV[5])
+return quantity
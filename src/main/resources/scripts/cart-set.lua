@@ -0,0 +1,16 @@
+-- KEYS[1] cart hash, KEYS[2] dirty user set
+-- ARGV[1] option id, ARGV[2] quantity (0 removes the item), ARGV[3] ttl millis, ARGV[4] user id
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return -1
+end
+if redis.call('HEXISTS', KEYS[1], 'q:' .. ARGV[1]) == 0 then
+  return 0
+end
+if tonumber(ARGV[2]) > 0 then
+  redis.call('HSET', KEYS[1], 'q:' .. ARGV[1], ARGV[2])
+else
+  redis.call('HDEL', KEYS[1], 'q:' .. ARGV[1], 'p:' .. ARGV[1], 'a:' .. ARGV[1])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('SADD', KEYS[2], ARGV[4])
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[2i-1] detail key, KEYS[2i] eviction generation key
+-- ARGV[1] generation ttl millis
+for i = 1, #KEYS, 2 do
+  redis.call('INCR', KEYS[i + 1])
+  redis.call('PEXPIRE', KEYS[i + 1], tonumber(ARGV[1]))
+  redis.call('DEL', KEYS[i])
+end
+return #KEYS / 2
@@ -0,0 +1,8 @@
+-- KEYS[1] detail key, KEYS[2] eviction generation key
+-- ARGV[1] generation read before loading, ARGV[2] detail json, ARGV[3] ttl millis
+local generation = redis.call('GET', KEYS[2]) or '0'
+if generation ~= ARGV[1] then
+  return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', tonumber(ARGV[3]))
+return 1
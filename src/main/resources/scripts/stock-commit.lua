@@ -0,0 +1,12 @@
+-- KEYS[1] reservation hash, KEYS[2] reservation deadline zset, KEYS[3] pending delta hash
+local entries = redis.call('HGETALL', KEYS[1])
+if #entries == 0 then
+  return 0
+end
+
+for i = 1, #entries, 2 do
+  redis.call('HINCRBY', KEYS[3], entries[i], -tonumber(entries[i + 1]))
+end
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], KEYS[1])
+return 1
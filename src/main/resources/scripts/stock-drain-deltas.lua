@@ -0,0 +1,5 @@
+-- KEYS[1] pending delta hash, KEYS[2] draining delta hash
+if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+  redis.call('RENAME', KEYS[1], KEYS[2])
+end
+return redis.call('HGETALL', KEYS[2])
@@ -0,0 +1,9 @@
+-- KEYS[1] pending delta hash, KEYS[2..] option stock keys
+-- ARGV[2..] quantity for KEYS[2..]
+for i = 2, #KEYS do
+  redis.call('HINCRBY', KEYS[1], KEYS[i], -tonumber(ARGV[i]))
+  if redis.call('EXISTS', KEYS[i]) == 1 then
+    redis.call('DECRBY', KEYS[i], ARGV[i])
+  end
+end
+return #KEYS - 1
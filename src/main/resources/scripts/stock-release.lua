@@ -0,0 +1,10 @@
+-- KEYS[1] reservation hash, KEYS[2] reservation deadline zset
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+  if redis.call('EXISTS', entries[i]) == 1 then
+    redis.call('INCRBY', entries[i], entries[i + 1])
+  end
+end
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], KEYS[1])
+return #entries / 2
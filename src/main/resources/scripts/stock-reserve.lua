@@ -0,0 +1,30 @@
+-- KEYS[1] reservation hash, KEYS[2] reservation deadline zset, KEYS[3..] option stock keys
+-- ARGV[1] deadline(epoch ms), ARGV[3..] quantity for KEYS[3..]
+if redis.call('EXISTS', KEYS[1]) == 1 then
+  return {0}
+end
+
+local missing = {}
+local failed = {}
+for i = 3, #KEYS do
+  local stock = redis.call('GET', KEYS[i])
+  if not stock then
+    table.insert(missing, i - 2)
+  elseif tonumber(stock) < tonumber(ARGV[i]) then
+    table.insert(failed, i - 2)
+  end
+end
+
+if #missing > 0 then
+  return {2, unpack(missing)}
+end
+if #failed > 0 then
+  return {1, unpack(failed)}
+end
+
+for i = 3, #KEYS do
+  redis.call('DECRBY', KEYS[i], ARGV[i])
+  redis.call('HSET', KEYS[1], KEYS[i], ARGV[i])
+end
+redis.call('ZADD', KEYS[2], ARGV[1], KEYS[1])
+return {0}
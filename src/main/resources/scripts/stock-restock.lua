@@ -0,0 +1,12 @@
+-- KEYS[1] pending delta hash, KEYS[2..] option stock keys
+-- ARGV[2..] quantity for KEYS[2..]
+local missing = {}
+for i = 2, #KEYS do
+  if redis.call('EXISTS', KEYS[i]) == 1 then
+    redis.call('INCRBY', KEYS[i], ARGV[i])
+    redis.call('HINCRBY', KEYS[1], KEYS[i], ARGV[i])
+  else
+    table.insert(missing, i - 1)
+  end
+end
+return missing
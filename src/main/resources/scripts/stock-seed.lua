@@ -0,0 +1,11 @@
+-- KEYS[1] pending delta hash, KEYS[2] draining delta hash, KEYS[3..] option stock keys
+-- ARGV[3..] stored stock for KEYS[3..]
+local skipped = {}
+for i = 3, #KEYS do
+  if redis.call('HEXISTS', KEYS[1], KEYS[i]) == 1 or redis.call('HEXISTS', KEYS[2], KEYS[i]) == 1 then
+    table.insert(skipped, i - 2)
+  else
+    redis.call('SET', KEYS[i], ARGV[i], 'NX')
+  end
+end
+return skipped
@@ -0,0 +1,100 @@
+package com.sparta.camp.java.FinalProject.common.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PaginationCounterTest {
+
+  @InjectMocks
+  private PaginationCounter paginationCounter;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private PaginationRequest paginationRequest;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(paginationCounter, "cacheTtl", Duration.ofSeconds(30));
+    ReflectionTestUtils.setField(paginationCounter, "estimateLimit", 100L);
+
+    paginationRequest = new PaginationRequest();
+    ReflectionTestUtils.setField(paginationRequest, "page", 1);
+    ReflectionTestUtils.setField(paginationRequest, "size", 10);
+  }
+
+  @Test
+  @DisplayName("캐시된 개수가 있으면 카운트 쿼리를 실행하지 않는다")
+  void count_should_return_cached_value_without_query() {
+    AtomicInteger queries = new AtomicInteger();
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get("pagination:count:product:version")).thenReturn("3");
+    when(valueOperations.get(startsWith("pagination:count:product:3:"))).thenReturn("42");
+
+    TotalCount result = paginationCounter.count(CountStrategy.CACHED, CountScope.PRODUCT, "1|a",
+        paginationRequest, () -> queries.incrementAndGet(), limit -> 0);
+
+    assertThat(result).isEqualTo(TotalCount.exact(42));
+    assertThat(queries).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("캐시가 없으면 정확한 개수를 조회해 캐시에 저장한다")
+  void count_should_store_exact_value_when_cache_missed() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    TotalCount result = paginationCounter.count(CountStrategy.CACHED, CountScope.PRODUCT, "1|a",
+        paginationRequest, () -> 7L, limit -> 0);
+
+    assertThat(result).isEqualTo(TotalCount.exact(7));
+    verify(valueOperations).set(startsWith("pagination:count:product:0:"), eq("7"),
+        eq(Duration.ofSeconds(30)));
+  }
+
+  @Test
+  @DisplayName("추정 개수가 상한에 도달하면 근사값으로 표시한다")
+  void count_should_flag_approximate_when_estimate_reaches_limit() {
+    TotalCount reached = paginationCounter.count(CountStrategy.ESTIMATED, CountScope.PURCHASE, "",
+        paginationRequest, () -> 5000L, limit -> limit);
+    TotalCount below = paginationCounter.count(CountStrategy.ESTIMATED, CountScope.PURCHASE, "",
+        paginationRequest, () -> 5000L, limit -> 30);
+
+    assertThat(reached).isEqualTo(TotalCount.approximate(101));
+    assertThat(below).isEqualTo(TotalCount.exact(30));
+    verify(redisTemplate, never()).opsForValue();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서 무효화하면 즉시 버전을 증가시킨다")
+  void invalidate_should_bump_version() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    paginationCounter.invalidate(CountScope.PURCHASE);
+
+    verify(valueOperations).increment("pagination:count:purchase:version");
+    verify(valueOperations, never()).get(anyString());
+  }
+
+}
@@ -0,0 +1,204 @@
+package com.sparta.camp.java.FinalProject.common.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.CreatorType;
+import com.sparta.camp.java.FinalProject.common.enums.HistoryType;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.enums.Role;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartItem;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartMutation;
+import com.sparta.camp.java.FinalProject.domain.cart.store.JpaCartStore;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.history.entity.History;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.user.entity.User;
+import com.sparta.camp.java.FinalProject.global.config.QueryDslConfig;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+    JpaCartStore.class,
+    CartProductQueryRepository.class,
+    QueryDslConfig.class
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JdbcBatchingTest {
+
+  private static final int ROWS = 15;
+
+  @Autowired
+  TestEntityManager em;
+
+  @Autowired
+  JpaCartStore jpaCartStore;
+
+  private Statistics statistics;
+
+  private User user;
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    statistics = em.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+
+    user = User.builder()
+        .email("batch@test.com")
+        .name("tester")
+        .role(Role.ROLE_USER)
+        .password("password")
+        .phoneNumber("010-0000-0000")
+        .build();
+    em.persist(user);
+
+    Category category = Category.builder().name("outer").build();
+    em.persist(category);
+
+    product = Product.builder()
+        .category(category)
+        .name("padding")
+        .description("padding")
+        .price(BigDecimal.valueOf(10000))
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    em.persist(product);
+    em.flush();
+  }
+
+  @Test
+  @DisplayName("주문, 주문 상품, 이력 저장은 엔티티별로 한 번의 배치 구문으로 실행된다.")
+  void purchase_inserts_should_be_batched() {
+    List<ProductOption> options = createOptions();
+    em.flush();
+
+    Purchase purchase = Purchase.builder()
+        .user(user)
+        .purchaseNo("P202501010001")
+        .totalPrice(BigDecimal.valueOf(10000L * ROWS))
+        .purchaseStatus(PurchaseStatus.PURCHASE_CREATED)
+        .receiverName("tester")
+        .phoneNumber("010-0000-0000")
+        .zipCode("12345")
+        .shippingAddress("Seoul")
+        .build();
+    for (ProductOption option : options) {
+      purchase.addPurchaseProduct(PurchaseProduct.builder()
+          .product(product)
+          .purchasedOption(option)
+          .status(PurchaseProductStatus.PAID)
+          .quantity(1)
+          .priceAtPurchase(BigDecimal.valueOf(10000))
+          .build());
+    }
+    em.persist(purchase);
+    for (int i = 0; i < ROWS; i++) {
+      em.persist(History.builder()
+          .historyType(HistoryType.PURCHASE)
+          .purchase(purchase)
+          .newStatus(String.valueOf(PurchaseStatus.PURCHASE_CREATED))
+          .creatorType(CreatorType.USER)
+          .createdBy(user.getId())
+          .build());
+    }
+
+    long prepared = countPreparedStatements(() -> em.flush());
+
+    assertThat(prepared).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("여러 상품 옵션의 재고 변경은 한 번의 배치 구문으로 실행된다.")
+  void option_updates_should_be_batched() {
+    List<ProductOption> options = createOptions();
+    em.flush();
+
+    options.forEach(option -> option.increaseStock(1));
+
+    long prepared = countPreparedStatements(() -> em.flush());
+
+    assertThat(prepared).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("장바구니 일괄 변경은 기존 상품을 한 번에 조회하고 수정과 추가를 각각 한 번의 배치 구문으로 실행한다.")
+  void cart_bulk_mutations_should_be_batched() {
+    List<ProductOption> options = createOptions();
+    Cart cart = new Cart();
+    ReflectionTestUtils.setField(cart, "user", user);
+    em.persist(cart);
+    for (ProductOption option : options.subList(0, 5)) {
+      em.persist(CartProduct.builder()
+          .cart(cart)
+          .product(product)
+          .option(option)
+          .quantity(1)
+          .build());
+    }
+    em.flush();
+
+    List<CartMutation> mutations = new ArrayList<>();
+    for (CartItem item : jpaCartStore.getCart(user.getId()).items()) {
+      mutations.add(new CartMutation(item.id(), item.productId(), item.productOptionId(), 3,
+          item.priceAtAdded()));
+    }
+    for (ProductOption option : options.subList(5, ROWS)) {
+      mutations.add(new CartMutation(null, product.getId(), option.getId(), 1,
+          BigDecimal.valueOf(10000)));
+    }
+
+    long prepared = countPreparedStatements(() -> {
+      jpaCartStore.applyAll(user.getId(), cart.getId(), mutations);
+      em.flush();
+    });
+
+    assertThat(prepared).isEqualTo(3);
+  }
+
+  private List<ProductOption> createOptions() {
+    List<ProductOption> options = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      ProductOption option = ProductOption.builder()
+          .product(product)
+          .color(ColorType.values()[i % ColorType.values().length])
+          .size(SizeType.values()[i / ColorType.values().length])
+          .stock(10)
+          .build();
+      em.persist(option);
+      options.add(option);
+    }
+    return options;
+  }
+
+  private long countPreparedStatements(Runnable work) {
+    statistics.clear();
+    work.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+}
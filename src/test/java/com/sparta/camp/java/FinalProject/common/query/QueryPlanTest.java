@@ -0,0 +1,248 @@
+package com.sparta.camp.java.FinalProject.common.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseQueryRepository;
+import com.sparta.camp.java.FinalProject.global.config.QueryDslConfig;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.sparta.camp.java.FinalProject.common.query.QueryPlanTest$CapturingStatementInspector")
+@Import({
+    ProductQueryRepository.class,
+    PurchaseQueryRepository.class,
+    ProductListingQueryRepository.class,
+    QueryDslConfig.class
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+  @Autowired
+  ProductQueryRepository productQueryRepository;
+
+  @Autowired
+  PurchaseQueryRepository purchaseQueryRepository;
+
+  @Autowired
+  ProductListingQueryRepository productListingQueryRepository;
+
+  @Autowired
+  CartProductRepository cartProductRepository;
+
+  @Autowired
+  ProductOptionRepository productOptionRepository;
+
+  @Autowired
+  ProductRepository productRepository;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("상품 조회 쿼리는 전체 테이블 스캔을 하지 않는다.")
+  void productQueryRepository_should_use_indexes() {
+    PaginationRequest pageRequest = pageRequest();
+    ProductSearchRequest byCategory = productSearch(Map.of("categoryId", 1L));
+    ProductSearchRequest byPrice = productSearch(Map.of("categoryId", 1L, "sortType", "price",
+        "minPrice", 10000, "maxPrice", 50000));
+    ProductSearchRequest withDescendants = productSearch(Map.of("categoryId", 1L,
+        "includeDescendants", true, "keywordType", "name", "keyword", "padding"));
+
+    assertNoTableScan(() -> productQueryRepository.findProducts(byCategory, pageRequest));
+    assertNoTableScan(() -> productQueryRepository.findProducts(byPrice, pageRequest));
+    assertNoTableScan(() -> productQueryRepository.findProducts(withDescendants, pageRequest));
+    assertNoTableScan(() -> productQueryRepository.countProducts(byCategory));
+    assertNoTableScan(() -> productQueryRepository.countProductsUpTo(withDescendants, 1000));
+    assertNoTableScan(() -> productQueryRepository.findProductsByCursor(byCategory, cursorRequest()));
+    assertNoTableScan(() -> productQueryRepository.findProductsByIds(List.of(1L, 2L)));
+    assertNoTableScan(() -> productQueryRepository.attachOptionsAndMainImages(
+        new ArrayList<>(List.of(ProductResponse.builder().id(1L).build()))));
+  }
+
+  @Test
+  @DisplayName("변경된 상품 조회 쿼리는 전체 테이블 스캔을 하지 않는다.")
+  void productRepository_changedSince_should_use_indexes() {
+    assertNoTableScan(() -> productRepository.findIdsChangedSince(
+        LocalDateTime.now().minusMinutes(5)));
+    assertNoTableScan(() -> productRepository.findAllWithCategoryByIds(List.of(1L, 2L)));
+  }
+
+  @Test
+  @DisplayName("주문 조회 쿼리는 전체 테이블 스캔을 하지 않는다.")
+  void purchaseQueryRepository_should_use_indexes() {
+    PaginationRequest pageRequest = pageRequest();
+    PurchaseSearchRequest byStatus = purchaseSearch(Map.of("purchaseStatus", PurchaseStatus.PURCHASE_CREATED));
+    PurchaseSearchRequest byPeriod = purchaseSearch(Map.of(
+        "startDate", LocalDate.of(2025, 1, 1), "endDate", LocalDate.of(2025, 1, 31)));
+    PurchaseSearchRequest byEmail = purchaseSearch(Map.of("userEmail", "user@test.com"));
+    PurchaseSearchRequest byPurchaseNo = purchaseSearch(Map.of("purchaseNo", "P202501010001"));
+
+    assertNoTableScan(() -> purchaseQueryRepository.findAll(byStatus, pageRequest));
+    assertNoTableScan(() -> purchaseQueryRepository.findAll(byPeriod, pageRequest));
+    assertNoTableScan(() -> purchaseQueryRepository.findAll(byEmail, pageRequest));
+    assertNoTableScan(() -> purchaseQueryRepository.findAll(byPurchaseNo, pageRequest));
+    assertNoTableScan(() -> purchaseQueryRepository.countPurchases(byStatus));
+    assertNoTableScan(() -> purchaseQueryRepository.countPurchasesUpTo(byPeriod, 1000));
+    assertNoTableScan(() -> purchaseQueryRepository.findAllByCursor(byPeriod, cursorRequest()));
+    assertNoTableScan(() -> purchaseQueryRepository.findAllByUserId(1L, pageRequest));
+    assertNoTableScan(() -> purchaseQueryRepository.findAllByUserIdByCursor(1L, cursorRequest()));
+    assertNoTableScan(() -> purchaseQueryRepository.countPurchasesByUserId(1L));
+  }
+
+  @Test
+  @DisplayName("장바구니 상품 조회 쿼리는 전체 테이블 스캔을 하지 않는다.")
+  void cartProductRepository_should_use_indexes() {
+    assertNoTableScan(() -> cartProductRepository.findByCartAndProductId(1L, 1L));
+    assertNoTableScan(() -> cartProductRepository.findByIdAndDeletedAtIsNull(1L));
+    assertNoTableScan(() -> cartProductRepository.findExistingCartProduct(1L, 1L, 1L));
+    assertNoTableScan(() -> cartProductRepository.findAllByCartId(1L));
+    assertNoTableScan(() -> cartProductRepository.findAllByOptionIdIn(1L, List.of(1L, 2L)));
+  }
+
+  @Test
+  @DisplayName("상품 옵션 조회/갱신 쿼리는 전체 테이블 스캔을 하지 않는다.")
+  void productOptionRepository_should_use_indexes() {
+    assertNoTableScan(() -> productOptionRepository.findAllValidByIds(List.of(1L, 2L)));
+    assertNoTableScan(() -> productOptionRepository.findByProductOptionId(1L));
+    assertNoTableScan(() -> productOptionRepository.findByIdAndProductId(1L, 1L));
+    assertNoTableScan(() -> productOptionRepository.findProductOptionInProductIds(List.of(1L, 2L)));
+    assertNoTableScan(() -> productOptionRepository.findProductIdsByIds(List.of(1L, 2L)));
+    assertNoTableScan(() -> productOptionRepository.findByIdForUpdate(List.of(1L, 2L)));
+    assertNoTableScan(() -> productOptionRepository.decreaseStockIfAvailable(1L, 1));
+    assertNoTableScan(() -> productOptionRepository.increaseStock(1L, 1));
+    assertNoTableScan(() -> productOptionRepository.softDeleteByProductId(1L));
+    assertNoTableScan(() -> productOptionRepository.findAllActiveFacets());
+    assertNoTableScan(() -> productOptionRepository.findActiveFacetsByProductIds(List.of(1L, 2L)));
+    assertNoTableScan(() -> productOptionRepository.findProductIdsWithOptionsChangedSince(
+        LocalDateTime.now().minusMinutes(5)));
+  }
+
+  @Test
+  @DisplayName("상한 개수 조회는 DB에서 상한까지만 세는 단일 COUNT 쿼리로 실행된다.")
+  void cappedCounts_should_count_in_database() {
+    ProductSearchRequest byCategory = productSearch(Map.of("categoryId", 1L));
+    PurchaseSearchRequest byStatus = purchaseSearch(Map.of("purchaseStatus", PurchaseStatus.PURCHASE_CREATED));
+
+    assertCappedCount(() -> productQueryRepository.countProductsUpTo(byCategory, 1000));
+    assertCappedCount(() -> purchaseQueryRepository.countPurchasesUpTo(byStatus, 1000));
+    assertCappedCount(() -> productListingQueryRepository.countListingUpTo(byCategory, 1000));
+  }
+
+  private void assertCappedCount(Runnable query) {
+    CapturingStatementInspector.clear();
+    query.run();
+
+    List<String> statements = CapturingStatementInspector.drain();
+    assertThat(statements).hasSize(1);
+    assertThat(statements.get(0).toLowerCase())
+        .startsWith("select count(*) from (")
+        .contains("1000");
+  }
+
+  private void assertNoTableScan(Runnable query) {
+    CapturingStatementInspector.clear();
+    query.run();
+
+    List<String> statements = CapturingStatementInspector.drain();
+    assertThat(statements).isNotEmpty();
+    for (String sql : statements) {
+      String plan = explain(sql);
+      assertThat(plan).as(sql).doesNotContain(".tableScan");
+    }
+  }
+
+  private String explain(String sql) {
+    return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+      int parameterCount = statement.getParameterMetaData().getParameterCount();
+      for (int i = 1; i <= parameterCount; i++) {
+        statement.setObject(i, null);
+      }
+
+      StringBuilder plan = new StringBuilder();
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          plan.append(resultSet.getString(1));
+        }
+      }
+      return plan.toString();
+    });
+  }
+
+  private PaginationRequest pageRequest() {
+    PaginationRequest request = new PaginationRequest();
+    ReflectionTestUtils.setField(request, "page", 1);
+    ReflectionTestUtils.setField(request, "size", 10);
+    return request;
+  }
+
+  private CursorRequest cursorRequest() {
+    CursorRequest request = new CursorRequest();
+    request.setSize(10);
+    return request;
+  }
+
+  private ProductSearchRequest productSearch(Map<String, Object> fields) {
+    ProductSearchRequest request = new ProductSearchRequest();
+    fields.forEach((name, value) -> ReflectionTestUtils.setField(request, name, value));
+    return request;
+  }
+
+  private PurchaseSearchRequest purchaseSearch(Map<String, Object> fields) {
+    PurchaseSearchRequest request = new PurchaseSearchRequest();
+    fields.forEach((name, value) -> ReflectionTestUtils.setField(request, name, value));
+    return request;
+  }
+
+  public static class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    static synchronized void clear() {
+      STATEMENTS.clear();
+    }
+
+    static synchronized List<String> drain() {
+      List<String> drained = List.copyOf(STATEMENTS);
+      STATEMENTS.clear();
+      return drained;
+    }
+
+    @Override
+    public String inspect(String sql) {
+      synchronized (CapturingStatementInspector.class) {
+        STATEMENTS.add(sql);
+      }
+      return sql;
+    }
+
+  }
+
+}
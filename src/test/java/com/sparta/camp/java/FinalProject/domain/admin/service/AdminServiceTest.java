@@ -19,6 +19,7 @@ import com.sparta.camp.java.FinalProject.domain.admin.dto.AdminUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.admin.entity.Admin;
 import com.sparta.camp.java.FinalProject.domain.admin.mapper.AdminMapper;
 import com.sparta.camp.java.FinalProject.domain.admin.repository.AdminRepository;
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +46,9 @@ class AdminServiceTest {
   @Mock
   private AdminMapper adminMapper;
 
+  @Mock
+  private PrincipalCache principalCache;
+
   private AdminCreateRequest adminCreateRequest;
   private AdminUpdateRequest adminUpdateRequest;
   private AdminPasswordChangeRequest adminPasswordChangeRequest;
@@ -215,6 +219,7 @@ class AdminServiceTest {
 
     assertThat(testAdmin.getPassword()).isEqualTo("ENCODED_PASSWORD");
     verify(adminRepository).findByIdAndDeletedAtIsNull(testAdmin.getId());
+    verify(principalCache).evict(testAdmin.getEmail());
   }
 
   @Test
@@ -263,6 +268,7 @@ class AdminServiceTest {
 
     assertThat(testAdmin.getDeletedAt()).isNotNull();
     verify(adminRepository).findByIdAndDeletedAtIsNull(testAdmin.getId());
+    verify(principalCache).evict(testAdmin.getEmail());
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.sparta.camp.java.FinalProject.domain.auth.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private PrincipalCache principalCache;
+
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    principalCache = new PrincipalCache(redisTemplate, listenerContainer, new SimpleMeterRegistry(),
+        100, Duration.ofMinutes(5));
+    loads = new AtomicInteger();
+  }
+
+  private CustomUserDetails load(String email) {
+    loads.incrementAndGet();
+    return new CustomUserDetails(1L, email, "ENCODED_PASSWORD", "ROLE_USER");
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 인증 정보는 한 번만 조회한다.")
+  void get_should_load_principal_once() {
+    CustomUserDetails first = principalCache.get("test@email.com", this::load);
+    CustomUserDetails second = principalCache.get("test@email.com", this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.getId()).isEqualTo(1L);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("캐시에서 제거되면 다음 요청에서 다시 조회한다.")
+  void evict_should_reload_principal() {
+    principalCache.get("test@email.com", this::load);
+
+    principalCache.evict("test@email.com");
+    principalCache.get("test@email.com", this::load);
+
+    assertThat(loads).hasValue(2);
+    verify(redisTemplate).convertAndSend(PrincipalCache.CHANNEL, "test@email.com");
+  }
+
+  @Test
+  @DisplayName("다른 노드의 제거 알림을 받으면 로컬 캐시에서 제거한다.")
+  void onMessage_should_evict_principal_evicted_on_other_node() {
+    GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+    doReturn(serializer).when(redisTemplate).getValueSerializer();
+    principalCache.get("test@email.com", this::load);
+
+    principalCache.onMessage(new DefaultMessage(PrincipalCache.CHANNEL.getBytes(),
+        serializer.serialize("test@email.com")), null);
+    principalCache.get("test@email.com", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 사용자는 캐시에 저장하지 않는다.")
+  void get_should_not_cache_missing_user() {
+    assertThatThrownBy(() -> principalCache.get("none@email.com", email -> {
+      loads.incrementAndGet();
+      throw new UsernameNotFoundException(email);
+    })).isInstanceOf(UsernameNotFoundException.class);
+
+    principalCache.get("none@email.com", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+}
@@ -0,0 +1,86 @@
+package com.sparta.camp.java.FinalProject.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+  private static final String SECRET_KEY =
+      Base64.getEncoder().encodeToString("test-secret-key-for-jwt-service-0123456789".getBytes());
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  private JwtService jwtService;
+
+  private CustomUserDetails userDetails;
+
+  @BeforeEach
+  void setUp() {
+    jwtService = new JwtService(redisTemplate, SECRET_KEY, 60_000, 120_000);
+    userDetails = new CustomUserDetails(1L, "test@email.com", "ENCODED_PASSWORD", "ROLE_USER");
+  }
+
+  @Test
+  @DisplayName("토큰을 한 번 파싱한 클레임으로 사용자 정보와 유효성을 검증한다.")
+  void isTokenValid_should_validate_with_parsed_claims() {
+    String token = jwtService.generateAccessToken(userDetails);
+    when(redisTemplate.hasKey("blacklist:" + token)).thenReturn(false);
+
+    Claims claims = jwtService.parseClaims(token);
+
+    assertThat(claims.getSubject()).isEqualTo("test@email.com");
+    assertThat(claims.get("uid", Long.class)).isEqualTo(1L);
+    assertThat(jwtService.isTokenValid(token, claims, userDetails)).isTrue();
+  }
+
+  @Test
+  @DisplayName("토큰의 사용자 ID가 인증 정보와 다르면 유효하지 않다.")
+  void isTokenValid_should_return_false_when_user_id_does_not_match() {
+    String token = jwtService.generateAccessToken(userDetails);
+    CustomUserDetails other = new CustomUserDetails(2L, "test@email.com", "ENCODED_PASSWORD", "ROLE_USER");
+
+    assertThat(jwtService.isTokenValid(token, jwtService.parseClaims(token), other)).isFalse();
+  }
+
+  @Test
+  @DisplayName("로그아웃된 토큰은 유효하지 않다.")
+  void isTokenValid_should_return_false_when_token_is_blacklisted() {
+    String token = jwtService.generateAccessToken(userDetails);
+    when(redisTemplate.hasKey("blacklist:" + token)).thenReturn(true);
+
+    assertThat(jwtService.isTokenValid(token, userDetails)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료되었거나 다른 키로 서명된 토큰은 파싱 단계에서 거부된다.")
+  void parseClaims_should_reject_expired_or_foreign_tokens() {
+    String expired = new JwtService(redisTemplate, SECRET_KEY, -1_000, -1_000)
+        .generateAccessToken(userDetails);
+    String foreign = new JwtService(redisTemplate,
+        Base64.getEncoder().encodeToString("another-secret-key-for-jwt-service-98765".getBytes()),
+        60_000, 60_000)
+        .generateAccessToken(userDetails);
+
+    assertThatThrownBy(() -> jwtService.parseClaims(expired))
+        .isInstanceOf(ExpiredJwtException.class);
+    assertThatThrownBy(() -> jwtService.parseClaims(foreign))
+        .isInstanceOf(SignatureException.class);
+  }
+
+}
@@ -0,0 +1,174 @@
+package com.sparta.camp.java.FinalProject.domain.cart.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.Role;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductImage;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.user.entity.User;
+import com.sparta.camp.java.FinalProject.global.config.QueryDslConfig;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@Import({
+    CartProductQueryRepository.class,
+    QueryDslConfig.class
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CartProductQueryRepositoryTest {
+
+  @Autowired
+  CartProductQueryRepository cartProductQueryRepository;
+
+  @Autowired
+  TestEntityManager em;
+
+  private Cart cart;
+  private Product padding;
+  private ProductOption black;
+  private ProductOption white;
+  private ProductOption deletedOption;
+
+  @BeforeEach
+  void setUp() {
+    User user = User.builder()
+        .email("cart@test.com")
+        .name("tester")
+        .role(Role.ROLE_USER)
+        .password("password")
+        .phoneNumber("010-0000-0000")
+        .build();
+    em.persist(user);
+
+    cart = new Cart();
+    ReflectionTestUtils.setField(cart, "user", user);
+    em.persist(cart);
+
+    Category category = Category.builder().name("outer").build();
+    em.persist(category);
+
+    padding = Product.builder()
+        .category(category)
+        .name("padding")
+        .description("padding")
+        .price(BigDecimal.valueOf(200000))
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    em.persist(padding);
+
+    black = createOption(padding, ColorType.BLACK, 5);
+    white = createOption(padding, ColorType.WHITE, 1);
+    deletedOption = createOption(padding, ColorType.GRAY, 3);
+    deletedOption.setDeletedAt(LocalDateTime.now());
+
+    ProductImage deletedMain = createImage(padding, "deleted.png", true);
+    deletedMain.setDeletedAt(LocalDateTime.now());
+    createImage(padding, "main.png", true);
+    createImage(padding, "sub.png", false);
+
+    createCartProduct(black, 2, BigDecimal.valueOf(180000));
+    createCartProduct(white, 1, null);
+    createCartProduct(deletedOption, 1, BigDecimal.valueOf(200000));
+    createCartProduct(white, 3, BigDecimal.valueOf(200000))
+        .setDeletedAt(LocalDateTime.now());
+
+    em.flush();
+    em.clear();
+  }
+
+  private ProductOption createOption(Product product, ColorType color, int stock) {
+    ProductOption option = ProductOption.builder()
+        .product(product)
+        .color(color)
+        .size(SizeType.MEDIUM)
+        .stock(stock)
+        .build();
+    em.persist(option);
+    return option;
+  }
+
+  private ProductImage createImage(Product product, String name, boolean isMain) {
+    ProductImage image = ProductImage.builder()
+        .product(product)
+        .originalName(name)
+        .storedName(name)
+        .uploadPath("/images/" + name)
+        .sortOrder(0)
+        .isMain(isMain)
+        .build();
+    em.persist(image);
+    return image;
+  }
+
+  private CartProduct createCartProduct(ProductOption option, int quantity, BigDecimal priceAtAdded) {
+    CartProduct cartProduct = CartProduct.builder()
+        .cart(cart)
+        .product(option.getProduct())
+        .option(option)
+        .quantity(quantity)
+        .priceAtAdded(priceAtAdded)
+        .build();
+    em.persist(cartProduct);
+    return cartProduct;
+  }
+
+  @Test
+  @DisplayName("장바구니 상품이 상품, 옵션, 대표 이미지 정보와 함께 한 번에 조회된다.")
+  void findCartLines_should_return_lines_with_product_details() {
+
+    List<CartProductDetail> results = cartProductQueryRepository.findCartLines(cart.getId());
+
+    assertThat(results)
+        .extracting(CartProductDetail::productOptionId)
+        .containsExactly(black.getId(), white.getId());
+    assertThat(results)
+        .extracting(CartProductDetail::id)
+        .containsExactly(black.getId(), white.getId());
+
+    CartProductDetail first = results.get(0);
+    assertThat(first.quantity()).isEqualTo(2);
+    assertThat(first.productName()).isEqualTo("padding");
+    assertThat(first.color()).isEqualTo(ColorType.BLACK);
+    assertThat(first.mainImageUrl()).isEqualTo("/images/main.png");
+    assertThat(first.price()).isEqualByComparingTo("200000");
+    assertThat(first.priceAtAdded()).isEqualByComparingTo("180000");
+    assertThat(first.stock()).isEqualTo(5);
+
+    assertThat(results.get(1).priceAtAdded()).isNull();
+  }
+
+  @Test
+  @DisplayName("옵션 ID로 삭제되지 않은 옵션의 상품 정보가 조회된다.")
+  void findOptionLines_should_return_details_of_active_options() {
+
+    List<CartProductDetail> results = cartProductQueryRepository.findOptionLines(
+        List.of(black.getId(), deletedOption.getId()));
+
+    assertThat(results).hasSize(1);
+    assertThat(results.get(0).productId()).isEqualTo(padding.getId());
+    assertThat(results.get(0).mainImageUrl()).isEqualTo("/images/main.png");
+    assertThat(results.get(0).quantity()).isNull();
+  }
+
+}
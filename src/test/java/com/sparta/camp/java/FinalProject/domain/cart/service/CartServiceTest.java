@@ -4,37 +4,48 @@ package com.sparta.camp.java.FinalProject.domain.cart.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.sparta.camp.java.FinalProject.common.enums.CartOperationType;
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkItemRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkItemResponse;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartBulkResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductCreateRequest;
+import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductDetail;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductResponse;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartProductUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.cart.dto.CartResponse;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
-import com.sparta.camp.java.FinalProject.domain.cart.mapper.CartProductMapper;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartContents;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartItem;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartMutation;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartStore;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartView;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
 import com.sparta.camp.java.FinalProject.domain.user.entity.User;
-import com.sparta.camp.java.FinalProject.domain.user.repository.UserRepository;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -47,55 +58,46 @@ class CartServiceTest {
   private CartService cartService;
 
   @Mock
-  private CartRepository cartRepository;
+  private CartStore cartStore;
 
   @Mock
-  private UserRepository userRepository;
-
-  @Mock
-  private CartProductRepository cartProductRepository;
+  private ProductOptionRepository productOptionRepository;
 
   @Mock
   private ProductRepository productRepository;
 
   @Mock
-  private CartProductMapper cartProductMapper;
-
-  @Mock
-  private ProductOptionRepository productOptionRepository;
+  private StockManager stockManager;
 
   private User test_user;
-  private Cart test_cart;
   private Product product1;
   private Product product2;
   private ProductOption option1;
   private ProductOption option2;
-  private List<CartProduct> cartProducts = new ArrayList<>();
+  private List<CartItem> cartItems;
 
   private CartProductCreateRequest createRequest;
   private CartProductUpdateRequest updateRequest;
 
   @BeforeEach
   void setUp() {
+    lenient().when(stockManager.getAvailableStock(any()))
+        .thenAnswer(invocation -> invocation.<ProductOption>getArgument(0).getStock());
+
     test_user = User.builder()
         .email("test@email.com")
         .build();
     ReflectionTestUtils.setField(test_user, "id", 1L);
 
-    test_cart = new Cart();
-    ReflectionTestUtils.setField(test_cart, "id", 1L);
-    ReflectionTestUtils.setField(test_cart, "user", test_user);
-
     product1 = createProduct(1L, "p1");
     product2 = createProduct(2L, "p2");
     option1 = createOption(1L, product1, 30);
     option2 = createOption(2L, product2, 40);
 
-    cartProducts = List.of(
-        createCartProduct(1L, test_cart, product1, option1, 10),
-        createCartProduct(2L, test_cart, product2, option2, 5)
+    cartItems = List.of(
+        new CartItem(1L, product1.getId(), option1.getId(), 10, null),
+        new CartItem(2L, product2.getId(), option2.getId(), 5, null)
     );
-    ReflectionTestUtils.setField(test_cart, "cartProducts", cartProducts);
 
     createRequest = new CartProductCreateRequest();
     ReflectionTestUtils.setField(createRequest, "productId", product1.getId());
@@ -103,29 +105,13 @@ class CartServiceTest {
     ReflectionTestUtils.setField(createRequest, "quantity", 5);
 
     updateRequest = new CartProductUpdateRequest();
-    ReflectionTestUtils.setField(updateRequest, "id", cartProducts.get(1).getId());
+    ReflectionTestUtils.setField(updateRequest, "id", cartItems.get(1).id());
     ReflectionTestUtils.setField(updateRequest, "productId", product2.getId());
     ReflectionTestUtils.setField(updateRequest, "productOptionId", option2.getId());
     ReflectionTestUtils.setField(updateRequest, "quantity", 3);
 
   }
 
-  private CartProduct createCartProduct(
-      Long id,
-      Cart cart,
-      Product product,
-      ProductOption productOption,
-      Integer quantity
-  ) {
-    CartProduct cartProduct = new CartProduct();
-    ReflectionTestUtils.setField(cartProduct, "id", id);
-    ReflectionTestUtils.setField(cartProduct, "cart", cart);
-    ReflectionTestUtils.setField(cartProduct, "product", product);
-    ReflectionTestUtils.setField(cartProduct, "option", productOption);
-    cartProduct.setQuantity(quantity);
-    return cartProduct;
-  }
-
   private Product createProduct(
       Long id,
       String name
@@ -133,6 +119,7 @@ class CartServiceTest {
     Product product = new Product();
     ReflectionTestUtils.setField(product, "id", id);
     ReflectionTestUtils.setField(product, "name", name);
+    ReflectionTestUtils.setField(product, "price", BigDecimal.valueOf(10000));
     return product;
   }
 
@@ -144,234 +131,255 @@ class CartServiceTest {
     return productOption;
   }
 
+  private CartBulkItemRequest bulkItem(CartOperationType type, Long productId,
+      Long productOptionId, Integer quantity) {
+    CartBulkItemRequest item = new CartBulkItemRequest();
+    ReflectionTestUtils.setField(item, "type", type);
+    ReflectionTestUtils.setField(item, "productId", productId);
+    ReflectionTestUtils.setField(item, "productOptionId", productOptionId);
+    ReflectionTestUtils.setField(item, "quantity", quantity);
+    return item;
+  }
+
+  private CartBulkRequest bulkRequest(CartBulkItemRequest... items) {
+    CartBulkRequest request = new CartBulkRequest();
+    ReflectionTestUtils.setField(request, "operations", List.of(items));
+    return request;
+  }
+
   @Test
   @DisplayName("장바구니에 담긴 물건들을 조회한다.")
   void getCartProduct_should_return_cartProducts() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-        .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-        .thenReturn(Optional.of(test_cart));
-    when(cartProductMapper.toResponse(any(CartProduct.class)))
-        .thenAnswer(invocation -> {
-          CartProduct cp = invocation.getArgument(0);
-          return CartProductResponse.builder()
-              .id(cp.getId())
-              .productId(cp.getProduct().getId())
-              .productOptionId(cp.getOption().getId())
-              .quantity(cp.getQuantity())
-              .build();
-        });
-
-    CartResponse result = cartService.getCartProduct(test_user.getEmail());
+    when(cartStore.getCartView(test_user.getId()))
+        .thenReturn(new CartView(1L, List.of(
+            new CartProductDetail(1L, product1.getId(), option1.getId(), 10, "p1",
+                ColorType.BLACK, SizeType.MEDIUM, "/images/p1.png",
+                BigDecimal.valueOf(10000), BigDecimal.valueOf(10000), 30),
+            new CartProductDetail(2L, product2.getId(), option2.getId(), 5, "p2",
+                ColorType.WHITE, SizeType.LARGE, null,
+                BigDecimal.valueOf(12000), BigDecimal.valueOf(10000), 40))));
+    when(stockManager.getAvailableStocks(Map.of(option1.getId(), 30, option2.getId(), 40)))
+        .thenReturn(Map.of(option1.getId(), 30, option2.getId(), 3));
+
+    CartResponse result = cartService.getCartProduct(test_user.getId());
 
     assertThat(result).isNotNull();
-    assertThat(result.getCartProductList()).hasSize(cartProducts.size());
+    assertThat(result.getCartId()).isEqualTo(1L);
+    assertThat(result.getCartProductList()).hasSize(2);
 
     CartProductResponse cp1 = result.getCartProductList().get(0);
-    assertThat(cp1.getProductId()).isEqualTo(cartProducts.get(0).getProduct().getId());
-    assertThat(cp1.getQuantity()).isEqualTo(cartProducts.get(0).getQuantity());
+    assertThat(cp1.getProductName()).isEqualTo("p1");
+    assertThat(cp1.getQuantity()).isEqualTo(10);
+    assertThat(cp1.isPriceChanged()).isFalse();
+    assertThat(cp1.isStockSufficient()).isTrue();
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verify(cartProductMapper, times(test_cart.getCartProducts().size()))
-        .toResponse(any(CartProduct.class));
+    CartProductResponse cp2 = result.getCartProductList().get(1);
+    assertThat(cp2.isPriceChanged()).isTrue();
+    assertThat(cp2.getStock()).isEqualTo(3);
+    assertThat(cp2.isStockSufficient()).isFalse();
 
-  }
-
-  @Test
-  @DisplayName("사용자가 존재하지 않는 경우 오류가 발생한다.")
-  void getCartProduct_should_throwException_when_user_does_not_exist() {
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-      .thenReturn(Optional.empty());
+    verify(cartStore).getCartView(test_user.getId());
 
-    assertThatThrownBy(() -> cartService.getCartProduct(test_user.getEmail()))
-        .isInstanceOf(ServiceException.class)
-        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_USER.getMessage());
-
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verifyNoMoreInteractions(userRepository, cartRepository);
   }
 
   @Test
   @DisplayName("장바구니가 조회되지 않는 경우 오류가 발생한다.")
   void getCartProduct_should_throwException_when_cart_does_not_exist() {
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-      .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-      .thenReturn(Optional.empty());
+    when(cartStore.getCartView(test_user.getId()))
+      .thenThrow(new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
 
-    assertThatThrownBy(() -> cartService.getCartProduct(test_user.getEmail()))
+    assertThatThrownBy(() -> cartService.getCartProduct(test_user.getId()))
     .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verifyNoMoreInteractions(userRepository, cartRepository);
+    verify(cartStore).getCartView(test_user.getId());
+    verifyNoMoreInteractions(cartStore);
   }
 
   @Test
-  @DisplayName("장바구니에 없는 상품인 경우 상품 추가가 정상적으로 진행된다.")
+  @DisplayName("장바구니에 상품 추가가 정상적으로 진행된다.")
   void createCartProduct_should_create_cartProduct_successfully() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-        .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-        .thenReturn(Optional.of(test_cart));
-    when(cartProductRepository.findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId()))
-        .thenReturn(null);
     when(productOptionRepository.findByProductOptionId(createRequest.getProductOptionId()))
         .thenReturn(Optional.of(option1));
-    when(productRepository.findProductById(createRequest.getProductId()))
-        .thenReturn(Optional.of(product1));
-    when(cartProductRepository.save(any(CartProduct.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
-
-    cartService.createCartProduct(test_user.getEmail(), createRequest);
-
-    ArgumentCaptor<CartProduct> captor = ArgumentCaptor.forClass(CartProduct.class);
-    verify(cartProductRepository).save(captor.capture());
-
-    CartProduct cp = captor.getValue();
-    assertThat(cp.getCart()).isEqualTo(test_cart);
-    assertThat(cp.getProduct().getId()).isEqualTo(createRequest.getProductId());
-    assertThat(cp.getOption().getId()).isEqualTo(createRequest.getProductOptionId());
-    assertThat(cp.getQuantity()).isEqualTo(createRequest.getQuantity());
-
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verify(cartProductRepository).findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId());
+    when(cartStore.addItem(test_user.getId(), product1.getId(), option1.getId(), 5, product1.getPrice()))
+        .thenReturn(new CartItem(1L, product1.getId(), option1.getId(), 5, null));
+
+    cartService.createCartProduct(test_user.getId(), createRequest);
+
     verify(productOptionRepository).findByProductOptionId(createRequest.getProductOptionId());
-    verify(productRepository).findProductById(createRequest.getProductId());
+    verify(cartStore).addItem(test_user.getId(), product1.getId(), option1.getId(), 5, product1.getPrice());
+    verifyNoMoreInteractions(cartStore);
   }
 
   @Test
   @DisplayName("존재하지 않는 옵션인 경우 오류가 발생한다.")
   void createCartProduct_should_throwException_when_productOption_does_not_exist() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-        .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-        .thenReturn(Optional.of(test_cart));
-    when(cartProductRepository.findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId()))
-        .thenReturn(null);
     when(productOptionRepository.findByProductOptionId(createRequest.getProductOptionId()))
         .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> cartService.createCartProduct(test_user.getEmail(), createRequest))
+    assertThatThrownBy(() -> cartService.createCartProduct(test_user.getId(), createRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verify(cartProductRepository).findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId());
     verify(productOptionRepository).findByProductOptionId(createRequest.getProductOptionId());
+    verifyNoMoreInteractions(cartStore);
 
   }
 
   @Test
-  @DisplayName("재고보다 많은 수량이 요청되는 경우 오류가 발생한다.")
-  void createCartProduct_should_throwException_when_stock_is_not_sufficient() {
-    ReflectionTestUtils.setField(createRequest, "quantity", 40);
-
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-        .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-        .thenReturn(Optional.of(test_cart));
-    when(cartProductRepository.findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId()))
-        .thenReturn(null);
+  @DisplayName("옵션이 요청한 상품의 옵션이 아닌 경우 오류가 발생한다.")
+  void createCartProduct_should_throwException_when_productOption_belongs_to_other_product() {
+    ReflectionTestUtils.setField(createRequest, "productId", product2.getId());
+
     when(productOptionRepository.findByProductOptionId(createRequest.getProductOptionId()))
         .thenReturn(Optional.of(option1));
 
-    assertThatThrownBy(() -> cartService.createCartProduct(test_user.getEmail(), createRequest))
-      .isInstanceOf(ServiceException.class)
-      .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
-
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verify(cartProductRepository).findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId());
-    verify(productOptionRepository).findByProductOptionId(createRequest.getProductOptionId());
+    assertThatThrownBy(() -> cartService.createCartProduct(test_user.getId(), createRequest))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS.getMessage());
 
+    verifyNoMoreInteractions(cartStore);
   }
 
   @Test
-  @DisplayName("이미 장바구니에 존재하는 상품인 경우 상품 수량을 추가한다.")
-  void createCartProduct_should_increase_stock_when_cartProduct_already_exists() {
-
-    int originalQuantity = cartProducts.get(0).getQuantity();
-
-    when(userRepository.findByEmailAndDeletedAtIsNull(test_user.getEmail()))
-        .thenReturn(Optional.of(test_user));
-    when(cartRepository.findByUserId(test_user.getId()))
-        .thenReturn(Optional.of(test_cart));
-    when(cartProductRepository.findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId()))
-        .thenReturn(cartProducts.get(0));
+  @DisplayName("담긴 수량이 재고보다 많아지는 경우 추가한 수량을 되돌리고 오류가 발생한다.")
+  void createCartProduct_should_throwException_when_stock_is_not_sufficient() {
+
     when(productOptionRepository.findByProductOptionId(createRequest.getProductOptionId()))
         .thenReturn(Optional.of(option1));
+    when(cartStore.addItem(test_user.getId(), product1.getId(), option1.getId(), 5, product1.getPrice()))
+        .thenReturn(new CartItem(1L, product1.getId(), option1.getId(), 35, null));
 
-    cartService.createCartProduct(test_user.getEmail(), createRequest);
-
-    assertThat(cartProducts.get(0).getQuantity())
-        .isEqualTo(originalQuantity + createRequest.getQuantity());
+    assertThatThrownBy(() -> cartService.createCartProduct(test_user.getId(), createRequest))
+      .isInstanceOf(ServiceException.class)
+      .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(test_user.getEmail());
-    verify(cartRepository).findByUserId(test_user.getId());
-    verify(cartProductRepository).findExistingCartProduct(test_cart.getId(),
-        createRequest.getProductId(),
-        createRequest.getProductOptionId());
-    verify(productOptionRepository).findByProductOptionId(createRequest.getProductOptionId());
+    verify(cartStore).addItem(test_user.getId(), product1.getId(), option1.getId(), 5, product1.getPrice());
+    verify(cartStore).addItem(test_user.getId(), product1.getId(), option1.getId(), -5, product1.getPrice());
 
   }
 
   @Test
   @DisplayName("상품 수량이 정상적으로 수정된다.")
   void updateCartProduct_should_set_cartProduct_quantity_successfully() {
-    when(cartProductRepository.findByIdAndDeletedAtIsNull(cartProducts.get(1).getId()))
-      .thenReturn(Optional.of(cartProducts.get(1)));
+    when(cartStore.findItem(test_user.getId(), cartItems.get(1).id()))
+      .thenReturn(Optional.of(cartItems.get(1)));
+    when(productOptionRepository.findByProductOptionId(option2.getId()))
+        .thenReturn(Optional.of(option2));
+
+    cartService.updateCartProductQuantity(test_user.getId(), cartItems.get(1).id(), updateRequest);
 
-    cartService.updateCartProductQuantity(cartProducts.get(1).getId(), updateRequest);
+    verify(cartStore).updateQuantity(test_user.getId(), cartItems.get(1).id(), updateRequest.getQuantity());
+  }
+
+  @Test
+  @DisplayName("재고보다 많은 수량으로 수정하는 경우 오류가 발생한다.")
+  void updateCartProduct_should_throwException_when_stock_is_not_sufficient() {
+    ReflectionTestUtils.setField(updateRequest, "quantity", 41);
+
+    when(cartStore.findItem(test_user.getId(), cartItems.get(1).id()))
+        .thenReturn(Optional.of(cartItems.get(1)));
+    when(productOptionRepository.findByProductOptionId(option2.getId()))
+        .thenReturn(Optional.of(option2));
+
+    assertThatThrownBy(() ->
+        cartService.updateCartProductQuantity(test_user.getId(), cartItems.get(1).id(), updateRequest))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
 
-    assertThat(cartProducts.get(1).getQuantity()).isEqualTo(updateRequest.getQuantity());
-    verify(cartProductRepository).findByIdAndDeletedAtIsNull(cartProducts.get(1).getId());
+    verify(cartStore, never()).updateQuantity(anyLong(), anyLong(), anyInt());
   }
 
   @Test
   @DisplayName("장바구니에 상품이 존재하지 않는 경우 오류가 발생한다.")
   void updateCartProduct_should_throwException_when_cartProduct_does_not_exist() {
-    when(cartProductRepository.findByIdAndDeletedAtIsNull(cartProducts.get(1).getId()))
+    when(cartStore.findItem(test_user.getId(), cartItems.get(1).id()))
         .thenReturn(Optional.empty());
 
     assertThatThrownBy(() ->
-        cartService.updateCartProductQuantity(cartProducts.get(1).getId(), updateRequest))
+        cartService.updateCartProductQuantity(test_user.getId(), cartItems.get(1).id(), updateRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT.getMessage());
 
-    verify(cartProductRepository).findByIdAndDeletedAtIsNull(cartProducts.get(1).getId());
+    verify(cartStore).findItem(test_user.getId(), cartItems.get(1).id());
+    verifyNoMoreInteractions(cartStore);
   }
 
   @Test
   @DisplayName("장바구니에서 해당 상품이 정상적으로 삭제된다.")
   void deleteCartProduct() {
-    when(cartProductRepository.findByIdAndDeletedAtIsNull(cartProducts.get(1).getId()))
-        .thenReturn(Optional.of(cartProducts.get(1)));
 
-    cartService.deleteCartProduct(cartProducts.get(1).getId());
+    cartService.deleteCartProduct(test_user.getId(), cartItems.get(1).id());
 
-    assertThat(cartProducts.get(1).getDeletedAt()).isBeforeOrEqualTo(LocalDateTime.now());
-    verify(cartProductRepository).findByIdAndDeletedAtIsNull(cartProducts.get(1).getId());
+    verify(cartStore).removeItem(test_user.getId(), cartItems.get(1).id());
+  }
+
+  @Test
+  @DisplayName("여러 장바구니 변경 요청을 한 번에 검증하고 한 번에 반영한다.")
+  void applyCartProducts_should_apply_all_operations_at_once() {
+    Product product3 = createProduct(3L, "p3");
+    ProductOption option3 = createOption(3L, product3, 10);
+
+    when(cartStore.getCart(test_user.getId()))
+        .thenReturn(new CartContents(1L, cartItems));
+    when(productOptionRepository.findAllValidByIds(anyList()))
+        .thenReturn(List.of(option1, option2, option3));
+    when(productRepository.findAllByIn(anyList()))
+        .thenReturn(List.of(product1, product3));
+    when(cartStore.applyAll(anyLong(), anyLong(), anyList()))
+        .thenAnswer(invocation -> invocation.<List<CartMutation>>getArgument(2).stream()
+            .map(m -> new CartItem(m.itemId() != null ? m.itemId() : 100L,
+                m.productId(), m.productOptionId(), m.quantity(), null))
+            .toList());
+
+    CartBulkResponse result = cartService.applyCartProducts(test_user.getId(), bulkRequest(
+        bulkItem(CartOperationType.ADD, product1.getId(), option1.getId(), 5),
+        bulkItem(CartOperationType.ADD, product3.getId(), option3.getId(), 2),
+        bulkItem(CartOperationType.UPDATE, null, 2L, 7),
+        bulkItem(CartOperationType.REMOVE, null, 1L, null)));
+
+    assertThat(result.getResults()).allMatch(CartBulkItemResponse::isSuccess);
+    assertThat(result.getResults().get(1).getProductOptionId()).isEqualTo(option3.getId());
+
+    verify(productOptionRepository).findAllValidByIds(anyList());
+    verify(productRepository).findAllByIn(anyList());
+    verify(cartStore).applyAll(test_user.getId(), 1L, List.of(
+        new CartMutation(1L, product1.getId(), option1.getId(), 0, null),
+        new CartMutation(null, product3.getId(), option3.getId(), 2, product3.getPrice()),
+        new CartMutation(2L, product2.getId(), option2.getId(), 7, null)));
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 요청은 해당 줄만 실패로 응답하고 나머지는 반영한다.")
+  void applyCartProducts_should_report_failures_per_line() {
+    when(cartStore.getCart(test_user.getId()))
+        .thenReturn(new CartContents(1L, cartItems));
+    when(productOptionRepository.findAllValidByIds(anyList()))
+        .thenReturn(List.of(option1, option2));
+    when(productRepository.findAllByIn(anyList()))
+        .thenReturn(List.of(product1));
+    when(cartStore.applyAll(anyLong(), anyLong(), anyList()))
+        .thenReturn(List.of(new CartItem(2L, product2.getId(), option2.getId(), 3, null)));
+
+    CartBulkResponse result = cartService.applyCartProducts(test_user.getId(), bulkRequest(
+        bulkItem(CartOperationType.ADD, product1.getId(), option1.getId(), 21),
+        bulkItem(CartOperationType.REMOVE, null, 99L, null),
+        bulkItem(CartOperationType.UPDATE, null, 2L, 0),
+        bulkItem(CartOperationType.UPDATE, null, 2L, 3)));
+
+    assertThat(result.getResults())
+        .extracting(CartBulkItemResponse::getCode)
+        .containsExactly(
+            ServiceExceptionCode.INSUFFICIENT_STOCK.name(),
+            ServiceExceptionCode.NOT_FOUND_CART_PRODUCT.name(),
+            ServiceExceptionCode.INVALID_CART_QUANTITY.name(),
+            null);
+    assertThat(result.getResults().get(3).getQuantity()).isEqualTo(3);
+
+    verify(cartStore).applyAll(test_user.getId(), 1L, List.of(
+        new CartMutation(2L, product2.getId(), option2.getId(), 3, null)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JpaCartStoreTest {
+
+  @InjectMocks
+  private JpaCartStore jpaCartStore;
+
+  @Mock
+  private CartRepository cartRepository;
+
+  @Mock
+  private CartProductRepository cartProductRepository;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  private Cart cart;
+  private Product product;
+  private ProductOption option;
+  private CartProduct cartProduct;
+
+  @BeforeEach
+  void setUp() {
+    cart = new Cart();
+    ReflectionTestUtils.setField(cart, "id", 1L);
+
+    product = new Product();
+    ReflectionTestUtils.setField(product, "id", 1L);
+
+    option = new ProductOption();
+    ReflectionTestUtils.setField(option, "id", 1L);
+    ReflectionTestUtils.setField(option, "product", product);
+
+    cartProduct = CartProduct.builder()
+        .cart(cart)
+        .product(product)
+        .option(option)
+        .quantity(10)
+        .build();
+    ReflectionTestUtils.setField(cartProduct, "id", 7L);
+  }
+
+  @Test
+  @DisplayName("장바구니에 없는 상품인 경우 새 장바구니 상품을 저장한다.")
+  void addItem_should_save_new_cartProduct() {
+    when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
+    when(cartProductRepository.findExistingCartProduct(1L, 1L, 1L)).thenReturn(null);
+    when(productRepository.getReferenceById(1L)).thenReturn(product);
+    when(productOptionRepository.getReferenceById(1L)).thenReturn(option);
+    when(cartProductRepository.save(any(CartProduct.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    CartItem item = jpaCartStore.addItem(1L, 1L, 1L, 5, null);
+
+    ArgumentCaptor<CartProduct> captor = ArgumentCaptor.forClass(CartProduct.class);
+    verify(cartProductRepository).save(captor.capture());
+    assertThat(captor.getValue().getCart()).isEqualTo(cart);
+    assertThat(captor.getValue().getQuantity()).isEqualTo(5);
+    assertThat(item.quantity()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("이미 장바구니에 존재하는 상품인 경우 상품 수량을 추가한다.")
+  void addItem_should_increase_quantity_when_cartProduct_already_exists() {
+    when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
+    when(cartProductRepository.findExistingCartProduct(1L, 1L, 1L)).thenReturn(cartProduct);
+
+    CartItem item = jpaCartStore.addItem(1L, 1L, 1L, 5, null);
+
+    assertThat(cartProduct.getQuantity()).isEqualTo(15);
+    assertThat(item).isEqualTo(new CartItem(1L, 1L, 1L, 15, null));
+    verify(cartProductRepository, never()).save(any(CartProduct.class));
+  }
+
+  @Test
+  @DisplayName("다른 사용자의 장바구니 상품은 삭제할 수 없다.")
+  void removeItem_should_throwException_when_cartProduct_is_not_in_users_cart() {
+    when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
+    when(cartProductRepository.findAllByOptionIdIn(1L, List.of(1L))).thenReturn(List.of());
+
+    assertThatThrownBy(() -> jpaCartStore.removeItem(1L, 1L))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT.getMessage());
+  }
+
+  @Test
+  @DisplayName("장바구니 상품 삭제 시 삭제 일시를 기록한다.")
+  void removeItem_should_soft_delete_cartProduct() {
+    when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
+    when(cartProductRepository.findAllByOptionIdIn(1L, List.of(1L))).thenReturn(List.of(cartProduct));
+
+    jpaCartStore.removeItem(1L, 1L);
+
+    assertThat(cartProduct.getDeletedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("일괄 변경 시 기존 상품은 수정하고 새 상품은 한 번에 저장한다.")
+  @SuppressWarnings("unchecked")
+  void applyAll_should_update_existing_and_save_new_cartProducts_together() {
+    when(cartProductRepository.findAllByOptionIdIn(1L, List.of(1L))).thenReturn(List.of(cartProduct));
+    when(cartRepository.getReferenceById(1L)).thenReturn(cart);
+    when(productRepository.getReferenceById(2L)).thenReturn(product);
+    when(productOptionRepository.getReferenceById(2L)).thenReturn(option);
+
+    List<CartItem> items = jpaCartStore.applyAll(1L, 1L, List.of(
+        new CartMutation(1L, 1L, 1L, 3, null),
+        new CartMutation(null, 2L, 2L, 4, null)));
+
+    assertThat(cartProduct.getQuantity()).isEqualTo(3);
+    assertThat(items).extracting(CartItem::quantity).containsExactly(3, 4);
+
+    ArgumentCaptor<List<CartProduct>> captor = ArgumentCaptor.forClass(List.class);
+    verify(cartProductRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).singleElement()
+        .satisfies(created -> assertThat(created.getQuantity()).isEqualTo(4));
+  }
+
+}
@@ -0,0 +1,145 @@
+package com.sparta.camp.java.FinalProject.domain.cart.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
+import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCartFlusherTest {
+
+  @InjectMocks
+  private RedisCartFlusher redisCartFlusher;
+
+  @Mock
+  private RedisCartStore redisCartStore;
+
+  @Mock
+  private CartRepository cartRepository;
+
+  @Mock
+  private CartProductRepository cartProductRepository;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private Cart cart;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(redisCartFlusher, "batchSize", 100);
+
+    cart = new Cart();
+    ReflectionTestUtils.setField(cart, "id", 10L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void runTransactionCallback() {
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+  }
+
+  private CartProduct cartProduct(Long optionId, int quantity) {
+    Product product = new Product();
+    ReflectionTestUtils.setField(product, "id", optionId);
+    ProductOption option = new ProductOption();
+    ReflectionTestUtils.setField(option, "id", optionId);
+
+    return CartProduct.builder()
+        .cart(cart)
+        .product(product)
+        .option(option)
+        .quantity(quantity)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Redis 장바구니 상태를 DB에 반영한다.")
+  @SuppressWarnings("unchecked")
+  void flush_should_reconcile_cart_products() {
+    CartProduct changed = cartProduct(1L, 2);
+    CartProduct removed = cartProduct(2L, 1);
+
+    when(redisCartStore.popDirtyUsers(100)).thenReturn(List.of(1L));
+    when(redisCartStore.findCached(1L)).thenReturn(Optional.of(new CartContents(10L, List.of(
+        new CartItem(1L, 1L, 1L, 5, null),
+        new CartItem(3L, 3L, 3L, 1, null)))));
+    when(cartProductRepository.findAllByCartIdIn(List.of(10L))).thenReturn(List.of(changed, removed));
+    when(cartRepository.getReferenceById(10L)).thenReturn(cart);
+    runTransactionCallback();
+
+    redisCartFlusher.flush();
+
+    assertThat(changed.getQuantity()).isEqualTo(5);
+    assertThat(changed.getDeletedAt()).isNull();
+    assertThat(removed.getDeletedAt()).isNotNull();
+
+    ArgumentCaptor<List<CartProduct>> captor = ArgumentCaptor.forClass(List.class);
+    verify(cartProductRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).singleElement()
+        .satisfies(created -> assertThat(created.getQuantity()).isEqualTo(1));
+    verify(redisCartStore, never()).markDirty(any());
+  }
+
+  @Test
+  @DisplayName("변경된 장바구니가 없으면 DB에 접근하지 않는다.")
+  void flush_should_skip_when_no_dirty_carts() {
+    when(redisCartStore.popDirtyUsers(anyInt())).thenReturn(List.of());
+
+    redisCartFlusher.flush();
+
+    verify(transactionTemplate, never()).executeWithoutResult(any());
+  }
+
+  @Test
+  @DisplayName("DB 반영에 실패하면 사용자를 다시 변경 목록에 등록한다.")
+  @SuppressWarnings("unchecked")
+  void flush_should_mark_users_dirty_again_when_persist_fails() {
+    when(redisCartStore.popDirtyUsers(100)).thenReturn(List.of(1L, 2L));
+    doThrow(new QueryTimeoutException("timeout"))
+        .when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+    assertThatThrownBy(() -> redisCartFlusher.flush())
+        .isInstanceOf(QueryTimeoutException.class);
+
+    verify(redisCartStore).markDirty(List.of(1L, 2L));
+  }
+
+}
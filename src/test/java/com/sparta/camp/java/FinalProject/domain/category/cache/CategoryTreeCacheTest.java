@@ -0,0 +1,172 @@
+package com.sparta.camp.java.FinalProject.domain.category.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryResponse;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeCacheTest {
+
+  @InjectMocks
+  private CategoryTreeCache categoryTreeCache;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+  private Category outer;
+  private Category padding;
+  private Category top;
+
+  @BeforeEach
+  void setUp() {
+    outer = category(1L, "outer", null);
+    padding = category(2L, "padding", outer);
+    top = category(3L, "top", null);
+  }
+
+  private Category category(Long id, String name, Category parent) {
+    Category category = Category.builder()
+        .name(name)
+        .parent(parent)
+        .build();
+    ReflectionTestUtils.setField(category, "id", id);
+    return category;
+  }
+
+  @Test
+  @DisplayName("스냅샷은 부모-자식 관계로 카테고리 트리를 구성한다.")
+  void snapshot_should_build_category_tree() {
+    CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, List.of(outer, padding, top));
+
+    assertThat(snapshot.categories())
+        .extracting(CategoryResponse::getId)
+        .containsExactly(1L, 3L);
+    assertThat(snapshot.categories().get(0).getChildren())
+        .extracting(CategoryResponse::getId)
+        .containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("ETag는 버전이 아니라 트리 내용으로 결정된다.")
+  void snapshot_eTag_should_depend_on_content() {
+    CategoryTreeSnapshot first = CategoryTreeSnapshot.of(1L, List.of(outer, padding, top));
+    CategoryTreeSnapshot sameContent = CategoryTreeSnapshot.of(9L, List.of(outer, padding, top));
+    CategoryTreeSnapshot changed = CategoryTreeSnapshot.of(1L, List.of(outer, top));
+
+    assertThat(sameContent.eTag()).isEqualTo(first.eTag());
+    assertThat(changed.eTag()).isNotEqualTo(first.eTag());
+  }
+
+  @Test
+  @DisplayName("스냅샷이 있으면 DB를 다시 조회하지 않는다.")
+  void get_should_reuse_snapshot() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.increment(CategoryTreeCache.VERSION_KEY, 0)).thenReturn(4L);
+    when(categoryRepository.findCategoryAll()).thenReturn(List.of(outer, padding, top));
+
+    CategoryTreeSnapshot first = categoryTreeCache.get();
+    CategoryTreeSnapshot second = categoryTreeCache.get();
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.version()).isEqualTo(4L);
+    verify(categoryRepository, times(1)).findCategoryAll();
+  }
+
+  @Test
+  @DisplayName("카테고리가 변경되면 새 버전으로 스냅샷을 교체하고 다른 노드에 알린다.")
+  void invalidate_should_swap_snapshot_and_publish_version() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.increment(CategoryTreeCache.VERSION_KEY)).thenReturn(5L);
+    when(categoryRepository.findCategoryAll()).thenReturn(List.of(outer, top));
+
+    categoryTreeCache.invalidate();
+
+    assertThat(categoryTreeCache.get().version()).isEqualTo(5L);
+    verify(redisTemplate).convertAndSend(CategoryTreeCache.CHANNEL, "5");
+  }
+
+  @Test
+  @DisplayName("버전 카운터가 낮아져도 변경 시 새로 조회한 스냅샷으로 교체한다.")
+  void invalidate_should_swap_snapshot_even_when_version_goes_back() {
+    doReturn(serializer).when(redisTemplate).getValueSerializer();
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.increment(CategoryTreeCache.VERSION_KEY)).thenReturn(1L);
+    when(categoryRepository.findCategoryAll())
+        .thenReturn(List.of(outer, padding, top))
+        .thenReturn(List.of(outer, top));
+
+    categoryTreeCache.onMessage(message("7"), null);
+    categoryTreeCache.invalidate();
+
+    CategoryTreeSnapshot snapshot = categoryTreeCache.get();
+    assertThat(snapshot.version()).isEqualTo(1L);
+    assertThat(snapshot.categories().get(0).getChildren()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("이미 반영된 버전의 변경 알림은 무시한다.")
+  void onMessage_should_ignore_applied_version() {
+    doReturn(serializer).when(redisTemplate).getValueSerializer();
+    when(categoryRepository.findCategoryAll()).thenReturn(List.of(outer, padding, top));
+
+    categoryTreeCache.onMessage(message("7"), null);
+    categoryTreeCache.onMessage(message("7"), null);
+
+    assertThat(categoryTreeCache.get().version()).isEqualTo(7L);
+    verify(categoryRepository, times(1)).findCategoryAll();
+    verify(redisTemplate, never()).convertAndSend(CategoryTreeCache.CHANNEL, "7");
+  }
+
+  @Test
+  @DisplayName("다른 버전의 변경 알림은 순서와 관계없이 DB에서 다시 조회한다.")
+  void onMessage_should_reload_on_different_version() {
+    doReturn(serializer).when(redisTemplate).getValueSerializer();
+    when(categoryRepository.findCategoryAll())
+        .thenReturn(List.of(outer, padding, top))
+        .thenReturn(List.of(outer, top));
+
+    categoryTreeCache.onMessage(message("7"), null);
+    categoryTreeCache.onMessage(message("2"), null);
+
+    CategoryTreeSnapshot snapshot = categoryTreeCache.get();
+    assertThat(snapshot.version()).isEqualTo(2L);
+    assertThat(snapshot.categories().get(0).getChildren()).isEmpty();
+  }
+
+  private DefaultMessage message(String version) {
+    return new DefaultMessage(CategoryTreeCache.CHANNEL.getBytes(), serializer.serialize(version));
+  }
+
+}
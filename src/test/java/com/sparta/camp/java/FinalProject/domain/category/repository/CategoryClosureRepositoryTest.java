@@ -0,0 +1,88 @@
+package com.sparta.camp.java.FinalProject.domain.category.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.category.entity.CategoryClosureId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CategoryClosureRepositoryTest {
+
+  @Autowired
+  CategoryClosureRepository categoryClosureRepository;
+
+  @Autowired
+  TestEntityManager em;
+
+  private Category outer;
+  private Category padding;
+  private Category longPadding;
+  private Category top;
+
+  @BeforeEach
+  void setUp() {
+    outer = persistCategory("outer", null);
+    padding = persistCategory("padding", outer);
+    longPadding = persistCategory("long_padding", padding);
+    top = persistCategory("top", null);
+    em.flush();
+    em.clear();
+  }
+
+  private Category persistCategory(String name, Category parent) {
+    Category category = Category.builder()
+        .name(name)
+        .parent(parent)
+        .build();
+    em.persist(category);
+    categoryClosureRepository.insertPaths(category.getId(), parent != null ? parent.getId() : null);
+    return category;
+  }
+
+  @Test
+  @DisplayName("카테고리 생성 시 모든 조상과의 경로가 저장된다")
+  void insertPaths_should_store_paths_to_all_ancestors() {
+    assertThat(categoryClosureRepository.findDescendantIds(outer.getId()))
+        .containsExactlyInAnyOrder(outer.getId(), padding.getId(), longPadding.getId());
+    assertThat(categoryClosureRepository.existsPath(outer.getId(), longPadding.getId())).isTrue();
+    assertThat(categoryClosureRepository.existsPath(longPadding.getId(), outer.getId())).isFalse();
+  }
+
+  @Test
+  @DisplayName("하위 트리를 다른 부모로 옮기면 기존 조상 경로는 제거되고 새 조상 경로가 생긴다")
+  void moveSubtree_should_replace_ancestor_paths() {
+    categoryClosureRepository.detachSubtree(categoryClosureRepository.findDescendantIds(padding.getId()));
+    categoryClosureRepository.attachSubtree(padding.getId(), top.getId());
+    em.flush();
+    em.clear();
+
+    assertThat(categoryClosureRepository.findDescendantIds(outer.getId()))
+        .containsExactly(outer.getId());
+    assertThat(categoryClosureRepository.findDescendantIds(top.getId()))
+        .containsExactlyInAnyOrder(top.getId(), padding.getId(), longPadding.getId());
+    assertThat(categoryClosureRepository.findById(
+        new CategoryClosureId(top.getId(), longPadding.getId())))
+        .hasValueSatisfying(closure -> assertThat(closure.getDepth()).isEqualTo(2));
+  }
+
+  @Test
+  @DisplayName("카테고리 삭제 시 해당 카테고리의 경로가 제거된다")
+  void deletePaths_should_remove_paths_of_category() {
+    categoryClosureRepository.deletePaths(longPadding.getId());
+
+    assertThat(categoryClosureRepository.findDescendantIds(outer.getId()))
+        .containsExactlyInAnyOrder(outer.getId(), padding.getId());
+    assertThat(categoryClosureRepository.findDescendantIds(longPadding.getId())).isEmpty();
+  }
+
+}
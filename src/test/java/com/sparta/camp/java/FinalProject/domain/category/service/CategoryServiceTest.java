@@ -12,11 +12,14 @@ import static org.mockito.Mockito.when;
 
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.category.cache.CategoryTreeCache;
+import com.sparta.camp.java.FinalProject.domain.category.cache.CategoryTreeSnapshot;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryResponse;
 import com.sparta.camp.java.FinalProject.domain.category.dto.CategoryUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
 import com.sparta.camp.java.FinalProject.domain.category.mapper.CategoryMapper;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
 import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
 import java.util.ArrayList;
@@ -32,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,12 +47,21 @@ class CategoryServiceTest {
   @Mock
   private CategoryRepository categoryRepository;
 
+  @Mock
+  private CategoryClosureRepository categoryClosureRepository;
+
+  @Mock
+  private CategoryTreeCache categoryTreeCache;
+
   @Mock
   private ProductRepository productRepository;
 
   @Mock
   private CategoryMapper categoryMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private Long categoryId = 1L;
 
   private CategoryCreateRequest createWithParent;
@@ -130,15 +143,15 @@ class CategoryServiceTest {
   }
 
   @Test
-  @DisplayName("카테고리 계층이 정상적으로 조회된다.")
-  void getCategoryHierarchy_should_return_categories() {
-    when(categoryRepository.findCategoryAll())
-        .thenReturn(categoryList);
+  @DisplayName("카테고리 계층이 캐시된 스냅샷에서 조회된다.")
+  void getCategoryTree_should_return_cached_snapshot() {
+    CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(3L, categoryList);
+    when(categoryTreeCache.get()).thenReturn(snapshot);
 
-    List<CategoryResponse> result = categoryService.getCategoryHierarchy();
+    CategoryTreeSnapshot result = categoryService.getCategoryTree();
 
-    assertThat(result).isNotNull();
-    verify(categoryRepository).findCategoryAll();
+    assertThat(result).isSameAs(snapshot);
+    verify(categoryRepository, never()).findCategoryAll();
   }
 
   @Test
@@ -236,6 +249,49 @@ class CategoryServiceTest {
     verify(categoryRepository, times(2)).findCategoryById(anyLong());
   }
 
+  @Test
+  @DisplayName("하위 카테고리를 부모 카테고리로 지정하면 수정 시 오류가 발생한다.")
+  void updateCategory_should_throwException_when_parent_is_descendant() {
+    Category child = childCategoryList.get(0);
+
+    when(categoryRepository.findCategoryById(testCategory.getId()))
+        .thenReturn(Optional.of(testCategory));
+    when(categoryRepository.findCategoryById(child.getId()))
+        .thenReturn(Optional.of(child));
+    when(categoryClosureRepository.existsPath(testCategory.getId(), child.getId()))
+        .thenReturn(true);
+
+    CategoryUpdateRequest request = requestUpdate(testCategory.getId(), child.getId(), "cycle");
+
+    assertThatThrownBy(() -> categoryService.updateCategory(testCategory.getId(), request))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.NOT_ALLOWED_SELF_PARENT.getMessage());
+
+    verify(categoryClosureRepository, never()).detachSubtree(any());
+  }
+
+  @Test
+  @DisplayName("부모 카테고리가 바뀌면 하위 트리 경로가 새 부모 아래로 옮겨진다.")
+  void updateCategory_should_move_subtree_when_parent_changed() {
+    List<Long> subtreeIds = List.of(testCategory.getId(), 20L, 21L);
+
+    when(categoryRepository.findCategoryById(testCategory.getId()))
+        .thenReturn(Optional.of(testCategory));
+    when(categoryRepository.findCategoryById(testCategory2.getId()))
+        .thenReturn(Optional.of(testCategory2));
+    when(categoryClosureRepository.findDescendantIds(testCategory.getId()))
+        .thenReturn(subtreeIds);
+
+    CategoryUpdateRequest request =
+        requestUpdate(testCategory.getId(), testCategory2.getId(), "moved");
+    categoryService.updateCategory(testCategory.getId(), request);
+
+    assertThat(testCategory.getParent()).isEqualTo(testCategory2);
+    verify(categoryClosureRepository).detachSubtree(subtreeIds);
+    verify(categoryClosureRepository).attachSubtree(testCategory.getId(), testCategory2.getId());
+    verify(categoryTreeCache).invalidate();
+  }
+
   @Test
   @DisplayName("하위 카테고리가 없으면 정상적으로 삭제된다.")
   void deleteCategory_should_delete_category_successfully() {
@@ -249,6 +305,8 @@ class CategoryServiceTest {
     assertThat(testCategory.getDeletedAt()).isNotNull();
     verify(categoryRepository).findCategoryById(1L);
     verify(categoryRepository).findCategoryByParentId(1L);
+    verify(categoryClosureRepository).deletePaths(1L);
+    verify(categoryTreeCache).invalidate();
   }
 
   @Test
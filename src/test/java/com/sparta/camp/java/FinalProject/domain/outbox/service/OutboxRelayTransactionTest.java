@@ -0,0 +1,126 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.common.enums.OutboxStatus;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.outbox.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({
+    OutboxService.class,
+    OutboxRelayTransactionTest.HandlerConfig.class
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTransactionTest {
+
+  private static final String SIDE_EFFECT = "SIDE_EFFECT";
+
+  @Autowired
+  OutboxService outboxService;
+
+  @Autowired
+  OutboxEventRepository outboxEventRepository;
+
+  @AfterEach
+  void tearDown() {
+    outboxEventRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("핸들러가 실패하면 해당 이벤트의 변경만 롤백되고 실패 기록은 남으며 다른 이벤트는 발행된다.")
+  void relay_should_isolate_failing_handler_per_event() {
+    OutboxEvent failing = outboxEventRepository.save(createEvent("FailingEvent", 1L));
+    OutboxEvent succeeding = outboxEventRepository.save(createEvent("SucceedingEvent", 2L));
+
+    int relayed = outboxService.relay(100);
+
+    assertThat(relayed).isEqualTo(2);
+
+    OutboxEvent failed = outboxEventRepository.findById(failing.getId()).orElseThrow();
+    assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    assertThat(failed.getAttempts()).isEqualTo(1);
+    assertThat(failed.getLastError()).isEqualTo("handler failed");
+    assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+    OutboxEvent published = outboxEventRepository.findById(succeeding.getId()).orElseThrow();
+    assertThat(published.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+
+    assertThat(outboxEventRepository.findAll())
+        .filteredOn(event -> SIDE_EFFECT.equals(event.getAggregateType()))
+        .extracting(OutboxEvent::getAggregateId)
+        .containsExactly(2L);
+  }
+
+  private static OutboxEvent createEvent(String eventType, Long aggregateId) {
+    return OutboxEvent.builder()
+        .aggregateType("PURCHASE")
+        .aggregateId(aggregateId)
+        .eventType(eventType)
+        .payload("{}")
+        .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+        .build();
+  }
+
+  @TestConfiguration
+  static class HandlerConfig {
+
+    @Bean
+    ObjectMapper objectMapper() {
+      return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Bean
+    OutboxEventHandler failingHandler(OutboxEventRepository outboxEventRepository) {
+      return new SideEffectHandler("FailingEvent", outboxEventRepository, true);
+    }
+
+    @Bean
+    OutboxEventHandler succeedingHandler(OutboxEventRepository outboxEventRepository) {
+      return new SideEffectHandler("SucceedingEvent", outboxEventRepository, false);
+    }
+  }
+
+  private record SideEffectHandler(String eventType, OutboxEventRepository repository,
+                                   boolean fail) implements OutboxEventHandler {
+
+    @Override
+    public String getEventType() {
+      return eventType;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+      repository.save(OutboxEvent.builder()
+          .aggregateType(SIDE_EFFECT)
+          .aggregateId(event.getAggregateId())
+          .eventType("SideEffectEvent")
+          .payload("{}")
+          .nextAttemptAt(LocalDateTime.now().plusDays(1))
+          .build());
+
+      if (fail) {
+        throw new IllegalStateException("handler failed");
+      }
+    }
+  }
+
+}
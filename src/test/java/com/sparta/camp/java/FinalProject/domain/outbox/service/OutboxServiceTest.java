@@ -0,0 +1,185 @@
+package com.sparta.camp.java.FinalProject.domain.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.OutboxStatus;
+import com.sparta.camp.java.FinalProject.domain.outbox.entity.OutboxEvent;
+import com.sparta.camp.java.FinalProject.domain.outbox.event.OutboxEventHandler;
+import com.sparta.camp.java.FinalProject.domain.outbox.repository.OutboxEventRepository;
+import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentCompletedEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private OutboxEventHandler paymentCompletedHandler;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private OutboxService outboxService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(paymentCompletedHandler.getEventType()).thenReturn("PaymentCompletedEvent");
+    lenient().when(paymentCompletedHandler.requiresTransaction()).thenReturn(true);
+
+    outboxService = new OutboxService(outboxEventRepository,
+        Jackson2ObjectMapperBuilder.json().build(), List.of(paymentCompletedHandler),
+        transactionManager);
+    ReflectionTestUtils.setField(outboxService, "maxAttempts", 2);
+    ReflectionTestUtils.setField(outboxService, "claimLease", Duration.ofMinutes(1));
+    ReflectionTestUtils.setField(outboxService, "retryBackoff", Duration.ofSeconds(5));
+    ReflectionTestUtils.setField(outboxService, "maxRetryBackoff", Duration.ofMinutes(10));
+  }
+
+  @Test
+  @DisplayName("이벤트를 아웃박스에 저장한다.")
+  void append_should_save_outbox_event() {
+    outboxService.append(new PaymentCompletedEvent(1L));
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+
+    OutboxEvent event = captor.getValue();
+    assertThat(event.getAggregateType()).isEqualTo("PURCHASE");
+    assertThat(event.getAggregateId()).isEqualTo(1L);
+    assertThat(event.getEventType()).isEqualTo("PaymentCompletedEvent");
+    assertThat(event.getPayload()).isEqualTo("{\"purchaseId\":1}");
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+  }
+
+  @Test
+  @DisplayName("대기 중인 이벤트를 핸들러에 전달하고 발행 완료 처리한다.")
+  void relay_should_dispatch_event_and_mark_published() throws Exception {
+    OutboxEvent event = createEvent("PaymentCompletedEvent");
+    when(outboxEventRepository.findPublishableForUpdate(eq(OutboxStatus.PENDING),
+        any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+    when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+    int relayed = outboxService.relay(100);
+
+    assertThat(relayed).isEqualTo(1);
+    verify(paymentCompletedHandler).handle(event);
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+    assertThat(event.getPublishedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("핸들러가 실패하면 재시도 시각을 미루고 최대 횟수 초과 시 실패 처리한다.")
+  void relay_should_retry_later_and_fail_after_max_attempts() throws Exception {
+    OutboxEvent event = createEvent("PaymentCompletedEvent");
+    when(outboxEventRepository.findPublishableForUpdate(eq(OutboxStatus.PENDING),
+        any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+    when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+    doThrow(new IllegalStateException("redis down")).when(paymentCompletedHandler).handle(event);
+
+    outboxService.relay(100);
+
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    assertThat(event.getAttempts()).isEqualTo(1);
+    assertThat(event.getLastError()).isEqualTo("redis down");
+    assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+    outboxService.relay(100);
+
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    assertThat(event.getAttempts()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("처리할 핸들러가 없는 이벤트는 발행 완료 처리한다.")
+  void relay_should_mark_published_when_no_handler() throws Exception {
+    OutboxEvent event = createEvent("PurchaseStatusChangedEvent");
+    when(outboxEventRepository.findPublishableForUpdate(eq(OutboxStatus.PENDING),
+        any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+    when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+    outboxService.relay(100);
+
+    verify(paymentCompletedHandler, never()).handle(any());
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+  }
+
+  @Test
+  @DisplayName("처리 중인 이벤트는 임대 시간 동안 다른 릴레이가 가져가지 않도록 재시도 시각을 미룬다.")
+  void relay_should_lease_claimed_events() throws Exception {
+    OutboxEvent event = createEvent("PaymentCompletedEvent");
+    when(outboxEventRepository.findPublishableForUpdate(eq(OutboxStatus.PENDING),
+        any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+    when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+    LocalDateTime[] nextAttemptAt = new LocalDateTime[1];
+    doAnswer(invocation -> {
+      nextAttemptAt[0] = event.getNextAttemptAt();
+      return null;
+    }).when(paymentCompletedHandler).handle(event);
+
+    outboxService.relay(100);
+
+    assertThat(nextAttemptAt[0]).isAfter(LocalDateTime.now().plusSeconds(30));
+  }
+
+  @Test
+  @DisplayName("트랜잭션이 필요 없는 핸들러는 트랜잭션 밖에서 실행한다.")
+  void relay_should_run_non_transactional_handler_outside_transaction() throws Exception {
+    OutboxEvent event = createEvent("PaymentCompletedEvent");
+    when(outboxEventRepository.findPublishableForUpdate(eq(OutboxStatus.PENDING),
+        any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+    when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+    when(paymentCompletedHandler.requiresTransaction()).thenReturn(false);
+
+    outboxService.relay(100);
+
+    InOrder inOrder = inOrder(transactionManager, paymentCompletedHandler);
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(paymentCompletedHandler).handle(event);
+    inOrder.verify(transactionManager).getTransaction(any());
+    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+  }
+
+  private OutboxEvent createEvent(String eventType) {
+    OutboxEvent event = OutboxEvent.builder()
+        .aggregateType("PURCHASE")
+        .aggregateId(1L)
+        .eventType(eventType)
+        .payload("{\"purchaseId\":1}")
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+    ReflectionTestUtils.setField(event, "id", 1L);
+    return event;
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.CancelType;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentCancelRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientPaymentClientTest {
+
+  @Mock
+  private PaymentGateway paymentGateway;
+
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  private ResilientPaymentClient resilientPaymentClient;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(2)
+        .failureRateThreshold(50)
+        .recordException(new PaymentFailurePredicate())
+        .build());
+
+    RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+        .maxAttempts(3)
+        .waitDuration(Duration.ofMillis(1))
+        .retryOnException(new PaymentFailurePredicate())
+        .build());
+
+    resilientPaymentClient = new ResilientPaymentClient(paymentGateway, circuitBreakerRegistry,
+        retryRegistry);
+  }
+
+  @Test
+  @DisplayName("일시적인 오류는 같은 멱등키로 재시도한다.")
+  void confirmPayment_should_retry_with_same_idempotency_key_when_transient_error() throws Exception {
+    PaymentConfirmRequest request = createConfirmRequest();
+    PaymentConfirmResponse response = PaymentConfirmResponse.builder().paymentKey("pk_1").build();
+
+    when(paymentGateway.confirmPayment(any(), anyString()))
+        .thenThrow(new PaymentException("PAYMENT_API_TIMEOUT", "timeout"))
+        .thenReturn(response);
+
+    PaymentConfirmResponse result = resilientPaymentClient.confirmPayment(request);
+
+    assertThat(result).isSameAs(response);
+    verify(paymentGateway, times(2)).confirmPayment(request, "confirm-1-pk_1");
+  }
+
+  @Test
+  @DisplayName("같은 주문이라도 결제 키가 다르면 다른 멱등키로 승인을 요청한다.")
+  void confirmPayment_should_use_distinct_idempotency_key_per_payment_key() throws Exception {
+    PaymentConfirmRequest retried = PaymentConfirmRequest.builder()
+        .paymentKey("pk_2")
+        .purchaseId(1L)
+        .amount(BigDecimal.valueOf(10000))
+        .build();
+
+    resilientPaymentClient.confirmPayment(createConfirmRequest());
+    resilientPaymentClient.confirmPayment(retried);
+
+    verify(paymentGateway).confirmPayment(any(), eq("confirm-1-pk_1"));
+    verify(paymentGateway).confirmPayment(any(), eq("confirm-1-pk_2"));
+  }
+
+  @Test
+  @DisplayName("결제 거절 등 비즈니스 오류는 재시도하지 않는다.")
+  void confirmPayment_should_not_retry_when_business_error() throws Exception {
+    when(paymentGateway.confirmPayment(any(), anyString()))
+        .thenThrow(new PaymentException("REJECT_CARD_PAYMENT", "거절"));
+
+    assertThatThrownBy(() -> resilientPaymentClient.confirmPayment(createConfirmRequest()))
+        .isInstanceOf(PaymentException.class)
+        .extracting("code")
+        .isEqualTo("REJECT_CARD_PAYMENT");
+
+    verify(paymentGateway, times(1)).confirmPayment(any(), anyString());
+    assertThat(circuitBreakerRegistry.circuitBreaker(ResilientPaymentClient.INSTANCE_NAME)
+        .getMetrics().getNumberOfFailedCalls()).isZero();
+  }
+
+  @Test
+  @DisplayName("서킷이 열려 있으면 결제사를 호출하지 않고 즉시 실패한다.")
+  void confirmPayment_should_fail_fast_when_circuit_open() throws Exception {
+    circuitBreakerRegistry.circuitBreaker(ResilientPaymentClient.INSTANCE_NAME)
+        .transitionToOpenState();
+
+    assertThatThrownBy(() -> resilientPaymentClient.confirmPayment(createConfirmRequest()))
+        .isInstanceOf(PaymentException.class)
+        .extracting("code")
+        .isEqualTo("PAYMENT_CIRCUIT_OPEN");
+
+    verify(paymentGateway, never()).confirmPayment(any(), anyString());
+  }
+
+  @Test
+  @DisplayName("일시적인 오류가 누적되면 서킷이 열린다.")
+  void confirmPayment_should_open_circuit_when_failures_exceed_threshold() throws Exception {
+    when(paymentGateway.confirmPayment(any(), eq("confirm-1-pk_1")))
+        .thenThrow(new PaymentException("PAYMENT_API_ERROR", "connection reset"));
+
+    assertThatThrownBy(() -> resilientPaymentClient.confirmPayment(createConfirmRequest()))
+        .isInstanceOf(PaymentException.class);
+
+    assertThat(circuitBreakerRegistry.circuitBreaker(ResilientPaymentClient.INSTANCE_NAME)
+        .getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    verify(paymentGateway, times(2)).confirmPayment(any(), anyString());
+  }
+
+  @Test
+  @DisplayName("미기록 결제 환불은 재요청해도 같은 멱등키를 사용한다.")
+  void refundPayment_should_use_deterministic_idempotency_key() throws Exception {
+    PaymentCancelRequest request = PaymentCancelRequest.builder()
+        .paymentKey("pk_1")
+        .purchaseId(1L)
+        .cancelType(CancelType.ALL)
+        .cancelReason("결제 처리 실패")
+        .amount(BigDecimal.valueOf(10000))
+        .build();
+
+    resilientPaymentClient.refundPayment(request);
+    resilientPaymentClient.refundPayment(request);
+
+    verify(paymentGateway, times(2)).cancelPayment(request, "refund-1-pk_1");
+  }
+
+  private PaymentConfirmRequest createConfirmRequest() {
+    return PaymentConfirmRequest.builder()
+        .paymentKey("pk_1")
+        .purchaseId(1L)
+        .amount(BigDecimal.valueOf(10000))
+        .build();
+  }
+
+}
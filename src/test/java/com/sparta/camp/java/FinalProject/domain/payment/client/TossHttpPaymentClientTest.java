@@ -0,0 +1,179 @@
+package com.sparta.camp.java.FinalProject.domain.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.camp.java.FinalProject.common.enums.PaymentStatus;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class TossHttpPaymentClientTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private String baseUrl;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("결제 승인 요청 시 인증 헤더와 멱등키를 포함해 호출하고 응답을 변환한다.")
+  void confirmPayment_should_send_auth_header_and_parse_response() throws Exception {
+    AtomicReference<String> authorization = new AtomicReference<>();
+    AtomicReference<String> idempotencyKey = new AtomicReference<>();
+    server.createContext("/v1/payments/confirm", exchange -> {
+      authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+      idempotencyKey.set(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+      respond(exchange, 200, """
+          {"paymentKey":"pk_1","orderId":"1","orderName":"상품","method":"카드",
+           "totalAmount":10000,"status":"DONE",
+           "requestedAt":"2025-01-01T10:00:00+09:00","approvedAt":"2025-01-01T10:00:05+09:00"}
+          """);
+    });
+
+    PaymentConfirmResponse response = createClient(Duration.ofSeconds(2), 10)
+        .confirmPayment(createConfirmRequest(), "confirm-1");
+
+    assertThat(authorization.get()).isEqualTo("Basic "
+        + Base64.getEncoder().encodeToString("test_sk:".getBytes(StandardCharsets.UTF_8)));
+    assertThat(idempotencyKey.get()).isEqualTo("confirm-1");
+    assertThat(response.getPaymentKey()).isEqualTo("pk_1");
+    assertThat(response.getAmount()).isEqualByComparingTo("10000");
+    assertThat(response.getStatus()).isEqualTo(PaymentStatus.DONE);
+    assertThat(response.getApprovedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("결제사가 오류를 응답하면 오류 코드로 예외가 발생한다.")
+  void confirmPayment_should_throw_exception_when_error_response() {
+    server.createContext("/v1/payments/confirm", exchange -> respond(exchange, 400, """
+        {"code":"INVALID_CARD","message":"유효하지 않은 카드입니다."}
+        """));
+
+    TossHttpPaymentClient client = createClient(Duration.ofSeconds(2), 10);
+
+    assertThatThrownBy(() -> client.confirmPayment(createConfirmRequest(), "confirm-1"))
+        .isInstanceOf(PaymentException.class)
+        .extracting("code")
+        .isEqualTo("INVALID_CARD");
+  }
+
+  @Test
+  @DisplayName("응답 시간이 초과되면 타임아웃 예외가 발생한다.")
+  void confirmPayment_should_throw_exception_when_timeout() {
+    CountDownLatch release = new CountDownLatch(1);
+    server.createContext("/v1/payments/confirm", exchange -> {
+      await(release);
+      respond(exchange, 200, "{}");
+    });
+
+    TossHttpPaymentClient client = createClient(Duration.ofMillis(200), 10);
+
+    try {
+      assertThatThrownBy(() -> client.confirmPayment(createConfirmRequest(), "confirm-1"))
+          .isInstanceOf(PaymentException.class)
+          .extracting("code")
+          .isEqualTo("PAYMENT_API_TIMEOUT");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  @DisplayName("동시 요청 한도를 초과하면 즉시 거절된다.")
+  void confirmPayment_should_reject_when_bulkhead_is_full() throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    server.createContext("/v1/payments/confirm", exchange -> {
+      received.countDown();
+      await(release);
+      respond(exchange, 200, "{\"paymentKey\":\"pk_1\"}");
+    });
+
+    TossHttpPaymentClient client = createClient(Duration.ofSeconds(5), 1);
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<?> inFlight = caller.submit(() -> client.confirmPayment(createConfirmRequest(), "confirm-1"));
+      assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> client.confirmPayment(createConfirmRequest(), "confirm-1"))
+          .isInstanceOf(PaymentException.class)
+          .extracting("code")
+          .isEqualTo("PAYMENT_BULKHEAD_FULL");
+
+      release.countDown();
+      inFlight.get(5, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      caller.shutdownNow();
+    }
+  }
+
+  private TossHttpPaymentClient createClient(Duration readTimeout, int maxConcurrentRequests) {
+    return new TossHttpPaymentClient(objectMapper, "test_sk", baseUrl, Duration.ofSeconds(1),
+        readTimeout, maxConcurrentRequests, Duration.ofMillis(50));
+  }
+
+  private PaymentConfirmRequest createConfirmRequest() {
+    return PaymentConfirmRequest.builder()
+        .paymentKey("pk_1")
+        .purchaseId(1L)
+        .amount(BigDecimal.valueOf(10000))
+        .build();
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
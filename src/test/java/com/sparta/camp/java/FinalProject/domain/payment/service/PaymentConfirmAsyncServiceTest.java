@@ -0,0 +1,197 @@
+package com.sparta.camp.java.FinalProject.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.PaymentTicketStatus;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmRequest;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentTicketResponse;
+import com.sparta.camp.java.FinalProject.domain.payment.service.PaymentTicketStore.StoredTicket;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmAsyncServiceTest {
+
+  @Mock
+  private PaymentService paymentService;
+
+  @Mock
+  private PaymentTicketStore paymentTicketStore;
+
+  private final List<Runnable> queuedTasks = new ArrayList<>();
+
+  private PaymentConfirmAsyncService paymentConfirmAsyncService;
+
+  private PaymentConfirmRequest request;
+
+  @BeforeEach
+  void setUp() {
+    Executor executor = queuedTasks::add;
+    paymentConfirmAsyncService = new PaymentConfirmAsyncService(paymentService,
+        paymentTicketStore, executor, Duration.ofSeconds(30));
+
+    request = PaymentConfirmRequest.builder()
+        .paymentKey("pk_1")
+        .purchaseId(1L)
+        .amount(BigDecimal.valueOf(10000))
+        .build();
+  }
+
+  @Test
+  @DisplayName("비동기 결제 승인 요청 시 대기 티켓을 즉시 반환하고 처리 결과를 저장한다.")
+  void submit_should_return_pending_ticket_and_save_result() throws Exception {
+    PaymentConfirmResponse response = PaymentConfirmResponse.builder().paymentKey("pk_1").build();
+    when(paymentTicketStore.reserve(eq(1L), eq(10L), anyString()))
+        .thenReturn(Optional.empty());
+    when(paymentService.confirmPayment(request, 10L, false)).thenReturn(response);
+
+    PaymentTicketResponse ticket = paymentConfirmAsyncService.submit(request, 10L, false);
+
+    assertThat(ticket.getStatus()).isEqualTo(PaymentTicketStatus.PENDING);
+    verify(paymentService, never()).confirmPayment(any(), anyLong(), eq(false));
+
+    queuedTasks.forEach(Runnable::run);
+
+    ArgumentCaptor<PaymentTicketResponse> captor = ArgumentCaptor.forClass(PaymentTicketResponse.class);
+    verify(paymentTicketStore, times(2)).save(eq(10L), captor.capture());
+    PaymentTicketResponse completed = captor.getAllValues().get(1);
+    assertThat(completed.getTicketId()).isEqualTo(ticket.getTicketId());
+    assertThat(completed.getStatus()).isEqualTo(PaymentTicketStatus.SUCCEEDED);
+    assertThat(completed.getPayment()).isSameAs(response);
+    verify(paymentTicketStore, never()).release(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("결제 승인이 실패하면 실패 티켓을 저장하고 재요청을 허용한다.")
+  void submit_should_save_failed_ticket_when_confirm_fails() throws Exception {
+    when(paymentTicketStore.reserve(eq(1L), eq(10L), anyString()))
+        .thenReturn(Optional.empty());
+    when(paymentService.confirmPayment(request, 10L, false))
+        .thenThrow(new ServiceException(ServiceExceptionCode.NOT_MATCH_PAYMENT_INFO));
+
+    paymentConfirmAsyncService.submit(request, 10L, false);
+    queuedTasks.forEach(Runnable::run);
+
+    ArgumentCaptor<PaymentTicketResponse> captor = ArgumentCaptor.forClass(PaymentTicketResponse.class);
+    verify(paymentTicketStore, times(2)).save(eq(10L), captor.capture());
+    PaymentTicketResponse completed = captor.getAllValues().get(1);
+    assertThat(completed.getStatus()).isEqualTo(PaymentTicketStatus.FAILED);
+    assertThat(completed.getErrorCode()).isEqualTo(ServiceExceptionCode.NOT_MATCH_PAYMENT_INFO.name());
+    verify(paymentTicketStore).release(1L, 10L);
+  }
+
+  @Test
+  @DisplayName("같은 주문에 대한 요청이 이미 있으면 기존 티켓을 반환한다.")
+  void submit_should_return_existing_ticket_when_already_submitted() throws Exception {
+    PaymentTicketResponse existing = createPendingTicket("ticket-1");
+    when(paymentTicketStore.reserve(eq(1L), eq(10L), anyString()))
+        .thenReturn(Optional.of("ticket-1"));
+    when(paymentTicketStore.find("ticket-1"))
+        .thenReturn(Optional.of(new StoredTicket(10L, existing)));
+
+    PaymentTicketResponse ticket = paymentConfirmAsyncService.submit(request, 10L, false);
+
+    assertThat(ticket.getTicketId()).isEqualTo("ticket-1");
+    assertThat(queuedTasks).isEmpty();
+    verify(paymentTicketStore, never()).save(anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("처리 대기열이 가득 차면 요청을 거절한다.")
+  void submit_should_throw_exception_when_queue_full() {
+    Executor rejecting = task -> {
+      throw new RejectedExecutionException();
+    };
+    paymentConfirmAsyncService = new PaymentConfirmAsyncService(paymentService,
+        paymentTicketStore, rejecting, Duration.ofSeconds(30));
+    when(paymentTicketStore.reserve(eq(1L), eq(10L), anyString()))
+        .thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> paymentConfirmAsyncService.submit(request, 10L, false))
+        .isInstanceOf(ServiceException.class)
+        .hasMessage(ServiceExceptionCode.PAYMENT_QUEUE_FULL.getMessage());
+
+    verify(paymentTicketStore).delete(anyString());
+    verify(paymentTicketStore).release(1L, 10L);
+  }
+
+  @Test
+  @DisplayName("다른 사용자의 티켓은 조회할 수 없다.")
+  void getTicket_should_throw_exception_when_not_owner() {
+    when(paymentTicketStore.find("ticket-1"))
+        .thenReturn(Optional.of(new StoredTicket(10L, createPendingTicket("ticket-1"))));
+
+    assertThatThrownBy(() -> paymentConfirmAsyncService.getTicket("ticket-1", 20L, false))
+        .isInstanceOf(ServiceException.class)
+        .hasMessage(ServiceExceptionCode.NOT_PERMIT_ACCESS.getMessage());
+  }
+
+  @Test
+  @DisplayName("관리자가 요청한 티켓은 같은 ID를 가진 사용자가 조회할 수 없다.")
+  void getTicket_should_not_expose_admin_ticket_to_user_with_same_id() {
+    when(paymentTicketStore.find("ticket-1"))
+        .thenReturn(Optional.of(new StoredTicket(null, createPendingTicket("ticket-1"))));
+
+    assertThatThrownBy(() -> paymentConfirmAsyncService.getTicket("ticket-1", 10L, false))
+        .isInstanceOf(ServiceException.class)
+        .hasMessage(ServiceExceptionCode.NOT_PERMIT_ACCESS.getMessage());
+    assertThat(paymentConfirmAsyncService.getTicket("ticket-1", null, true).getTicketId())
+        .isEqualTo("ticket-1");
+  }
+
+  @Test
+  @DisplayName("대기 중인 티켓은 처리가 끝나면 결과를 반환한다.")
+  void awaitTicket_should_complete_when_processing_finishes() throws Exception {
+    PaymentConfirmResponse response = PaymentConfirmResponse.builder().paymentKey("pk_1").build();
+    when(paymentTicketStore.reserve(eq(1L), eq(10L), anyString()))
+        .thenReturn(Optional.empty());
+    when(paymentService.confirmPayment(request, 10L, false)).thenReturn(response);
+
+    PaymentTicketResponse ticket = paymentConfirmAsyncService.submit(request, 10L, false);
+    when(paymentTicketStore.find(ticket.getTicketId()))
+        .thenReturn(Optional.of(new StoredTicket(10L, ticket)));
+
+    CompletableFuture<PaymentTicketResponse> future = paymentConfirmAsyncService
+        .awaitTicket(ticket.getTicketId(), 10L, false, Duration.ofSeconds(10));
+    assertThat(future).isNotDone();
+
+    queuedTasks.forEach(Runnable::run);
+
+    assertThat(future).isDone();
+    assertThat(future.get().getStatus()).isEqualTo(PaymentTicketStatus.SUCCEEDED);
+  }
+
+  private PaymentTicketResponse createPendingTicket(String ticketId) {
+    return PaymentTicketResponse.builder()
+        .ticketId(ticketId)
+        .purchaseId(1L)
+        .status(PaymentTicketStatus.PENDING)
+        .build();
+  }
+
+}
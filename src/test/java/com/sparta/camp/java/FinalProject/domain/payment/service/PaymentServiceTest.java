@@ -4,16 +4,22 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.sparta.camp.java.FinalProject.common.enums.CancelType;
+import com.sparta.camp.java.FinalProject.common.enums.CreatorType;
 import com.sparta.camp.java.FinalProject.common.enums.PaymentStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
 import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.exception.PaymentException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
@@ -26,16 +32,23 @@ import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmReques
 import com.sparta.camp.java.FinalProject.domain.payment.dto.PaymentConfirmResponse;
 import com.sparta.camp.java.FinalProject.domain.payment.entity.Payment;
 import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentCompletedEvent;
+import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentCancelRecordRequestedEvent;
+import com.sparta.camp.java.FinalProject.domain.payment.event.PaymentRefundRequestedEvent;
 import com.sparta.camp.java.FinalProject.domain.payment.repository.PaymentRepository;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockDecreaseResult;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
 import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseProductRepository;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseRepository;
+import com.sparta.camp.java.FinalProject.domain.purchase.service.StockHoldService;
 import com.sparta.camp.java.FinalProject.domain.user.entity.User;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,9 +57,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -69,12 +85,22 @@ class PaymentServiceTest {
   @Mock
   private HistoryRepository historyRepository;
 
+  @Mock
+  private StockManager stockManager;
+
+  @Mock
+  private StockHoldService stockHoldService;
+
   @Mock
   private PaymentClient paymentClient;
 
   @Mock
   private ApplicationEventPublisher eventPublisher;
 
+  @Spy
+  private TransactionTemplate transactionTemplate =
+      new TransactionTemplate(mock(PlatformTransactionManager.class));
+
   private PaymentConfirmRequest paymentConfirmRequest;
   private PaymentCancelRequest paymentCancelRequest;
   private PaymentConfirmResponse paymentConfirmResponse;
@@ -82,6 +108,9 @@ class PaymentServiceTest {
 
   @BeforeEach
   void setUp() {
+    lenient().when(stockManager.getAvailableStock(any()))
+        .thenAnswer(invocation -> invocation.<ProductOption>getArgument(0).getStock());
+
     paymentConfirmRequest = PaymentConfirmRequest.builder()
         .purchaseId(1L)
         .paymentKey("paymentKey")
@@ -109,10 +138,10 @@ class PaymentServiceTest {
         .build();
   }
 
-  private Purchase createPurchase(Long purchaseId, String email) {
+  private Purchase createPurchase(Long purchaseId, Long userId) {
     User user = User.builder()
-        .email(email)
         .build();
+    ReflectionTestUtils.setField(user, "id", userId);
 
     ProductOption option = ProductOption.builder()
         .stock(10)
@@ -137,10 +166,10 @@ class PaymentServiceTest {
     return purchase;
   }
 
-  private Purchase createPaidPurchase(Long purchaseId, String email) {
+  private Purchase createPaidPurchase(Long purchaseId, Long userId) {
     User user = User.builder()
-        .email(email)
         .build();
+    ReflectionTestUtils.setField(user, "id", userId);
 
     ProductOption option = ProductOption.builder()
         .stock(10)
@@ -150,7 +179,7 @@ class PaymentServiceTest {
     ProductOption option2 = ProductOption.builder()
         .stock(10)
         .build();
-    ReflectionTestUtils.setField(option, "id", 2L);
+    ReflectionTestUtils.setField(option2, "id", 2L);
 
     PurchaseProduct purchaseProduct = PurchaseProduct.builder()
         .quantity(10)
@@ -186,29 +215,31 @@ class PaymentServiceTest {
   void confirmPayment_should_succeed() throws Exception {
 
     Long purchaseId = 1L;
-    String email = "test@test.com";
+    Long userId = 1L;
 
-    Purchase purchase = createPurchase(purchaseId, email);
+    Purchase purchase = createPurchase(purchaseId, userId);
     PurchaseProduct purchaseProduct = purchase.getPurchaseProductList().get(0);
     List<ProductOption> options = List.of(purchaseProduct.getPurchasedOption());
-    Integer remainStock = options.get(0).getStock() - purchaseProduct.getQuantity();
 
     when(purchaseRepository.findByIdAndPurchaseStatus(
         paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED))
         .thenReturn(Optional.of(purchase));
 
-    when(productOptionRepository.findByIdForUpdate(anyList()))
+    when(productOptionRepository.findAllValidByIds(anyList()))
         .thenReturn(options);
+    when(stockManager.decrease(anyMap()))
+        .thenReturn(StockDecreaseResult.success());
 
     when(paymentClient.confirmPayment(paymentConfirmRequest)).thenReturn(paymentConfirmResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
 
     when(paymentRepository.save(any(Payment.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    PaymentConfirmResponse result = paymentService.confirmPayment(paymentConfirmRequest, email, false);
+    PaymentConfirmResponse result = paymentService.confirmPayment(paymentConfirmRequest, userId, false);
 
     ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
 
@@ -227,12 +258,11 @@ class PaymentServiceTest {
     assertThat(purchaseProduct.getStatus())
         .isEqualTo(PurchaseProductStatus.PAID);
 
-    assertThat(options.get(0).getStock())
-        .isEqualTo(remainStock);
 
     verify(purchaseRepository).findByIdAndPurchaseStatus(paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED);
-    verify(productOptionRepository, times(2)).findByIdForUpdate(anyList());
+    verify(productOptionRepository).findAllValidByIds(anyList());
+    verify(stockManager).decrease(Map.of(1L, 1));
     verify(paymentClient).confirmPayment(paymentConfirmRequest);
     verify(historyRepository).save(any(History.class));
     verify(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
@@ -243,14 +273,14 @@ class PaymentServiceTest {
   @DisplayName("해당 주문이 존재하지 않는 경우 오류가 발생한다.")
   void confirmPayment_should_throwException_when_purchase_not_found() {
 
-    String email = "test@test.com";
+    Long userId = 1L;
 
     when(purchaseRepository.findByIdAndPurchaseStatus(
         paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED))
         .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> paymentService.confirmPayment(paymentConfirmRequest, email, false))
+    assertThatThrownBy(() -> paymentService.confirmPayment(paymentConfirmRequest, userId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PURCHASE.getMessage());
 
@@ -265,9 +295,9 @@ class PaymentServiceTest {
   @DisplayName("주문시 요청한 금액과 결제시 금액이 일치하지 않는 경우 오류가 발생한다.")
   void confirmPayment_should_throwException_when_amount_is_not_match() {
     Long purchaseId = 1L;
-    String email = "test@test.com";
+    Long userId = 1L;
 
-    Purchase purchase = createPurchase(purchaseId, email);
+    Purchase purchase = createPurchase(purchaseId, userId);
     ReflectionTestUtils.setField(paymentConfirmRequest, "amount", BigDecimal.valueOf(200000));
 
     when(purchaseRepository.findByIdAndPurchaseStatus(
@@ -275,7 +305,7 @@ class PaymentServiceTest {
         PurchaseStatus.PURCHASE_CREATED))
         .thenReturn(Optional.of(purchase));
 
-    assertThatThrownBy(() -> paymentService.confirmPayment(paymentConfirmRequest, email, false))
+    assertThatThrownBy(() -> paymentService.confirmPayment(paymentConfirmRequest, userId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_MATCH_PAYMENT_INFO.getMessage());
 
@@ -289,9 +319,9 @@ class PaymentServiceTest {
   @DisplayName("권한이 없는 사용자가 결제 요청한 경우 오류가 발생한다.")
   void confirmPayment_should_throwException_when_user_is_not_permitted() {
     Long purchaseId = 1L;
-    String email = "test@test.com";
+    Long userId = 1L;
 
-    Purchase purchase = createPurchase(purchaseId, email);
+    Purchase purchase = createPurchase(purchaseId, userId);
 
     when(purchaseRepository.findByIdAndPurchaseStatus(
         paymentConfirmRequest.getPurchaseId(),
@@ -299,7 +329,7 @@ class PaymentServiceTest {
         .thenReturn(Optional.of(purchase));
 
     assertThatThrownBy(() -> paymentService.confirmPayment(paymentConfirmRequest,
-        "test2@test.com",
+        2L,
         false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_PERMIT_ACCESS.getMessage());
@@ -315,19 +345,21 @@ class PaymentServiceTest {
   void confirmPayment_should_succeed_when_requester_is_admin() throws Exception {
     Long purchaseId = 1L;
 
-    Purchase purchase = createPurchase(purchaseId, "test@test.com");
+    Purchase purchase = createPurchase(purchaseId, 1L);
     PurchaseProduct purchaseProduct = purchase.getPurchaseProductList().get(0);
     List<ProductOption> options = List.of(purchaseProduct.getPurchasedOption());
-    Integer remainStock = options.get(0).getStock() - purchaseProduct.getQuantity();
 
     when(purchaseRepository.findByIdAndPurchaseStatus(
         paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED))
         .thenReturn(Optional.of(purchase));
-    when(productOptionRepository.findByIdForUpdate(anyList()))
+    when(productOptionRepository.findAllValidByIds(anyList()))
         .thenReturn(options);
+    when(stockManager.decrease(anyMap()))
+        .thenReturn(StockDecreaseResult.success());
     when(paymentClient.confirmPayment(paymentConfirmRequest))
         .thenReturn(paymentConfirmResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
 
     when(paymentRepository.save(any(Payment.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -335,7 +367,7 @@ class PaymentServiceTest {
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     PaymentConfirmResponse result =
-        paymentService.confirmPayment(paymentConfirmRequest, "admin@test.com", true);
+        paymentService.confirmPayment(paymentConfirmRequest, 99L, true);
 
     assertThat(result.getStatus())
         .isEqualTo(PaymentStatus.DONE);
@@ -346,12 +378,11 @@ class PaymentServiceTest {
     assertThat(purchaseProduct.getStatus())
         .isEqualTo(PurchaseProductStatus.PAID);
 
-    assertThat(options.get(0).getStock())
-        .isEqualTo(remainStock);
 
     verify(purchaseRepository).findByIdAndPurchaseStatus(paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED);
-    verify(productOptionRepository, times(2)).findByIdForUpdate(anyList());
+    verify(productOptionRepository).findAllValidByIds(anyList());
+    verify(stockManager).decrease(Map.of(1L, 1));
     verify(paymentClient).confirmPayment(paymentConfirmRequest);
     verify(historyRepository).save(any(History.class));
     verify(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
@@ -361,9 +392,9 @@ class PaymentServiceTest {
   @DisplayName("재고보다 주문 수량이 많은 경우 오류가 발생한다.")
   void confirmPayment_should_throwException_when_stock_is_insufficient() {
     Long purchaseId = 1L;
-    String email = "test@test.com";
+    Long userId = 1L;
 
-    Purchase purchase = createPurchase(purchaseId, email);
+    Purchase purchase = createPurchase(purchaseId, userId);
     PurchaseProduct pp = purchase.getPurchaseProductList().get(0);
     List<ProductOption> options = List.of(pp.getPurchasedOption());
     ReflectionTestUtils.setField(options.get(0), "stock", 0);
@@ -374,11 +405,11 @@ class PaymentServiceTest {
         PurchaseStatus.PURCHASE_CREATED))
         .thenReturn(Optional.of(purchase));
 
-    when(productOptionRepository.findByIdForUpdate(anyList()))
+    when(productOptionRepository.findAllValidByIds(anyList()))
         .thenReturn(options);
 
     assertThatThrownBy(() ->
-        paymentService.confirmPayment(paymentConfirmRequest, email, false)
+        paymentService.confirmPayment(paymentConfirmRequest, userId, false)
     )
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
@@ -386,22 +417,174 @@ class PaymentServiceTest {
 
     verify(purchaseRepository).findByIdAndPurchaseStatus(paymentConfirmRequest.getPurchaseId(),
         PurchaseStatus.PURCHASE_CREATED);
-    verify(productOptionRepository).findByIdForUpdate(anyList());
+    verify(productOptionRepository).findAllValidByIds(anyList());
+    verify(stockManager, never()).decrease(anyMap());
 
     verifyNoMoreInteractions(purchaseRepository, paymentClient, productOptionRepository,
         historyRepository, eventPublisher);
   }
 
+  @Test
+  @DisplayName("결제 승인 후 결과 저장에 실패하면 결제를 취소하고 주문을 취소한다.")
+  void confirmPayment_should_compensate_when_saving_result_fails() throws Exception {
+    Long purchaseId = 1L;
+    Long userId = 1L;
+
+    Purchase purchase = createPurchase(purchaseId, userId);
+    ReflectionTestUtils.setField(purchase.getUser(), "id", 1L);
+    List<ProductOption> options = List.of(purchase.getPurchaseProductList().get(0).getPurchasedOption());
+
+    when(purchaseRepository.findByIdAndPurchaseStatus(
+        purchaseId,
+        PurchaseStatus.PURCHASE_CREATED))
+        .thenReturn(Optional.of(purchase));
+    when(productOptionRepository.findAllValidByIds(anyList()))
+        .thenReturn(options);
+    when(paymentClient.confirmPayment(paymentConfirmRequest))
+        .thenReturn(paymentConfirmResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
+    when(stockManager.decrease(anyMap()))
+        .thenReturn(StockDecreaseResult.failure(List.of(1L)));
+
+    assertThatThrownBy(() ->
+        paymentService.confirmPayment(paymentConfirmRequest, userId, false)
+    )
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
+
+    ArgumentCaptor<PaymentCancelRequest> cancelCaptor = ArgumentCaptor.forClass(PaymentCancelRequest.class);
+    verify(paymentClient).refundPayment(cancelCaptor.capture());
+    assertThat(cancelCaptor.getValue().getPaymentKey()).isEqualTo(paymentConfirmResponse.getPaymentKey());
+    assertThat(cancelCaptor.getValue().getCancelType()).isEqualTo(CancelType.ALL);
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
+    verify(stockManager).decrease(Map.of(1L, 1));
+    verify(stockHoldService).release(purchaseId);
+    verify(paymentRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any());
+
+    ArgumentCaptor<History> historyCaptor = ArgumentCaptor.forClass(History.class);
+    verify(historyRepository).save(historyCaptor.capture());
+    assertThat(historyCaptor.getValue().getCreatorType()).isEqualTo(CreatorType.SYSTEM);
+  }
+
+  @Test
+  @DisplayName("결제 취소 요청이 실패하면 주문을 취소하지 않고 환불 요청을 아웃박스에 기록한다.")
+  void confirmPayment_should_request_refund_when_gateway_cancel_fails() throws Exception {
+    Long purchaseId = 1L;
+    Long userId = 1L;
+
+    Purchase purchase = createPurchase(purchaseId, userId);
+    List<ProductOption> options = List.of(purchase.getPurchaseProductList().get(0).getPurchasedOption());
+
+    when(purchaseRepository.findByIdAndPurchaseStatus(
+        purchaseId,
+        PurchaseStatus.PURCHASE_CREATED))
+        .thenReturn(Optional.of(purchase));
+    when(productOptionRepository.findAllValidByIds(anyList()))
+        .thenReturn(options);
+    when(paymentClient.confirmPayment(paymentConfirmRequest))
+        .thenReturn(paymentConfirmResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
+    when(stockManager.decrease(anyMap()))
+        .thenReturn(StockDecreaseResult.failure(List.of(1L)));
+    when(paymentClient.refundPayment(any()))
+        .thenThrow(new PaymentException("PAYMENT_CIRCUIT_OPEN", "unavailable"));
+
+    assertThatThrownBy(() ->
+        paymentService.confirmPayment(paymentConfirmRequest, userId, false)
+    )
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getValue()).isEqualTo(new PaymentRefundRequestedEvent(
+        purchaseId, paymentConfirmResponse.getPaymentKey(), paymentConfirmResponse.getAmount()));
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CREATED);
+    verify(stockHoldService, never()).release(any());
+    verify(historyRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("같은 결제 키로 이미 결제가 완료된 주문이면 결제를 취소하지 않는다.")
+  void confirmPayment_should_skip_compensation_when_payment_is_already_recorded() throws Exception {
+    Long purchaseId = 1L;
+    Long userId = 1L;
+
+    Purchase purchase = createPurchase(purchaseId, userId);
+    List<ProductOption> options = List.of(purchase.getPurchaseProductList().get(0).getPurchasedOption());
+    Purchase paidPurchase = createPaidPurchase(purchaseId, userId);
+
+    when(purchaseRepository.findByIdAndPurchaseStatus(
+        purchaseId,
+        PurchaseStatus.PURCHASE_CREATED))
+        .thenReturn(Optional.of(purchase));
+    when(productOptionRepository.findAllValidByIds(anyList()))
+        .thenReturn(options);
+    when(paymentClient.confirmPayment(paymentConfirmRequest))
+        .thenReturn(paymentConfirmResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(paidPurchase));
+    when(paymentRepository.existsByPurchaseIdAndTransactionId(purchaseId,
+        paymentConfirmResponse.getPaymentKey()))
+        .thenReturn(true);
+
+    PaymentConfirmResponse response =
+        paymentService.confirmPayment(paymentConfirmRequest, userId, false);
+
+    assertThat(response).isEqualTo(paymentConfirmResponse);
+    verify(paymentClient, never()).refundPayment(any());
+    verify(historyRepository, never()).save(any());
+    assertThat(paidPurchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_PAID);
+  }
+
+  @Test
+  @DisplayName("기록되지 않은 결제의 환불은 결제 취소가 성공한 뒤에만 주문을 취소한다.")
+  void refundUnrecordedPayment_should_cancel_purchase_after_gateway_cancel() throws Exception {
+    Long purchaseId = 1L;
+    Purchase purchase = createPurchase(purchaseId, 1L);
+
+    when(paymentClient.refundPayment(any()))
+        .thenThrow(new PaymentException("PAYMENT_CIRCUIT_OPEN", "unavailable"))
+        .thenReturn(paymentCancelResponse);
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
+
+    assertThatThrownBy(() -> paymentService.refundUnrecordedPayment(purchaseId, "paymentKey",
+        BigDecimal.valueOf(100000)))
+        .isInstanceOf(PaymentException.class);
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CREATED);
+
+    paymentService.refundUnrecordedPayment(purchaseId, "paymentKey", BigDecimal.valueOf(100000));
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
+    verify(stockHoldService).release(purchaseId);
+    verify(historyRepository).save(any());
+  }
+
+  @Test
+  @DisplayName("결제사에서 이미 취소된 결제면 환불 성공으로 보고 주문을 취소한다.")
+  void refundUnrecordedPayment_should_treat_already_canceled_as_success() throws Exception {
+    Long purchaseId = 1L;
+    Purchase purchase = createPurchase(purchaseId, 1L);
+
+    when(paymentClient.refundPayment(any()))
+        .thenThrow(new PaymentException("ALREADY_CANCELED_PAYMENT", "이미 취소된 결제입니다."));
+    when(purchaseRepository.findByIdForUpdate(purchaseId)).thenReturn(Optional.of(purchase));
+
+    paymentService.refundUnrecordedPayment(purchaseId, "paymentKey", BigDecimal.valueOf(100000));
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
+    verify(stockHoldService).release(purchaseId);
+  }
+
   @Test
   @DisplayName("결제 취소 승인이 성공적으로 수행된다.")
   void cancelPayment_should_succeed_when_full_refund() throws Exception {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
-    List<ProductOption> options = List.of(
-        purchase.getPurchaseProductList().get(0).getPurchasedOption(),
-        purchase.getPurchaseProductList().get(1).getPurchasedOption());
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
 
     Payment payment = Payment.builder()
         .purchase(purchase)
@@ -410,20 +593,17 @@ class PaymentServiceTest {
         .build();
     ReflectionTestUtils.setField(payment, "id", paymentId);
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
     when(paymentClient.cancelPayment(paymentCancelRequest))
         .thenReturn(paymentCancelResponse);
 
-    when(productOptionRepository.findByIdForUpdate(anyList()))
-        .thenReturn(options);
-
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     PaymentCancelResponse result =
-        paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserEmail, false);
+        paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserId, false);
 
     assertThat(result).isNotNull();
 
@@ -438,11 +618,9 @@ class PaymentServiceTest {
       assertThat(pp.getRemainingQuantity()).isZero();
     });
 
-    assertThat(options.get(0).getStock()).isEqualTo(20);
-
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verify(paymentClient).cancelPayment(paymentCancelRequest);
-    verify(productOptionRepository).findByIdForUpdate(anyList());
+    verify(stockManager).increase(Map.of(1L, 10, 2L, 10));
     verify(historyRepository).save(any(History.class));
 
   }
@@ -451,10 +629,9 @@ class PaymentServiceTest {
   @DisplayName("부분 결제 취소 승인이 성공적으로 수행된다.")
   void cancelPayment_should_succeed_when_partial_refund() throws Exception {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
-    List<ProductOption> options = List.of(purchase.getPurchaseProductList().get(1).getPurchasedOption());
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
     PurchaseProduct cancelProduct = purchase.getPurchaseProductList().get(1);
 
     Payment payment = Payment.builder()
@@ -480,7 +657,7 @@ class PaymentServiceTest {
         .status(PaymentStatus.PARTIAL_CANCELLED)
         .build();
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
     when(purchaseProductRepository.findAllById(anyList()))
@@ -489,14 +666,11 @@ class PaymentServiceTest {
     when(paymentClient.cancelPayment(request))
         .thenReturn(response);
 
-    when(productOptionRepository.findByIdForUpdate(anyList()))
-        .thenReturn(options);
-
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     PaymentCancelResponse result =
-        paymentService.cancelPayment(paymentId, request, purchaserEmail, false);
+        paymentService.cancelPayment(paymentId, request, purchaserId, false);
 
     assertThat(result).isNotNull();
 
@@ -512,11 +686,9 @@ class PaymentServiceTest {
     assertThat(payment.getRefundedAmount())
         .isEqualByComparingTo(BigDecimal.valueOf(5).multiply(cancelProduct.getPriceAtPurchase()));
 
-    assertThat(options.get(0).getStock()).isEqualTo(15);
-
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verify(purchaseProductRepository).findAllById(anyList());
-    verify(productOptionRepository).findByIdForUpdate(anyList());
+    verify(stockManager).increase(Map.of(2L, 5));
     verify(paymentClient).cancelPayment(request);
     verify(historyRepository).save(any(History.class));
 
@@ -526,9 +698,9 @@ class PaymentServiceTest {
   @DisplayName("결제 취소 가능한 결제 상태가 아닌 경우 오류가 발생한다.")
   void cancelPayment_should_throwException_when_paymentStatus_is_not_valid() {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
 
     Payment payment = Payment.builder()
         .purchase(purchase)
@@ -536,16 +708,16 @@ class PaymentServiceTest {
         .build();
     ReflectionTestUtils.setField(payment, "id", paymentId);
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
-    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserEmail, false))
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INVALID_PAYMENT_STATUS.getMessage());
 
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verifyNoMoreInteractions(paymentRepository, purchaseProductRepository, productOptionRepository,
-        paymentClient, historyRepository);
+        stockManager, paymentClient, historyRepository);
 
   }
 
@@ -553,9 +725,9 @@ class PaymentServiceTest {
   @DisplayName("취소 할 수 있는 갯수를 초과하는 요청인 경우 오류가 발생한다.")
   void cancelPayment_should_throwException_when_cancel_quantity_exceeds_remaining_stock() {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
     PurchaseProduct cancelProduct = purchase.getPurchaseProductList().get(1);
     ReflectionTestUtils.setField(cancelProduct, "refundedQuantity", 5);
 
@@ -575,29 +747,29 @@ class PaymentServiceTest {
         .cancelProducts(List.of(cancelProductDto))
         .build();
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
     when(purchaseProductRepository.findAllById(anyList()))
         .thenReturn(List.of(cancelProduct));
 
-    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserEmail, false))
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.EXCEED_CANCEL_QUANTITY.getMessage());
 
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verify(purchaseProductRepository).findAllById(anyList());
     verifyNoMoreInteractions(paymentRepository, purchaseProductRepository, productOptionRepository,
-        paymentClient, historyRepository);
+        stockManager, paymentClient, historyRepository);
   }
 
   @Test
   @DisplayName("취소 가능한 금액보다 큰 금액을 요청하는 경우 오류가 발생한다.")
   void cancelPayment_should_throwException_when_cancel_amount_is_not_valid() throws Exception {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
     PurchaseProduct cancelProduct = purchase.getPurchaseProductList().get(1);
     ReflectionTestUtils.setField(cancelProduct, "priceAtPurchase", BigDecimal.valueOf(50000));
 
@@ -619,20 +791,20 @@ class PaymentServiceTest {
         .cancelProducts(List.of(cancelProductDto))
         .build();
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
     when(purchaseProductRepository.findAllById(anyList()))
         .thenReturn(List.of(cancelProduct));
 
-    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserEmail, false))
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.EXCEEDS_PAYMENT_AMOUNT.getMessage());
 
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verify(purchaseProductRepository).findAllById(anyList());
     verify(paymentClient, never()).cancelPayment(any());
-    verify(productOptionRepository, never()).findByIdForUpdate(any());
+    verify(stockManager, never()).increase(any());
     verify(historyRepository, never()).save(any());
 
   }
@@ -641,9 +813,9 @@ class PaymentServiceTest {
   @DisplayName("취소 요청 금액과 서버 계산 금액이 일치하지 않는 경우 오류가 발생한다.")
   void cancelPayment_should_throwException_when_cancel_amount_is_not_match() throws Exception {
     Long paymentId = 1L;
-    String purchaserEmail = "user@test.com";
+    Long purchaserId = 1L;
 
-    Purchase purchase = createPaidPurchase(1L, purchaserEmail);
+    Purchase purchase = createPaidPurchase(1L, purchaserId);
 
     Payment payment = Payment.builder()
         .purchase(purchase)
@@ -658,18 +830,118 @@ class PaymentServiceTest {
         .amount(BigDecimal.valueOf(250000))
         .build();
 
-    when(paymentRepository.findById(paymentId))
+    when(paymentRepository.findByIdForUpdate(paymentId))
         .thenReturn(Optional.of(payment));
 
-    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserEmail, false))
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, request, purchaserId, false))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_MATCH_PAYMENT_INFO.getMessage());
 
-    verify(paymentRepository).findById(paymentId);
+    verify(paymentRepository, atLeastOnce()).findByIdForUpdate(paymentId);
     verify(purchaseProductRepository, never()).findAllById(anyList());
     verify(paymentClient, never()).cancelPayment(any());
-    verify(productOptionRepository, never()).findByIdForUpdate(any());
+    verify(stockManager, never()).increase(any());
     verify(historyRepository, never()).save(any());
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("진행 중인 취소 요청이 있으면 결제사에 취소를 요청하지 않는다.")
+  void cancelPayment_should_reject_when_cancel_is_pending() throws Exception {
+    Long paymentId = 1L;
+    Long purchaserId = 1L;
+
+    Payment payment = createDonePayment(paymentId, createPaidPurchase(1L, purchaserId));
+    payment.markCancelRequested(LocalDateTime.now());
+
+    when(paymentRepository.findByIdForUpdate(paymentId))
+        .thenReturn(Optional.of(payment));
+
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserId, false))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.ALREADY_REFUND_REQUEST.getMessage());
+
+    verify(paymentClient, never()).cancelPayment(any());
+  }
+
+  @Test
+  @DisplayName("결제사 취소가 실패하면 진행 중인 취소 표시를 해제한다.")
+  void cancelPayment_should_release_pending_cancel_when_gateway_fails() throws Exception {
+    Long paymentId = 1L;
+    Long purchaserId = 1L;
+
+    Payment payment = createDonePayment(paymentId, createPaidPurchase(1L, purchaserId));
+
+    when(paymentRepository.findByIdForUpdate(paymentId))
+        .thenReturn(Optional.of(payment));
+    when(paymentClient.cancelPayment(paymentCancelRequest))
+        .thenThrow(new PaymentException("REJECT_CANCEL", "거절"));
+
+    assertThatThrownBy(() -> paymentService.cancelPayment(paymentId, paymentCancelRequest, purchaserId, false))
+        .isInstanceOf(PaymentException.class);
+
+    assertThat(payment.getCancelRequestedAt()).isNull();
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+  }
+
+  @Test
+  @DisplayName("결제사 취소 후 결과 저장에 실패하면 취소 기록을 아웃박스에 요청한다.")
+  void cancelPayment_should_request_cancel_record_when_saving_result_fails() throws Exception {
+    Long paymentId = 1L;
+    Long purchaserId = 1L;
+
+    Payment payment = createDonePayment(paymentId, createPaidPurchase(1L, purchaserId));
+    PaymentCancelRequest request = PaymentCancelRequest.builder()
+        .cancelType(CancelType.ALL)
+        .purchaseId(1L)
+        .amount(BigDecimal.valueOf(300000))
+        .paymentKey("paymentKey")
+        .build();
+
+    when(paymentRepository.findByIdForUpdate(paymentId))
+        .thenReturn(Optional.of(payment));
+    when(paymentClient.cancelPayment(request))
+        .thenReturn(paymentCancelResponse);
+    doThrow(new IllegalStateException("redis down")).when(stockManager).increase(anyMap());
+
+    PaymentCancelResponse result =
+        paymentService.cancelPayment(paymentId, request, purchaserId, false);
+
+    assertThat(result).isEqualTo(paymentCancelResponse);
+    verify(eventPublisher).publishEvent(new PaymentCancelRecordRequestedEvent(paymentId, 1L,
+        BigDecimal.valueOf(300000), Map.of(1L, 10, 2L, 10)));
+  }
+
+  @Test
+  @DisplayName("아웃박스로 요청된 취소 기록은 진행 중인 취소가 있을 때만 반영한다.")
+  void recordUnrecordedCancel_should_apply_only_pending_cancel() {
+    Long paymentId = 1L;
+    Purchase purchase = createPaidPurchase(1L, 1L);
+    Payment payment = createDonePayment(paymentId, purchase);
+    payment.markCancelRequested(LocalDateTime.now());
+
+    when(paymentRepository.findByIdForUpdate(paymentId))
+        .thenReturn(Optional.of(payment));
+
+    paymentService.recordUnrecordedCancel(paymentId, BigDecimal.valueOf(300000),
+        Map.of(1L, 10, 2L, 10));
+    paymentService.recordUnrecordedCancel(paymentId, BigDecimal.valueOf(300000),
+        Map.of(1L, 10, 2L, 10));
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+    assertThat(payment.getCancelRequestedAt()).isNull();
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.REFUNDED);
+    verify(stockManager).increase(Map.of(1L, 10, 2L, 10));
+    verify(historyRepository).save(any(History.class));
+  }
+
+  private Payment createDonePayment(Long paymentId, Purchase purchase) {
+    Payment payment = Payment.builder()
+        .purchase(purchase)
+        .amount(BigDecimal.valueOf(300000))
+        .status(PaymentStatus.DONE)
+        .build();
+    ReflectionTestUtils.setField(payment, "id", paymentId);
+    return payment;
+  }
+
+}
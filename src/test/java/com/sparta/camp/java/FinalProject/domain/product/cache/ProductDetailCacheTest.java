@@ -0,0 +1,239 @@
+package com.sparta.camp.java.FinalProject.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ProductDetailCache productDetailCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    productDetailCache = new ProductDetailCache(redisTemplate, listenerContainer,
+        productOptionRepository, objectMapper, meterRegistry,
+        100, Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  private ProductResponse productResponse(Long id) {
+    ProductResponse response = ProductResponse.builder()
+        .id(id)
+        .categoryId(1L)
+        .name("padding")
+        .price(BigDecimal.valueOf(200000))
+        .build();
+    response.setProductOptions(List.of(ProductOptionResponse.builder()
+        .id(10L)
+        .productId(id)
+        .color(ColorType.BLACK)
+        .size(SizeType.MEDIUM)
+        .stock(5)
+        .build()));
+    response.setProductImages(List.of());
+    return response;
+  }
+
+  @Test
+  @DisplayName("로컬 캐시에 없으면 DB에서 읽어 Redis에도 저장하고, 이후에는 로컬 캐시에서 응답한다.")
+  void get_should_load_once_and_write_through_to_redis() {
+    AtomicInteger loads = new AtomicInteger();
+
+    ProductResponse first = productDetailCache.get(1L, id -> {
+      loads.incrementAndGet();
+      return productResponse(id);
+    });
+    ProductResponse second = productDetailCache.get(1L, id -> {
+      loads.incrementAndGet();
+      return productResponse(id);
+    });
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    verify(redisTemplate).execute(eq(ProductDetailCache.WRITE_SCRIPT),
+        eq(List.of(ProductDetailCache.KEY_PREFIX + 1, ProductDetailCache.GENERATION_KEY_PREFIX + 1)),
+        eq(0L), anyString(), eq(Duration.ofMinutes(30).toMillis()));
+    assertThat(meterRegistry.get("product.detail.cache.load").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Redis에 저장된 상품 상세가 있으면 DB를 조회하지 않는다.")
+  void get_should_read_from_redis_when_local_cache_misses() throws Exception {
+    when(valueOperations.get(ProductDetailCache.KEY_PREFIX + 1))
+        .thenReturn(objectMapper.writeValueAsString(productResponse(1L)));
+
+    ProductResponse result = productDetailCache.get(1L, id -> {
+      throw new IllegalStateException();
+    });
+
+    assertThat(result.getName()).isEqualTo("padding");
+    assertThat(result.getProductOptions())
+        .extracting(ProductOptionResponse::getStock)
+        .containsExactly(5);
+    assertThat(meterRegistry.get("product.detail.cache.redis").tag("result", "hit").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("동시에 같은 상품을 요청해도 로딩은 한 번만 수행된다.")
+  void get_should_load_once_for_concurrent_requests() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<ProductResponse> first = executor.submit(() -> productDetailCache.get(1L, id -> {
+        loads.incrementAndGet();
+        loading.countDown();
+        await(release);
+        return productResponse(id);
+      }));
+      loading.await(1, TimeUnit.SECONDS);
+
+      List<Future<ProductResponse>> waiting = List.of(
+          executor.submit(() -> productDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return productResponse(id);
+          })),
+          executor.submit(() -> productDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return productResponse(id);
+          })));
+      release.countDown();
+
+      ProductResponse loaded = first.get(1, TimeUnit.SECONDS);
+      for (Future<ProductResponse> future : waiting) {
+        assertThat(future.get(1, TimeUnit.SECONDS)).isSameAs(loaded);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("로딩 중 예외가 발생하면 캐시에 저장하지 않는다.")
+  void get_should_not_cache_failures() {
+    assertThatThrownBy(() -> productDetailCache.get(1L, id -> {
+      throw new ServiceException(ServiceExceptionCode.NOT_FOUND_PRODUCT);
+    })).isInstanceOf(ServiceException.class);
+
+    verify(redisTemplate, never()).execute(eq(ProductDetailCache.WRITE_SCRIPT), any(), any());
+  }
+
+  @Test
+  @DisplayName("Redis에는 로딩 전에 읽은 제거 세대가 그대로일 때만 저장한다.")
+  void get_should_write_with_generation_read_before_loading() {
+    lenient().when(valueOperations.get(ProductDetailCache.GENERATION_KEY_PREFIX + 1))
+        .thenReturn("3");
+
+    productDetailCache.get(1L, this::productResponse);
+
+    verify(redisTemplate).execute(eq(ProductDetailCache.WRITE_SCRIPT),
+        eq(List.of(ProductDetailCache.KEY_PREFIX + 1, ProductDetailCache.GENERATION_KEY_PREFIX + 1)),
+        eq(3L), anyString(), eq(Duration.ofMinutes(30).toMillis()));
+  }
+
+  @Test
+  @DisplayName("제거 세대를 읽지 못하면 Redis에 저장하지 않는다.")
+  void get_should_skip_shared_write_when_generation_is_unknown() {
+    lenient().when(valueOperations.get(ProductDetailCache.GENERATION_KEY_PREFIX + 1))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    ProductResponse result = productDetailCache.get(1L, this::productResponse);
+
+    assertThat(result.getId()).isEqualTo(1L);
+    verify(redisTemplate, never()).execute(eq(ProductDetailCache.WRITE_SCRIPT), any(), any());
+  }
+
+  @Test
+  @DisplayName("재고가 변경되면 해당 옵션의 상품 캐시가 제거되고 다른 노드에 알린다.")
+  void evictByStockChange_should_evict_products_of_changed_options() {
+    AtomicInteger loads = new AtomicInteger();
+    productDetailCache.get(1L, id -> {
+      loads.incrementAndGet();
+      return productResponse(id);
+    });
+    when(productOptionRepository.findProductIdsByIds(Set.of(10L))).thenReturn(List.of(1L));
+
+    productDetailCache.evictByStockChange(new ProductStockChangedEvent(Set.of(10L)));
+    productDetailCache.get(1L, id -> {
+      loads.incrementAndGet();
+      return productResponse(id);
+    });
+
+    assertThat(loads).hasValue(2);
+    verify(redisTemplate).execute(ProductDetailCache.EVICT_SCRIPT,
+        List.of(ProductDetailCache.KEY_PREFIX + 1, ProductDetailCache.GENERATION_KEY_PREFIX + 1),
+        Duration.ofMinutes(30).toMillis());
+    verify(redisTemplate).convertAndSend(ProductDetailCache.CHANNEL, "1");
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
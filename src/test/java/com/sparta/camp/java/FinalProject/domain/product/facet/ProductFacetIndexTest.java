@@ -0,0 +1,205 @@
+package com.sparta.camp.java.FinalProject.domain.product.facet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.PriceBand;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductFacetSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetIndexTest {
+
+  @InjectMocks
+  private ProductFacetIndex productFacetIndex;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  private Category outer;
+  private PaginationRequest paginationRequest;
+
+  @BeforeEach
+  void setUp() {
+    outer = createCategory(1L, "outer");
+    Category top = createCategory(2L, "top");
+
+    paginationRequest = new PaginationRequest();
+    ReflectionTestUtils.setField(paginationRequest, "page", 1);
+    ReflectionTestUtils.setField(paginationRequest, "size", 10);
+
+    when(productRepository.findAllForSearchIndex()).thenReturn(List.of(
+        createProduct(1L, outer, 250000, SellStatus.ON_SALE),
+        createProduct(2L, outer, 80000, SellStatus.ON_SALE),
+        createProduct(3L, outer, 40000, SellStatus.SOLD_OUT),
+        createProduct(4L, top, 20000, SellStatus.ON_SALE)
+    ));
+    when(productOptionRepository.findAllActiveFacets()).thenReturn(List.of(
+        new ProductOptionFacet(1L, ColorType.BLACK, SizeType.MEDIUM),
+        new ProductOptionFacet(1L, ColorType.NAVY, SizeType.LARGE),
+        new ProductOptionFacet(2L, ColorType.BLACK, SizeType.SMALL),
+        new ProductOptionFacet(3L, ColorType.WHITE, SizeType.MEDIUM),
+        new ProductOptionFacet(4L, ColorType.BLACK, SizeType.MEDIUM)
+    ));
+    productFacetIndex.rebuild();
+  }
+
+  private Category createCategory(Long id, String name) {
+    Category category = Category.builder().name(name).build();
+    ReflectionTestUtils.setField(category, "id", id);
+    return category;
+  }
+
+  private Product createProduct(Long id, Category category, int price, SellStatus sellStatus) {
+    Product product = Product.builder()
+        .category(category)
+        .name("product" + id)
+        .description("product" + id)
+        .price(BigDecimal.valueOf(price))
+        .sellStatus(sellStatus)
+        .build();
+    ReflectionTestUtils.setField(product, "id", id);
+    return product;
+  }
+
+  private ProductFacetSearchRequest searchRequest(List<ColorType> colors) {
+    ProductFacetSearchRequest request = new ProductFacetSearchRequest();
+    request.setCategoryId(outer.getId());
+    request.setColors(colors);
+    return request;
+  }
+
+  @Test
+  @DisplayName("필터 결과와 함께 각 패싯의 개수를 계산한다")
+  void search_should_return_matches_with_disjunctive_facet_counts() {
+    ProductFacetResult result =
+        productFacetIndex.search(searchRequest(List.of(ColorType.BLACK)), null, paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(2L, 1L);
+    assertThat(result.totalItems()).isEqualTo(2);
+
+    assertThat(result.colors())
+        .containsEntry(ColorType.BLACK, 2)
+        .containsEntry(ColorType.NAVY, 1)
+        .containsEntry(ColorType.WHITE, 1)
+        .containsEntry(ColorType.RED, 0);
+    assertThat(result.sizes())
+        .containsEntry(SizeType.SMALL, 1)
+        .containsEntry(SizeType.MEDIUM, 1)
+        .containsEntry(SizeType.LARGE, 0);
+    assertThat(result.priceBands())
+        .containsEntry(PriceBand.OVER_200000, 1)
+        .containsEntry(PriceBand.FROM_50000_TO_100000, 1)
+        .containsEntry(PriceBand.FROM_30000_TO_50000, 0);
+    assertThat(result.sellStatuses())
+        .containsEntry(SellStatus.ON_SALE, 2)
+        .containsEntry(SellStatus.SOLD_OUT, 0);
+  }
+
+  @Test
+  @DisplayName("색상과 사이즈를 함께 고르면 같은 옵션에 두 조건을 모두 가진 상품만 찾는다")
+  void search_should_match_color_and_size_on_same_option() {
+    ProductFacetSearchRequest request = searchRequest(List.of(ColorType.BLACK));
+    request.setSizes(List.of(SizeType.LARGE));
+
+    ProductFacetResult result = productFacetIndex.search(request, null, paginationRequest);
+
+    assertThat(result.productIds()).isEmpty();
+    assertThat(result.colors())
+        .containsEntry(ColorType.BLACK, 0)
+        .containsEntry(ColorType.NAVY, 1);
+    assertThat(result.sizes())
+        .containsEntry(SizeType.SMALL, 1)
+        .containsEntry(SizeType.MEDIUM, 1)
+        .containsEntry(SizeType.LARGE, 0);
+    assertThat(result.sellStatuses()).containsEntry(SellStatus.ON_SALE, 0);
+
+    request.setColors(List.of(ColorType.BLACK, ColorType.NAVY));
+
+    assertThat(productFacetIndex.search(request, null, paginationRequest).productIds())
+        .containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("키워드 검색 결과와 교집합을 구한다")
+  void search_should_intersect_keyword_matches() {
+    BitSet keywordMatches = new BitSet();
+    keywordMatches.set(1);
+    keywordMatches.set(3);
+
+    ProductFacetResult result =
+        productFacetIndex.search(searchRequest(null), keywordMatches, paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(3L, 1L);
+    assertThat(result.colors()).containsEntry(ColorType.BLACK, 1);
+  }
+
+  @Test
+  @DisplayName("페이지 크기만큼 최신 상품부터 반환한다")
+  void search_should_page_from_newest_product() {
+    ReflectionTestUtils.setField(paginationRequest, "page", 2);
+    ReflectionTestUtils.setField(paginationRequest, "size", 2);
+
+    ProductFacetResult result =
+        productFacetIndex.search(searchRequest(null), null, paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(1L);
+    assertThat(result.totalItems()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("상품 변경과 삭제가 패싯에 반영된다")
+  void index_and_remove_should_update_bitsets() {
+    Product product = createProduct(3L, outer, 40000, SellStatus.ON_SALE);
+
+    productFacetIndex.index(ProductFacetDocument.of(product,
+        List.of(new ProductOptionFacet(3L, ColorType.BLACK, SizeType.LARGE))));
+    productFacetIndex.remove(2L);
+
+    ProductFacetResult result =
+        productFacetIndex.search(searchRequest(List.of(ColorType.BLACK)), null, paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(3L, 1L);
+    assertThat(result.colors())
+        .containsEntry(ColorType.WHITE, 0)
+        .containsEntry(ColorType.BLACK, 2);
+    assertThat(result.sellStatuses()).containsEntry(SellStatus.ON_SALE, 2);
+  }
+
+  @Test
+  @DisplayName("카테고리가 바뀐 상품은 이전 카테고리 검색에서 제외된다")
+  void index_should_move_product_between_categories() {
+    Category top = createCategory(2L, "top");
+    Product moved = createProduct(1L, top, 250000, SellStatus.ON_SALE);
+    productFacetIndex.index(ProductFacetDocument.of(moved,
+        List.of(new ProductOptionFacet(1L, ColorType.BLACK, SizeType.MEDIUM))));
+
+    assertThat(productFacetIndex.search(searchRequest(null), null, paginationRequest).productIds())
+        .containsExactly(3L, 2L);
+    assertThat(productFacetIndex.search(searchRequest(null), List.of(top.getId()), null,
+        paginationRequest).productIds())
+        .containsExactly(4L, 1L);
+  }
+
+}
@@ -0,0 +1,230 @@
+package com.sparta.camp.java.FinalProject.domain.product.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.category.event.CategoryChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductImage;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductListingView;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingQueryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingViewRepository;
+import com.sparta.camp.java.FinalProject.global.config.QueryDslConfig;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DataJpaTest
+@Import({
+    ProductListingProjector.class,
+    ProductListingQueryRepository.class,
+    QueryDslConfig.class
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductListingProjectorTest {
+
+  @Autowired
+  ProductListingProjector productListingProjector;
+
+  @Autowired
+  ProductListingQueryRepository productListingQueryRepository;
+
+  @Autowired
+  ProductListingViewRepository productListingViewRepository;
+
+  @Autowired
+  CategoryClosureRepository categoryClosureRepository;
+
+  @Autowired
+  TestEntityManager em;
+
+  private Category outer;
+  private Category padding;
+
+  @BeforeEach
+  void setUp() {
+    outer = Category.builder().name("outer").build();
+    em.persist(outer);
+    padding = Category.builder().name("padding").parent(outer).build();
+    em.persist(padding);
+
+    categoryClosureRepository.insertPaths(outer.getId(), null);
+    categoryClosureRepository.insertPaths(padding.getId(), outer.getId());
+    em.flush();
+  }
+
+  private Product persistProduct(String name, Category category, BigDecimal price) {
+    Product product = Product.builder()
+        .category(category)
+        .name(name)
+        .price(price)
+        .description(name)
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    em.persist(product);
+    return product;
+  }
+
+  @Test
+  @DisplayName("상품 변경 이벤트가 발생하면 카테고리 경로, 대표 이미지, 재고 합계, 색상/사이즈가 반영된다.")
+  void onProductChanged_should_project_denormalized_row() {
+    Product product = persistProduct("long padding", padding, BigDecimal.valueOf(200000));
+    ProductOption deleted = new ProductOption(product, ColorType.RED, SizeType.SMALL, 9);
+    deleted.setDeletedAt(LocalDateTime.now());
+    em.persist(new ProductOption(product, ColorType.WHITE, SizeType.LARGE, 5));
+    em.persist(new ProductOption(product, ColorType.BLACK, SizeType.SMALL, 3));
+    em.persist(deleted);
+    em.persist(new ProductImage(product, "main.png", "stored-main.png", "/images/main.png", 1, true));
+    em.persist(new ProductImage(product, "sub.png", "stored-sub.png", "/images/sub.png", 2, false));
+    em.flush();
+
+    productListingProjector.onProductChanged(new ProductChangedEvent(product.getId()));
+    em.flush();
+    em.clear();
+
+    ProductListingView view = em.find(ProductListingView.class, product.getId());
+    assertThat(view.getCategoryPath()).isEqualTo("outer > padding");
+    assertThat(view.getMainImageUrl()).isEqualTo("/images/main.png");
+    assertThat(view.getTotalStock()).isEqualTo(8);
+    assertThat(view.getColors()).isEqualTo("BLACK,WHITE");
+    assertThat(view.getSizes()).isEqualTo("LARGE,SMALL");
+  }
+
+  @Test
+  @DisplayName("삭제된 상품의 변경 이벤트가 발생하면 읽기 모델에서 제거된다.")
+  void onProductChanged_should_remove_deleted_product() {
+    Product product = persistProduct("long padding", padding, BigDecimal.valueOf(200000));
+    em.flush();
+    productListingProjector.onProductChanged(new ProductChangedEvent(product.getId()));
+
+    product.setDeletedAt(LocalDateTime.now());
+    em.flush();
+    productListingProjector.onProductChanged(new ProductChangedEvent(product.getId()));
+    em.flush();
+
+    assertThat(productListingViewRepository.findById(product.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재고 변경은 커밋 후에 모아 두었다가 주기적으로 한 번에 반영된다.")
+  void onStockChanged_should_project_after_commit_on_flush() {
+    Product product = persistProduct("long padding", padding, BigDecimal.valueOf(200000));
+    ProductOption option = new ProductOption(product, ColorType.WHITE, SizeType.LARGE, 5);
+    em.persist(option);
+    em.flush();
+    productListingProjector.onProductChanged(new ProductChangedEvent(product.getId()));
+    em.flush();
+
+    option.increaseStock(3);
+    em.flush();
+    productListingProjector.onStockChanged(new ProductStockChangedEvent(Set.of(option.getId())));
+    productListingProjector.onStockChanged(new ProductStockChangedEvent(Set.of(option.getId())));
+    productListingProjector.flushStockChanges();
+    em.flush();
+    em.clear();
+
+    assertThat(em.find(ProductListingView.class, product.getId()).getTotalStock()).isEqualTo(5);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    productListingProjector.flushStockChanges();
+    em.flush();
+    em.clear();
+
+    assertThat(em.find(ProductListingView.class, product.getId()).getTotalStock()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("카테고리 이름이 바뀌면 하위 카테고리 상품의 카테고리 경로가 갱신된다.")
+  void onCategoryChanged_should_refresh_category_path_of_subtree() {
+    Product product = persistProduct("long padding", padding, BigDecimal.valueOf(200000));
+    em.flush();
+    productListingProjector.onProductChanged(new ProductChangedEvent(product.getId()));
+
+    outer.setName("outerwear");
+    em.flush();
+    productListingProjector.onCategoryChanged(new CategoryChangedEvent(outer.getId()));
+    em.flush();
+    em.clear();
+
+    assertThat(em.find(ProductListingView.class, product.getId()).getCategoryPath())
+        .isEqualTo("outerwear > padding");
+  }
+
+  @Test
+  @DisplayName("재구축하면 활성 상품만 투영되고 하위 카테고리 포함 목록을 한 테이블에서 조회한다.")
+  void rebuild_should_project_active_products_and_drop_orphans() {
+    Product cheap = persistProduct("short padding", padding, BigDecimal.valueOf(90000));
+    Product expensive = persistProduct("coat", outer, BigDecimal.valueOf(300000));
+    Product removed = persistProduct("removed", outer, BigDecimal.valueOf(100000));
+    em.flush();
+    productListingProjector.onProductChanged(new ProductChangedEvent(removed.getId()));
+    removed.setDeletedAt(LocalDateTime.now());
+    em.flush();
+
+    int projected = productListingProjector.rebuild();
+    em.flush();
+    em.clear();
+
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+    ReflectionTestUtils.setField(searchRequest, "includeDescendants", true);
+    ReflectionTestUtils.setField(searchRequest, "sortType", "price");
+    ReflectionTestUtils.setField(searchRequest, "sortDirection", "asc");
+    PaginationRequest pageRequest = new PaginationRequest();
+    ReflectionTestUtils.setField(pageRequest, "page", 1);
+    ReflectionTestUtils.setField(pageRequest, "size", 10);
+
+    List<ProductListingView> listing =
+        productListingQueryRepository.findListing(searchRequest, pageRequest);
+
+    assertThat(projected).isEqualTo(2);
+    assertThat(listing)
+        .extracting(ProductListingView::getProductId)
+        .containsExactly(cheap.getId(), expensive.getId());
+    assertThat(productListingQueryRepository.countListing(searchRequest)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("목록 조회에서 지원하지 않는 검색 조건은 거부한다.")
+  void findListing_should_reject_unsupported_keyword_type() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+    ReflectionTestUtils.setField(searchRequest, "keywordType", "description");
+    ReflectionTestUtils.setField(searchRequest, "keyword", "padding");
+    PaginationRequest pageRequest = new PaginationRequest();
+    ReflectionTestUtils.setField(pageRequest, "page", 1);
+    ReflectionTestUtils.setField(pageRequest, "size", 10);
+
+    assertThatThrownBy(() -> productListingQueryRepository.findListing(searchRequest, pageRequest))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.UNSUPPORTED_KEYWORD_TYPE.getMessage());
+  }
+
+}
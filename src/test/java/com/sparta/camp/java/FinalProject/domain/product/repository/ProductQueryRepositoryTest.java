@@ -1,18 +1,32 @@
 package com.sparta.camp.java.FinalProject.domain.product.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.sparta.camp.java.FinalProject.common.enums.ColorType;
 import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.enums.SizeType;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorRequest;
+import com.sparta.camp.java.FinalProject.common.pagination.CursorResponse;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductImageResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductImage;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.global.config.QueryDslConfig;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +50,9 @@ class ProductQueryRepositoryTest {
   @Autowired
   ProductQueryRepository productQueryRepository;
 
+  @Autowired
+  CategoryClosureRepository categoryClosureRepository;
+
   @Autowired
   TestEntityManager em;
 
@@ -213,6 +230,146 @@ class ProductQueryRepositoryTest {
 
   }
 
+  @Test
+  @DisplayName("커서 기반으로 다음 페이지와 이전 페이지를 조회한다")
+  void findProductsByCursor_should_navigate_forward_and_backward() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+    ReflectionTestUtils.setField(searchRequest, "sortType", "price");
+    ReflectionTestUtils.setField(searchRequest, "sortDirection", "desc");
 
+    CursorResponse<ProductResponse> first =
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest(null, 5));
+    CursorResponse<ProductResponse> second =
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest(first.getNextCursor(), 5));
+    CursorResponse<ProductResponse> third =
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest(second.getNextCursor(), 5));
+    CursorResponse<ProductResponse> back =
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest(third.getPreviousCursor(), 5));
+
+    assertThat(first.isHasPrevious()).isFalse();
+    assertThat(first.isHasNext()).isTrue();
+    assertThat(third.isHasNext()).isFalse();
+    assertThat(third.getNextCursor()).isNull();
+
+    List<Long> forwardIds = Stream.of(first, second, third)
+        .flatMap(response -> response.getContent().stream())
+        .map(ProductResponse::getId)
+        .toList();
+    assertThat(forwardIds)
+        .hasSize(15)
+        .doesNotHaveDuplicates()
+        .isSortedAccordingTo(Comparator.reverseOrder());
+
+    assertThat(back.getContent())
+        .extracting(ProductResponse::getId)
+        .containsExactlyElementsOf(second.getContent().stream().map(ProductResponse::getId).toList());
+    assertThat(back.isHasPrevious()).isTrue();
+    assertThat(back.isHasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("잘못된 커서가 전달되면 예외가 발생한다")
+  void findProductsByCursor_should_throw_when_cursor_is_invalid() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+
+    assertThatThrownBy(() ->
+        productQueryRepository.findProductsByCursor(searchRequest, cursorRequest("invalid", 5)))
+        .isInstanceOf(ServiceException.class)
+        .hasMessage(ServiceExceptionCode.INVALID_CURSOR.getMessage());
+  }
+
+  @Test
+  @DisplayName("하위 카테고리 포함 조건이면 하위 카테고리의 상품까지 조회된다")
+  void findProducts_should_include_descendant_categories_when_include_descendants() {
+    Category padding = createCategory("padding", em.find(Category.class, outer.getId()));
+    em.persist(padding);
+    persistProducts(padding, 1, 3, BigDecimal.valueOf(150000));
+
+    categoryClosureRepository.insertPaths(outer.getId(), null);
+    categoryClosureRepository.insertPaths(top.getId(), null);
+    categoryClosureRepository.insertPaths(padding.getId(), outer.getId());
+    em.flush();
+    em.clear();
+
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+
+    assertThat(productQueryRepository.countProducts(searchRequest)).isEqualTo(15);
+
+    ReflectionTestUtils.setField(searchRequest, "includeDescendants", true);
+
+    assertThat(productQueryRepository.countProducts(searchRequest)).isEqualTo(18);
+    assertThat(productQueryRepository.findProducts(searchRequest, paginationRequest))
+        .extracting(ProductResponse::getCategoryId)
+        .containsOnly(outer.getId(), padding.getId());
+  }
+
+  @Test
+  @DisplayName("상한 개수 조회는 상한을 넘지 않는 범위에서 조건에 맞는 상품 수를 반환한다")
+  void countProductsUpTo_should_cap_count_at_limit() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", outer.getId());
+
+    assertThat(productQueryRepository.countProductsUpTo(searchRequest, 10)).isEqualTo(10);
+    assertThat(productQueryRepository.countProductsUpTo(searchRequest, 100)).isEqualTo(15);
+  }
+
+  @Test
+  @DisplayName("상품 목록에 옵션과 대표 이미지가 한 번의 조회로 채워진다")
+  void attachOptionsAndMainImages_should_fill_options_and_main_image() {
+    Product padding = Product.builder()
+        .category(em.find(Category.class, outer.getId()))
+        .price(BigDecimal.valueOf(150000))
+        .name("padding")
+        .description("padding")
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    em.persist(padding);
+
+    ProductOption black = new ProductOption(padding, ColorType.BLACK, SizeType.SMALL, 3);
+    ProductOption white = new ProductOption(padding, ColorType.WHITE, SizeType.LARGE, 5);
+    ProductOption deleted = new ProductOption(padding, ColorType.RED, SizeType.MEDIUM, 1);
+    deleted.setDeletedAt(LocalDateTime.now());
+    Stream.of(black, white, deleted).forEach(em::persist);
+
+    em.persist(new ProductImage(padding, "main.png", "stored-main.png", "/images", 1, true));
+    em.persist(new ProductImage(padding, "sub.png", "stored-sub.png", "/images", 2, false));
+
+    Product noOptions = Product.builder()
+        .category(em.find(Category.class, outer.getId()))
+        .price(BigDecimal.valueOf(150000))
+        .name("no_options")
+        .description("no_options")
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    em.persist(noOptions);
+    em.flush();
+    em.clear();
+
+    List<ProductResponse> products =
+        productQueryRepository.findProductsByIds(List.of(padding.getId(), noOptions.getId()));
+    productQueryRepository.attachOptionsAndMainImages(products);
+
+    ProductResponse withOptions = products.get(0);
+    assertThat(withOptions.getProductOptions())
+        .extracting(ProductOptionResponse::getColor)
+        .containsExactly(ColorType.BLACK, ColorType.WHITE);
+    assertThat(withOptions.getProductImages())
+        .extracting(ProductImageResponse::getOriginalName)
+        .containsExactly("main.png");
+
+    ProductResponse withoutOptions = products.get(1);
+    assertThat(withoutOptions.getProductOptions()).isEmpty();
+    assertThat(withoutOptions.getProductImages()).isEmpty();
+  }
+
+  private CursorRequest cursorRequest(String cursor, int size) {
+    CursorRequest request = new CursorRequest();
+    request.setCursor(cursor);
+    request.setSize(size);
+    return request;
+  }
 
-}
\ No newline at end of file
+}
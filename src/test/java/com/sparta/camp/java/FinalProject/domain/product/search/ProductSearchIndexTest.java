@@ -0,0 +1,157 @@
+package com.sparta.camp.java.FinalProject.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.SellStatus;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
+import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
+import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+  @InjectMocks
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  private Category outer;
+  private Category top;
+  private PaginationRequest paginationRequest;
+
+  @BeforeEach
+  void setUp() {
+    outer = createCategory(1L, "outer");
+    top = createCategory(2L, "top");
+
+    paginationRequest = new PaginationRequest();
+    ReflectionTestUtils.setField(paginationRequest, "page", 1);
+    ReflectionTestUtils.setField(paginationRequest, "size", 10);
+
+    when(productRepository.findAllForSearchIndex()).thenReturn(List.of(
+        createProduct(1L, outer, "겨울 롱패딩", "따뜻한 구스 다운 패딩", 200000),
+        createProduct(2L, outer, "경량 패딩 조끼", "가벼운 패딩 패딩 조끼", 80000),
+        createProduct(3L, outer, "Wool Coat", "classic wool coat", 150000),
+        createProduct(4L, top, "패딩 셔츠", "누빔 셔츠", 50000)
+    ));
+    productSearchIndex.rebuild();
+  }
+
+  private Category createCategory(Long id, String name) {
+    Category category = Category.builder().name(name).build();
+    ReflectionTestUtils.setField(category, "id", id);
+    return category;
+  }
+
+  private Product createProduct(Long id, Category category, String name, String description,
+      int price) {
+    Product product = Product.builder()
+        .category(category)
+        .name(name)
+        .description(description)
+        .price(BigDecimal.valueOf(price))
+        .sellStatus(SellStatus.ON_SALE)
+        .build();
+    ReflectionTestUtils.setField(product, "id", id);
+    ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now().minusDays(id));
+    return product;
+  }
+
+  private ProductSearchRequest searchRequest(Long categoryId, String keywordType, String keyword) {
+    ProductSearchRequest request = new ProductSearchRequest();
+    ReflectionTestUtils.setField(request, "categoryId", categoryId);
+    ReflectionTestUtils.setField(request, "keywordType", keywordType);
+    ReflectionTestUtils.setField(request, "keyword", keyword);
+    return request;
+  }
+
+  @Test
+  @DisplayName("한글 부분 문자열로 상품명을 검색한다")
+  void search_should_match_korean_substring() {
+    ProductSearchResult result =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "패딩"), paginationRequest);
+    ProductSearchResult single =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "롱"), paginationRequest);
+    ProductSearchResult notContiguous =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "롱조끼"), paginationRequest);
+
+    assertThat(result.productIds()).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result.totalItems()).isEqualTo(2);
+    assertThat(single.productIds()).containsExactly(1L);
+    assertThat(notContiguous.productIds()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("영문 검색은 대소문자를 구분하지 않는다")
+  void search_should_ignore_case() {
+    ProductSearchResult result =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "wOOL"), paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("정렬 조건이 없으면 BM25 점수 순으로 정렬한다")
+  void search_should_rank_by_bm25_when_sort_type_missing() {
+    ProductSearchResult result = productSearchIndex.search(
+        searchRequest(outer.getId(), "description", "패딩"), paginationRequest);
+
+    assertThat(result.productIds()).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("가격 조건과 정렬 조건을 함께 적용한다")
+  void search_should_apply_price_filter_and_sort() {
+    ProductSearchRequest request = searchRequest(outer.getId(), "name", "패딩");
+    ReflectionTestUtils.setField(request, "maxPrice", 100000);
+    ProductSearchRequest sorted = searchRequest(outer.getId(), "name", "패딩");
+    ReflectionTestUtils.setField(sorted, "sortType", "price");
+    ReflectionTestUtils.setField(sorted, "sortDirection", "asc");
+
+    assertThat(productSearchIndex.search(request, paginationRequest).productIds())
+        .containsExactly(2L);
+    assertThat(productSearchIndex.search(sorted, paginationRequest).productIds())
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("상품 변경과 삭제가 인덱스에 반영된다")
+  void index_and_remove_should_update_postings() {
+    Product renamed = createProduct(3L, outer, "울 패딩", "classic wool coat", 150000);
+
+    productSearchIndex.index(renamed);
+    productSearchIndex.remove(1L);
+
+    ProductSearchResult padding =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "패딩"), paginationRequest);
+    ProductSearchResult coat =
+        productSearchIndex.search(searchRequest(outer.getId(), "name", "coat"), paginationRequest);
+
+    assertThat(padding.productIds()).containsExactlyInAnyOrder(2L, 3L);
+    assertThat(coat.productIds()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("카테고리 키워드나 빈 키워드는 인덱스 검색 대상이 아니다")
+  void supports_should_only_accept_indexed_fields() {
+    assertThat(productSearchIndex.supports(searchRequest(outer.getId(), "name", "패딩"))).isTrue();
+    assertThat(productSearchIndex.supports(searchRequest(outer.getId(), "category", "out"))).isFalse();
+    assertThat(productSearchIndex.supports(searchRequest(outer.getId(), "name", " "))).isFalse();
+  }
+
+}
@@ -13,16 +13,23 @@ import com.sparta.camp.java.FinalProject.common.enums.ColorType;
 import com.sparta.camp.java.FinalProject.common.enums.SizeType;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.domain.category.entity.Category;
 import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.cache.ProductDetailCache;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionRequest;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductUpdateRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetIndex;
+import com.sparta.camp.java.FinalProject.domain.product.projection.ProductListingProjector;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductImageRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchIndex;
 import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseProductQueryRepository;
 import java.io.IOException;
 import java.util.List;
@@ -34,6 +41,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -65,6 +73,24 @@ class ProductAdminServiceTest {
   @Mock
   private ProductOptionRepository productOptionRepository;
 
+  @Mock
+  private PaginationCounter paginationCounter;
+
+  @Mock
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductFacetIndex productFacetIndex;
+
+  @Mock
+  private ProductDetailCache productDetailCache;
+
+  @Mock
+  private ProductListingProjector productListingProjector;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private ProductCreateRequest productCreateRequest;
   private ProductUpdateRequest productUpdateRequest;
   private Category category;
@@ -148,6 +174,8 @@ class ProductAdminServiceTest {
     verify(productRepository).save(any(Product.class));
     verify(productOptionService).createProductOption(any(Product.class), anyList());
     verify(productImageService).createProductImages(any(Product.class), anyList());
+    verify(paginationCounter).invalidate(CountScope.PRODUCT);
+    verify(productSearchIndex).index(any(Product.class));
 
   }
 
@@ -201,6 +229,8 @@ class ProductAdminServiceTest {
     verify(productRepository).findProductByIdAndName(product.getId(), productUpdateRequest.getName());
     verify(productOptionService).updateProductOption(any(), anyList());
     verify(productImageService).updateProductImages(any(), anyList());
+    verify(productDetailCache).evict(product.getId());
+    verify(eventPublisher).publishEvent(new ProductChangedEvent(product.getId()));
   }
 
   @Test
@@ -261,6 +291,7 @@ class ProductAdminServiceTest {
     verify(productRepository).findProductById(product.getId());
     verify(productOptionRepository).softDeleteByProductId(product.getId());
     verify(productImageRepository).softDeleteByProductId(product.getId());
+    verify(productDetailCache).evict(product.getId());
   }
 
   @Test
@@ -3,36 +3,54 @@ package com.sparta.camp.java.FinalProject.domain.product.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
+import com.sparta.camp.java.FinalProject.common.pagination.TotalCount;
+import com.sparta.camp.java.FinalProject.domain.category.repository.CategoryClosureRepository;
+import com.sparta.camp.java.FinalProject.domain.product.cache.ProductDetailCache;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductImageResponse;
+import com.sparta.camp.java.FinalProject.domain.product.dto.ProductOptionResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductResponse;
 import com.sparta.camp.java.FinalProject.domain.product.dto.ProductSearchRequest;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductImage;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductImageMapper;
 import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductMapper;
-import com.sparta.camp.java.FinalProject.domain.product.repository.ProductImageRepository;
-import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import com.sparta.camp.java.FinalProject.domain.product.mapper.ProductOptionMapper;
+import com.sparta.camp.java.FinalProject.domain.product.facet.ProductFacetIndex;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductListingQueryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductQueryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchIndex;
+import com.sparta.camp.java.FinalProject.domain.product.search.ProductSearchResult;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,14 +66,36 @@ class ProductServiceTest {
   private ProductQueryRepository productQueryRepository;
 
   @Mock
-  private ProductOptionRepository productOptionRepository;
+  private ProductListingQueryRepository productListingQueryRepository;
 
   @Mock
-  private ProductImageRepository productImageRepository;
+  private CategoryClosureRepository categoryClosureRepository;
 
   @Mock
   private ProductMapper productMapper;
 
+  @Mock
+  private ProductOptionMapper productOptionMapper;
+
+  @Mock
+  private ProductImageMapper productImageMapper;
+
+  @Mock
+  private PaginationCounter paginationCounter;
+
+  @Mock
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductFacetIndex productFacetIndex;
+
+  @Mock
+  private ProductDetailCache productDetailCache;
+
+  @Spy
+  private TransactionTemplate transactionTemplate =
+      new TransactionTemplate(mock(PlatformTransactionManager.class));
+
   private PaginationRequest paginationRequest;
 
   private Product product1;
@@ -103,6 +143,13 @@ class ProductServiceTest {
     return productOption;
   }
 
+  @SuppressWarnings("unchecked")
+  private void loadThroughDetailCache() {
+    when(productDetailCache.get(anyLong(), any()))
+        .thenAnswer(invocation -> invocation.<Function<Long, ProductResponse>>getArgument(1)
+            .apply(invocation.getArgument(0)));
+  }
+
   private ProductImage createProductImage(Long id, Product product) {
     ProductImage productImage = new ProductImage();
     ReflectionTestUtils.setField(productImage, "id", id);
@@ -110,18 +157,28 @@ class ProductServiceTest {
     return productImage;
   }
 
+  private void stubExactCount() {
+    when(paginationCounter.count(eq(CountStrategy.EXACT), eq(CountScope.PRODUCT), any(), any(),
+        any(), any()))
+        .thenAnswer(invocation -> TotalCount.exact(
+            invocation.<LongSupplier>getArgument(4).getAsLong()));
+  }
+
   @Test
   @DisplayName("정상적으로 모든 상품 조회를 한다.")
   void getAllProducts_should_return_all_products() {
 
     when(productQueryRepository.findProducts(any(), any())).thenReturn(products);
-    when(productOptionRepository.findProductOptionInProductIds(anyList())).thenReturn(productOptions);
-    when(productImageRepository.findProductImageInProductIds(anyList())).thenReturn(productImages);
-
-    when(productMapper.toResponse(product1)).thenReturn(productResponse1);
-    when(productMapper.toResponse(product2)).thenReturn(productResponse2);
+    doAnswer(invocation -> {
+      invocation.<List<ProductResponse>>getArgument(0).forEach(response -> {
+        response.setProductOptions(List.of(ProductOptionResponse.builder().id(response.getId()).build()));
+        response.setProductImages(List.of(ProductImageResponse.builder().id(response.getId()).build()));
+      });
+      return null;
+    }).when(productQueryRepository).attachOptionsAndMainImages(products);
 
     when(productQueryRepository.countProducts(any())).thenReturn(2L);
+    stubExactCount();
 
     PaginationResponse<ProductResponse> results =
         productService.getAllProducts(new ProductSearchRequest(), paginationRequest);
@@ -141,9 +198,7 @@ class ProductServiceTest {
     assertThat(response2.getProductImages().size()).isEqualTo(1);
 
     verify(productQueryRepository).findProducts(any(), any());
-    verify(productOptionRepository).findProductOptionInProductIds(anyList());
-    verify(productImageRepository).findProductImageInProductIds(anyList());
-    verify(productMapper, times(2)).toResponse(any(Product.class));
+    verify(productQueryRepository).attachOptionsAndMainImages(products);
     verify(productQueryRepository).countProducts(any());
   }
 
@@ -153,6 +208,7 @@ class ProductServiceTest {
 
     when(productQueryRepository.findProducts(any(), any())).thenReturn(List.of());
     when(productQueryRepository.countProducts(any(ProductSearchRequest.class))).thenReturn(0L);
+    stubExactCount();
 
     PaginationResponse result = productService.getAllProducts(new ProductSearchRequest(), paginationRequest);
 
@@ -162,13 +218,80 @@ class ProductServiceTest {
 
     verify(productQueryRepository).findProducts(any(), any());
     verify(productQueryRepository).countProducts(any(ProductSearchRequest.class));
-    verifyNoMoreInteractions(productOptionRepository);
-    verifyNoMoreInteractions(productImageRepository);
+    verify(productQueryRepository, never()).attachOptionsAndMainImages(any());
+  }
+
+  @Test
+  @DisplayName("키워드 검색은 검색 인덱스 결과 순서대로 상품을 조회한다.")
+  void getAllProducts_should_use_search_index_when_keyword_exists() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", 1L);
+    ReflectionTestUtils.setField(searchRequest, "keywordType", "name");
+    ReflectionTestUtils.setField(searchRequest, "keyword", "p");
+
+    when(productSearchIndex.supports(searchRequest)).thenReturn(true);
+    when(productSearchIndex.search(searchRequest, List.of(1L), paginationRequest))
+        .thenReturn(new ProductSearchResult(List.of(2L, 1L), 2));
+    when(productQueryRepository.findProductsByIds(List.of(2L, 1L)))
+        .thenReturn(List.of(productResponse2, productResponse1));
+
+    PaginationResponse<ProductResponse> result =
+        productService.getAllProducts(searchRequest, paginationRequest);
+
+    assertThat(result.getTotalItems()).isEqualTo(2);
+    assertThat(result.getContent())
+        .extracting(ProductResponse::getId)
+        .containsExactly(2L, 1L);
+
+    verify(productQueryRepository, never()).findProducts(any(), any());
+    verify(paginationCounter, never()).count(any(), any(), any(), any(), any(), any());
+    verify(categoryClosureRepository, never()).findDescendantIds(any());
+  }
+
+  @Test
+  @DisplayName("하위 카테고리 포함 검색은 카테고리 클로저의 하위 카테고리까지 검색 인덱스에 전달한다.")
+  void getAllProducts_should_search_descendant_categories_when_include_descendants() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "categoryId", 1L);
+    ReflectionTestUtils.setField(searchRequest, "includeDescendants", true);
+    ReflectionTestUtils.setField(searchRequest, "keywordType", "name");
+    ReflectionTestUtils.setField(searchRequest, "keyword", "p");
+
+    when(productSearchIndex.supports(searchRequest)).thenReturn(true);
+    when(categoryClosureRepository.findDescendantIds(1L)).thenReturn(List.of(1L, 2L, 3L));
+    when(productSearchIndex.search(searchRequest, List.of(1L, 2L, 3L), paginationRequest))
+        .thenReturn(new ProductSearchResult(List.of(), 0));
+
+    PaginationResponse<ProductResponse> result =
+        productService.getAllProducts(searchRequest, paginationRequest);
+
+    assertThat(result.getTotalItems()).isZero();
+    assertThat(result.getContent()).isEmpty();
+    verify(productSearchIndex).search(searchRequest, List.of(1L, 2L, 3L), paginationRequest);
+  }
+
+  @Test
+  @DisplayName("카테고리 없이 하위 카테고리 포함 검색을 하면 예외를 던진다.")
+  void getAllProducts_should_throw_when_category_id_is_null_with_include_descendants() {
+    ProductSearchRequest searchRequest = new ProductSearchRequest();
+    ReflectionTestUtils.setField(searchRequest, "includeDescendants", true);
+    ReflectionTestUtils.setField(searchRequest, "keywordType", "name");
+    ReflectionTestUtils.setField(searchRequest, "keyword", "p");
+
+    when(productSearchIndex.supports(searchRequest)).thenReturn(true);
+
+    assertThatThrownBy(() -> productService.getAllProducts(searchRequest, paginationRequest))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CATEGORY.getMessage());
+
+    verify(categoryClosureRepository, never()).findDescendantIds(any());
+    verify(productSearchIndex, never()).search(any(), any(), any());
   }
 
   @Test
   @DisplayName("정상적으로 상품 조회를 한다.")
   void getProductById_should_return_product() {
+    loadThroughDetailCache();
     ReflectionTestUtils.setField(product1, "productOptions", productOptions);
     ReflectionTestUtils.setField(product1, "productImages", productImages);
 
@@ -186,9 +309,22 @@ class ProductServiceTest {
     verify(productMapper).toResponse(product1);
   }
 
+  @Test
+  @DisplayName("상품 상세가 캐시에 있으면 트랜잭션을 열지 않는다.")
+  void getProductById_should_not_open_transaction_on_cache_hit() {
+    when(productDetailCache.get(eq(product1.getId()), any())).thenReturn(productResponse1);
+
+    ProductResponse result = productService.getProductById(product1.getId());
+
+    assertThat(result).isSameAs(productResponse1);
+    verify(transactionTemplate, never()).execute(any());
+    verify(productRepository, never()).findProductById(anyLong());
+  }
+
   @Test
   @DisplayName("상품이 존재하지 않으면 오류가 발생한다.")
   void getProductById_should_throwException_when_nonExistentProduct() {
+    loadThroughDetailCache();
     when(productRepository.findProductById(anyLong())).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> productService.getProductById(0L))
@@ -201,6 +337,7 @@ class ProductServiceTest {
   @Test
   @DisplayName("상품 옵션이 존재하지 않으면 오류가 발생한다.")
   void getProductById_should_throwException_when_nonExistentProductOption() {
+    loadThroughDetailCache();
 
     when(productRepository.findProductById(anyLong())).thenReturn(Optional.of(product1));
 
@@ -214,6 +351,7 @@ class ProductServiceTest {
   @Test
   @DisplayName("상품이미지가 존재하지 않으면 오류가 발생한다.")
   void getProductById_should_throwException_when_nonExistentProductImage() {
+    loadThroughDetailCache();
     ReflectionTestUtils.setField(product1, "productOptions", productOptions);
 
     when(productRepository.findProductById(anyLong())).thenReturn(Optional.of(product1));
@@ -0,0 +1,74 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.product.event.ProductStockChangedEvent;
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockManagerTest {
+
+  @InjectMocks
+  private ConditionalUpdateStockManager stockManager;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Test
+  @DisplayName("모든 옵션의 재고 차감이 성공하면 성공 결과를 반환한다.")
+  void decrease_should_succeed_when_all_options_have_stock() {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    quantities.put(3L, 1);
+    quantities.put(1L, 2);
+
+    when(productOptionRepository.decreaseStockIfAvailable(anyLong(), anyInt())).thenReturn(1);
+
+    StockDecreaseResult result = stockManager.decrease(quantities);
+
+    assertThat(result.isSuccess()).isTrue();
+
+    InOrder inOrder = inOrder(productOptionRepository);
+    inOrder.verify(productOptionRepository).decreaseStockIfAvailable(1L, 2);
+    inOrder.verify(productOptionRepository).decreaseStockIfAvailable(3L, 1);
+    verify(productOptionRepository, never()).increaseStock(anyLong(), anyInt());
+    verify(eventPublisher).publishEvent(new ProductStockChangedEvent(Set.of(1L, 3L)));
+  }
+
+  @Test
+  @DisplayName("일부 옵션의 재고가 부족하면 실패한 옵션을 반환하고 차감한 재고를 되돌린다.")
+  void decrease_should_return_failed_options_and_restore_when_stock_is_insufficient() {
+    when(productOptionRepository.decreaseStockIfAvailable(1L, 2)).thenReturn(1);
+    when(productOptionRepository.decreaseStockIfAvailable(2L, 5)).thenReturn(0);
+    when(productOptionRepository.decreaseStockIfAvailable(3L, 1)).thenReturn(1);
+
+    StockDecreaseResult result = stockManager.decrease(Map.of(1L, 2, 2L, 5, 3L, 1));
+
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(result.failedOptionIds()).containsExactly(2L);
+
+    verify(productOptionRepository).increaseStock(1L, 2);
+    verify(productOptionRepository).increaseStock(3L, 1);
+    verify(productOptionRepository, never()).increaseStock(2L, 5);
+  }
+
+}
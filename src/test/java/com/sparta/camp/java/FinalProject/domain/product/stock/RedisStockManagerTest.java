@@ -0,0 +1,73 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStockManagerTest {
+
+  @InjectMocks
+  private RedisStockManager redisStockManager;
+
+  @Mock
+  private RedisStockLedger redisStockLedger;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(redisStockManager, "reservationTtl", Duration.ofMinutes(5));
+  }
+
+  @Test
+  @DisplayName("예약이 확정되면 재고를 다시 차감하지 않는다.")
+  void decrease_should_not_recommit_when_reservation_is_committed() {
+    Map<Long, Integer> quantities = Map.of(1L, 2);
+    when(redisStockLedger.reserve(anyString(), eq(quantities), any(Duration.class)))
+        .thenReturn(StockDecreaseResult.success());
+    when(redisStockLedger.commit(anyString())).thenReturn(true);
+
+    StockDecreaseResult result = redisStockManager.decrease(quantities);
+
+    assertThat(result.isSuccess()).isTrue();
+    verify(redisStockLedger, never()).recommit(anyMap());
+  }
+
+  @Test
+  @DisplayName("확정 전에 예약이 만료되어 해제되었다면 주문 수량만큼 재고를 다시 차감한다.")
+  void decrease_should_recommit_when_reservation_was_released() {
+    Map<Long, Integer> quantities = Map.of(1L, 2, 2L, 1);
+    when(redisStockLedger.reserve(anyString(), eq(quantities), any(Duration.class)))
+        .thenReturn(StockDecreaseResult.success());
+    when(redisStockLedger.commit(anyString())).thenReturn(false);
+
+    StockDecreaseResult result = redisStockManager.decrease(quantities);
+
+    assertThat(result.isSuccess()).isTrue();
+    verify(redisStockLedger).recommit(quantities);
+  }
+
+}
@@ -0,0 +1,108 @@
+package com.sparta.camp.java.FinalProject.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStockReconcilerTest {
+
+  @InjectMocks
+  private RedisStockReconciler redisStockReconciler;
+
+  @Mock
+  private RedisStockLedger redisStockLedger;
+
+  @Mock
+  private ProductOptionRepository productOptionRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(redisStockReconciler, "batchSize", 2);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void runTransactionCallback() {
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+  }
+
+  @Test
+  @DisplayName("누적된 재고 변화량을 배치 단위로 DB에 반영한다.")
+  void reconcile_should_apply_deltas_in_batches() {
+    when(redisStockLedger.drainDeltas()).thenReturn(Map.of(1L, -3, 2L, -1, 3L, 2));
+    runTransactionCallback();
+
+    redisStockReconciler.reconcile();
+
+    verify(redisStockLedger).releaseExpired(2);
+    verify(productOptionRepository).increaseStock(1L, -3);
+    verify(productOptionRepository).increaseStock(2L, -1);
+    verify(productOptionRepository).increaseStock(3L, 2);
+    verify(redisStockLedger).acknowledgeDeltas(Set.of(1L, 2L));
+    verify(redisStockLedger).acknowledgeDeltas(Set.of(3L));
+    verify(redisStockLedger, never()).restoreDeltas(any());
+  }
+
+  @Test
+  @DisplayName("반영할 변화량이 없으면 DB에 접근하지 않는다.")
+  void reconcile_should_skip_when_no_deltas() {
+    when(redisStockLedger.drainDeltas()).thenReturn(Map.of());
+
+    redisStockReconciler.reconcile();
+
+    verify(transactionTemplate, never()).executeWithoutResult(any());
+    verify(productOptionRepository, never()).increaseStock(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("DB 반영에 실패하면 반영하지 못한 변화량을 원장에 되돌린다.")
+  void reconcile_should_restore_deltas_when_flush_fails() {
+    when(redisStockLedger.drainDeltas()).thenReturn(Map.of(1L, -3, 2L, -1, 3L, 2));
+    runTransactionCallback();
+    doAnswer(invocation -> {
+      if (invocation.<Long>getArgument(0) == 3L) {
+        throw new QueryTimeoutException("timeout");
+      }
+      return 1;
+    }).when(productOptionRepository).increaseStock(anyLong(), anyInt());
+
+    assertThatThrownBy(() -> redisStockReconciler.reconcile())
+        .isInstanceOf(QueryTimeoutException.class);
+
+    verify(redisStockLedger).acknowledgeDeltas(Set.of(1L, 2L));
+    verify(redisStockLedger, never()).restoreDeltas(Map.of(1L, -3, 2L, -1));
+    verify(redisStockLedger).restoreDeltas(Map.of(3L, 2));
+  }
+
+}
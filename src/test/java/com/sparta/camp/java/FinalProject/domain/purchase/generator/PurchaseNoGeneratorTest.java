@@ -0,0 +1,149 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PurchaseNoGeneratorTest {
+
+  @Test
+  @DisplayName("주문번호는 날짜와 고정 길이의 식별자로 구성된다.")
+  void generate_should_return_readable_purchase_no() {
+    Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+    PurchaseNoGenerator generator = new PurchaseNoGenerator(7, clock);
+
+    String purchaseNo = generator.generate();
+
+    assertThat(purchaseNo).matches("PUR-20250301-[0-9A-HJKMNP-TV-Z]{13}");
+    assertThat(purchaseNo.length()).isLessThanOrEqualTo(30);
+  }
+
+  @Test
+  @DisplayName("같은 시각에 생성해도 순서대로 증가하며 시퀀스가 넘치면 다음 시각을 사용한다.")
+  void generate_should_be_monotonic_when_clock_does_not_advance() {
+    Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+    PurchaseNoGenerator generator = new PurchaseNoGenerator(1, clock);
+
+    String previous = generator.generate();
+    for (int i = 0; i < 10_000; i++) {
+      String current = generator.generate();
+      assertThat(current).isGreaterThan(previous);
+      previous = current;
+    }
+  }
+
+  @Test
+  @DisplayName("시계가 뒤로 가더라도 주문번호는 감소하지 않는다.")
+  void generate_should_be_monotonic_when_clock_moves_backwards() {
+    AtomicLong millis = new AtomicLong(Instant.parse("2025-03-01T00:00:01Z").toEpochMilli());
+    PurchaseNoGenerator generator = new PurchaseNoGenerator(1, new MutableClock(millis));
+
+    String before = generator.generate();
+    millis.addAndGet(-500);
+    String after = generator.generate();
+
+    assertThat(after).isGreaterThan(before);
+  }
+
+  @Test
+  @DisplayName("노드 번호가 다르면 같은 시각에도 서로 다른 주문번호가 생성된다.")
+  void generate_should_not_collide_between_nodes() {
+    Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+
+    String first = new PurchaseNoGenerator(1, clock).generate();
+    String second = new PurchaseNoGenerator(2, clock).generate();
+
+    assertThat(first).isNotEqualTo(second);
+  }
+
+  @Test
+  @DisplayName("허용 범위를 벗어난 노드 번호는 사용할 수 없다.")
+  void constructor_should_throw_exception_when_node_id_out_of_range() {
+    assertThatThrownBy(() -> new PurchaseNoGenerator(1024))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("여러 스레드에서 동시에 생성해도 주문번호가 중복되지 않는다.")
+  void generate_should_be_unique_under_concurrency() throws Exception {
+    PurchaseNoGenerator generator = new PurchaseNoGenerator(3);
+    int threads = 8;
+    int perThread = 50_000;
+
+    Set<String> purchaseNos = ConcurrentHashMap.newKeySet();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          String previous = "";
+          for (int i = 0; i < perThread; i++) {
+            String current = generator.generate();
+            if (current.compareTo(previous) <= 0 || !purchaseNos.add(current)) {
+              return false;
+            }
+            previous = current;
+          }
+          return true;
+        }));
+      }
+
+      start.countDown();
+      for (Future<Boolean> future : futures) {
+        assertThat(future.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(purchaseNos).hasSize(threads * perThread);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private final AtomicLong millis;
+
+    MutableClock(AtomicLong millis) {
+      this.millis = millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public long millis() {
+      return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+  }
+
+}
@@ -3,6 +3,7 @@ package com.sparta.camp.java.FinalProject.domain.purchase.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -12,10 +13,13 @@ import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
 import com.sparta.camp.java.FinalProject.common.enums.Role;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.common.pagination.CountScope;
+import com.sparta.camp.java.FinalProject.common.pagination.CountStrategy;
+import com.sparta.camp.java.FinalProject.common.pagination.PaginationCounter;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
+import com.sparta.camp.java.FinalProject.common.pagination.TotalCount;
 import com.sparta.camp.java.FinalProject.domain.admin.entity.Admin;
-import com.sparta.camp.java.FinalProject.domain.admin.repository.AdminRepository;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
 import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseSearchRequest;
@@ -27,6 +31,7 @@ import com.sparta.camp.java.FinalProject.domain.purchase.repository.PurchaseRepo
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +41,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,10 +57,16 @@ class PurchaseAdminServiceTest {
   private PurchaseQueryRepository purchaseQueryRepository;
 
   @Mock
-  private AdminRepository adminRepository;
+  private HistoryRepository historyRepository;
 
   @Mock
-  private HistoryRepository historyRepository;
+  private StockHoldService stockHoldService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PaginationCounter paginationCounter;
 
   private Admin admin;
   private Purchase purchase;
@@ -118,6 +130,12 @@ class PurchaseAdminServiceTest {
         .toList();
   }
 
+  private void stubExactCount() {
+    when(paginationCounter.count(eq(CountStrategy.EXACT), eq(CountScope.PURCHASE), any(), any(),
+        any(), any()))
+        .thenAnswer(invocation -> TotalCount.exact(
+            invocation.<LongSupplier>getArgument(4).getAsLong()));
+  }
 
   @Test
   @DisplayName("전체 주문 조회가 정상적으로 수행된다.")
@@ -127,6 +145,7 @@ class PurchaseAdminServiceTest {
       .thenReturn(purchases);
     when(purchaseQueryRepository.countPurchases(searchRequest))
       .thenReturn((long) purchases.size());
+    stubExactCount();
 
     PaginationResponse<PurchaseSummaryResponse> result =
         purchaseAdminService.getPurchases(searchRequest, paginationRequest);
@@ -151,6 +170,7 @@ class PurchaseAdminServiceTest {
         .thenReturn(List.of());
     when(purchaseQueryRepository.countPurchases(searchRequest))
         .thenReturn(0L);
+    stubExactCount();
 
     PaginationResponse<PurchaseSummaryResponse> result =
         purchaseAdminService.getPurchases(searchRequest, paginationRequest);
@@ -172,14 +192,12 @@ class PurchaseAdminServiceTest {
 
     String oldStatus = String.valueOf(purchase.getPurchaseStatus());
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(updateRequest.getPurchaseId()))
         .thenReturn(Optional.of(purchase));
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    purchaseAdminService.updatePurchaseStatus(admin.getEmail(), updateRequest);
+    purchaseAdminService.updatePurchaseStatus(admin.getId(), updateRequest);
 
     ArgumentCaptor<History> historyCaptor = ArgumentCaptor.forClass(History.class);
     verify(historyRepository).save(historyCaptor.capture());
@@ -191,43 +209,24 @@ class PurchaseAdminServiceTest {
     assertThat(history.getCreatedBy()).isEqualTo(admin.getId());
 
     assertThat(purchase.getPurchaseStatus()).isEqualTo(updateRequest.getStatus());
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(updateRequest.getPurchaseId());
 
   }
 
-  @Test
-  @DisplayName("해당 관리자 계정이 존재하지 않는 경우 오류가 발생한다.")
-  void updatePurchaseStatus_should_throwException_when_admin_is_not_exist() {
-
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.empty());
-
-    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getEmail(), updateRequest))
-        .isInstanceOf(ServiceException.class)
-        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_ADMIN.getMessage());
-
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
-    verifyNoMoreInteractions(adminRepository, purchaseRepository, historyRepository);
-  }
-
   @Test
   @DisplayName("존재하지 않는 주문인 경우 오류가 발생한다.")
   void updatePurchaseStatus_should_throwException_when_purchase_is_not_exist() {
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(updateRequest.getPurchaseId()))
         .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getEmail(), updateRequest))
+    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getId(), updateRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PURCHASE.getMessage());
 
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(updateRequest.getPurchaseId());
 
-    verifyNoMoreInteractions(adminRepository, purchaseRepository, historyRepository);
+    verifyNoMoreInteractions(purchaseRepository, historyRepository);
   }
 
   @Test
@@ -236,18 +235,15 @@ class PurchaseAdminServiceTest {
 
     ReflectionTestUtils.setField(purchase, "purchaseStatus", updateRequest.getStatus());
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(updateRequest.getPurchaseId()))
         .thenReturn(Optional.of(purchase));
 
-    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getEmail(), updateRequest))
+    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getId(), updateRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.DUPLICATE_PURCHASE_STATUS.getMessage());
 
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(updateRequest.getPurchaseId());
-    verifyNoMoreInteractions(adminRepository, purchaseRepository, historyRepository);
+    verifyNoMoreInteractions(purchaseRepository, historyRepository);
 
   }
 
@@ -257,18 +253,15 @@ class PurchaseAdminServiceTest {
 
     ReflectionTestUtils.setField(purchase, "purchaseStatus", PurchaseStatus.REFUNDED);
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-      .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(updateRequest.getPurchaseId()))
       .thenReturn(Optional.of(purchase));
 
-    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getEmail(), updateRequest))
+    assertThatThrownBy(() -> purchaseAdminService.updatePurchaseStatus(admin.getId(), updateRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INVALID_STATUS_TRANSITION.getMessage());
 
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(updateRequest.getPurchaseId());
-    verifyNoMoreInteractions(adminRepository, purchaseRepository, historyRepository);
+    verifyNoMoreInteractions(purchaseRepository, historyRepository);
 
   }
 
@@ -277,14 +270,14 @@ class PurchaseAdminServiceTest {
   void cancelPurchase_should_cancel_purchase_successfully() {
     ReflectionTestUtils.setField(purchase, "purchaseStatus", PurchaseStatus.PURCHASE_CREATED);
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(purchase.getId()))
         .thenReturn(Optional.of(purchase));
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    purchaseAdminService.cancelPurchase(admin.getEmail(), purchase.getId());
+    purchaseAdminService.cancelPurchase(admin.getId(), purchase.getId());
+
+    verify(stockHoldService).release(purchase.getId());
 
     ArgumentCaptor<History> historyCaptor = ArgumentCaptor.forClass(History.class);
     verify(historyRepository).save(historyCaptor.capture());
@@ -296,7 +289,6 @@ class PurchaseAdminServiceTest {
     assertThat(history.getCreatedBy()).isEqualTo(admin.getId());
 
     assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(updateRequest.getPurchaseId());
 
   }
@@ -305,16 +297,13 @@ class PurchaseAdminServiceTest {
   @DisplayName("취소할 수 없는 주문 상태면 오류가 발생한다.")
   void cancelPurchase_should_throwException_when_purchase_status_is_invalid() {
 
-    when(adminRepository.findByEmailAndDeletedAtIsNull(admin.getEmail()))
-        .thenReturn(Optional.of(admin));
     when(purchaseRepository.findByPurchaseId(purchase.getId()))
         .thenReturn(Optional.of(purchase));
 
-    assertThatThrownBy(() -> purchaseAdminService.cancelPurchase(admin.getEmail(), purchase.getId()))
+    assertThatThrownBy(() -> purchaseAdminService.cancelPurchase(admin.getId(), purchase.getId()))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INVALID_PURCHASE_STATUS.getMessage());
 
-    verify(adminRepository).findByEmailAndDeletedAtIsNull(admin.getEmail());
     verify(purchaseRepository).findByPurchaseId(purchase.getId());
     verify(historyRepository, never()).save(any(History.class));
 
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -14,16 +15,15 @@ import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationRequest;
 import com.sparta.camp.java.FinalProject.common.pagination.PaginationResponse;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.Cart;
-import com.sparta.camp.java.FinalProject.domain.cart.entity.CartProduct;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartProductRepository;
-import com.sparta.camp.java.FinalProject.domain.cart.repository.CartRepository;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartItem;
+import com.sparta.camp.java.FinalProject.domain.cart.store.CartStore;
 import com.sparta.camp.java.FinalProject.domain.history.entity.History;
 import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
 import com.sparta.camp.java.FinalProject.domain.product.entity.Product;
 import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductOptionRepository;
 import com.sparta.camp.java.FinalProject.domain.product.repository.ProductRepository;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.DirectPurchaseCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.purchase.dto.PurchaseResponse;
@@ -47,7 +47,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,10 +62,7 @@ class PurchaseServiceTest {
   private UserRepository userRepository;
 
   @Mock
-  private CartRepository cartRepository;
-
-  @Mock
-  private CartProductRepository cartProductRepository;
+  private CartStore cartStore;
 
   @Mock
   private ProductRepository productRepository;
@@ -71,6 +70,9 @@ class PurchaseServiceTest {
   @Mock
   private ProductOptionRepository productOptionRepository;
 
+  @Mock
+  private StockManager stockManager;
+
   @Mock
   private PurchaseMapper purchaseMapper;
 
@@ -80,14 +82,22 @@ class PurchaseServiceTest {
   @Mock
   private PurchaseQueryRepository purchaseQueryRepository;
 
+  @Spy
+  private PurchaseNoGenerator purchaseNoGenerator = new PurchaseNoGenerator(1);
+
   @Mock
   private HistoryRepository historyRepository;
 
+  @Mock
+  private StockHoldService stockHoldService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private User user;
-  private Cart cart;
   private Product product;
   private ProductOption productOption;
-  private List<CartProduct> cartProductList = new ArrayList<>();
+  private List<CartItem> cartItemList = new ArrayList<>();
   private List<ProductOption> productOptionList = new ArrayList<>();
   private Purchase purchase;
   private PurchaseResponse response;
@@ -98,6 +108,9 @@ class PurchaseServiceTest {
 
   @BeforeEach
   void setUp() {
+    lenient().when(stockManager.getAvailableStock(any()))
+        .thenAnswer(invocation -> invocation.<ProductOption>getArgument(0).getStock());
+
 
     paginationRequest = new PaginationRequest();
     ReflectionTestUtils.setField(paginationRequest, "page", 0);
@@ -122,19 +135,15 @@ class PurchaseServiceTest {
         productOption, po2, po3
     );
 
-    cart = new Cart();
-    ReflectionTestUtils.setField(cart, "id", 1L);
-    ReflectionTestUtils.setField(cart, "user", user);
-
-    cartProductList = List.of(
-        createCartProduct(1L, product, productOption, 10),
-        createCartProduct(2L, product2, po2, 20),
-        createCartProduct(3L, product3, po3, 30)
+    cartItemList = List.of(
+        new CartItem(1L, product.getId(), productOption.getId(), 10, null),
+        new CartItem(2L, product2.getId(), po2.getId(), 20, null),
+        new CartItem(3L, product3.getId(), po3.getId(), 30, null)
     );
 
     purchase = Purchase.builder()
         .user(user)
-        .purchaseNo(PurchaseNoGenerator.generate())
+        .purchaseNo(purchaseNoGenerator.generate())
         .build();
     ReflectionTestUtils.setField(purchase, "id", 1L);
 
@@ -145,7 +154,7 @@ class PurchaseServiceTest {
 
     for (int i = 0; i < 20; i++) {
       PurchaseSummaryResponse response =
-          createSummaryResponse((long) (i+1), PurchaseNoGenerator.generate());
+          createSummaryResponse((long) (i+1), purchaseNoGenerator.generate());
       summaryList.add(response);
     }
 
@@ -155,8 +164,8 @@ class PurchaseServiceTest {
     ReflectionTestUtils.setField(directRequest, "quantity", 10);
 
     cartRequest = new PurchaseCreateRequest();
-    List<Long> cartProductIds = List.of(1L, 2L, 3L);
-    ReflectionTestUtils.setField(cartRequest, "cartProductIds", cartProductIds);
+    List<Long> productOptionIds = List.of(1L, 2L, 3L);
+    ReflectionTestUtils.setField(cartRequest, "productOptionIds", productOptionIds);
 
   }
 
@@ -178,21 +187,6 @@ class PurchaseServiceTest {
     return po;
   }
 
-  private CartProduct createCartProduct(Long id,
-      Product p,
-      ProductOption option,
-      Integer quantity) {
-
-    CartProduct cp = CartProduct.builder()
-        .cart(cart)
-        .product(p)
-        .option(option)
-        .quantity(quantity)
-        .build();
-    ReflectionTestUtils.setField(cp, "id", id);
-    return cp;
-  }
-
   private PurchaseSummaryResponse createSummaryResponse(
       Long id,
       String purchaseNo
@@ -207,56 +201,35 @@ class PurchaseServiceTest {
   @DisplayName("사용자의 주문 목록을 페이징하여 조회한다")
   void getPurchases_should_return_all_purchases() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
     when(purchaseQueryRepository.findAllByUserId(user.getId(), paginationRequest))
         .thenReturn(summaryList);
     when(purchaseQueryRepository.countPurchasesByUserId(user.getId()))
         .thenReturn((long) summaryList.size());
 
-    PaginationResponse<PurchaseSummaryResponse> results = purchaseService.getPurchases(user.getEmail(), paginationRequest);
+    PaginationResponse<PurchaseSummaryResponse> results = purchaseService.getPurchases(user.getId(), paginationRequest);
 
     assertThat(results.getContent().size()).isEqualTo(summaryList.size());
     assertThat(results.getTotalItems()).isEqualTo(summaryList.size());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(purchaseQueryRepository)
         .findAllByUserId(user.getId(), paginationRequest);
     verify(purchaseQueryRepository).countPurchasesByUserId(user.getId());
   }
 
 
-  @Test
-  @DisplayName("존재하지 않는 사용자인 경우 오류가 발생한다.")
-  void getPurchases_should_throwException_when_user_is_not_exist() {
-
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.empty());
-
-    assertThatThrownBy(() -> purchaseService.getPurchases(user.getEmail(), paginationRequest))
-        .isInstanceOf(ServiceException.class)
-        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_USER.getMessage());
-
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verifyNoMoreInteractions(userRepository, purchaseQueryRepository);
-  }
-
   @Test
   @DisplayName("주문내역 상세 조회한다.")
   void getPurchase_should_return_purchase_detail() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
     when(purchaseRepository.findByUserIdAndPurchaseId(user.getId(), purchase.getId()))
         .thenReturn(Optional.of(purchase));
     when(purchaseMapper.toResponse(purchase)).thenReturn(response);
 
-    PurchaseResponse results = purchaseService.getPurchase(user.getEmail(), purchase.getId());
+    PurchaseResponse results = purchaseService.getPurchase(user.getId(), purchase.getId());
 
     assertThat(results).isNotNull();
     assertThat(results.getPurchaseNo()).isEqualTo(purchase.getPurchaseNo());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(purchaseRepository).findByUserIdAndPurchaseId(user.getId(), purchase.getId());
     verify(purchaseMapper).toResponse(purchase);
   }
@@ -265,18 +238,59 @@ class PurchaseServiceTest {
   @DisplayName("존재하지 않는 주문인 경우 오류가 발생한다.")
   void getPurchase_should_throwException_when_purchase_is_not_exist() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
     when(purchaseRepository.findByUserIdAndPurchaseId(user.getId(), purchase.getId()))
         .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> purchaseService.getPurchase(user.getEmail(), purchase.getId()))
+    assertThatThrownBy(() -> purchaseService.getPurchase(user.getId(), purchase.getId()))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PURCHASE.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(purchaseRepository).findByUserIdAndPurchaseId(user.getId(), purchase.getId());
-    verifyNoMoreInteractions(userRepository, purchaseRepository);
+    verifyNoMoreInteractions(purchaseRepository);
+  }
+
+  @Test
+  @DisplayName("주문을 잠금 조회한 뒤 취소한다.")
+  void cancelPurchase_should_cancel_purchase_under_lock() {
+    purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_CREATED);
+    when(purchaseRepository.findByIdForUpdate(purchase.getId()))
+        .thenReturn(Optional.of(purchase));
+
+    purchaseService.cancelPurchase(user.getId(), purchase.getId());
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
+    verify(stockHoldService).release(purchase.getId());
+    verify(historyRepository).save(any(History.class));
+  }
+
+  @Test
+  @DisplayName("잠금 후 이미 결제된 주문이면 취소하지 않는다.")
+  void cancelPurchase_should_throwException_when_purchase_is_paid() {
+    purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_PAID);
+    when(purchaseRepository.findByIdForUpdate(purchase.getId()))
+        .thenReturn(Optional.of(purchase));
+
+    assertThatThrownBy(() -> purchaseService.cancelPurchase(user.getId(), purchase.getId()))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.INVALID_PURCHASE_STATUS.getMessage());
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_PAID);
+    verifyNoMoreInteractions(stockHoldService, historyRepository);
+  }
+
+  @Test
+  @DisplayName("다른 사용자의 주문은 취소할 수 없다.")
+  void cancelPurchase_should_throwException_when_purchase_is_not_owned() {
+    purchase.setPurchaseStatus(PurchaseStatus.PURCHASE_CREATED);
+    when(purchaseRepository.findByIdForUpdate(purchase.getId()))
+        .thenReturn(Optional.of(purchase));
+
+    assertThatThrownBy(() -> purchaseService.cancelPurchase(2L, purchase.getId()))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PURCHASE.getMessage());
+
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CREATED);
+    verifyNoMoreInteractions(stockHoldService, historyRepository);
   }
 
   @Test
@@ -284,8 +298,8 @@ class PurchaseServiceTest {
   void createPurchaseDirect_should_create_direct_purchase() {
     ReflectionTestUtils.setField(productOption, "stock", 15);
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId()))
+        .thenReturn(user);
     when(productRepository.findProductById(product.getId()))
         .thenReturn(Optional.of(product));
     when(productOptionRepository.findByIdAndProductId(product.getId(), productOption.getId()))
@@ -295,7 +309,7 @@ class PurchaseServiceTest {
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    purchaseService.createPurchaseDirect(user.getEmail(), directRequest);
+    purchaseService.createPurchaseDirect(user.getId(), directRequest);
 
     ArgumentCaptor<Purchase> captor = ArgumentCaptor.forClass(Purchase.class);
     verify(purchaseRepository).save(captor.capture());
@@ -313,9 +327,10 @@ class PurchaseServiceTest {
     assertThat(pp.getQuantity()).isEqualTo(directRequest.getQuantity());
     assertThat(pp.getPriceAtPurchase()).isEqualTo(product.getPrice());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
+    verify(userRepository).getReferenceById(user.getId());
     verify(productRepository).findProductById(product.getId());
     verify(productOptionRepository).findByIdAndProductId(product.getId(), productOption.getId());
+    verify(stockHoldService).hold(newPurchase);
     verify(historyRepository).save(any(History.class));
   }
 
@@ -323,18 +338,15 @@ class PurchaseServiceTest {
   @DisplayName("존재하지 않는 상품인 경우 오류가 발생한다.")
   void createPurchaseDirect_should_throwException_when_product_is_not_exist() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
     when(productRepository.findProductById(directRequest.getProductId()))
         .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getEmail(), directRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getId(), directRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PRODUCT.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(productRepository).findProductById(directRequest.getProductId());
-    verifyNoMoreInteractions(userRepository, productRepository, productOptionRepository,
+    verifyNoMoreInteractions(productRepository, productOptionRepository,
         purchaseRepository, historyRepository);
   }
 
@@ -342,21 +354,18 @@ class PurchaseServiceTest {
   @DisplayName("존재하지 않는 옵션인 경우 오류가 발생한다.")
   void createPurchaseDirect_should_throwException_when_product_option_is_not_exist() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-      .thenReturn(Optional.of(user));
     when(productRepository.findProductById(directRequest.getProductId()))
       .thenReturn(Optional.of(product));
     when(productOptionRepository.findByIdAndProductId(product.getId(), directRequest.getProductOptionId()))
       .thenReturn(Optional.empty());
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getEmail(), directRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getId(), directRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(productRepository).findProductById(directRequest.getProductId());
     verify(productOptionRepository).findByIdAndProductId(product.getId(), directRequest.getProductOptionId());
-    verifyNoMoreInteractions(userRepository, productRepository, productOptionRepository,
+    verifyNoMoreInteractions(productRepository, productOptionRepository,
         purchaseRepository, historyRepository);
   }
 
@@ -365,21 +374,18 @@ class PurchaseServiceTest {
   void createPurchaseDirect_should_throwException_when_stock_is_lacking() {
     ReflectionTestUtils.setField(directRequest, "quantity", 30);
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
     when(productRepository.findProductById(directRequest.getProductId()))
         .thenReturn(Optional.of(product));
     when(productOptionRepository.findByIdAndProductId(product.getId(), directRequest.getProductOptionId()))
         .thenReturn(Optional.of(productOption));
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getEmail(), directRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseDirect(user.getId(), directRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
     verify(productRepository).findProductById(directRequest.getProductId());
     verify(productOptionRepository).findByIdAndProductId(product.getId(), directRequest.getProductOptionId());
-    verifyNoMoreInteractions(userRepository, productRepository, productOptionRepository,
+    verifyNoMoreInteractions(productRepository, productOptionRepository,
         purchaseRepository, historyRepository);
 
   }
@@ -389,8 +395,8 @@ class PurchaseServiceTest {
   void createPurchaseDirect_should_create_purchase_when_stock_and_request_quantity_is_same() {
     ReflectionTestUtils.setField(directRequest, "quantity", 20);
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId()))
+        .thenReturn(user);
     when(productRepository.findProductById(product.getId()))
         .thenReturn(Optional.of(product));
     when(productOptionRepository.findByIdAndProductId(product.getId(), productOption.getId()))
@@ -400,7 +406,7 @@ class PurchaseServiceTest {
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    purchaseService.createPurchaseDirect(user.getEmail(), directRequest);
+    purchaseService.createPurchaseDirect(user.getId(), directRequest);
 
     ArgumentCaptor<Purchase> captor = ArgumentCaptor.forClass(Purchase.class);
     verify(purchaseRepository).save(captor.capture());
@@ -418,7 +424,7 @@ class PurchaseServiceTest {
     assertThat(pp.getQuantity()).isEqualTo(directRequest.getQuantity());
     assertThat(pp.getPriceAtPurchase()).isEqualTo(product.getPrice());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
+    verify(userRepository).getReferenceById(user.getId());
     verify(productRepository).findProductById(product.getId());
     verify(productOptionRepository).findByIdAndProductId(product.getId(), productOption.getId());
     verify(historyRepository).save(any(History.class));
@@ -428,19 +434,17 @@ class PurchaseServiceTest {
   @DisplayName("장바구니로 주문한 상품들을 정상적으로 등록한다.")
   void createPurchaseFromCart_should_create_purchase_successfully() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
-        .thenReturn(cartProductList);
+    when(userRepository.getReferenceById(user.getId()))
+        .thenReturn(user);
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenReturn(cartItemList);
     when(productOptionRepository.findAllValidByIds(anyList())).thenReturn(productOptionList);
     when(purchaseRepository.save(any(Purchase.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    PurchaseResponse result = purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest);
+    PurchaseResponse result = purchaseService.createPurchaseFromCart(user.getId(), cartRequest);
 
     ArgumentCaptor<Purchase> captor = ArgumentCaptor.forClass(Purchase.class);
     verify(purchaseRepository).save(captor.capture());
@@ -456,16 +460,15 @@ class PurchaseServiceTest {
         .orElseThrow();
 
     assertThat(pp.getProduct().getId())
-        .isEqualTo(cartProductList.get(1).getProduct().getId());
+        .isEqualTo(cartItemList.get(1).productId());
     assertThat(pp.getQuantity())
-        .isEqualTo(cartProductList.get(1).getQuantity());
+        .isEqualTo(cartItemList.get(1).quantity());
     assertThat(pp.getPriceAtPurchase())
-        .isEqualTo(cartProductList.get(1).getProduct().getPrice());
+        .isEqualTo(productOptionList.get(1).getProduct().getPrice());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
+    verify(userRepository).getReferenceById(user.getId());
 
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
     verify(productOptionRepository).findAllValidByIds(anyList());
     verify(purchaseRepository).save(any(Purchase.class));
     verify(historyRepository).save(any(History.class));
@@ -476,18 +479,15 @@ class PurchaseServiceTest {
   @DisplayName("장바구니 정보가 존재하지 않은 경우 오류가 발생한다.")
   void createPurchaseFromCart_should_throwException_when_cart_is_not_exist() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.empty());
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenThrow(new ServiceException(ServiceExceptionCode.NOT_FOUND_CART));
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getId(), cartRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verify(cartRepository).findByUserId(user.getId());
-    verifyNoMoreInteractions(userRepository, cartRepository, cartProductRepository,
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
+    verifyNoMoreInteractions(cartStore,
         productOptionRepository, purchaseRepository, historyRepository);
   }
 
@@ -495,46 +495,34 @@ class PurchaseServiceTest {
   @DisplayName("장바구니 상품이 존재하지 않은 경우 오류가 발생한다.")
   void createPurchaseFromCart_should_throwException_when_cartProducts_are_not_found() {
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
         .thenReturn(List.of());
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getId(), cartRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
-    verifyNoMoreInteractions(userRepository, cartRepository, cartProductRepository,
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
+    verifyNoMoreInteractions(cartStore,
         productOptionRepository, purchaseRepository, historyRepository);
   }
 
   @Test
   @DisplayName("장바구니 상품과 데이터베이스 존재하는 상품 수가 일치하지 않는 경우 오류가 발생한다.")
   void createPurchaseFromCart_should_throwException_when_some_cartProducts_are_not_found() {
-    cartProductList = List.of(
-        createCartProduct(1L, product, productOption, 10)
+    cartItemList = List.of(
+        new CartItem(1L, product.getId(), productOption.getId(), 10, null)
     );
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
-        .thenReturn(cartProductList);
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenReturn(cartItemList);
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getId(), cartRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_CART_PRODUCT.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
-    verifyNoMoreInteractions(userRepository, cartRepository, cartProductRepository,
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
+    verifyNoMoreInteractions(cartStore,
         productOptionRepository, purchaseRepository, historyRepository);
   }
 
@@ -546,24 +534,18 @@ class PurchaseServiceTest {
         productOption
     );
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
-        .thenReturn(cartProductList);
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenReturn(cartItemList);
     when(productOptionRepository.findAllValidByIds(anyList()))
         .thenReturn(productOptionList);
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getId(), cartRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.NOT_FOUND_PRODUCT_OPTIONS.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
     verify(productOptionRepository).findAllValidByIds(anyList());
-    verifyNoMoreInteractions(userRepository, cartRepository, cartProductRepository,
+    verifyNoMoreInteractions(cartStore,
         productOptionRepository, purchaseRepository, historyRepository);
   }
 
@@ -572,23 +554,17 @@ class PurchaseServiceTest {
   void createPurchaseFromCart_should_throwException_when_stock_is_lacking() {
     ReflectionTestUtils.setField(productOption, "stock", 1);
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
-        .thenReturn(cartProductList);
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenReturn(cartItemList);
     when(productOptionRepository.findAllValidByIds(anyList())).thenReturn(productOptionList);
 
-    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest))
+    assertThatThrownBy(() -> purchaseService.createPurchaseFromCart(user.getId(), cartRequest))
         .isInstanceOf(ServiceException.class)
         .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
     verify(productOptionRepository).findAllValidByIds(anyList());
-    verifyNoMoreInteractions(userRepository, cartRepository, cartProductRepository,
+    verifyNoMoreInteractions(cartStore,
         productOptionRepository, purchaseRepository, historyRepository);
   }
 
@@ -597,19 +573,17 @@ class PurchaseServiceTest {
   void createPurchaseFromCart_should_create_purchase_when_stock_and_request_quantity_is_same() {
     ReflectionTestUtils.setField(productOption, "stock", 10);
 
-    when(userRepository.findByEmailAndDeletedAtIsNull(user.getEmail()))
-        .thenReturn(Optional.of(user));
-    when(cartRepository.findByUserId(user.getId()))
-        .thenReturn(Optional.of(cart));
-    when(cartProductRepository.findAllByIn(cart.getId(), cartRequest.getCartProductIds()))
-        .thenReturn(cartProductList);
+    when(userRepository.getReferenceById(user.getId()))
+        .thenReturn(user);
+    when(cartStore.findItems(user.getId(), cartRequest.getProductOptionIds()))
+        .thenReturn(cartItemList);
     when(productOptionRepository.findAllValidByIds(anyList())).thenReturn(productOptionList);
     when(purchaseRepository.save(any(Purchase.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(historyRepository.save(any(History.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
-    PurchaseResponse result = purchaseService.createPurchaseFromCart(user.getEmail(), cartRequest);
+    PurchaseResponse result = purchaseService.createPurchaseFromCart(user.getId(), cartRequest);
 
     ArgumentCaptor<Purchase> captor = ArgumentCaptor.forClass(Purchase.class);
     verify(purchaseRepository).save(captor.capture());
@@ -625,16 +599,15 @@ class PurchaseServiceTest {
         .orElseThrow();
 
     assertThat(pp.getProduct().getId())
-        .isEqualTo(cartProductList.get(1).getProduct().getId());
+        .isEqualTo(cartItemList.get(1).productId());
     assertThat(pp.getQuantity())
-        .isEqualTo(cartProductList.get(1).getQuantity());
+        .isEqualTo(cartItemList.get(1).quantity());
     assertThat(pp.getPriceAtPurchase())
-        .isEqualTo(cartProductList.get(1).getProduct().getPrice());
+        .isEqualTo(productOptionList.get(1).getProduct().getPrice());
 
-    verify(userRepository).findByEmailAndDeletedAtIsNull(user.getEmail());
+    verify(userRepository).getReferenceById(user.getId());
 
-    verify(cartRepository).findByUserId(user.getId());
-    verify(cartProductRepository).findAllByIn(cart.getId(), cartRequest.getCartProductIds());
+    verify(cartStore).findItems(user.getId(), cartRequest.getProductOptionIds());
     verify(productOptionRepository).findAllValidByIds(anyList());
     verify(purchaseRepository).save(any(Purchase.class));
     verify(historyRepository).save(any(History.class));
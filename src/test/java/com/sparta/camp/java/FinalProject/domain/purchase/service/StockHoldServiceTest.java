@@ -0,0 +1,210 @@
+package com.sparta.camp.java.FinalProject.domain.purchase.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.camp.java.FinalProject.common.enums.CreatorType;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseProductStatus;
+import com.sparta.camp.java.FinalProject.common.enums.PurchaseStatus;
+import com.sparta.camp.java.FinalProject.common.enums.StockHoldStatus;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
+import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.history.entity.History;
+import com.sparta.camp.java.FinalProject.domain.history.repository.HistoryRepository;
+import com.sparta.camp.java.FinalProject.domain.product.entity.ProductOption;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockDecreaseResult;
+import com.sparta.camp.java.FinalProject.domain.product.stock.StockManager;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.Purchase;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.PurchaseProduct;
+import com.sparta.camp.java.FinalProject.domain.purchase.entity.StockHold;
+import com.sparta.camp.java.FinalProject.domain.purchase.repository.StockHoldRepository;
+import com.sparta.camp.java.FinalProject.domain.user.entity.User;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class StockHoldServiceTest {
+
+  @InjectMocks
+  private StockHoldService stockHoldService;
+
+  @Mock
+  private StockHoldRepository stockHoldRepository;
+
+  @Mock
+  private HistoryRepository historyRepository;
+
+  @Mock
+  private StockManager stockManager;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private Purchase purchase;
+  private ProductOption option;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(stockHoldService, "holdTtl", Duration.ofMinutes(15));
+    ReflectionTestUtils.setField(stockHoldService, "confirmGrace", Duration.ofMinutes(2));
+
+    User user = User.builder()
+        .email("test@test.com")
+        .build();
+    ReflectionTestUtils.setField(user, "id", 1L);
+
+    option = ProductOption.builder()
+        .stock(10)
+        .build();
+    ReflectionTestUtils.setField(option, "id", 1L);
+
+    purchase = Purchase.builder()
+        .user(user)
+        .purchaseStatus(PurchaseStatus.PURCHASE_CREATED)
+        .build();
+    ReflectionTestUtils.setField(purchase, "id", 1L);
+
+    purchase.addPurchaseProduct(PurchaseProduct.builder()
+        .purchasedOption(option)
+        .quantity(2)
+        .status(PurchaseProductStatus.PAID)
+        .build());
+    purchase.addPurchaseProduct(PurchaseProduct.builder()
+        .purchasedOption(option)
+        .quantity(3)
+        .status(PurchaseProductStatus.PAID)
+        .build());
+  }
+
+  private StockHold createHold(StockHoldStatus status, LocalDateTime expiresAt) {
+    return StockHold.builder()
+        .purchase(purchase)
+        .productOption(option)
+        .quantity(5)
+        .status(status)
+        .expiresAt(expiresAt)
+        .build();
+  }
+
+  @Test
+  @DisplayName("주문 생성 시 옵션별 수량만큼 재고를 확보한다.")
+  void hold_should_decrease_stock_and_save_holds() {
+    when(stockManager.decrease(Map.of(1L, 5))).thenReturn(StockDecreaseResult.success());
+
+    stockHoldService.hold(purchase);
+
+    ArgumentCaptor<List<StockHold>> captor = ArgumentCaptor.forClass(List.class);
+    verify(stockHoldRepository).saveAll(captor.capture());
+
+    List<StockHold> holds = captor.getValue();
+    assertThat(holds).hasSize(2);
+    assertThat(holds).allMatch(hold -> hold.getStatus() == StockHoldStatus.HELD);
+    assertThat(holds).allMatch(hold -> hold.getExpiresAt().isAfter(LocalDateTime.now()));
+  }
+
+  @Test
+  @DisplayName("재고를 확보하지 못한 경우 오류가 발생한다.")
+  void hold_should_throwException_when_stock_is_insufficient() {
+    when(stockManager.decrease(Map.of(1L, 5))).thenReturn(StockDecreaseResult.failure(List.of(1L)));
+
+    assertThatThrownBy(() -> stockHoldService.hold(purchase))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.INSUFFICIENT_STOCK.getMessage());
+
+    verify(stockHoldRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("만료된 재고 확보 건으로 결제를 요청한 경우 오류가 발생한다.")
+  void validateHold_should_throwException_when_hold_is_expired() {
+    when(stockHoldRepository.findAllByPurchaseIdForUpdate(1L))
+        .thenReturn(List.of(createHold(StockHoldStatus.HELD, LocalDateTime.now().minusSeconds(1))));
+
+    assertThatThrownBy(() -> stockHoldService.validateHold(1L))
+        .isInstanceOf(ServiceException.class)
+        .hasMessageContaining(ServiceExceptionCode.EXPIRED_STOCK_HOLD.getMessage());
+  }
+
+  @Test
+  @DisplayName("결제 승인 전 검증 시 승인 처리 시간만큼 재고 확보 기간을 연장한다.")
+  void validateHold_should_extend_expiry_for_confirm() {
+    StockHold hold = createHold(StockHoldStatus.HELD, LocalDateTime.now().plusSeconds(10));
+    when(stockHoldRepository.findAllByPurchaseIdForUpdate(1L)).thenReturn(List.of(hold));
+
+    assertThat(stockHoldService.validateHold(1L)).isTrue();
+    assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(1));
+  }
+
+  @Test
+  @DisplayName("재고 확보 내역이 없는 주문은 기존 재고 차감 방식을 사용한다.")
+  void consume_should_return_false_when_no_holds() {
+    when(stockHoldRepository.findAllByPurchaseIdForUpdate(1L)).thenReturn(List.of());
+
+    assertThat(stockHoldService.consume(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("결제 승인 시 확보한 재고를 사용 처리한다.")
+  void consume_should_mark_holds_consumed() {
+    StockHold hold = createHold(StockHoldStatus.HELD, LocalDateTime.now().plusMinutes(5));
+    when(stockHoldRepository.findAllByPurchaseIdForUpdate(1L)).thenReturn(List.of(hold));
+
+    assertThat(stockHoldService.consume(1L)).isTrue();
+    assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.CONSUMED);
+    verify(stockManager, never()).increase(any());
+  }
+
+  @Test
+  @DisplayName("주문 취소 시 확보한 재고를 반환한다.")
+  void release_should_return_held_stock() {
+    StockHold held = createHold(StockHoldStatus.HELD, LocalDateTime.now().plusMinutes(5));
+    StockHold consumed = createHold(StockHoldStatus.CONSUMED, LocalDateTime.now().plusMinutes(5));
+    when(stockHoldRepository.findAllByPurchaseIdForUpdate(1L)).thenReturn(List.of(held, consumed));
+
+    stockHoldService.release(1L);
+
+    assertThat(held.getStatus()).isEqualTo(StockHoldStatus.RELEASED);
+    assertThat(consumed.getStatus()).isEqualTo(StockHoldStatus.CONSUMED);
+    verify(stockManager).increase(Map.of(1L, 5));
+  }
+
+  @Test
+  @DisplayName("만료된 재고 확보 건을 반환하고 미결제 주문을 취소한다.")
+  void expireHolds_should_release_stock_and_cancel_abandoned_purchase() {
+    StockHold hold = createHold(StockHoldStatus.HELD, LocalDateTime.now().minusMinutes(1));
+    when(stockHoldRepository.findExpiredForUpdate(eq(StockHoldStatus.HELD), any(LocalDateTime.class), any()))
+        .thenReturn(List.of(hold));
+
+    int expired = stockHoldService.expireHolds(100);
+
+    assertThat(expired).isEqualTo(1);
+    assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.EXPIRED);
+    assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASE_CANCELED);
+    assertThat(purchase.getPurchaseProductList())
+        .allMatch(pp -> pp.getStatus() == PurchaseProductStatus.CANCELED);
+    verify(stockManager).increase(Map.of(1L, 5));
+
+    ArgumentCaptor<History> historyCaptor = ArgumentCaptor.forClass(History.class);
+    verify(historyRepository).save(historyCaptor.capture());
+    assertThat(historyCaptor.getValue().getCreatorType()).isEqualTo(CreatorType.SYSTEM);
+  }
+
+}
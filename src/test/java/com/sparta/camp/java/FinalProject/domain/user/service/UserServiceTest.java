@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import com.sparta.camp.java.FinalProject.common.enums.Role;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceException;
 import com.sparta.camp.java.FinalProject.common.exception.ServiceExceptionCode;
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserCreateRequest;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserDeleteRequest;
 import com.sparta.camp.java.FinalProject.domain.user.dto.UserPasswordChangeRequest;
@@ -45,6 +46,9 @@ class UserServiceTest {
   @Mock
   private UserMapper userMapper;
 
+  @Mock
+  private PrincipalCache principalCache;
+
   private UserCreateRequest userCreateRequest;
   private UserUpdateRequest userUpdateRequest;
   private UserPasswordChangeRequest userPasswordChangeRequest;
@@ -207,6 +211,7 @@ class UserServiceTest {
 
     assertThat(testUser.getPassword()).isEqualTo("ENCODED_PASSWORD");
     verify(userRepository).findByIdAndDeletedAtIsNull(testUser.getId());
+    verify(principalCache).evict(testUser.getEmail());
   }
 
   @Test
@@ -255,5 +260,6 @@ class UserServiceTest {
 
     assertThat(testUser.getDeletedAt()).isNotNull();
     verify(userRepository).findByIdAndDeletedAtIsNull(testUser.getId());
+    verify(principalCache).evict(testUser.getEmail());
   }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.sparta.camp.java.FinalProject.global.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sparta.camp.java.FinalProject.domain.auth.cache.PrincipalCache;
+import com.sparta.camp.java.FinalProject.domain.auth.dto.CustomUserDetails;
+import com.sparta.camp.java.FinalProject.domain.auth.service.CustomUserDetailService;
+import com.sparta.camp.java.FinalProject.domain.auth.service.JwtService;
+import com.sparta.camp.java.FinalProject.domain.cart.controller.CartController;
+import com.sparta.camp.java.FinalProject.domain.cart.service.CartService;
+import com.sparta.camp.java.FinalProject.domain.purchase.controller.PurchaseController;
+import com.sparta.camp.java.FinalProject.domain.purchase.service.PurchaseService;
+import com.sparta.camp.java.FinalProject.domain.user.repository.UserRepository;
+import com.sparta.camp.java.FinalProject.global.filter.JwtAuthenticationFilter;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = {CartController.class, PurchaseController.class})
+@Import({SecurityConfig.class, ApplicationConfig.class, JwtAuthenticationFilter.class})
+class SecurityConfigTest {
+
+  private static final Long SHARED_ID = 1L;
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @MockitoBean
+  CartService cartService;
+
+  @MockitoBean
+  PurchaseService purchaseService;
+
+  @MockitoBean
+  JwtService jwtService;
+
+  @MockitoBean
+  CustomUserDetailService customUserDetailService;
+
+  @MockitoBean
+  PrincipalCache principalCache;
+
+  @MockitoBean
+  UserRepository userRepository;
+
+  private String tokenFor(CustomUserDetails userDetails) {
+    String token = userDetails.getRole() + "-token";
+    Claims claims = mock(Claims.class);
+    when(claims.getSubject()).thenReturn(userDetails.getUsername());
+    when(jwtService.parseClaims(token)).thenReturn(claims);
+    when(principalCache.get(eq(userDetails.getUsername()), any())).thenReturn(userDetails);
+    when(jwtService.isTokenValid(token, claims, userDetails)).thenReturn(true);
+    return "Bearer " + token;
+  }
+
+  @Test
+  @DisplayName("관리자 토큰으로는 같은 ID를 가진 사용자의 장바구니와 주문에 접근할 수 없다.")
+  void admin_token_should_not_reach_user_cart_or_purchases() throws Exception {
+    String adminToken = tokenFor(
+        new CustomUserDetails(SHARED_ID, "admin@email.com", "ENCODED_PASSWORD", "ROLE_ADMIN"));
+
+    mockMvc.perform(get("/api/carts").header("Authorization", adminToken))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/api/purchases").header("Authorization", adminToken))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/api/purchases/{purchaseId}", 10L).header("Authorization", adminToken))
+        .andExpect(status().isForbidden());
+
+    verify(cartService, never()).getCartProduct(anyLong());
+    verify(purchaseService, never()).getPurchases(anyLong(), any());
+    verify(purchaseService, never()).getPurchase(anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("사용자 토큰으로는 자신의 장바구니와 주문에 접근할 수 있다.")
+  void user_token_should_reach_own_cart_and_purchases() throws Exception {
+    String userToken = tokenFor(
+        new CustomUserDetails(SHARED_ID, "user@email.com", "ENCODED_PASSWORD", "ROLE_USER"));
+
+    mockMvc.perform(get("/api/carts").header("Authorization", userToken))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/purchases/{purchaseId}", 10L).header("Authorization", userToken))
+        .andExpect(status().isOk());
+
+    verify(cartService).getCartProduct(SHARED_ID);
+    verify(purchaseService).getPurchase(SHARED_ID, 10L);
+  }
+
+}